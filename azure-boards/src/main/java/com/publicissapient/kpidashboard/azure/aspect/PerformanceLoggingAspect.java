@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.azure.aspect;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.azure.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.azure.util.AzureConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times the methods annotated with {@link TrackExecutionTime} as the <code>processor.execution.time
+ * </code> timer, with a percentile histogram and tagged with the class, the method, the project of
+ * the {@link ProjectConfFieldMapping} argument and the processor. A fraction <code>
+ * executiontime.aspect.logSampleRate</code> of the calls is also logged.
+ */
+@Aspect
+@Component
+@Slf4j
+@ConditionalOnExpression("${executiontime.aspect.enabled:true}")
+public class PerformanceLoggingAspect {
+
+	static final String EXECUTION_TIME_METRIC = "processor.execution.time";
+	private static final String NO_PROJECT = "none";
+
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Value("${executiontime.aspect.logSampleRate:0}")
+	private double logSampleRate;
+
+	// AOP expression for which methods shall be intercepted
+	@Around("@annotation(com.publicissapient.kpidashboard.azure.aspect.TrackExecutionTime)")
+	public Object executionTime(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+		MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
+
+		// Get intercepted method details
+		String className = methodSignature.getDeclaringType().getSimpleName();
+		String methodName = methodSignature.getName();
+
+		// Measure method execution time
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			return proceedingJoinPoint.proceed();
+		} finally {
+			long nanos =
+					sample.stop(
+							Timer.builder(EXECUTION_TIME_METRIC)
+									.description("Execution time of the methods annotated with @TrackExecutionTime")
+									.tag("class", className)
+									.tag("method", methodName)
+									.tag("project", getProjectId(proceedingJoinPoint.getArgs()))
+									.tag("processor", AzureConstants.AZURE)
+									.publishPercentileHistogram()
+									.register(meterRegistry));
+			if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+				log.info(
+						"Execution time of {}.{} :: {} ms",
+						className,
+						methodName,
+						TimeUnit.NANOSECONDS.toMillis(nanos));
+			}
+		}
+	}
+
+	/** Project of the first project configuration among the arguments. */
+	private static String getProjectId(Object[] args) {
+		if (args == null) {
+			return NO_PROJECT;
+		}
+		return Arrays.stream(args)
+				.filter(ProjectConfFieldMapping.class::isInstance)
+				.map(arg -> ((ProjectConfFieldMapping) arg).getBasicProjectConfigId())
+				.filter(Objects::nonNull)
+				.map(String::valueOf)
+				.findFirst()
+				.orElse(NO_PROJECT);
+	}
+}
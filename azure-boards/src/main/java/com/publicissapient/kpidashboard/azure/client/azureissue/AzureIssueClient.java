@@ -56,15 +56,21 @@ import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public abstract class AzureIssueClient { // NOPMD //NOSONAR
 
+	static final String STEP_ITEMS_METRIC = "processor.step.items";
+
 	AssigneeDetails tempAssigneeDetails;
 
 	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
 
+	@Autowired private MeterRegistry meterRegistry;
+
 	public static String hash(String input) {
 		return String.valueOf(Objects.hash(input));
 	}
@@ -93,6 +99,36 @@ public abstract class AzureIssueClient { // NOPMD //NOSONAR
 	public abstract int processesAzureIssues(
 			ProjectConfFieldMapping projectConfig, String projectKey, AzureAdapter azureAdapter);
 
+	/**
+	 * Adds the issues of one fetch to the <code>processor.step.items</code> counter, the same series
+	 * the batch processors keep for their chunk steps. Every fetched issue is read and processed, the
+	 * ones not saved are counted as skipped.
+	 *
+	 * @param projectConfig Project Configuration Mapping
+	 * @param step name of the fetch
+	 * @param count count of the issues fetched
+	 * @param savedCount count of the issues saved
+	 */
+	protected void recordIssueCounts(
+			ProjectConfFieldMapping projectConfig, String step, int count, int savedCount) {
+		String projectId = String.valueOf(projectConfig.getBasicProjectConfigId());
+		incrementIssueCount("read", step, projectId, count);
+		incrementIssueCount("processed", step, projectId, count);
+		incrementIssueCount("written", step, projectId, savedCount);
+		incrementIssueCount("skipped", step, projectId, Math.max(0, count - savedCount));
+	}
+
+	private void incrementIssueCount(String type, String step, String projectId, int amount) {
+		Counter.builder(STEP_ITEMS_METRIC)
+				.description("Items handled by the issue fetches")
+				.tag("type", type)
+				.tag("step", step)
+				.tag("project", projectId)
+				.tag("processor", AzureConstants.AZURE)
+				.register(meterRegistry)
+				.increment(amount);
+	}
+
 	/**
 	 * Purges the issues provided
 	 *
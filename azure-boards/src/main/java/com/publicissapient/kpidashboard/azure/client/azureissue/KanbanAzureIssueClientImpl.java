@@ -48,6 +48,7 @@ import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.azure.adapter.AzureAdapter;
 import com.publicissapient.kpidashboard.azure.adapter.impl.OnlineAdapter;
 import com.publicissapient.kpidashboard.azure.adapter.impl.async.ProcessorAzureRestClient;
+import com.publicissapient.kpidashboard.azure.aspect.TrackExecutionTime;
 import com.publicissapient.kpidashboard.azure.config.AzureProcessorConfig;
 import com.publicissapient.kpidashboard.azure.model.AzureServer;
 import com.publicissapient.kpidashboard.azure.model.ProjectConfFieldMapping;
@@ -138,6 +139,7 @@ public class KanbanAzureIssueClientImpl extends AzureIssueClient { // NOPMD
 	 * @return count of Jira issue processed
 	 */
 	@Override
+	@TrackExecutionTime
 	public int processesAzureIssues(
 			ProjectConfFieldMapping projectConfig,
 			String projectKey, // NOSONAR
@@ -219,6 +221,7 @@ public class KanbanAzureIssueClientImpl extends AzureIssueClient { // NOPMD
 		} catch (Exception e) {
 			lastSavedJiraIssueChangedDateByType.clear();
 		} finally {
+			recordIssueCounts(projectConfig, "kanbanIssues", count, totalSavedCount);
 			boolean isAttemptSuccess = isAttemptSuccess(totalSavedCount, count);
 			if (!isAttemptSuccess) {
 				lastSavedJiraIssueChangedDateByType.clear();
@@ -50,6 +50,7 @@ import com.google.common.collect.Lists;
 import com.publicissapient.kpidashboard.azure.adapter.AzureAdapter;
 import com.publicissapient.kpidashboard.azure.adapter.impl.OnlineAdapter;
 import com.publicissapient.kpidashboard.azure.adapter.impl.async.ProcessorAzureRestClient;
+import com.publicissapient.kpidashboard.azure.aspect.TrackExecutionTime;
 import com.publicissapient.kpidashboard.azure.client.sprint.SprintClient;
 import com.publicissapient.kpidashboard.azure.config.AzureProcessorConfig;
 import com.publicissapient.kpidashboard.azure.model.AzureServer;
@@ -121,6 +122,7 @@ public class ScrumAzureIssueClientImpl extends AzureIssueClient {
 	@Autowired private ProjectHierarchyService projectHierarchyService;
 
 	@Override
+	@TrackExecutionTime
 	public int processesAzureIssues(
 			ProjectConfFieldMapping projectConfig,
 			String projectKey, // NOSONAR
@@ -225,6 +227,7 @@ public class ScrumAzureIssueClientImpl extends AzureIssueClient {
 		} catch (Exception e) {
 			lastSavedJiraIssueChangedDateByType.clear();
 		} finally {
+			recordIssueCounts(projectConfig, "scrumIssues", count, totalSavedCount);
 			boolean isAttemptSuccess = isAttemptSuccess(totalSavedCount, count);
 			if (!isAttemptSuccess) {
 				lastSavedJiraIssueChangedDateByType.clear();
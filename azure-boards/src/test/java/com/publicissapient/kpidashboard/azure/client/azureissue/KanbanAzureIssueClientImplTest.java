@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.beans.BeanUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -55,6 +56,9 @@ import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProcessorExecutionTraceLogService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(SpringExtension.class)
 public class KanbanAzureIssueClientImplTest {
 	List<ProjectBasicConfig> kanbanProjectlist = new ArrayList<>();
@@ -79,6 +83,7 @@ public class KanbanAzureIssueClientImplTest {
 	@Mock private AzureProcessorConfig azureProcessorConfig;
 	@Mock private KanbanJiraIssueHistoryRepository kanbanIssueHistoryRepo;
 	@InjectMocks private KanbanAzureIssueClientImpl kanbanIssueClientImpl;
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 	@Mock private AesEncryptionService aesEncryptionService;
 	@Mock private ProcessorAzureRestClient processorAzureRestClient;
 	@Mock private AzureAdapter azureAdapter;
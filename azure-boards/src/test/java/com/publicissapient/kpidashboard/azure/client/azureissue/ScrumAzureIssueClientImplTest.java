@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.beans.BeanUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -64,6 +65,9 @@ import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProcessorExecutionTraceLogService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(SpringExtension.class)
 public class ScrumAzureIssueClientImplTest {
 
@@ -93,6 +97,7 @@ public class ScrumAzureIssueClientImplTest {
 	@Mock private AccountHierarchyRepository accountHierarchyRepo;
 	@Mock private AzureProcessorConfig azureProcessorConfig;
 	@InjectMocks private ScrumAzureIssueClientImpl scrumIssueClientImpl;
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 	@Mock private AesEncryptionService aesEncryptionService;
 	@Mock private ProcessorAzureRestClient processorAzureRestClient;
 	@Mock private AzureAdapter azureAdapter;
@@ -173,6 +178,11 @@ public class ScrumAzureIssueClientImplTest {
 		projectConfFieldMapping.setProjectToolConfig(projectToolConfig);
 
 		scrumIssueClientImpl.processesAzureIssues(projectConfFieldMapping, "TestKey", azureAdapter);
+		assertNotNull(
+				meterRegistry
+						.find("processor.step.items")
+						.tags("type", "read", "step", "scrumIssues", "processor", "Azure")
+						.counter());
 		scrumIssueClientImpl.purgeAzureIssues(issues, projectConfFieldMapping);
 		scrumIssueClientImpl.saveAzureIssueDetails(issues, projectConfFieldMapping, sprintDetailsSet);
 	}
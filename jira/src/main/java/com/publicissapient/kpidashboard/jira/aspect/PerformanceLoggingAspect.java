@@ -17,17 +17,36 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.aspect;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.batch.core.scope.context.JobContext;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Times the methods annotated with {@link TrackExecutionTime} as the <code>processor.execution.time
+ * </code> timer, with a percentile histogram and tagged with the class, the method, the project of
+ * the running job and the processor. A fraction <code>executiontime.aspect.logSampleRate</code> of
+ * the calls is also logged.
+ *
  * @author pankumar8
  */
 @Aspect
@@ -36,6 +55,15 @@ import lombok.extern.slf4j.Slf4j;
 @ConditionalOnExpression("${executiontime.aspect.enabled:true}")
 public class PerformanceLoggingAspect {
 
+	static final String EXECUTION_TIME_METRIC = "processor.execution.time";
+	private static final String PROJECT_ID = "projectId";
+	private static final String NO_PROJECT = "none";
+
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Value("${executiontime.aspect.logSampleRate:0}")
+	private double logSampleRate;
+
 	// AOP expression for which methods shall be intercepted
 	@Around("@annotation(com.publicissapient.kpidashboard.jira.aspect.TrackExecutionTime)")
 	public Object executionTime(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
@@ -45,23 +73,43 @@ public class PerformanceLoggingAspect {
 		String className = methodSignature.getDeclaringType().getSimpleName();
 		String methodName = methodSignature.getName();
 
-		final StopWatch stopWatch = new StopWatch();
-
 		// Measure method execution time
-		stopWatch.start();
-		Object result = proceedingJoinPoint.proceed();
-		stopWatch.stop();
-
-		// Log method execution time
-		log.info(
-				"Execution time of "
-						+ className
-						+ "."
-						+ methodName
-						+ " :: "
-						+ stopWatch.getTotalTimeMillis()
-						+ " ms");
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			return proceedingJoinPoint.proceed();
+		} finally {
+			long nanos =
+					sample.stop(
+							Timer.builder(EXECUTION_TIME_METRIC)
+									.description("Execution time of the methods annotated with @TrackExecutionTime")
+									.tag("class", className)
+									.tag("method", methodName)
+									.tag("project", getProjectId())
+									.tag("processor", JiraConstants.JIRA)
+									.publishPercentileHistogram()
+									.register(meterRegistry));
+			if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+				log.info(
+						"Execution time of {}.{} :: {} ms",
+						className,
+						methodName,
+						TimeUnit.NANOSECONDS.toMillis(nanos));
+			}
+		}
+	}
 
-		return result;
+	/** Project of the step or job running on the current thread. */
+	private static String getProjectId() {
+		Optional<Map<String, Object>> jobParameters =
+				Optional.ofNullable(StepSynchronizationManager.getContext())
+						.map(StepContext::getJobParameters)
+						.or(
+								() ->
+										Optional.ofNullable(JobSynchronizationManager.getContext())
+												.map(JobContext::getJobParameters));
+		return jobParameters
+				.map(parameters -> parameters.get(PROJECT_ID))
+				.map(String::valueOf)
+				.orElse(NO_PROJECT);
 	}
 }
@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
+import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
+import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chunk scoped cache of the already persisted issue and history documents. Keys of the issues read
+ * for the current chunk are registered by the prefetch listener, and on the first lookup of a
+ * document type all the documents of the chunk are loaded with one <code>$in</code> query per
+ * project instead of one query per issue.
+ *
+ * <p>State is kept per thread, as every chunk step is executed on the thread launching its job.
+ */
+@Slf4j
+@Component
+public class JiraIssueChunkCache {
+
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String ISSUE_ID = "issueId";
+	private static final String STORY_ID = "storyID";
+	private static final String ROUND_TRIPS_SAVED_METRIC = "jira.issue.prefetch.roundtrips.saved";
+
+	private static final PrefetchType<JiraIssue> JIRA_ISSUE =
+			new PrefetchType<>(
+					JiraIssue.class,
+					ISSUE_ID,
+					JiraIssueChunkCache::issueIdKey,
+					JiraIssue::getIssueId,
+					JiraIssue::new);
+	private static final PrefetchType<JiraIssueCustomHistory> JIRA_ISSUE_HISTORY =
+			new PrefetchType<>(
+					JiraIssueCustomHistory.class,
+					STORY_ID,
+					JiraIssueChunkCache::storyIdKey,
+					JiraIssueCustomHistory::getStoryID,
+					JiraIssueCustomHistory::new);
+	private static final PrefetchType<KanbanJiraIssue> KANBAN_JIRA_ISSUE =
+			new PrefetchType<>(
+					KanbanJiraIssue.class,
+					ISSUE_ID,
+					JiraIssueChunkCache::issueIdKey,
+					KanbanJiraIssue::getIssueId,
+					KanbanJiraIssue::new);
+	private static final PrefetchType<KanbanIssueCustomHistory> KANBAN_ISSUE_HISTORY =
+			new PrefetchType<>(
+					KanbanIssueCustomHistory.class,
+					STORY_ID,
+					JiraIssueChunkCache::storyIdKey,
+					KanbanIssueCustomHistory::getStoryID,
+					KanbanIssueCustomHistory::new);
+
+	private final ThreadLocal<ChunkState> chunkState = ThreadLocal.withInitial(ChunkState::new);
+
+	@Autowired private MongoTemplate mongoTemplate;
+
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+
+	/** Starts a new chunk, dropping anything cached for the previous one. */
+	public void startChunk() {
+		chunkState.remove();
+	}
+
+	/**
+	 * Registers the issue read for the current chunk so that it is part of the next bulk load.
+	 *
+	 * @param readData item returned by the reader
+	 */
+	public void register(ReadData readData) {
+		if (null != readData
+				&& null != readData.getIssue()
+				&& null != readData.getProjectConfFieldMapping()
+				&& null != readData.getProjectConfFieldMapping().getBasicProjectConfigId()) {
+			chunkState.get().readItems.add(readData);
+		}
+	}
+
+	/** Ends the current chunk and records the number of per issue queries which were avoided. */
+	public void endChunk() {
+		ChunkState state = chunkState.get();
+		long roundTripsSaved = state.servedFromCache - state.bulkQueries;
+		if (roundTripsSaved > 0) {
+			Counter.builder(ROUND_TRIPS_SAVED_METRIC)
+					.description("MongoDB round trips avoided by the chunk level issue prefetch")
+					.register(meterRegistry)
+					.increment(roundTripsSaved);
+		}
+		log.debug(
+				"Chunk prefetch served {} lookups with {} bulk queries",
+				state.servedFromCache,
+				state.bulkQueries);
+		chunkState.remove();
+	}
+
+	public Optional<JiraIssue> getJiraIssue(String basicProjectConfigId, String issueId) {
+		return lookup(JIRA_ISSUE, basicProjectConfigId, issueId);
+	}
+
+	public Optional<JiraIssueCustomHistory> getJiraIssueCustomHistory(
+			String basicProjectConfigId, String storyId) {
+		return lookup(JIRA_ISSUE_HISTORY, basicProjectConfigId, storyId);
+	}
+
+	public Optional<KanbanJiraIssue> getKanbanJiraIssue(String basicProjectConfigId, String issueId) {
+		return lookup(KANBAN_JIRA_ISSUE, basicProjectConfigId, issueId);
+	}
+
+	public Optional<KanbanIssueCustomHistory> getKanbanIssueCustomHistory(
+			String basicProjectConfigId, String storyId) {
+		return lookup(KANBAN_ISSUE_HISTORY, basicProjectConfigId, storyId);
+	}
+
+	/**
+	 * Returns the document as it was stored when prefetched for the current chunk, converted the way
+	 * the document is written. Only kept when the issues are written with bulk upserts, which then
+	 * set the changed fields only.
+	 *
+	 * @param type document type
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @param key issue id or story id of the document
+	 * @return stored document, empty when not prefetched or not stored yet
+	 */
+	public Optional<Document> getStoredDocument(
+			Class<?> type, String basicProjectConfigId, String key) {
+		Map<String, Document> storedDocuments = chunkState.get().storedDocuments.get(type);
+		return null == storedDocuments
+				? Optional.empty()
+				: Optional.ofNullable(storedDocuments.get(documentKey(basicProjectConfigId, key)));
+	}
+
+	/**
+	 * Returns the fingerprint stored with the issue document by the last run. Fingerprints of all the
+	 * issues of the chunk are loaded with the first lookup, reading only the key and the fingerprint
+	 * of the stored documents.
+	 *
+	 * @param type issue document type
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @param issueId issue id
+	 * @return stored fingerprint, empty when the issue is not stored, has no fingerprint yet or is
+	 *     not part of the current chunk
+	 */
+	public Optional<String> getStoredFingerprint(
+			Class<?> type, String basicProjectConfigId, String issueId) {
+		ChunkState state = chunkState.get();
+		if (state.readItems.isEmpty()) {
+			return Optional.empty();
+		}
+		Map<String, String> fingerprints =
+				state.fingerprints.computeIfAbsent(type, key -> prefetchFingerprints(key, state));
+		return Optional.ofNullable(fingerprints.get(documentKey(basicProjectConfigId, issueId)));
+	}
+
+	private Map<String, String> prefetchFingerprints(Class<?> type, ChunkState state) {
+		Map<String, Set<String>> projectWiseIssueIds = new HashMap<>();
+		for (ReadData readData : state.readItems) {
+			projectWiseIssueIds
+					.computeIfAbsent(
+							readData.getProjectConfFieldMapping().getBasicProjectConfigId().toString(),
+							k -> new HashSet<>())
+					.add(issueIdKey(readData.getIssue()));
+		}
+		Map<String, String> fingerprints = new HashMap<>();
+		String collectionName = mongoTemplate.getCollectionName(type);
+		for (Map.Entry<String, Set<String>> entry : projectWiseIssueIds.entrySet()) {
+			Query query =
+					new Query(
+							Criteria.where(BASIC_PROJECT_CONFIG_ID)
+									.is(entry.getKey())
+									.and(ISSUE_ID)
+									.in(entry.getValue())
+									.and(JiraConstants.ISSUE_FINGERPRINT)
+									.exists(true));
+			query.fields().include(ISSUE_ID, JiraConstants.ISSUE_FINGERPRINT);
+			for (Document document : mongoTemplate.find(query, Document.class, collectionName)) {
+				fingerprints.put(
+						documentKey(entry.getKey(), document.getString(ISSUE_ID)),
+						document.getString(JiraConstants.ISSUE_FINGERPRINT));
+			}
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * Returns the prefetched document, a new empty one when the issue was prefetched but is not
+	 * stored yet, or an empty optional when the issue is not part of the current chunk and the caller
+	 * has to fall back to the repository.
+	 */
+	private <T> Optional<T> lookup(
+			PrefetchType<T> prefetchType, String basicProjectConfigId, String key) {
+		ChunkState state = chunkState.get();
+		if (state.readItems.isEmpty()) {
+			return Optional.empty();
+		}
+		Map<String, Object> documents = state.documents.get(prefetchType.type());
+		if (null == documents) {
+			documents = prefetch(prefetchType, state);
+			state.documents.put(prefetchType.type(), documents);
+		}
+		String documentKey = documentKey(basicProjectConfigId, key);
+		if (!documents.containsKey(documentKey)) {
+			return Optional.empty();
+		}
+		state.servedFromCache++;
+		Object document = documents.get(documentKey);
+		return Optional.of(
+				null != document ? prefetchType.type().cast(document) : prefetchType.emptyDocument().get());
+	}
+
+	private <T> Map<String, Object> prefetch(PrefetchType<T> prefetchType, ChunkState state) {
+		Map<String, Set<String>> projectWiseKeys = new HashMap<>();
+		for (ReadData readData : state.readItems) {
+			projectWiseKeys
+					.computeIfAbsent(
+							readData.getProjectConfFieldMapping().getBasicProjectConfigId().toString(),
+							k -> new HashSet<>())
+					.add(prefetchType.keyExtractor().apply(readData.getIssue()));
+		}
+
+		Map<String, Object> documents = new HashMap<>();
+		Map<String, Document> storedDocuments = new HashMap<>();
+		boolean keepStoredDocuments = jiraProcessorConfig.isIssueBulkWriteEnabled();
+		for (Map.Entry<String, Set<String>> entry : projectWiseKeys.entrySet()) {
+			String basicProjectConfigId = entry.getKey();
+			Query query =
+					new Query(
+							Criteria.where(BASIC_PROJECT_CONFIG_ID)
+									.is(basicProjectConfigId)
+									.and(prefetchType.keyField())
+									.in(entry.getValue()));
+			List<T> existing = mongoTemplate.find(query, prefetchType.type());
+			state.bulkQueries++;
+			entry.getValue().forEach(key -> documents.put(documentKey(basicProjectConfigId, key), null));
+			for (T document : existing) {
+				String documentKey =
+						documentKey(basicProjectConfigId, prefetchType.storedKey().apply(document));
+				documents.put(documentKey, document);
+				if (keepStoredDocuments) {
+					// snapshot before the processors update the cached document in place
+					Document storedDocument = new Document();
+					mongoTemplate.getConverter().write(document, storedDocument);
+					storedDocuments.put(documentKey, storedDocument);
+				}
+			}
+		}
+		if (keepStoredDocuments) {
+			state.storedDocuments.put(prefetchType.type(), storedDocuments);
+		}
+		log.debug(
+				"Prefetched {} {} documents for {} issues",
+				documents.size(),
+				prefetchType.type().getSimpleName(),
+				state.readItems.size());
+		return documents;
+	}
+
+	private static String documentKey(String basicProjectConfigId, String key) {
+		return basicProjectConfigId + "," + key;
+	}
+
+	/**
+	 * @param issue issue read
+	 * @return issue id the issue documents are stored with
+	 */
+	public static String issueIdKey(Issue issue) {
+		return StringEscapeUtils.escapeHtml4(JiraProcessorUtil.deodeUTF8String(issue.getId()));
+	}
+
+	private static String storyIdKey(Issue issue) {
+		return JiraProcessorUtil.deodeUTF8String(issue.getKey());
+	}
+
+	private record PrefetchType<T>(
+			Class<T> type,
+			String keyField,
+			Function<Issue, String> keyExtractor,
+			Function<T, String> storedKey,
+			Supplier<T> emptyDocument) {}
+
+	private static class ChunkState {
+		private final List<ReadData> readItems = new ArrayList<>();
+		private final Map<Class<?>, Map<String, Object>> documents = new HashMap<>();
+		private final Map<Class<?>, Map<String, Document>> storedDocuments = new HashMap<>();
+		private final Map<Class<?>, Map<String, String>> fingerprints = new HashMap<>();
+		private long servedFromCache;
+		private long bulkQueries;
+	}
+}
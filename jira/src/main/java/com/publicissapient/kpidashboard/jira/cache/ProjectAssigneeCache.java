@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
+import com.publicissapient.kpidashboard.common.model.jira.Assignee;
+import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
+import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Job scoped index of the Jira assignee details of the projects, keyed by basicProjectConfigId and
+ * then by assignee id. The details of a project are loaded on the first issue processed for the
+ * project and updated in place with the assignees found afterwards, which are saved once per chunk
+ * by the issue writers. The project is evicted by the job listeners once its job is over.
+ *
+ * <p>All the reads and updates of a project are made holding the lock of its entry.
+ */
+@Slf4j
+@Component
+public class ProjectAssigneeCache {
+
+	private final Map<String, ProjectAssignees> projects = new ConcurrentHashMap<>();
+
+	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+
+	/**
+	 * Returns the anonymised name of an assignee, giving the next <code>User N</code> name of the
+	 * project to an assignee seen for the first time.
+	 *
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @param assigneeId hashed assignee id
+	 * @return anonymised assignee name
+	 */
+	public String getAnonymisedName(String basicProjectConfigId, String assigneeId) {
+		ProjectAssignees projectAssignees = load(basicProjectConfigId);
+		synchronized (projectAssignees) {
+			Assignee assignee = projectAssignees.byId.get(assigneeId);
+			if (null != assignee) {
+				return assignee.getAssigneeName();
+			}
+			String assigneeName =
+					JiraConstants.USER + JiraConstants.SPACE + projectAssignees.nextSequence();
+			projectAssignees.add(new Assignee(assigneeId, assigneeName));
+			return assigneeName;
+		}
+	}
+
+	/**
+	 * Adds the assignee of an issue to its project.
+	 *
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @param assignee assignee of the issue
+	 * @param anonymised whether the assignee names of the project are anonymised and sequenced
+	 * @return assignee details of the project when the assignee was added, null when already known.
+	 *     The details are shared and must not be modified.
+	 */
+	public AssigneeDetails addAssignee(
+			String basicProjectConfigId, Assignee assignee, boolean anonymised) {
+		ProjectAssignees projectAssignees = load(basicProjectConfigId);
+		synchronized (projectAssignees) {
+			Assignee known = projectAssignees.byId.get(assignee.getAssigneeId());
+			if (null != known && known.equals(assignee)) {
+				return null;
+			}
+			if (anonymised) {
+				projectAssignees.nextSequence();
+			}
+			projectAssignees.add(assignee);
+			return projectAssignees.assigneeDetails;
+		}
+	}
+
+	/**
+	 * Saves the assignees added to the projects since their last save.
+	 *
+	 * @param basicProjectConfigIds basicProjectConfigIds of the projects
+	 */
+	public void flush(Collection<String> basicProjectConfigIds) {
+		for (String basicProjectConfigId : basicProjectConfigIds) {
+			ProjectAssignees projectAssignees =
+					null == basicProjectConfigId ? null : projects.get(basicProjectConfigId);
+			if (null != projectAssignees) {
+				save(projectAssignees);
+			}
+		}
+	}
+
+	/**
+	 * Saves the pending assignees of a project and drops it from the cache.
+	 *
+	 * @param basicProjectConfigId basicProjectConfigId, all projects are evicted when null
+	 */
+	public void evict(String basicProjectConfigId) {
+		List<ProjectAssignees> evicted = new ArrayList<>();
+		if (null == basicProjectConfigId) {
+			projects.keySet().forEach(key -> evicted.add(projects.remove(key)));
+		} else {
+			evicted.add(projects.remove(basicProjectConfigId));
+		}
+		evicted.stream().filter(Objects::nonNull).forEach(this::save);
+	}
+
+	private ProjectAssignees load(String basicProjectConfigId) {
+		return projects.computeIfAbsent(
+				basicProjectConfigId,
+				id -> {
+					log.info("Loading assignee details for the project : {}", id);
+					return new ProjectAssignees(
+							id,
+							assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
+									id, ProcessorConstants.JIRA));
+				});
+	}
+
+	private void save(ProjectAssignees projectAssignees) {
+		synchronized (projectAssignees) {
+			if (projectAssignees.dirty) {
+				log.info(
+						"Writing assignees of the project {} to assignee_details Collection",
+						projectAssignees.assigneeDetails.getBasicProjectConfigId());
+				assigneeDetailsRepository.save(projectAssignees.assigneeDetails);
+				projectAssignees.dirty = false;
+			}
+		}
+	}
+
+	/** Assignee details of a project with the index of its assignees. */
+	private static class ProjectAssignees {
+		private final String basicProjectConfigId;
+		private final Map<String, Assignee> byId = new HashMap<>();
+		private AssigneeDetails assigneeDetails;
+		private boolean dirty;
+
+		ProjectAssignees(String basicProjectConfigId, AssigneeDetails assigneeDetails) {
+			this.basicProjectConfigId = basicProjectConfigId;
+			this.assigneeDetails = assigneeDetails;
+			if (null != assigneeDetails && null != assigneeDetails.getAssignee()) {
+				assigneeDetails
+						.getAssignee()
+						.forEach(assignee -> byId.put(assignee.getAssigneeId(), assignee));
+			}
+		}
+
+		/**
+		 * Moves the assignee sequence of the project, the details of a new project starting at 2 as
+		 * its first assignee is <code>User 1</code>.
+		 *
+		 * @return sequence number of the assignee being added
+		 */
+		int nextSequence() {
+			if (null == assigneeDetails) {
+				create();
+				assigneeDetails.setAssigneeSequence(2);
+				return 1;
+			}
+			int sequence = assigneeDetails.getAssigneeSequence();
+			assigneeDetails.setAssigneeSequence(sequence + 1);
+			return sequence;
+		}
+
+		void add(Assignee assignee) {
+			if (null == assigneeDetails) {
+				create();
+			}
+			if (null == assigneeDetails.getAssignee()) {
+				assigneeDetails.setAssignee(new LinkedHashSet<>());
+			}
+			assigneeDetails.getAssignee().add(assignee);
+			byId.put(assignee.getAssigneeId(), assignee);
+			dirty = true;
+		}
+
+		private void create() {
+			assigneeDetails = new AssigneeDetails();
+			assigneeDetails.setBasicProjectConfigId(basicProjectConfigId);
+			assigneeDetails.setSource(ProcessorConstants.JIRA);
+			assigneeDetails.setAssignee(new LinkedHashSet<>());
+		}
+	}
+}
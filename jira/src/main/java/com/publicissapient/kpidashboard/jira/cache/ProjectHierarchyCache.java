@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
+import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the hierarchy levels and of the existing project hierarchies keyed by
+ * basicProjectConfigId. Hierarchies of a project are loaded on the first issue processed for the
+ * project, kept up to date with the nodes written by the issue writers and evicted by {@link
+ * com.publicissapient.kpidashboard.jira.listener.ProjectHierarchyCacheListener} around every step
+ * of the project. The hierarchy levels are shared by all the projects and reloaded every
+ * <code>jira.hierarchyLevelsRefreshMinutes</code> instead.
+ *
+ * <p>Cached values are never mutated in place; updates replace the cached list or node so that
+ * readers always see a consistent value.
+ */
+@Slf4j
+@Component
+public class ProjectHierarchyCache {
+
+	private final Map<Boolean, List<HierarchyLevel>> hierarchyLevels = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, List<ProjectHierarchy>>> scrumHierarchies =
+			new ConcurrentHashMap<>();
+	private final Map<String, Map<String, ProjectHierarchy>> kanbanHierarchies =
+			new ConcurrentHashMap<>();
+
+	@Autowired private HierarchyLevelService hierarchyLevelService;
+
+	@Autowired private ProjectHierarchyService projectHierarchyService;
+
+	/**
+	 * @param isKanban kanban or scrum hierarchy
+	 * @return full hierarchy levels
+	 */
+	public List<HierarchyLevel> getHierarchyLevels(boolean isKanban) {
+		return hierarchyLevels.computeIfAbsent(isKanban, hierarchyLevelService::getFullHierarchyLevels);
+	}
+
+	/**
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @return existing hierarchies of the project grouped by node id
+	 */
+	public Map<String, List<ProjectHierarchy>> getScrumHierarchy(String basicProjectConfigId) {
+		return scrumHierarchies.computeIfAbsent(
+				basicProjectConfigId,
+				id -> {
+					log.info("Loading project hierarchies for the project : {}", id);
+					return new ConcurrentHashMap<>(
+							MapUtils.emptyIfNull(projectHierarchyService.getProjectHierarchyMapByConfig(id)));
+				});
+	}
+
+	/**
+	 * @param basicProjectConfigId basicProjectConfigId
+	 * @return existing hierarchies of the project by node id
+	 */
+	public Map<String, ProjectHierarchy> getKanbanHierarchy(String basicProjectConfigId) {
+		return kanbanHierarchies.computeIfAbsent(
+				basicProjectConfigId,
+				id -> {
+					log.info("Loading kanban project hierarchies for the project : {}", id);
+					return new ConcurrentHashMap<>(
+							MapUtils.emptyIfNull(projectHierarchyService.getProjectHierarchyMapByConfigId(id)));
+				});
+	}
+
+	/**
+	 * Adds the saved hierarchies to the already loaded projects, replacing the node with the same
+	 * node id and parent id.
+	 *
+	 * @param projectHierarchies saved project hierarchies
+	 */
+	public void addHierarchies(Collection<ProjectHierarchy> projectHierarchies) {
+		if (CollectionUtils.isEmpty(projectHierarchies)) {
+			return;
+		}
+		for (ProjectHierarchy projectHierarchy : projectHierarchies) {
+			if (null == projectHierarchy.getBasicProjectConfigId()
+					|| null == projectHierarchy.getNodeId()) {
+				continue;
+			}
+			String basicProjectConfigId = projectHierarchy.getBasicProjectConfigId().toString();
+			Map<String, List<ProjectHierarchy>> scrumHierarchy =
+					scrumHierarchies.get(basicProjectConfigId);
+			if (null != scrumHierarchy) {
+				scrumHierarchy.compute(
+						projectHierarchy.getNodeId(),
+						(nodeId, existing) -> replaceNode(existing, projectHierarchy));
+			}
+			Map<String, ProjectHierarchy> kanbanHierarchy = kanbanHierarchies.get(basicProjectConfigId);
+			if (null != kanbanHierarchy) {
+				kanbanHierarchy.put(projectHierarchy.getNodeId(), projectHierarchy);
+			}
+		}
+	}
+
+	/**
+	 * Evicts the cached hierarchies of a project, the entries of the other projects being left to
+	 * their own steps.
+	 *
+	 * @param basicProjectConfigId basicProjectConfigId
+	 */
+	public void evict(String basicProjectConfigId) {
+		if (null == basicProjectConfigId) {
+			return;
+		}
+		scrumHierarchies.remove(basicProjectConfigId);
+		kanbanHierarchies.remove(basicProjectConfigId);
+	}
+
+	/** Drops the hierarchy levels so that the next read loads the ones currently persisted. */
+	@Scheduled(
+			fixedDelayString = "${jira.hierarchyLevelsRefreshMinutes:60}",
+			initialDelayString = "${jira.hierarchyLevelsRefreshMinutes:60}",
+			timeUnit = TimeUnit.MINUTES)
+	public void refreshHierarchyLevels() {
+		hierarchyLevels.clear();
+	}
+
+	private static List<ProjectHierarchy> replaceNode(
+			List<ProjectHierarchy> existing, ProjectHierarchy projectHierarchy) {
+		List<ProjectHierarchy> nodes = new ArrayList<>();
+		if (null != existing) {
+			existing.stream()
+					.filter(node -> !Objects.equals(node.getParentId(), projectHierarchy.getParentId()))
+					.forEach(nodes::add);
+		}
+		nodes.add(projectHierarchy);
+		return nodes;
+	}
+}
@@ -0,0 +1,301 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.client;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Token bucket rate limiter keyed by host. Calls go through at the configured rate with the
+ * configured burst until the server pushes back, then the limiter follows what the server asks for:
+ *
+ * <ul>
+ *   <li><code>X-RateLimit-Limit</code>, <code>X-RateLimit-FillRate</code> and <code>
+ *       X-RateLimit-Interval-Seconds</code> set the burst and the rate of the host
+ *   <li><code>X-RateLimit-Remaining: 0</code> pauses the host until <code>X-RateLimit-Reset</code>
+ *   <li>a 429 or 503 response pauses the host for <code>Retry-After</code>, or for an exponential
+ *       back off when the header is missing, and halves the rate of the host
+ * </ul>
+ *
+ * The rate of a host grows back to its target on every successful response. The headers read are
+ * the ones sent by Jira Cloud and Jira Data Center, so the limiter is kept with the Jira client;
+ * the other processors are separate deployables and throttle their own servers.
+ */
+@Slf4j
+public class HostRateLimiter {
+
+	public static final String RETRY_AFTER = "Retry-After";
+	public static final String RATE_LIMIT_LIMIT = "X-RateLimit-Limit";
+	public static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+	public static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+	public static final String RATE_LIMIT_FILL_RATE = "X-RateLimit-FillRate";
+	public static final String RATE_LIMIT_INTERVAL_SECONDS = "X-RateLimit-Interval-Seconds";
+
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVICE_UNAVAILABLE = 503;
+	private static final long INITIAL_BACK_OFF_MILLIS = 1000;
+	private static final long MAX_BACK_OFF_MILLIS = 60000;
+	private static final double MIN_PERMITS_PER_SECOND = 0.1;
+	private static final double RECOVERY_STEP = 0.1;
+
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+	private final double permitsPerSecond;
+	private final int burst;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+
+	/**
+	 * @param permitsPerSecond calls per second allowed per host until the server asks otherwise
+	 * @param burst calls allowed at once per host
+	 */
+	public HostRateLimiter(double permitsPerSecond, int burst) {
+		this(permitsPerSecond, burst, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	HostRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock, Sleeper sleeper) {
+		this.permitsPerSecond = Math.max(MIN_PERMITS_PER_SECOND, permitsPerSecond);
+		this.burst = Math.max(1, burst);
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * Waits until a call to the host is allowed.
+	 *
+	 * @param host host called, calls are not limited when blank
+	 * @throws InterruptedException when interrupted while waiting
+	 */
+	public void acquire(String host) throws InterruptedException {
+		if (StringUtils.isBlank(host)) {
+			return;
+		}
+		Bucket bucket = getBucket(host);
+		long waitNanos;
+		while ((waitNanos = bucket.tryAcquire(nanoClock.getAsLong())) > 0) {
+			sleeper.sleep(waitNanos);
+		}
+	}
+
+	/**
+	 * Adapts the limits of the host to the response received.
+	 *
+	 * @param host host called
+	 * @param statusCode status code of the response
+	 * @param headers returns the value of a response header, null when missing
+	 * @return true when the server asked to slow down and the call can be retried
+	 */
+	public boolean onResponse(String host, int statusCode, UnaryOperator<String> headers) {
+		if (StringUtils.isBlank(host)) {
+			return false;
+		}
+		Bucket bucket = getBucket(host);
+		long now = nanoClock.getAsLong();
+		bucket.applyLimits(headers, now);
+		if (isRateLimited(statusCode)) {
+			long pauseMillis = bucket.throttle(parseRetryAfter(headers.apply(RETRY_AFTER)), now);
+			log.warn(
+					"Host {} answered {}, pausing calls for {} ms at {} calls per second",
+					host,
+					statusCode,
+					pauseMillis,
+					bucket.getRate());
+			return true;
+		}
+		if (statusCode < 400) {
+			bucket.recover();
+		}
+		return false;
+	}
+
+	/**
+	 * @param statusCode status code of a response
+	 * @return true when the status code asks the client to slow down
+	 */
+	public static boolean isRateLimited(int statusCode) {
+		return statusCode == TOO_MANY_REQUESTS || statusCode == SERVICE_UNAVAILABLE;
+	}
+
+	private Bucket getBucket(String host) {
+		return buckets.computeIfAbsent(
+				host.toLowerCase(Locale.ROOT),
+				key -> new Bucket(permitsPerSecond, burst, nanoClock.getAsLong()));
+	}
+
+	private static long parseRetryAfter(String retryAfter) {
+		if (StringUtils.isBlank(retryAfter)) {
+			return -1;
+		}
+		if (StringUtils.isNumeric(retryAfter.trim())) {
+			return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+		}
+		try {
+			return Math.max(
+					0,
+					ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+									.toInstant()
+									.toEpochMilli()
+							- System.currentTimeMillis());
+		} catch (DateTimeParseException e) {
+			log.debug("Could not parse {} header {}", RETRY_AFTER, retryAfter);
+			return -1;
+		}
+	}
+
+	private static long parseReset(String reset) {
+		String value = reset.trim();
+		if (StringUtils.isNumeric(value)) {
+			// epoch seconds
+			return Math.max(
+					0, TimeUnit.SECONDS.toMillis(Long.parseLong(value)) - System.currentTimeMillis());
+		}
+		try {
+			Instant resetAt = OffsetDateTime.parse(value).toInstant();
+			return Math.max(0, resetAt.toEpochMilli() - System.currentTimeMillis());
+		} catch (DateTimeParseException e) {
+			log.debug("Could not parse {} header {}", RATE_LIMIT_RESET, reset);
+			return -1;
+		}
+	}
+
+	private static Double parseNumber(String value) {
+		if (StringUtils.isBlank(value)) {
+			return null;
+		}
+		try {
+			return Double.valueOf(value.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/** Sleeps for the given time. */
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(long nanos) throws InterruptedException;
+	}
+
+	/** Token bucket of one host. */
+	private static final class Bucket {
+
+		private double targetRate;
+		private double rate;
+		private double capacity;
+		private double tokens;
+		private long lastRefill;
+		private long pausedUntil;
+		private long backOffMillis = INITIAL_BACK_OFF_MILLIS;
+
+		private Bucket(double rate, int capacity, long now) {
+			this.targetRate = rate;
+			this.rate = rate;
+			this.capacity = capacity;
+			this.tokens = capacity;
+			this.lastRefill = now;
+			this.pausedUntil = now;
+		}
+
+		/** Takes a token, returns the nanoseconds to wait for one when none is available. */
+		private synchronized long tryAcquire(long now) {
+			if (now - pausedUntil < 0) {
+				return pausedUntil - now;
+			}
+			refill(now);
+			if (tokens >= 1) {
+				tokens--;
+				return 0;
+			}
+			return Math.max(1, (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1)));
+		}
+
+		private void refill(long now) {
+			long start = now - pausedUntil < 0 ? pausedUntil : Math.max(lastRefill, pausedUntil);
+			if (now > start) {
+				tokens = Math.min(capacity, tokens + (now - start) * rate / TimeUnit.SECONDS.toNanos(1));
+			}
+			lastRefill = now;
+		}
+
+		private synchronized void applyLimits(UnaryOperator<String> headers, long now) {
+			refill(now);
+			Double limit = parseNumber(headers.apply(RATE_LIMIT_LIMIT));
+			if (null != limit && limit >= 1) {
+				capacity = limit;
+				tokens = Math.min(tokens, capacity);
+			}
+			Double fillRate = parseNumber(headers.apply(RATE_LIMIT_FILL_RATE));
+			Double interval = parseNumber(headers.apply(RATE_LIMIT_INTERVAL_SECONDS));
+			if (null != fillRate && fillRate > 0) {
+				double intervalSeconds = null == interval || interval <= 0 ? 1 : interval;
+				targetRate = Math.max(MIN_PERMITS_PER_SECOND, fillRate / intervalSeconds);
+				rate = Math.min(rate, targetRate);
+			}
+			Double remaining = parseNumber(headers.apply(RATE_LIMIT_REMAINING));
+			String reset = headers.apply(RATE_LIMIT_RESET);
+			if (null != remaining) {
+				tokens = Math.min(tokens, remaining);
+				if (remaining < 1 && StringUtils.isNotBlank(reset)) {
+					pauseFor(parseReset(reset), now);
+				}
+			}
+		}
+
+		private synchronized long throttle(long retryAfterMillis, long now) {
+			long pauseMillis = retryAfterMillis;
+			if (pauseMillis < 0) {
+				pauseMillis = backOffMillis;
+				backOffMillis = Math.min(MAX_BACK_OFF_MILLIS, backOffMillis * 2);
+			}
+			rate = Math.max(MIN_PERMITS_PER_SECOND, rate / 2);
+			tokens = 0;
+			pauseFor(pauseMillis, now);
+			return pauseMillis;
+		}
+
+		private void pauseFor(long pauseMillis, long now) {
+			if (pauseMillis <= 0) {
+				return;
+			}
+			long until = now + TimeUnit.MILLISECONDS.toNanos(pauseMillis);
+			if (until - pausedUntil > 0) {
+				pausedUntil = until;
+			}
+		}
+
+		private synchronized void recover() {
+			backOffMillis = INITIAL_BACK_OFF_MILLIS;
+			rate = Math.min(targetRate, rate + targetRate * RECOVERY_STEP);
+		}
+
+		private synchronized double getRate() {
+			return rate;
+		}
+	}
+}
@@ -12,6 +12,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.UnknownHostException;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.apache.commons.codec.binary.Base64;
@@ -20,6 +21,7 @@ import org.htmlunit.FailingHttpStatusCodeException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.atlassian.jira.rest.client.auth.BasicHttpAuthenticationHandler;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
 import com.publicissapient.kpidashboard.common.model.ToolCredential;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
@@ -31,6 +33,7 @@ import com.publicissapient.kpidashboard.jira.factory.ProcessorAsynchJiraRestClie
 import com.publicissapient.kpidashboard.jira.model.JiraInfo;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.service.BearerTokenAuthenticationHandler;
 import com.publicissapient.kpidashboard.jira.service.JiraCommonService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JiraClient {
 
+	private static final String BEARER_CREDENTIALS = "bearer:";
+	private static final String OAUTH_CREDENTIALS = "oauth:";
+
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 
 	@Autowired private ConnectionRepository connectionRepository;
@@ -51,6 +57,8 @@ public class JiraClient {
 
 	@Autowired private JiraCommonService jiraCommonService;
 
+	@Autowired private JiraClientRegistry jiraClientRegistry;
+
 	private ProcessorJiraRestClient restClient;
 
 	public ProcessorJiraRestClient getClient(
@@ -126,6 +134,7 @@ public class JiraClient {
 			client =
 					getJiraOAuthClient(
 							JiraInfo.builder()
+									.connectionId(Objects.toString(conn.getId(), null))
 									.jiraConfigBaseUrl(conn.getBaseUrl())
 									.username(username)
 									.password(password)
@@ -139,6 +148,7 @@ public class JiraClient {
 			client =
 					getJiraClient(
 							JiraInfo.builder()
+									.connectionId(Objects.toString(conn.getId(), null))
 									.jiraConfigBaseUrl(conn.getBaseUrl())
 									.username(username)
 									.password(password)
@@ -179,13 +189,18 @@ public class JiraClient {
 			InetAddress.getByName(jiraUri.getHost()); // NOSONAR
 			if (jiraInfo.isBearerToken()) {
 				client =
-						new ProcessorAsynchJiraRestClientFactory()
-								.createWithBearerTokenAuthentication(jiraUri, password, jiraProcessorConfig);
+						jiraClientRegistry.borrow(
+								jiraInfo.getConnectionId(),
+								jiraUri,
+								BEARER_CREDENTIALS + password,
+								new BearerTokenAuthenticationHandler(password));
 			} else {
 				client =
-						new ProcessorAsynchJiraRestClientFactory()
-								.createWithBasicHttpAuthentication(
-										jiraUri, username, password, jiraProcessorConfig);
+						jiraClientRegistry.borrow(
+								jiraInfo.getConnectionId(),
+								jiraUri,
+								username + ':' + password,
+								new BasicHttpAuthenticationHandler(username, password));
 			}
 		} catch (UnknownHostException | URISyntaxException e) {
 			log.error("The Jira host name is invalid. Further jira collection cannot proceed.");
@@ -223,8 +238,11 @@ public class JiraClient {
 
 			InetAddress.getByName(jiraUri.getHost()); // NOSONAR
 			client =
-					new ProcessorAsynchJiraRestClientFactory()
-							.create(jiraUri, jiraOAuthClient, jiraProcessorConfig);
+					jiraClientRegistry.borrow(
+							jiraInfo.getConnectionId(),
+							jiraUri,
+							OAUTH_CREDENTIALS + jiraInfo.getJiraConfigAccessToken(),
+							jiraOAuthClient);
 
 		} catch (UnknownHostException | URISyntaxException e) {
 			log.error("The Jira host name is invalid. Further jira collection cannot proceed.");
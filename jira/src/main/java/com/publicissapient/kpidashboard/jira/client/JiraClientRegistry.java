@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.httpclient.api.HttpClient;
+import com.atlassian.httpclient.api.Request;
+import com.atlassian.httpclient.api.factory.HttpClientOptions;
+import com.atlassian.httpclient.apache.httpcomponents.DefaultHttpClientFactory;
+import com.atlassian.jira.rest.client.api.AuthenticationHandler;
+import com.atlassian.jira.rest.client.internal.async.AtlassianHttpClientDecorator;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.factory.ProcessorAsynchHttpClientFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shares one pooled, keep-alive http client between the projects of a Jira connection. Pools are
+ * keyed by connection id, server URI and a digest of the credentials, so the projects of one
+ * connection reuse the same connections and TLS sessions while a different user or a changed
+ * password gets its own pool.
+ *
+ * <p>Every {@link #borrow} returns a new {@link ProcessorJiraRestClient} over the shared pool with
+ * the authentication of the borrower. Closing that client gives the pool back; the pool itself is
+ * disposed once nobody borrowed it for <code>jira.httpClientIdleEvictionSeconds</code>.
+ *
+ * <p>The pools are reported as the <code>jira.http.client.pools</code> gauge, and per pool as the
+ * <code>jira.http.client.pool.borrowers</code> gauge and the <code>jira.http.client.pool.requests
+ * </code> counter tagged with the host, the connection and a sequence number of the pool.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JiraClientRegistry {
+
+	static final String POOLS_METRIC = "jira.http.client.pools";
+	static final String BORROWERS_METRIC = "jira.http.client.pool.borrowers";
+	static final String REQUESTS_METRIC = "jira.http.client.pool.requests";
+
+	private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+	private final AtomicInteger poolSequence = new AtomicInteger();
+
+	private final JiraProcessorConfig jiraProcessorConfig;
+
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	public void registerMetrics() {
+		Gauge.builder(POOLS_METRIC, pools, Map::size)
+				.description("Pooled Jira http clients currently open")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Borrows a client of the pool of the connection, creating the pool on first use.
+	 *
+	 * @param connectionId id of the Jira connection, may be null
+	 * @param serverUri Jira server URI
+	 * @param credentials credentials the requests are authenticated with, only a digest is kept
+	 * @param authenticationHandler authentication of the requests of the borrower
+	 * @return client to close once the borrower is done with it
+	 */
+	public ProcessorJiraRestClient borrow(
+			String connectionId,
+			URI serverUri,
+			String credentials,
+			AuthenticationHandler authenticationHandler) {
+		String key =
+				StringUtils.defaultString(connectionId)
+						+ '|'
+						+ serverUri
+						+ '|'
+						+ DigestUtils.sha256Hex(StringUtils.defaultString(credentials));
+		Pool pool =
+				pools.compute(
+						key,
+						(k, existing) -> {
+							Pool borrowed = null == existing ? createPool(k, connectionId, serverUri) : existing;
+							borrowed.borrowers++;
+							return borrowed;
+						});
+		return new ProcessorAsynchJiraRestClient(
+				serverUri, new LeasedHttpClient(pool, authenticationHandler));
+	}
+
+	/** Disposes the pools nobody borrowed for the configured idle time. */
+	@Scheduled(
+			fixedDelayString = "${jira.httpClientIdleEvictionSeconds:300}",
+			timeUnit = TimeUnit.SECONDS)
+	public void evictIdlePools() {
+		long idleNanos =
+				TimeUnit.SECONDS.toNanos(
+						Math.max(0, jiraProcessorConfig.getHttpClientIdleEvictionSeconds()));
+		long now = System.nanoTime();
+		List<Pool> evicted = new ArrayList<>();
+		for (String key : pools.keySet()) {
+			pools.computeIfPresent(
+					key,
+					(k, pool) -> {
+						if (pool.borrowers > 0 || now - pool.lastReturned < idleNanos) {
+							return pool;
+						}
+						evicted.add(pool);
+						return null;
+					});
+		}
+		evicted.forEach(this::dispose);
+	}
+
+	@PreDestroy
+	public void close() {
+		List<Pool> open = new ArrayList<>(pools.values());
+		pools.clear();
+		open.forEach(this::dispose);
+	}
+
+	private void giveBack(Pool pool) {
+		pools.computeIfPresent(
+				pool.key,
+				(k, current) -> {
+					if (current == pool) {
+						current.borrowers--;
+						current.lastReturned = System.nanoTime();
+					}
+					return current;
+				});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Pool createPool(String key, String connectionId, URI serverUri) {
+		int maxConnections = Math.max(1, jiraProcessorConfig.getHttpClientMaxConnectionsPerRoute());
+		HttpClientOptions options = new HttpClientOptions();
+		options.setSocketTimeout(jiraProcessorConfig.getSocketTimeOut(), TimeUnit.SECONDS);
+		options.setMaxConnectionsPerHost(maxConnections);
+		options.setMaxTotalConnections(maxConnections);
+		if (jiraProcessorConfig.getHttpClientIdleEvictionSeconds() > 0) {
+			options.setConnectionPoolTimeToLive(
+					jiraProcessorConfig.getHttpClientIdleEvictionSeconds(), TimeUnit.SECONDS);
+		}
+		DefaultHttpClientFactory factory =
+				new ProcessorAsynchHttpClientFactory().createHttpClientFactory(serverUri);
+		Pool pool = new Pool(key, factory, factory.create(options));
+
+		Tags tags =
+				Tags.of("host", StringUtils.defaultString(serverUri.getHost()))
+						.and("connection", StringUtils.defaultString(connectionId))
+						.and("pool", String.valueOf(poolSequence.incrementAndGet()));
+		pool.meters.add(
+				Gauge.builder(BORROWERS_METRIC, pool, p -> p.borrowers)
+						.description("Projects currently borrowing the pooled Jira http client")
+						.tags(tags)
+						.register(meterRegistry));
+		pool.meters.add(
+				FunctionCounter.builder(REQUESTS_METRIC, pool.requests, AtomicLong::get)
+						.description("Requests sent through the pooled Jira http client")
+						.tags(tags)
+						.register(meterRegistry));
+		log.info(
+				"Created pooled http client for {} with {} connections per route",
+				serverUri,
+				maxConnections);
+		return pool;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void dispose(Pool pool) {
+		pool.meters.forEach(meterRegistry::remove);
+		try {
+			pool.factory.dispose(pool.httpClient);
+			log.info("Disposed idle pooled Jira http client after {} requests", pool.requests.get());
+		} catch (Exception e) {
+			log.warn("Failed to dispose pooled Jira http client", e);
+		}
+	}
+
+	/** Pooled http client of a connection. Borrowers are counted under the lock of the map. */
+	@SuppressWarnings("rawtypes")
+	private static final class Pool {
+		private final String key;
+		private final DefaultHttpClientFactory factory;
+		private final HttpClient httpClient;
+		private final AtomicLong requests = new AtomicLong();
+		private final List<Meter> meters = new ArrayList<>();
+		private int borrowers;
+		private long lastReturned = System.nanoTime();
+
+		private Pool(String key, DefaultHttpClientFactory factory, HttpClient httpClient) {
+			this.key = key;
+			this.factory = factory;
+			this.httpClient = httpClient;
+		}
+	}
+
+	/** Client of a borrower, authenticating with its own handler and giving the pool back once. */
+	private final class LeasedHttpClient extends AtlassianHttpClientDecorator {
+
+		private final Pool pool;
+		private final AtomicBoolean returned = new AtomicBoolean();
+
+		private LeasedHttpClient(Pool pool, AuthenticationHandler authenticationHandler) {
+			super(pool.httpClient, countRequests(pool, authenticationHandler));
+			this.pool = pool;
+		}
+
+		@Override
+		public void destroy() {
+			if (returned.compareAndSet(false, true)) {
+				giveBack(pool);
+			}
+		}
+	}
+
+	private static AuthenticationHandler countRequests(
+			Pool pool, AuthenticationHandler authenticationHandler) {
+		return (Request.Builder builder) -> {
+			pool.requests.incrementAndGet();
+			authenticationHandler.configure(builder);
+		};
+	}
+}
@@ -59,7 +59,19 @@ public class JiraProcessorConfig {
 	private String jiraEpicApi;
 	private Integer sprintReportCountToBeFetched;
 	private boolean considerStartDate;
-	private long subsequentApiCallDelayInMilli;
+	private double rateLimitPermitsPerSecond;
+	private int rateLimitBurst;
+	private int rateLimitMaxRetries;
+	private int sprintReportFetchThreads;
+	private int sprintReportFetchPerHostLimit;
+	private int sprintIssueFetchThreads;
+	private int httpClientMaxConnectionsPerRoute;
+	private int httpClientIdleEvictionSeconds;
+	private int jobQueueConcurrency;
+	private int jobQueuePerHostLimit;
+	private int jobQueueStaleHours;
+	private int jobRestartWindowHours;
+	private int jobRetentionDays;
 
 	private Map<String, String> notificationSubject;
 
@@ -79,6 +91,13 @@ public class JiraProcessorConfig {
 	private Integer prevMonthCountToFetchData;
 	private Integer daysToReduce;
 	private Integer chunkSize;
+	private int issueFetchPartitionCount;
+	private int issueFetchPartitionConcurrency;
+	private int issuePrefetchPageCount;
+	private boolean issueBulkWriteEnabled;
+	private int issueBulkWriteThreads;
+	private boolean issueFingerprintEnabled;
+	private boolean releaseFingerprintEnabled;
 	private String uiHost;
 	private List<String> domainNames;
 }
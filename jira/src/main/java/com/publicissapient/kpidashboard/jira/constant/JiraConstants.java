@@ -87,6 +87,15 @@ public final class JiraConstants {
 	public static final String PROCESSED_ISSUES = "processed issues";
 	public static final String PAGE_START = "pageStart";
 	public static final String BOARD_ID = "boardId";
+	public static final String SKIPPED_ISSUES = "skipped issues";
+	public static final String ISSUE_FINGERPRINT = "changeFingerprint";
+	public static final String RELEASE_FINGERPRINT = "releaseFingerprint";
+	public static final String PARTITION_INDEX = "partitionIndex";
+	public static final String PARTITION_WINDOW_START = "windowStart";
+	public static final String PARTITION_WINDOW_END = "windowEnd";
+	public static final String PARTITION_LAST_CHANGE_DATE = "partitionLastChangeDate";
+	public static final String READER_BOARD_INDEX = "readerBoardIndex";
+	public static final String READER_BOARD_LAST_CHANGE_DATE = "readerBoardLastChangeDate";
 	public static final String NAME = "name";
 	public static final String EPIC_RESOLUTION_DATE = "resolutiondate";
 	public static final String ERROR_NOTIFICATION_SUBJECT_KEY = "errorInJiraProcessor";
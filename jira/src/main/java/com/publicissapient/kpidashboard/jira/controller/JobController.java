@@ -21,19 +21,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.bson.types.ObjectId;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
@@ -56,7 +50,7 @@ import com.publicissapient.kpidashboard.common.util.SecurityUtils;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
-import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
+import com.publicissapient.kpidashboard.jira.scheduler.ProjectJobQueue;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -68,8 +62,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JobController {
 
-	private static final String NUMBER_OF_PROCESSOR_AVAILABLE_MSG =
-			"Total number of processor available : {} = number or projects run in parallel";
 	private static final String PROJECT_ID = "projectId";
 	private static final String SPRINT_ID = "sprintId";
 	private static final String CURRENTTIME = "currentTime";
@@ -105,7 +97,7 @@ public class JobController {
 	@Autowired private ProjectToolConfigRepository toolRepository;
 	@Autowired private ProjectBasicConfigRepository projectConfigRepository;
 	@Autowired private FetchProjectConfiguration fetchProjectConfiguration;
-	@Autowired private OngoingExecutionsService ongoingExecutionsService;
+	@Autowired private ProjectJobQueue projectJobQueue;
 	@Autowired private JiraProcessorRepository jiraProcessorRepository;
 
 	@Autowired private TemplateConfigurationService templateConfigurationService;
@@ -125,24 +117,8 @@ public class JobController {
 		log.info("Total projects to fun for Scrum - Board Wise : {}", totalProjects);
 		log.info("Scrum - Board Wise Projects : {}", scrumBoardbasicProjConfIds);
 		List<JobParameters> parameterSets = getDynamicParameterSets(scrumBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						try {
-							jobLauncher.run(fetchIssueScrumBoardJob, params);
-						} catch (Exception e) {
-							log.info(
-									"Jira Scrum data for board fetch failed for BasicProjectConfigId : {}, with exception : {}",
-									params.getString(PROJECT_ID),
-									e);
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueScrumBoardJob, params, false, true));
 		return ResponseEntity.ok().body("job started for scrum board");
 	}
 
@@ -159,25 +135,8 @@ public class JobController {
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, true, false);
 
 		List<JobParameters> parameterSets = getDynamicParameterSets(scrumBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						try {
-							jobLauncher.run(fetchIssueScrumJqlJob, params);
-						} catch (Exception e) {
-							log.info(
-									"Jira Scrum data for JQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
-									params.getString(PROJECT_ID),
-									e);
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueScrumJqlJob, params, false, true));
 		return ResponseEntity.ok().body("job started for scrum JQL");
 	}
 
@@ -212,24 +171,8 @@ public class JobController {
 		List<String> kanbanBoardbasicProjConfIds =
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, false, true);
 		List<JobParameters> parameterSets = getDynamicParameterSets(kanbanBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						try {
-							jobLauncher.run(fetchIssueKanbanBoardJob, params);
-						} catch (Exception e) {
-							log.info(
-									"Jira Kanban data for board fetch failed for BasicProjectConfigId : {}, with exception : {}",
-									params.getString(PROJECT_ID),
-									e);
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueKanbanBoardJob, params, true, true));
 		return ResponseEntity.ok().body("job started for Kanban Board");
 	}
 
@@ -246,24 +189,8 @@ public class JobController {
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, true, true);
 
 		List<JobParameters> parameterSets = getDynamicParameterSets(scrumBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						try {
-							jobLauncher.run(fetchIssueKanbanJqlJob, params);
-						} catch (Exception e) {
-							log.info(
-									"Jira Kanban data for JQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
-									params.getString(PROJECT_ID),
-									e);
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueKanbanJqlJob, params, true, true));
 		return ResponseEntity.ok().body("job started for Kanban JQL");
 	}
 
@@ -323,36 +250,33 @@ public class JobController {
 			return ResponseEntity.badRequest()
 					.body("Project is on hold : " + sanitizedBasicProjectConfigId);
 		}
-		if (ongoingExecutionsService.isExecutionInProgress(sanitizedBasicProjectConfigId)) {
+		ObjectId jiraProcessorId =
+				jiraProcessorRepository.findByProcessorName(ProcessorConstants.JIRA).getId();
+		ProjectBasicConfig projectBasicConfig = projBasicConfOpt.get();
+		List<ProjectToolConfig> projectToolConfigs =
+				toolRepository.findByToolNameAndBasicProjectConfigId(
+						JiraConstants.JIRA, projectBasicConfig.getId());
+		if (CollectionUtils.isEmpty(projectToolConfigs)) {
+			log.info("removing project with basicProjectConfigId {}", sanitizedBasicProjectConfigId);
+			return ResponseEntity.ok()
+					.body("Job started for BasicProjectConfigId: " + sanitizedBasicProjectConfigId);
+		}
+
+		JobParametersBuilder jobParametersBuilder = new JobParametersBuilder();
+		jobParametersBuilder.addString(PROJECT_ID, sanitizedBasicProjectConfigId);
+		jobParametersBuilder.addLong(CURRENTTIME, System.currentTimeMillis());
+		jobParametersBuilder.addString(IS_SCHEDULER, VALUE);
+		jobParametersBuilder.addString(PROCESSOR_ID, jiraProcessorId.toString());
+		JobParameters params = jobParametersBuilder.toJobParameters();
+
+		Job job = getProjectJob(projectBasicConfig.isKanban(), useJqlOrBoard(projectToolConfigs));
+		// Queue the job ahead of the scheduled projects, unless the project is already running
+		if (!projectJobQueue.enqueue(job, params, projectBasicConfig.isKanban(), true)) {
 			log.error("An execution is already in progress");
 			return ResponseEntity.badRequest()
 					.body(
 							"Jira processor run is already in progress for this project. Please try after some time.");
 		}
-
-		// Mark the execution as in progress before starting the job asynchronously
-		ongoingExecutionsService.markExecutionInProgress(sanitizedBasicProjectConfigId);
-		ObjectId jiraProcessorId =
-				jiraProcessorRepository.findByProcessorName(ProcessorConstants.JIRA).getId();
-		// Start the job asynchronously
-		CompletableFuture.runAsync(
-				() -> {
-					JobParametersBuilder jobParametersBuilder = new JobParametersBuilder();
-					jobParametersBuilder.addString(PROJECT_ID, sanitizedBasicProjectConfigId);
-					jobParametersBuilder.addLong(CURRENTTIME, System.currentTimeMillis());
-					jobParametersBuilder.addString(IS_SCHEDULER, VALUE);
-					jobParametersBuilder.addString(PROCESSOR_ID, jiraProcessorId.toString());
-					JobParameters params = jobParametersBuilder.toJobParameters();
-
-					try {
-						runProjectBasedOnConfig(sanitizedBasicProjectConfigId, params, projBasicConfOpt);
-					} catch (Exception e) {
-						log.error(
-								"Jira fetch failed for BasicProjectConfigId : {}, with exception : {}",
-								params.getString(PROJECT_ID),
-								e);
-					}
-				});
 		return ResponseEntity.ok()
 				.body("Job started for BasicProjectConfigId: " + sanitizedBasicProjectConfigId);
 	}
@@ -397,32 +321,13 @@ public class JobController {
 		return ResponseEntity.ok().body("job started for Project : " + projectBasicConfigId);
 	}
 
-	private void runProjectBasedOnConfig(
-			String basicProjectConfigId,
-			JobParameters params,
-			Optional<ProjectBasicConfig> projBasicConfOpt)
-			throws JobExecutionAlreadyRunningException,
-					JobRestartException,
-					JobInstanceAlreadyCompleteException,
-					JobParametersInvalidException {
-		if (projBasicConfOpt.isPresent()) {
-			ProjectBasicConfig projectBasicConfig = projBasicConfOpt.get();
-			if (!projectBasicConfig.isProjectOnHold()) {
-				List<ProjectToolConfig> projectToolConfigs =
-						toolRepository.findByToolNameAndBasicProjectConfigId(
-								JiraConstants.JIRA, projectBasicConfig.getId());
-				boolean useJql = useJqlOrBoard(projectToolConfigs);
-				if (projectBasicConfig.isKanban()) {
-					// Project is kanban
-					launchJobBasedOnQueryEnabledForKanban(
-							basicProjectConfigId, params, projectToolConfigs, useJql);
-				} else {
-					// Project is Scrum
-					launchJobBasedOnQueryEnabledForScrum(
-							basicProjectConfigId, params, projectToolConfigs, useJql);
-				}
-			}
+	private Job getProjectJob(boolean isKanban, boolean useJql) {
+		if (isKanban) {
+			// JQL or Board is setup for the Kanban project
+			return useJql ? fetchIssueKanbanJqlJob : fetchIssueKanbanBoardJob;
 		}
+		// JQL or Board is setup for the Scrum project
+		return useJql ? fetchIssueScrumJqlJob : fetchIssueScrumBoardJob;
 	}
 
 	private boolean useJqlOrBoard(List<ProjectToolConfig> projectToolConfigs) {
@@ -448,52 +353,4 @@ public class JobController {
 		}
 		return useJql;
 	}
-
-	private void launchJobBasedOnQueryEnabledForScrum(
-			String basicProjectConfigId,
-			JobParameters params,
-			List<ProjectToolConfig> projectToolConfigs,
-			boolean useJql)
-			throws JobExecutionAlreadyRunningException,
-					JobRestartException,
-					JobInstanceAlreadyCompleteException,
-					JobParametersInvalidException {
-		if (CollectionUtils.isNotEmpty(projectToolConfigs)) {
-			if (useJql) {
-				// JQL is setup for the project
-				jobLauncher.run(fetchIssueScrumJqlJob, params);
-			} else {
-				// Board is setup for the project
-				jobLauncher.run(fetchIssueScrumBoardJob, params);
-			}
-		} else {
-			log.info("removing project with basicProjectConfigId {}", basicProjectConfigId);
-			// Mark the execution as completed
-			ongoingExecutionsService.markExecutionAsCompleted(basicProjectConfigId);
-		}
-	}
-
-	private void launchJobBasedOnQueryEnabledForKanban(
-			String basicProjectConfigId,
-			JobParameters params,
-			List<ProjectToolConfig> projectToolConfigs,
-			boolean useJql)
-			throws JobExecutionAlreadyRunningException,
-					JobRestartException,
-					JobInstanceAlreadyCompleteException,
-					JobParametersInvalidException {
-		if (CollectionUtils.isNotEmpty(projectToolConfigs)) {
-			if (useJql) {
-				// JQL is setup for the project
-				jobLauncher.run(fetchIssueKanbanJqlJob, params);
-			} else {
-				// Board is setup for the project
-				jobLauncher.run(fetchIssueKanbanBoardJob, params);
-			}
-		} else {
-			log.info("removing project with basicProjectConfigId {}", basicProjectConfigId);
-			// Mark the execution as completed
-			ongoingExecutionsService.markExecutionAsCompleted(basicProjectConfigId);
-		}
-	}
 }
@@ -62,28 +62,7 @@ public class ProcessorAsynchHttpClientFactory extends AsynchronousHttpClientFact
 			JiraProcessorConfig jiraProcessorConfig) {
 		final HttpClientOptions options = new HttpClientOptions();
 		options.setSocketTimeout(jiraProcessorConfig.getSocketTimeOut(), TimeUnit.SECONDS);
-		final DefaultHttpClientFactory defaultHttpClientFactory =
-				new DefaultHttpClientFactory(
-						new NoOpEventPublisher(),
-						new RestClientApplicationProperties(serverUri),
-						new ThreadLocalContextManager() {
-							@Override
-							public Object getThreadLocalContext() {
-								return null;
-							}
-
-							@Override
-							public void setThreadLocalContext(Object context) {
-								// set context
-								// default implementation ignored
-							}
-
-							@Override
-							public void clearThreadLocalContext() {
-								// clear context
-								// default implementation ignored
-							}
-						});
+		final DefaultHttpClientFactory defaultHttpClientFactory = createHttpClientFactory(serverUri);
 
 		final HttpClient httpClient = defaultHttpClientFactory.create(options);
 
@@ -95,6 +74,38 @@ public class ProcessorAsynchHttpClientFactory extends AsynchronousHttpClientFact
 		};
 	}
 
+	/**
+	 * Creates the factory of the http clients of a Jira server. The caller disposes the clients it
+	 * creates with the same factory.
+	 *
+	 * @param serverUri Jira server URI
+	 * @return DefaultHttpClientFactory
+	 */
+	@SuppressWarnings("rawtypes")
+	public DefaultHttpClientFactory createHttpClientFactory(final URI serverUri) {
+		return new DefaultHttpClientFactory(
+				new NoOpEventPublisher(),
+				new RestClientApplicationProperties(serverUri),
+				new ThreadLocalContextManager() {
+					@Override
+					public Object getThreadLocalContext() {
+						return null;
+					}
+
+					@Override
+					public void setThreadLocalContext(Object context) {
+						// set context
+						// default implementation ignored
+					}
+
+					@Override
+					public void clearThreadLocalContext() {
+						// clear context
+						// default implementation ignored
+					}
+				});
+	}
+
 	private static class NoOpEventPublisher implements EventPublisher {
 		@Override
 		public void publish(Object obj) {
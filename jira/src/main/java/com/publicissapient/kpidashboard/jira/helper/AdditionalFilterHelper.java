@@ -41,6 +41,20 @@ public class AdditionalFilterHelper {
 
 	public List<AdditionalFilter> getAdditionalFilter(
 			Issue issue, ProjectConfFieldMapping projectConfig) {
+		return getAdditionalFilter(
+				issue,
+				null == issue ? null : JiraIssueClientUtil.buildFieldMap(issue.getFields()),
+				projectConfig);
+	}
+
+	/**
+	 * @param issue issue
+	 * @param fields fields of the issue keyed by field id, as already built by the caller
+	 * @param projectConfig projectConfig
+	 * @return additional filters of the issue
+	 */
+	public List<AdditionalFilter> getAdditionalFilter(
+			Issue issue, Map<String, IssueField> fields, ProjectConfFieldMapping projectConfig) {
 		List<AdditionalFilter> additionalFilters = new ArrayList<>();
 		if (issue != null && projectConfig != null) {
 			String basicProjectConfigId = projectConfig.getBasicProjectConfigId().toHexString();
@@ -61,7 +75,8 @@ public class AdditionalFilterHelper {
 					AdditionalFilter additionalFilter = new AdditionalFilter();
 					additionalFilter.setFilterId(additionalFilterConfig.getFilterId());
 					List<AdditionalFilterValue> additionalFilterValues =
-							getAdditionalFilterValues(issue, additionalFilterConfig, basicProjectConfigId);
+							getAdditionalFilterValues(
+									issue, fields, additionalFilterConfig, basicProjectConfigId);
 					additionalFilter.setFilterValues(additionalFilterValues);
 					if (CollectionUtils.isNotEmpty(additionalFilterValues)) {
 						additionalFilters.add(additionalFilter);
@@ -83,7 +98,10 @@ public class AdditionalFilterHelper {
 	}
 
 	private List<AdditionalFilterValue> getAdditionalFilterValues(
-			Issue issue, AdditionalFilterConfig additionalFilterConfig, String basicProjectConfigId) {
+			Issue issue,
+			Map<String, IssueField> fields,
+			AdditionalFilterConfig additionalFilterConfig,
+			String basicProjectConfigId) {
 
 		List<AdditionalFilterValue> values = new ArrayList<>();
 
@@ -115,7 +133,7 @@ public class AdditionalFilterHelper {
 					});
 		} else if (CommonConstant.CUSTOM_FIELD.equals(additionalFilterConfig.getIdentifyFrom())) {
 
-			Set<String> customFieldValues = getCustomFieldValues(issue, additionalFilterConfig);
+			Set<String> customFieldValues = getCustomFieldValues(fields, additionalFilterConfig);
 
 			customFieldValues.forEach(
 					customFieldValue -> {
@@ -159,8 +177,7 @@ public class AdditionalFilterHelper {
 	}
 
 	private Set<String> getCustomFieldValues(
-			Issue issue, AdditionalFilterConfig additionalFilterConfig) {
-		Map<String, IssueField> fields = JiraIssueClientUtil.buildFieldMap(issue.getFields());
+			Map<String, IssueField> fields, AdditionalFilterConfig additionalFilterConfig) {
 		Set<String> values = new HashSet<>();
 		String customField = additionalFilterConfig.getIdentificationField();
 
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+/**
+ * Index of the changelog of a single issue. The changelog is walked once, items are bucketed by
+ * their normalized (trimmed, lower cased) field name and the creation time of every changelog group
+ * is parsed once, so that every tracked field can be read without rescanning the whole changelog.
+ */
+public final class ChangelogIndex {
+
+	private static final ChangelogIndex EMPTY = new ChangelogIndex(Collections.emptyMap());
+
+	private final Map<String, List<IndexedItem>> itemsByField;
+
+	private ChangelogIndex(Map<String, List<IndexedItem>> itemsByField) {
+		this.itemsByField = itemsByField;
+	}
+
+	/**
+	 * Builds the index. Items keep the order of the given changelog groups.
+	 *
+	 * @param changeLogList changelog groups of the issue
+	 * @return changelog index
+	 */
+	public static ChangelogIndex of(List<ChangelogGroup> changeLogList) {
+		if (CollectionUtils.isEmpty(changeLogList)) {
+			return EMPTY;
+		}
+		Map<String, List<IndexedItem>> itemsByField = new HashMap<>();
+		for (ChangelogGroup history : changeLogList) {
+			LocalDateTime updatedOn = null;
+			for (ChangelogItem item : history.getItems()) {
+				if (null == updatedOn) {
+					updatedOn =
+							LocalDateTime.parse(
+									JiraProcessorUtil.getFormattedDate(
+											JiraProcessorUtil.deodeUTF8String(history.getCreated())));
+				}
+				itemsByField
+						.computeIfAbsent(normalize(item.getField()), k -> new ArrayList<>())
+						.add(new IndexedItem(item, updatedOn));
+			}
+		}
+		return new ChangelogIndex(itemsByField);
+	}
+
+	/**
+	 * @param field jira field name, compared ignoring case and surrounding whitespace
+	 * @return changelog items of the field in changelog order
+	 */
+	public List<IndexedItem> getItems(String field) {
+		if (null == field) {
+			return Collections.emptyList();
+		}
+		return itemsByField.getOrDefault(normalize(field), Collections.emptyList());
+	}
+
+	private static String normalize(String field) {
+		return field.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Changelog item along with the parsed creation time of its changelog group.
+	 *
+	 * @param item changelog item
+	 * @param updatedOn creation time of the changelog group
+	 */
+	public record IndexedItem(ChangelogItem item, LocalDateTime updatedOn) {}
+}
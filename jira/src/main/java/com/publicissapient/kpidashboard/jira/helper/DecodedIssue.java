@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.jettison.json.JSONException;
+import org.springframework.beans.BeanUtils;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+/**
+ * Decoded view of a single issue, built once per issue by the item processor and handed to the
+ * issue, history and sprint conversions. The field map, the status and the creation and update
+ * dates are decoded once, and the sprint field of the issue is parsed on the first read only.
+ *
+ * <p>The sprints are parsed once and every read hands out copies of them, as the conversions set
+ * the derived sprint id and project on the sprints they read and the sprint data ones go on to be
+ * filled in and saved.
+ */
+public final class DecodedIssue {
+
+	private final Issue issue;
+	private final Map<String, IssueField> fields;
+	private final String status;
+	private final String changeDate;
+	private final String createdDate;
+	private final Map<String, List<SprintDetails>> sprints = new HashMap<>();
+	private LocalDateTime createdOn;
+
+	private DecodedIssue(Issue issue) {
+		this.issue = issue;
+		if (null == issue) {
+			this.fields = Collections.emptyMap();
+			this.status = "";
+			this.changeDate = "";
+			this.createdDate = "";
+		} else {
+			this.fields = JiraHelper.buildFieldMap(issue.getFields());
+			this.status =
+					null == issue.getStatus()
+							? ""
+							: JiraProcessorUtil.deodeUTF8String(issue.getStatus().getName());
+			this.changeDate =
+					JiraProcessorUtil.getFormattedDate(
+							JiraProcessorUtil.deodeUTF8String(issue.getUpdateDate()));
+			this.createdDate =
+					JiraProcessorUtil.getFormattedDate(
+							JiraProcessorUtil.deodeUTF8String(issue.getCreationDate()));
+		}
+	}
+
+	/**
+	 * @param issue issue read from jira, may be null
+	 * @return decoded view of the issue
+	 */
+	public static DecodedIssue of(Issue issue) {
+		return new DecodedIssue(issue);
+	}
+
+	/**
+	 * @return issue read from jira
+	 */
+	public Issue getIssue() {
+		return issue;
+	}
+
+	/**
+	 * @return fields of the issue keyed by field id
+	 */
+	public Map<String, IssueField> getFields() {
+		return fields;
+	}
+
+	/**
+	 * @param fieldId field id
+	 * @return field of the issue, null when the issue does not have it
+	 */
+	public IssueField getField(String fieldId) {
+		return null == fieldId ? null : fields.get(fieldId);
+	}
+
+	/**
+	 * @return decoded status name, empty when the issue has no status
+	 */
+	public String getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return formatted update date, empty when absent
+	 */
+	public String getChangeDate() {
+		return changeDate;
+	}
+
+	/**
+	 * @return formatted creation date, empty when absent
+	 */
+	public String getCreatedDate() {
+		return createdDate;
+	}
+
+	/**
+	 * @return creation time of the issue, null when the issue has no creation date
+	 */
+	public LocalDateTime getCreatedOn() {
+		if (null == createdOn && null != issue && null != issue.getCreationDate()) {
+			createdOn = LocalDateTime.parse(createdDate);
+		}
+		return createdOn;
+	}
+
+	/**
+	 * Sprints of the given sprint field, parsed on the first call and sorted by start then end date.
+	 *
+	 * @param sprintFieldId sprint custom field id
+	 * @return read only list of copies of the sprints, empty when the field is absent or empty
+	 * @throws ParseException ParseException
+	 * @throws JSONException JSONException
+	 */
+	public List<SprintDetails> getSprints(String sprintFieldId)
+			throws ParseException, JSONException {
+		List<SprintDetails> parsed = sprints.get(sprintFieldId);
+		if (null == parsed) {
+			IssueField sprintField = getField(sprintFieldId);
+			if (null == sprintField
+					|| null == sprintField.getValue()
+					|| JiraConstants.EMPTY_STR.equals(sprintField.getValue())) {
+				parsed = Collections.emptyList();
+			} else {
+				List<SprintDetails> sorted =
+						new ArrayList<>(JiraProcessorUtil.processSprintDetail(sprintField.getValue()));
+				sorted.sort(JiraHelper.SPRINT_COMPARATOR);
+				parsed = Collections.unmodifiableList(sorted);
+			}
+			sprints.put(sprintFieldId, parsed);
+		}
+		return parsed.stream().map(DecodedIssue::copyOf).toList();
+	}
+
+	private static SprintDetails copyOf(SprintDetails sprint) {
+		SprintDetails copy = new SprintDetails();
+		BeanUtils.copyProperties(sprint, copy);
+		return copy;
+	}
+}
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.BasicComponent;
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.IssueLink;
+import com.atlassian.jira.rest.client.api.domain.Version;
+import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
+import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects the issues returned by the delta search which did not change since the last run. The
+ * fingerprint hashes the raw fields the processors read, the size of the changelog and the creation
+ * time of its last group, together with the field mapping and the basic configuration of the
+ * project. Fields changing without any effect on the stored data (watchers, votes, last viewed and
+ * the update time) are left out, so that an issue touched only by such a change keeps its
+ * fingerprint and is neither converted nor written again.
+ *
+ * <p>The fingerprint is stored with the issue document once the issue is written. The issues
+ * skipped by a chunk are added to the count of the step only once the chunk is committed, so that
+ * a chunk processed again after a rollback does not count them twice.
+ */
+@Slf4j
+@Component
+public class IssueFingerprintHelper {
+
+	// to be changed whenever the conversion of the issues changes, so that all issues are converted
+	// again with the new code
+	private static final String FINGERPRINT_VERSION = "1";
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String ISSUE_ID = "issueId";
+	private static final Set<String> VOLATILE_FIELDS =
+			Set.of("watches", "votes", "lastViewed", "updated");
+
+	private final Map<ObjectId, ConfigDigest> configDigests = new ConcurrentHashMap<>();
+	private final ThreadLocal<Integer> chunkSkippedIssues = ThreadLocal.withInitial(() -> 0);
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Autowired private MongoTemplate mongoTemplate;
+
+	/**
+	 * Computes the fingerprint of the issue read.
+	 *
+	 * @param readData item returned by the reader
+	 * @return fingerprint, null when disabled or for the issues read for a sprint
+	 */
+	public String getFingerprint(ReadData readData) {
+		if (!jiraProcessorConfig.isIssueFingerprintEnabled()
+				|| readData.isSprintFetch()
+				|| null == readData.getIssue()
+				|| null == readData.getProjectConfFieldMapping()
+				|| null == readData.getProjectConfFieldMapping().getBasicProjectConfigId()) {
+			return null;
+		}
+		MessageDigest digest = newDigest();
+		update(digest, FINGERPRINT_VERSION);
+		update(digest, getConfigDigest(readData.getProjectConfFieldMapping()));
+		update(digest, readData.getBoardId());
+		updateIssue(digest, readData.getIssue());
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Checks the fingerprint against the one stored by the last run and counts the issue as skipped
+	 * by the current chunk when it did not change.
+	 *
+	 * @param type issue document type
+	 * @param readData item returned by the reader
+	 * @param fingerprint fingerprint of the issue read
+	 * @return true when the issue did not change since it was last written
+	 */
+	public boolean isUnchanged(Class<?> type, ReadData readData, String fingerprint) {
+		if (null == fingerprint) {
+			return false;
+		}
+		String basicProjectConfigId =
+				readData.getProjectConfFieldMapping().getBasicProjectConfigId().toString();
+		String issueId = JiraIssueChunkCache.issueIdKey(readData.getIssue());
+		boolean unchanged =
+				jiraIssueChunkCache
+						.getStoredFingerprint(type, basicProjectConfigId, issueId)
+						.filter(fingerprint::equals)
+						.isPresent();
+		if (unchanged) {
+			log.debug(
+					"Issue {} did not change since the last run, skipping it", readData.getIssue().getKey());
+			chunkSkippedIssues.set(chunkSkippedIssues.get() + 1);
+		}
+		return unchanged;
+	}
+
+	/**
+	 * Adds the issues skipped by the chunk just committed to the count of the step, to be called
+	 * once the chunk is committed.
+	 *
+	 * @param stepExecution step execution of the chunk
+	 */
+	public void countSkippedIssues(StepExecution stepExecution) {
+		int skippedIssues = chunkSkippedIssues.get();
+		chunkSkippedIssues.remove();
+		if (skippedIssues > 0) {
+			stepExecution
+					.getExecutionContext()
+					.putInt(
+							JiraConstants.SKIPPED_ISSUES,
+							stepExecution.getExecutionContext().getInt(JiraConstants.SKIPPED_ISSUES, 0)
+									+ skippedIssues);
+		}
+	}
+
+	/** Drops the issues skipped by a chunk rolled back, its items being processed again. */
+	public void discardSkippedIssues() {
+		chunkSkippedIssues.remove();
+	}
+
+	/**
+	 * Stores the fingerprints of the issues written, to be called once the issue documents are saved.
+	 *
+	 * @param type issue document type
+	 * @param fingerprints fingerprints of the issues written
+	 */
+	public void saveFingerprints(Class<?> type, Collection<IssueFingerprint> fingerprints) {
+		if (CollectionUtils.isEmpty(fingerprints)) {
+			return;
+		}
+		BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+		fingerprints.forEach(
+				issueFingerprint ->
+						bulkOperations.updateOne(
+								new Query(
+										Criteria.where(BASIC_PROJECT_CONFIG_ID)
+												.is(issueFingerprint.basicProjectConfigId())
+												.and(ISSUE_ID)
+												.is(issueFingerprint.issueId())),
+								Update.update(JiraConstants.ISSUE_FINGERPRINT, issueFingerprint.fingerprint())));
+		bulkOperations.execute();
+	}
+
+	/** Digest of the configuration the issues of the project are converted with. */
+	private String getConfigDigest(ProjectConfFieldMapping projectConfig) {
+		FieldMapping fieldMapping = projectConfig.getFieldMapping();
+		ProjectBasicConfig projectBasicConfig = projectConfig.getProjectBasicConfig();
+		ConfigDigest configDigest = configDigests.get(projectConfig.getBasicProjectConfigId());
+		if (null == configDigest
+				|| configDigest.fieldMapping() != fieldMapping
+				|| configDigest.projectBasicConfig() != projectBasicConfig) {
+			MessageDigest digest = newDigest();
+			update(digest, toJson(fieldMapping));
+			update(digest, toJson(projectBasicConfig));
+			configDigest =
+					new ConfigDigest(
+							fieldMapping, projectBasicConfig, HexFormat.of().formatHex(digest.digest()));
+			configDigests.put(projectConfig.getBasicProjectConfigId(), configDigest);
+		}
+		return configDigest.digest();
+	}
+
+	private String toJson(Object config) {
+		if (null == config) {
+			return null;
+		}
+		Document document = new Document();
+		mongoTemplate.getConverter().write(config, document);
+		return document.toJson();
+	}
+
+	private static void updateIssue(MessageDigest digest, Issue issue) {
+		update(digest, issue.getId());
+		update(digest, issue.getKey());
+		update(digest, issue.getSummary());
+		update(digest, null == issue.getProject() ? null : issue.getProject().getKey());
+		if (null != issue.getIssueType()) {
+			update(digest, issue.getIssueType().getName());
+			update(digest, issue.getIssueType().isSubtask());
+		}
+		update(digest, null == issue.getStatus() ? null : issue.getStatus().getName());
+		update(digest, null == issue.getPriority() ? null : issue.getPriority().getName());
+		update(digest, null == issue.getResolution() ? null : issue.getResolution().getName());
+		if (null != issue.getAssignee()) {
+			update(digest, issue.getAssignee().getName());
+			update(digest, issue.getAssignee().getDisplayName());
+		}
+		update(digest, issue.getCreationDate());
+		update(digest, issue.getDueDate());
+		if (null != issue.getTimeTracking()) {
+			update(digest, issue.getTimeTracking().getOriginalEstimateMinutes());
+			update(digest, issue.getTimeTracking().getRemainingEstimateMinutes());
+			update(digest, issue.getTimeTracking().getTimeSpentMinutes());
+		}
+		update(digest, null == issue.getLabels() ? null : new TreeSet<>(issue.getLabels()));
+		updateVersions(digest, issue.getFixVersions());
+		updateVersions(digest, issue.getAffectedVersions());
+		if (null != issue.getComponents()) {
+			for (BasicComponent component : issue.getComponents()) {
+				update(digest, component.getId());
+				update(digest, component.getName());
+			}
+		}
+		if (null != issue.getIssueLinks()) {
+			for (IssueLink issueLink : issue.getIssueLinks()) {
+				update(digest, issueLink.getTargetIssueKey());
+				update(digest, issueLink.getIssueLinkType());
+			}
+		}
+		if (null != issue.getFields()) {
+			List<IssueField> fields = new ArrayList<>();
+			issue.getFields().forEach(fields::add);
+			fields.sort(Comparator.comparing(IssueField::getId));
+			for (IssueField field : fields) {
+				if (!VOLATILE_FIELDS.contains(field.getId())) {
+					update(digest, field.getId());
+					update(digest, field.getValue());
+				}
+			}
+		}
+		updateChangelog(digest, issue.getChangelog());
+	}
+
+	private static void updateVersions(MessageDigest digest, Iterable<Version> versions) {
+		if (null != versions) {
+			for (Version version : versions) {
+				update(digest, version.getId());
+				update(digest, version.getName());
+				update(digest, version.isReleased());
+				update(digest, version.isArchived());
+				update(digest, version.getReleaseDate());
+			}
+		}
+	}
+
+	private static void updateChangelog(MessageDigest digest, Iterable<ChangelogGroup> changelog) {
+		if (null == changelog) {
+			update(digest, 0);
+			return;
+		}
+		List<ChangelogGroup> changelogGroups =
+				StreamSupport.stream(changelog.spliterator(), false).toList();
+		update(digest, changelogGroups.size());
+		if (!changelogGroups.isEmpty()) {
+			update(digest, changelogGroups.get(changelogGroups.size() - 1).getCreated());
+		}
+	}
+
+	private static void update(MessageDigest digest, Object value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/** Fingerprint of an issue written. */
+	public record IssueFingerprint(String basicProjectConfigId, String issueId, String fingerprint) {}
+
+	private record ConfigDigest(
+			FieldMapping fieldMapping, ProjectBasicConfig projectBasicConfig, String digest) {}
+}
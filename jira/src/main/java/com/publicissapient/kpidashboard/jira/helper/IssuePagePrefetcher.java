@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches the pages of a Jira issue search ahead of the reader. Pages are requested one after the
+ * other by a background fetcher, so the offset and the token based (API v3) pagination both keep
+ * working, and are handed over through a bounded queue while the previous pages are processed and
+ * written.
+ *
+ * <p>The number of pages waiting in the queues of all the running readers is exposed as the <code>
+ * jira.issue.prefetch.queue.depth</code> gauge.
+ */
+@Slf4j
+@Component
+public class IssuePagePrefetcher {
+
+	private static final String QUEUE_DEPTH_METRIC = "jira.issue.prefetch.queue.depth";
+	private static final long CLOSE_TIMEOUT_SECONDS = 30;
+	private static final long POLL_TIMEOUT_SECONDS = 1;
+
+	private final AtomicInteger queuedPages = new AtomicInteger();
+
+	private final SimpleAsyncTaskExecutor taskExecutor =
+			new SimpleAsyncTaskExecutor("jira-issue-prefetch-");
+
+	@Autowired private MeterRegistry meterRegistry;
+
+	/**
+	 * Starts fetching the pages from the given page start.
+	 *
+	 * @param pageFetcher fetches the page starting at the given issue offset
+	 * @param pageStart offset of the first page
+	 * @param pageSize page size, a shorter page is the last one
+	 * @param pagesAhead maximum number of pages fetched and not yet consumed
+	 * @return pipeline to consume the pages from
+	 */
+	public PagePipeline start(PageFetcher pageFetcher, int pageStart, int pageSize, int pagesAhead) {
+		Gauge.builder(QUEUE_DEPTH_METRIC, queuedPages, AtomicInteger::get)
+				.description("Jira issue search pages fetched ahead and not yet read")
+				.register(meterRegistry);
+		PagePipeline pagePipeline = new PagePipeline(Math.max(1, pagesAhead));
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		StepExecution stepExecution = null == stepContext ? null : stepContext.getStepExecution();
+		pagePipeline.fetcher =
+				taskExecutor.submit(
+						() -> fetchPages(pagePipeline, pageFetcher, pageStart, pageSize, stepExecution));
+		return pagePipeline;
+	}
+
+	private void fetchPages(
+			PagePipeline pagePipeline,
+			PageFetcher pageFetcher,
+			int pageStart,
+			int pageSize,
+			StepExecution stepExecution) {
+		pagePipeline.started = true;
+		// progress of the search is saved in the context of the step the fetcher works for
+		if (null != stepExecution) {
+			StepSynchronizationManager.register(stepExecution);
+		}
+		try {
+			int nextPageStart = pageStart;
+			List<Issue> issues;
+			do {
+				issues = pageFetcher.fetch(nextPageStart);
+				pagePipeline.put(new Page(null == issues ? new ArrayList<>() : issues, null));
+				nextPageStart += pageSize;
+			} while (issues != null && issues.size() >= pageSize);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("Exception while fetching issue page ahead of the reader", e);
+			pagePipeline.putQuietly(new Page(null, e));
+		} finally {
+			if (null != stepExecution) {
+				StepSynchronizationManager.close();
+			}
+			pagePipeline.finished.countDown();
+		}
+	}
+
+	/** Fetches one page of issues. */
+	@FunctionalInterface
+	public interface PageFetcher {
+		List<Issue> fetch(int pageStart) throws Exception;
+	}
+
+	private record Page(List<Issue> issues, Exception failure) {}
+
+	/** Pages fetched for one reader. */
+	public final class PagePipeline {
+
+		private final BlockingQueue<Page> pages;
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private Future<?> fetcher;
+		private volatile boolean started;
+
+		private PagePipeline(int capacity) {
+			this.pages = new ArrayBlockingQueue<>(capacity);
+		}
+
+		/**
+		 * Waits for the next page.
+		 *
+		 * @return issues of the next page, empty once the last page has been returned
+		 * @throws Exception the exception the page could not be fetched with
+		 */
+		public List<Issue> nextPage() throws Exception {
+			Page page;
+			while (null == (page = pages.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS))) {
+				if (finished.getCount() == 0 && pages.isEmpty()) {
+					return new ArrayList<>();
+				}
+			}
+			queuedPages.decrementAndGet();
+			if (null != page.failure()) {
+				throw page.failure();
+			}
+			return page.issues();
+		}
+
+		/** Stops the fetcher and drops the pages not consumed. */
+		public void close() {
+			if (fetcher.cancel(true) && !started) {
+				return;
+			}
+			try {
+				if (!finished.await(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					log.warn("Issue page fetcher did not stop within {} seconds", CLOSE_TIMEOUT_SECONDS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			queuedPages.addAndGet(-pages.size());
+			pages.clear();
+		}
+
+		private void put(Page page) throws InterruptedException {
+			queuedPages.incrementAndGet();
+			try {
+				pages.put(page);
+			} catch (InterruptedException e) {
+				queuedPages.decrementAndGet();
+				throw e;
+			}
+		}
+
+		private void putQuietly(Page page) {
+			try {
+				put(page);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+import com.publicissapient.kpidashboard.common.model.application.ProjectRelease;
+import com.publicissapient.kpidashboard.common.model.application.ProjectVersion;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+/**
+ * Detects the projects whose versions did not change since the last release sync. The fingerprint
+ * hashes the versions returned by Jira together with the release hierarchy built from them, which
+ * also covers the versions a scrum project keeps only once an issue was tagged with them.
+ *
+ * <p>The fingerprint is stored with the project release document once the release and its
+ * hierarchy are written.
+ */
+@Component
+public class ReleaseFingerprintHelper {
+
+	// to be changed whenever the release hierarchy built from the versions changes, so that all
+	// projects are synced again with the new code
+	private static final String FINGERPRINT_VERSION = "1";
+	private static final String CONFIG_ID = "configId";
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+
+	@Autowired private MongoTemplate mongoTemplate;
+
+	/**
+	 * Computes the fingerprint of the versions of the project.
+	 *
+	 * @param projectBasicConfig project the versions belong to
+	 * @param projectVersions versions returned by Jira
+	 * @param releaseHierarchies release hierarchy built from the versions
+	 * @return fingerprint, null when disabled
+	 */
+	public String getFingerprint(
+			ProjectBasicConfig projectBasicConfig,
+			List<ProjectVersion> projectVersions,
+			List<ProjectHierarchy> releaseHierarchies) {
+		if (!jiraProcessorConfig.isReleaseFingerprintEnabled()) {
+			return null;
+		}
+		MessageDigest digest = newDigest();
+		update(digest, FINGERPRINT_VERSION);
+		update(digest, projectBasicConfig.getId());
+		update(digest, projectBasicConfig.getProjectNodeId());
+		update(digest, projectBasicConfig.getProjectName());
+		for (ProjectVersion projectVersion : projectVersions) {
+			update(digest, projectVersion.getId());
+			update(digest, projectVersion.getName());
+			update(digest, projectVersion.getStartDate());
+			update(digest, projectVersion.getReleaseDate());
+			update(digest, projectVersion.isReleased());
+			update(digest, projectVersion.isArchived());
+		}
+		for (ProjectHierarchy releaseHierarchy : releaseHierarchies) {
+			update(digest, releaseHierarchy.getNodeId());
+			update(digest, releaseHierarchy.getNodeName());
+			update(digest, releaseHierarchy.getBeginDate());
+			update(digest, releaseHierarchy.getEndDate());
+			update(digest, releaseHierarchy.getReleaseState());
+			update(digest, releaseHierarchy.getParentId());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Checks the fingerprint against the one stored by the last release sync of the project.
+	 *
+	 * @param configId basic project config id
+	 * @param fingerprint fingerprint of the versions read
+	 * @return true when the versions did not change since the release was last written
+	 */
+	public boolean isUnchanged(ObjectId configId, String fingerprint) {
+		if (null == fingerprint) {
+			return false;
+		}
+		Query query = new Query(Criteria.where(CONFIG_ID).is(configId));
+		query.fields().include(JiraConstants.RELEASE_FINGERPRINT);
+		Document projectRelease =
+				mongoTemplate.findOne(
+						query, Document.class, mongoTemplate.getCollectionName(ProjectRelease.class));
+		return null != projectRelease
+				&& fingerprint.equals(projectRelease.getString(JiraConstants.RELEASE_FINGERPRINT));
+	}
+
+	/**
+	 * Stores the fingerprint of the versions, to be called once the project release is saved as
+	 * saving the release replaces the whole document.
+	 *
+	 * @param configId basic project config id
+	 * @param fingerprint fingerprint of the versions written
+	 */
+	public void saveFingerprint(ObjectId configId, String fingerprint) {
+		if (null == fingerprint) {
+			return;
+		}
+		mongoTemplate.updateFirst(
+				new Query(Criteria.where(CONFIG_ID).is(configId)),
+				Update.update(JiraConstants.RELEASE_FINGERPRINT, fingerprint),
+				ProjectRelease.class);
+	}
+
+	private static void update(MessageDigest digest, Object value) {
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -17,19 +17,26 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.jobs;
 
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.publicissapient.kpidashboard.jira.aspect.TrackExecutionTime;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.helper.BuilderFactory;
+import com.publicissapient.kpidashboard.jira.listener.IssueFetchPartitionListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueBoardWriterListener;
+import com.publicissapient.kpidashboard.jira.listener.JiraIssueChunkPrefetchListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueJqlWriterListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueSprintJobListener;
 import com.publicissapient.kpidashboard.jira.listener.JobListenerKanban;
@@ -37,11 +44,15 @@ import com.publicissapient.kpidashboard.jira.listener.JobListenerScrum;
 import com.publicissapient.kpidashboard.jira.listener.JobStepProgressListener;
 import com.publicissapient.kpidashboard.jira.listener.KanbanJiraIssueJqlWriterListener;
 import com.publicissapient.kpidashboard.jira.listener.KanbanJiraIssueWriterListener;
+import com.publicissapient.kpidashboard.jira.listener.ProjectHierarchyCacheListener;
+import com.publicissapient.kpidashboard.jira.listener.ProjectWriteLockListener;
+import com.publicissapient.kpidashboard.jira.listener.StepMetricsListener;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
 import com.publicissapient.kpidashboard.jira.processor.IssueKanbanProcessor;
 import com.publicissapient.kpidashboard.jira.processor.IssueScrumProcessor;
 import com.publicissapient.kpidashboard.jira.reader.IssueBoardReader;
+import com.publicissapient.kpidashboard.jira.reader.IssueDateWindowPartitioner;
 import com.publicissapient.kpidashboard.jira.reader.IssueJqlReader;
 import com.publicissapient.kpidashboard.jira.reader.IssueSprintReader;
 import com.publicissapient.kpidashboard.jira.tasklet.JiraIssueReleaseStatusTasklet;
@@ -110,6 +121,18 @@ public class JiraProcessorJob {
 
 	@Autowired JobStepProgressListener jobStepProgressListener;
 
+	@Autowired JiraIssueChunkPrefetchListener jiraIssueChunkPrefetchListener;
+
+	@Autowired ProjectHierarchyCacheListener projectHierarchyCacheListener;
+
+	@Autowired IssueDateWindowPartitioner issueDateWindowPartitioner;
+
+	@Autowired IssueFetchPartitionListener issueFetchPartitionListener;
+
+	@Autowired StepMetricsListener stepMetricsListener;
+
+	@Autowired ProjectWriteLockListener projectWriteLockListener;
+
 	/** Scrum projects for board job : Start * */
 	/**
 	 * @return Job
@@ -169,6 +192,10 @@ public class JiraProcessorJob {
 				.reader(issueBoardReader)
 				.processor(issueScrumProcessor)
 				.writer(issueScrumWriter)
+				.listener((ItemReadListener<ReadData>) jiraIssueChunkPrefetchListener)
+				.listener((ChunkListener) jiraIssueChunkPrefetchListener)
+				.listener(projectHierarchyCacheListener)
+				.listener(stepMetricsListener)
 				.listener(jiraIssueBoardWriterListener)
 				.build();
 	}
@@ -203,14 +230,17 @@ public class JiraProcessorJob {
 
 	@TrackExecutionTime
 	private Step fetchIssueScrumJqlChunkStep() {
-		return builderFactory
-				.getStepBuilder("Fetch Issues Scrum Jql", jobRepository)
-				.<ReadData, CompositeResult>chunk(getChunkSize(), this.transactionManager)
-				.reader(issueJqlReader)
-				.processor(issueScrumProcessor)
-				.writer(issueScrumWriter)
-				.listener(jiraIssueJqlWriterListener)
-				.build();
+		return partitionIssueFetch(
+				builderFactory
+						.getStepBuilder("Fetch Issues Scrum Jql", jobRepository)
+						.<ReadData, CompositeResult>chunk(getChunkSize(), this.transactionManager)
+						.reader(issueJqlReader)
+						.processor(issueScrumProcessor)
+						.writer(issueScrumWriter)
+						.listener((ItemReadListener<ReadData>) jiraIssueChunkPrefetchListener)
+						.listener((ChunkListener) jiraIssueChunkPrefetchListener)
+						.listener(stepMetricsListener)
+						.listener(jiraIssueJqlWriterListener));
 	}
 
 	/** Scrum projects for Jql job : End * */
@@ -241,6 +271,10 @@ public class JiraProcessorJob {
 				.reader(issueBoardReader)
 				.processor(issueKanbanProcessor)
 				.writer(issueKanbanWriter)
+				.listener((ItemReadListener<ReadData>) jiraIssueChunkPrefetchListener)
+				.listener((ChunkListener) jiraIssueChunkPrefetchListener)
+				.listener(projectHierarchyCacheListener)
+				.listener(stepMetricsListener)
 				.listener(kanbanJiraIssueWriterListener)
 				.build();
 	}
@@ -275,14 +309,17 @@ public class JiraProcessorJob {
 
 	@TrackExecutionTime
 	private Step fetchIssueKanbanJqlChunkStep() {
-		return builderFactory
-				.getStepBuilder("Fetch Issues Kanban Jql", jobRepository)
-				.<ReadData, CompositeResult>chunk(getChunkSize(), transactionManager)
-				.reader(issueJqlReader)
-				.processor(issueKanbanProcessor)
-				.writer(issueKanbanWriter)
-				.listener(kanbanJiraIssueJqlWriterListener)
-				.build();
+		return partitionIssueFetch(
+				builderFactory
+						.getStepBuilder("Fetch Issues Kanban Jql", jobRepository)
+						.<ReadData, CompositeResult>chunk(getChunkSize(), transactionManager)
+						.reader(issueJqlReader)
+						.processor(issueKanbanProcessor)
+						.writer(issueKanbanWriter)
+						.listener((ItemReadListener<ReadData>) jiraIssueChunkPrefetchListener)
+						.listener((ChunkListener) jiraIssueChunkPrefetchListener)
+						.listener(stepMetricsListener)
+						.listener(kanbanJiraIssueJqlWriterListener));
 	}
 
 	/** Kanban projects for Jql job : End * */
@@ -338,6 +375,46 @@ public class JiraProcessorJob {
 				.reader(issueSprintReader)
 				.processor(issueScrumProcessor)
 				.writer(issueScrumWriter)
+				.listener((ItemReadListener<ReadData>) jiraIssueChunkPrefetchListener)
+				.listener((ChunkListener) jiraIssueChunkPrefetchListener)
+				.listener(projectHierarchyCacheListener)
+				.listener(stepMetricsListener)
+				.build();
+	}
+
+	/**
+	 * Splits the issue fetch step into updated date windows fetched concurrently when partitioning is
+	 * enabled for the processor. Every window is a step execution of its own, so a failed window can
+	 * be restarted alone.
+	 *
+	 * <p>The windows share the sprint, hierarchy and assignee documents of the project, so their
+	 * chunks are processed and written one at a time, and the project hierarchy cache is reset
+	 * around the partitioned step instead of around every window.
+	 *
+	 * @param issueFetchStep builder of the issue fetch step
+	 * @return partitioned step or the issue fetch step when partitioning is disabled
+	 */
+	private Step partitionIssueFetch(SimpleStepBuilder<ReadData, CompositeResult> issueFetchStep) {
+		int partitionCount = jiraProcessorConfig.getIssueFetchPartitionCount();
+		if (partitionCount <= 1) {
+			return issueFetchStep.listener(projectHierarchyCacheListener).build();
+		}
+		Step windowStep =
+				issueFetchStep
+						.listener((ItemProcessListener<ReadData, CompositeResult>) projectWriteLockListener)
+						.listener((ChunkListener) projectWriteLockListener)
+						.build();
+		SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(windowStep.getName() + "-");
+		taskExecutor.setConcurrencyLimit(
+				Math.max(1, jiraProcessorConfig.getIssueFetchPartitionConcurrency()));
+		return builderFactory
+				.getStepBuilder(windowStep.getName() + " Partitioned", jobRepository)
+				.partitioner(windowStep.getName(), issueDateWindowPartitioner)
+				.step(windowStep)
+				.gridSize(partitionCount)
+				.taskExecutor(taskExecutor)
+				.listener(issueFetchPartitionListener)
+				.listener(projectHierarchyCacheListener)
 				.build();
 	}
 
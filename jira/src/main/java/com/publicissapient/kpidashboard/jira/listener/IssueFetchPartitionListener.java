@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.listener;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sets the last successful run of the project once a partitioned issue fetch is over. Windows are
+ * fetched concurrently, so the date saved by the writer listeners of the first window is not the
+ * date up to which all the issues are fetched.
+ *
+ * <p>When every window completed the latest change date read is saved. Otherwise the earliest
+ * checkpoint of the windows which did not complete is saved, so that the next run fetches again
+ * every issue that may have been missed.
+ */
+@Slf4j
+@Component
+@StepScope
+public class IssueFetchPartitionListener implements StepExecutionListener {
+
+	private static final DateTimeFormatter CHANGE_DATE_FORMATTER =
+			DateTimeFormatter.ofPattern(JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT);
+
+	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+
+	@Value("#{jobParameters['projectId']}")
+	private String projectId;
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		List<StepExecution> partitions =
+				stepExecution.getJobExecution().getStepExecutions().stream()
+						.filter(
+								execution ->
+										execution
+												.getExecutionContext()
+												.containsKey(JiraConstants.PARTITION_WINDOW_START))
+						.toList();
+		Optional<LocalDateTime> lastSuccessfulRun;
+		if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+			lastSuccessfulRun =
+					partitions.stream()
+							.map(StepExecution::getExecutionContext)
+							.filter(context -> context.containsKey(JiraConstants.PARTITION_LAST_CHANGE_DATE))
+							.map(
+									context ->
+											LocalDateTime.parse(
+													context.getString(JiraConstants.PARTITION_LAST_CHANGE_DATE),
+													CHANGE_DATE_FORMATTER))
+							.max(Comparator.naturalOrder());
+		} else {
+			lastSuccessfulRun =
+					partitions.stream()
+							.filter(execution -> execution.getStatus() != BatchStatus.COMPLETED)
+							.map(execution -> getCheckpoint(execution.getExecutionContext()))
+							.min(Comparator.naturalOrder());
+		}
+		lastSuccessfulRun.ifPresent(this::saveLastSuccessfulRun);
+		return null;
+	}
+
+	private static LocalDateTime getCheckpoint(ExecutionContext executionContext) {
+		if (executionContext.containsKey(JiraConstants.PARTITION_LAST_CHANGE_DATE)) {
+			return LocalDateTime.parse(
+					executionContext.getString(JiraConstants.PARTITION_LAST_CHANGE_DATE),
+					CHANGE_DATE_FORMATTER);
+		}
+		return DateUtil.stringToLocalDateTime(
+				executionContext.getString(JiraConstants.PARTITION_WINDOW_START),
+				JiraConstants.QUERYDATEFORMAT);
+	}
+
+	private void saveLastSuccessfulRun(LocalDateTime lastSuccessfulRun) {
+		List<ProcessorExecutionTraceLog> procTraceLogList =
+				processorExecutionTraceLogRepo.findByProcessorNameAndBasicProjectConfigIdIn(
+						JiraConstants.JIRA, Collections.singletonList(projectId));
+		if (CollectionUtils.isEmpty(procTraceLogList)) {
+			return;
+		}
+		log.info(
+				"Saving last successful run {} of partitioned issue fetch for project {}",
+				lastSuccessfulRun,
+				projectId);
+		String lastSuccessfulRunDate =
+				DateUtil.dateTimeFormatter(lastSuccessfulRun, DateUtil.DATE_TIME_FORMAT);
+		procTraceLogList.forEach(traceLog -> traceLog.setLastSuccessfulRun(lastSuccessfulRunDate));
+		processorExecutionTraceLogRepo.saveAll(procTraceLogList);
+	}
+}
@@ -44,6 +44,7 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +57,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JiraIssueBoardWriterListener implements ItemWriteListener<CompositeResult> {
 	public static final String PROG_TRACE_LOG = "progTraceLog";
 	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
 	@Autowired JiraProcessorConfig jiraProcessorConfig;
 
@@ -102,8 +104,7 @@ public class JiraIssueBoardWriterListener implements ItemWriteListener<Composite
 									Collectors.toMap(
 											traceLog -> Optional.ofNullable(traceLog.getBoardId()).orElse(PROG_TRACE_LOG),
 											Function.identity()));
-			ProcessorExecutionTraceLog progressStatsTraceLog =
-					boardWiseTraceLogMap.getOrDefault(PROG_TRACE_LOG, new ProcessorExecutionTraceLog());
+			String lastSuccessfulRun = null;
 			for (Map.Entry<String, List<JiraIssue>> boardData : boardWiseIssues.entrySet()) {
 				String boardId = boardData.getKey();
 				JiraIssue firstIssue =
@@ -137,22 +138,28 @@ public class JiraIssueBoardWriterListener implements ItemWriteListener<Composite
 							boardId,
 							firstIssue.getChangeDate(),
 							processorExecutionToSave);
-					progressStatsTraceLog.setLastSuccessfulRun(
-							DateUtil.dateTimeConverter(
-									firstIssue.getChangeDate(),
-									JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT,
-									DateUtil.DATE_TIME_FORMAT));
+					lastSuccessfulRun = processorExecutionTraceLog.getLastSuccessfulRun();
 				}
 			}
-			Optional.ofNullable(
-							JiraProcessorUtil.saveChunkProgressInTrace(progressStatsTraceLog, stepContext))
-					.ifPresent(processorExecutionToSave::add);
+			recordProgress(stepContext, basicProjectConfigId, lastSuccessfulRun);
 		}
 		if (CollectionUtils.isNotEmpty(processorExecutionToSave)) {
 			processorExecutionTraceLogRepo.saveAll(processorExecutionToSave);
 		}
 	}
 
+	private void recordProgress(
+			StepContext stepContext, String basicProjectConfigId, String lastSuccessfulRun) {
+		// the progress trace log is written by the ongoing executions service
+		if (null != lastSuccessfulRun) {
+			ongoingExecutionsService.recordLastSuccessfulRun(basicProjectConfigId, lastSuccessfulRun);
+		}
+		Optional.ofNullable(JiraProcessorUtil.getChunkProgress(stepContext))
+				.ifPresent(
+						progressStatus ->
+								ongoingExecutionsService.recordProgress(basicProjectConfigId, progressStatus));
+	}
+
 	private void setTraceLog(
 			ProcessorExecutionTraceLog processorExecutionTraceLog,
 			String basicProjectConfigId,
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.listener;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+/**
+ * Collects the issues read for a chunk so that the existing issue and history documents can be
+ * prefetched in bulk by {@link JiraIssueChunkCache} before the items are processed. Once the chunk
+ * is committed the unchanged issues it skipped are counted in the step execution.
+ */
+@Component
+public class JiraIssueChunkPrefetchListener implements ItemReadListener<ReadData>, ChunkListener {
+
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Autowired private IssueFingerprintHelper issueFingerprintHelper;
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		jiraIssueChunkCache.startChunk();
+	}
+
+	@Override
+	public void afterRead(ReadData item) {
+		jiraIssueChunkCache.register(item);
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		jiraIssueChunkCache.endChunk();
+		issueFingerprintHelper.countSkippedIssues(context.getStepContext().getStepExecution());
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		jiraIssueChunkCache.endChunk();
+		issueFingerprintHelper.discardSkippedIssues();
+	}
+}
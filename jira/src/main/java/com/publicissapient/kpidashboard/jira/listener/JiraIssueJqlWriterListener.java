@@ -43,6 +43,7 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +56,7 @@ import lombok.extern.slf4j.Slf4j;
 public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeResult> {
 	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
 	@Override
 	public void beforeWrite(Chunk<? extends CompositeResult> compositeResult) {
@@ -71,14 +73,17 @@ public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeRe
 	public void afterWrite(Chunk<? extends CompositeResult> compositeResults) {
 		log.info("Saving status in Processor execution Trace log for Scrum Jql project");
 
+		// getting step context
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		if (JiraProcessorUtil.isSecondaryPartition(stepContext)) {
+			return;
+		}
 		List<ProcessorExecutionTraceLog> processorExecutionToSave = new ArrayList<>();
 		List<JiraIssue> jiraIssues =
 				compositeResults.getItems().stream().map(CompositeResult::getJiraIssue).toList();
 
 		Map<String, List<JiraIssue>> projectWiseIssues =
 				jiraIssues.stream().collect(Collectors.groupingBy(JiraIssue::getBasicProjectConfigId));
-		// getting step context
-		StepContext stepContext = StepSynchronizationManager.getContext();
 		for (Map.Entry<String, List<JiraIssue>> entry : projectWiseIssues.entrySet()) {
 			processProject(entry, stepContext, processorExecutionToSave);
 		}
@@ -95,11 +100,6 @@ public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeRe
 		List<ProcessorExecutionTraceLog> procTraceLogList =
 				processorExecutionTraceLogRepo.findByProcessorNameAndBasicProjectConfigIdIn(
 						ProcessorConstants.JIRA, Collections.singletonList(basicProjectConfigId));
-		ProcessorExecutionTraceLog progressStatsTraceLog =
-				procTraceLogList.stream()
-						.filter(ProcessorExecutionTraceLog::isProgressStats)
-						.findFirst()
-						.orElse(new ProcessorExecutionTraceLog());
 		JiraIssue firstIssue =
 				entry.getValue().stream()
 						.sorted(
@@ -114,22 +114,19 @@ public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeRe
 						.orElse(null);
 		if (firstIssue != null) {
 			processTraceLogs(
-					stepContext,
 					processorExecutionToSave,
 					procTraceLogList,
 					basicProjectConfigId,
-					firstIssue,
-					progressStatsTraceLog);
+					firstIssue);
+			recordProgress(stepContext, basicProjectConfigId, firstIssue.getChangeDate());
 		}
 	}
 
 	private void processTraceLogs(
-			StepContext stepContext,
 			List<ProcessorExecutionTraceLog> processorExecutionToSave,
 			List<ProcessorExecutionTraceLog> procTraceLogList,
 			String basicProjectConfigId,
-			JiraIssue firstIssue,
-			ProcessorExecutionTraceLog progressStatsTraceLog) {
+			JiraIssue firstIssue) {
 		boolean isAnyLastSuccessfulRunPresent =
 				procTraceLogList.stream()
 						.anyMatch(
@@ -138,8 +135,9 @@ public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeRe
 												&& !traceLog.getLastSuccessfulRun().isEmpty());
 		if (CollectionUtils.isNotEmpty(procTraceLogList) && isAnyLastSuccessfulRunPresent) {
 			for (ProcessorExecutionTraceLog processorExecutionTraceLog : procTraceLogList) {
+				// the progress trace log is written by the ongoing executions service
 				if (processorExecutionTraceLog.isProgressStats()) {
-					JiraProcessorUtil.saveChunkProgressInTrace(processorExecutionTraceLog, stepContext);
+					continue;
 				}
 				setTraceLog(
 						processorExecutionTraceLog,
@@ -160,17 +158,21 @@ public class JiraIssueJqlWriterListener implements ItemWriteListener<CompositeRe
 					basicProjectConfigId,
 					firstIssue.getChangeDate(),
 					processorExecutionToSave);
-			progressStatsTraceLog.setLastSuccessfulRun(
-					DateUtil.dateTimeConverter(
-							firstIssue.getChangeDate(),
-							JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT,
-							DateUtil.DATE_TIME_FORMAT));
-			Optional.ofNullable(
-							JiraProcessorUtil.saveChunkProgressInTrace(progressStatsTraceLog, stepContext))
-					.ifPresent(processorExecutionToSave::add);
 		}
 	}
 
+	private void recordProgress(
+			StepContext stepContext, String basicProjectConfigId, String changeDate) {
+		ongoingExecutionsService.recordLastSuccessfulRun(
+				basicProjectConfigId,
+				DateUtil.dateTimeConverter(
+						changeDate, JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT, DateUtil.DATE_TIME_FORMAT));
+		Optional.ofNullable(JiraProcessorUtil.getChunkProgress(stepContext))
+				.ifPresent(
+						progressStatus ->
+								ongoingExecutionsService.recordProgress(basicProjectConfigId, progressStatus));
+	}
+
 	private void setTraceLog(
 			ProcessorExecutionTraceLog processorExecutionTraceLog,
 			String basicProjectConfigId,
@@ -48,6 +48,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectBas
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.jira.cache.JiraProcessorCacheEvictor;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
@@ -81,6 +82,8 @@ public class JobListenerKanban implements JobExecutionListener {
 
 	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
+
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 
 	@Autowired private ProjectBasicConfigRepository projectBasicConfigRepo;
@@ -108,6 +111,9 @@ public class JobListenerKanban implements JobExecutionListener {
 	@Override
 	public void afterJob(JobExecution jobExecution) {
 		log.info("********In kanban JobExecution  listener - finishing job ********");
+		// write the step progress of the job before the trace logs are read back
+		ongoingExecutionsService.flushProgress(projectId);
+		projectAssigneeCache.evict(projectId);
 		jiraProcessorCacheEvictor.evictCache(
 				CommonConstant.CACHE_CLEAR_ENDPOINT, CommonConstant.CACHE_ACCOUNT_HIERARCHY_KANBAN);
 		jiraProcessorCacheEvictor.evictCache(
@@ -53,6 +53,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectBas
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.jira.cache.JiraProcessorCacheEvictor;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
@@ -88,6 +89,8 @@ public class JobListenerScrum implements JobExecutionListener {
 
 	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
+
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 
 	@Autowired private ProjectBasicConfigRepository projectBasicConfigRepo;
@@ -119,6 +122,9 @@ public class JobListenerScrum implements JobExecutionListener {
 	@Override
 	public void afterJob(JobExecution jobExecution) {
 		log.info("********in scrum JobExecution listener - finishing job *********");
+		// write the step progress of the job before the trace logs are read back
+		ongoingExecutionsService.flushProgress(projectId);
+		projectAssigneeCache.evict(projectId);
 		// Sync the sprint hierarchy
 		projectHierarchySyncService.syncScrumSprintHierarchy(new ObjectId(projectId));
 		Map<String, List<String>> projOutlierSprintMap =
@@ -17,10 +17,6 @@
 
 package com.publicissapient.kpidashboard.jira.listener;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
@@ -31,9 +27,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
-import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
 import com.publicissapient.kpidashboard.common.model.application.ProgressStatus;
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,7 +40,7 @@ import lombok.extern.slf4j.Slf4j;
 @StepScope
 public class JobStepProgressListener implements StepExecutionListener {
 
-	@Autowired ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Autowired OngoingExecutionsService ongoingExecutionsService;
 
 	@Value("#{jobParameters['projectId']}")
 	private String projectId;
@@ -89,27 +84,12 @@ public class JobStepProgressListener implements StepExecutionListener {
 	 */
 	public void saveProgressStatusInTraceLog(
 			String processorName, String basicProjectConfigId, ProgressStatus progressStatus) {
-		Optional<ProcessorExecutionTraceLog> existingTraceLog =
-				processorExecutionTraceLogRepository
-						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsTrue(
-								processorName, basicProjectConfigId);
-		ProcessorExecutionTraceLog processorExecutionTraceLog =
-				existingTraceLog.orElseGet(ProcessorExecutionTraceLog::new);
-
-		processorExecutionTraceLog.setBasicProjectConfigId(basicProjectConfigId);
-		processorExecutionTraceLog.setProcessorName(processorName);
-		processorExecutionTraceLog.setProgressStats(true);
-		List<ProgressStatus> progressStatusList =
-				Optional.ofNullable(processorExecutionTraceLog.getProgressStatusList())
-						.orElseGet(ArrayList::new);
-		progressStatusList.add(progressStatus);
-		processorExecutionTraceLog.setExecutionOngoing(true);
-		processorExecutionTraceLog.setProgressStatusList(progressStatusList);
 		log.info(
 				"Saving the progress of {} processor of step {} for projectId {} ",
 				ProcessorConstants.JIRA,
 				progressStatus.getStepName(),
 				basicProjectConfigId);
-		processorExecutionTraceLogRepository.save(processorExecutionTraceLog);
+		// written behind with the other projects, see OngoingExecutionsService
+		ongoingExecutionsService.recordProgress(basicProjectConfigId, progressStatus);
 	}
 }
@@ -43,6 +43,7 @@ import com.publicissapient.kpidashboard.common.util.DateUtil;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -55,6 +56,7 @@ import lombok.extern.slf4j.Slf4j;
 public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<CompositeResult> {
 	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
 	/*
 	 * (non-Javadoc)
@@ -77,6 +79,11 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 	public void afterWrite(Chunk<? extends CompositeResult> compositeResults) {
 		log.info("Saving status in Processor execution Trace log for Kanban JQL project");
 
+		// getting step context
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		if (JiraProcessorUtil.isSecondaryPartition(stepContext)) {
+			return;
+		}
 		List<ProcessorExecutionTraceLog> processorExecutionToSave = new ArrayList<>();
 		List<KanbanJiraIssue> jiraIssues =
 				compositeResults.getItems().stream().map(CompositeResult::getKanbanJiraIssue).toList();
@@ -84,8 +91,6 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 		Map<String, List<KanbanJiraIssue>> projectWiseIssues =
 				jiraIssues.stream()
 						.collect(Collectors.groupingBy(KanbanJiraIssue::getBasicProjectConfigId));
-		// getting step context
-		StepContext stepContext = StepSynchronizationManager.getContext();
 		for (Map.Entry<String, List<KanbanJiraIssue>> entry : projectWiseIssues.entrySet()) {
 			processProject(entry, stepContext, processorExecutionToSave);
 		}
@@ -102,11 +107,6 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 		List<ProcessorExecutionTraceLog> procTraceLogList =
 				processorExecutionTraceLogRepo.findByProcessorNameAndBasicProjectConfigIdIn(
 						ProcessorConstants.JIRA, Collections.singletonList(basicProjectConfigId));
-		ProcessorExecutionTraceLog progressStatsTraceLog =
-				procTraceLogList.stream()
-						.filter(ProcessorExecutionTraceLog::isProgressStats)
-						.findFirst()
-						.orElse(new ProcessorExecutionTraceLog());
 		KanbanJiraIssue firstIssue =
 				entry.getValue().stream()
 						.sorted(
@@ -121,22 +121,19 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 						.orElse(null);
 		if (firstIssue != null) {
 			processTraceLogs(
-					stepContext,
 					processorExecutionToSave,
 					procTraceLogList,
 					basicProjectConfigId,
-					firstIssue,
-					progressStatsTraceLog);
+					firstIssue);
+			recordProgress(stepContext, basicProjectConfigId, firstIssue.getChangeDate());
 		}
 	}
 
 	private void processTraceLogs(
-			StepContext stepContext,
 			List<ProcessorExecutionTraceLog> processorExecutionToSave,
 			List<ProcessorExecutionTraceLog> procTraceLogList,
 			String basicProjectConfigId,
-			KanbanJiraIssue firstIssue,
-			ProcessorExecutionTraceLog progressStatsTraceLog) {
+			KanbanJiraIssue firstIssue) {
 		boolean isAnyLastSuccessfulRunPresent =
 				procTraceLogList.stream()
 						.anyMatch(
@@ -145,8 +142,9 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 												&& !traceLog.getLastSuccessfulRun().isEmpty());
 		if (CollectionUtils.isNotEmpty(procTraceLogList) && isAnyLastSuccessfulRunPresent) {
 			for (ProcessorExecutionTraceLog processorExecutionTraceLog : procTraceLogList) {
+				// the progress trace log is written by the ongoing executions service
 				if (processorExecutionTraceLog.isProgressStats()) {
-					JiraProcessorUtil.saveChunkProgressInTrace(processorExecutionTraceLog, stepContext);
+					continue;
 				}
 				setTraceLog(
 						processorExecutionTraceLog,
@@ -167,17 +165,21 @@ public class KanbanJiraIssueJqlWriterListener implements ItemWriteListener<Compo
 					basicProjectConfigId,
 					firstIssue.getChangeDate(),
 					processorExecutionToSave);
-			progressStatsTraceLog.setLastSuccessfulRun(
-					DateUtil.dateTimeConverter(
-							firstIssue.getChangeDate(),
-							JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT,
-							DateUtil.DATE_TIME_FORMAT));
-			Optional.ofNullable(
-							JiraProcessorUtil.saveChunkProgressInTrace(progressStatsTraceLog, stepContext))
-					.ifPresent(processorExecutionToSave::add);
 		}
 	}
 
+	private void recordProgress(
+			StepContext stepContext, String basicProjectConfigId, String changeDate) {
+		ongoingExecutionsService.recordLastSuccessfulRun(
+				basicProjectConfigId,
+				DateUtil.dateTimeConverter(
+						changeDate, JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT, DateUtil.DATE_TIME_FORMAT));
+		Optional.ofNullable(JiraProcessorUtil.getChunkProgress(stepContext))
+				.ifPresent(
+						progressStatus ->
+								ongoingExecutionsService.recordProgress(basicProjectConfigId, progressStatus));
+	}
+
 	private void setTraceLog(
 			ProcessorExecutionTraceLog processorExecutionTraceLog,
 			String basicProjectConfigId,
@@ -43,6 +43,7 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.common.util.DateUtil;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +57,7 @@ public class KanbanJiraIssueWriterListener implements ItemWriteListener<Composit
 	public static final String PROG_TRACE_LOG = "progTraceLog";
 
 	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
 	/*
 	 * (non-Javadoc)
@@ -104,8 +106,7 @@ public class KanbanJiraIssueWriterListener implements ItemWriteListener<Composit
 									Collectors.toMap(
 											traceLog -> Optional.ofNullable(traceLog.getBoardId()).orElse(PROG_TRACE_LOG),
 											Function.identity()));
-			ProcessorExecutionTraceLog progressStatsTraceLog =
-					boardWiseTraceLogMap.getOrDefault(PROG_TRACE_LOG, new ProcessorExecutionTraceLog());
+			String lastSuccessfulRun = null;
 			for (Map.Entry<String, List<KanbanJiraIssue>> boardData : boardWiseIssues.entrySet()) {
 				String boardId = boardData.getKey();
 				KanbanJiraIssue firstIssue =
@@ -133,22 +134,28 @@ public class KanbanJiraIssueWriterListener implements ItemWriteListener<Composit
 							boardId,
 							firstIssue.getChangeDate(),
 							processorExecutionToSave);
-					progressStatsTraceLog.setLastSuccessfulRun(
-							DateUtil.dateTimeConverter(
-									firstIssue.getChangeDate(),
-									JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT,
-									DateUtil.DATE_TIME_FORMAT));
+					lastSuccessfulRun = processorExecutionTraceLog.getLastSuccessfulRun();
 				}
 			}
-			Optional.ofNullable(
-							JiraProcessorUtil.saveChunkProgressInTrace(progressStatsTraceLog, stepContext))
-					.ifPresent(processorExecutionToSave::add);
+			recordProgress(stepContext, basicProjectConfigId, lastSuccessfulRun);
 		}
 		if (CollectionUtils.isNotEmpty(processorExecutionToSave)) {
 			processorExecutionTraceLogRepo.saveAll(processorExecutionToSave);
 		}
 	}
 
+	private void recordProgress(
+			StepContext stepContext, String basicProjectConfigId, String lastSuccessfulRun) {
+		// the progress trace log is written by the ongoing executions service
+		if (null != lastSuccessfulRun) {
+			ongoingExecutionsService.recordLastSuccessfulRun(basicProjectConfigId, lastSuccessfulRun);
+		}
+		Optional.ofNullable(JiraProcessorUtil.getChunkProgress(stepContext))
+				.ifPresent(
+						progressStatus ->
+								ongoingExecutionsService.recordProgress(basicProjectConfigId, progressStatus));
+	}
+
 	private void setTraceLog(
 			ProcessorExecutionTraceLog processorExecutionTraceLog,
 			String basicProjectConfigId,
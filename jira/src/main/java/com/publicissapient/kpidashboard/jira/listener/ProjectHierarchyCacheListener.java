@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.listener;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
+
+/**
+ * Resets the {@link ProjectHierarchyCache} of the project of the job around the issue steps, so
+ * that every step starts from the hierarchies currently persisted and nothing is retained once the
+ * step is over. The sprint job, launched without a project, resets the project of its sprint. The
+ * entries of the other projects are never touched.
+ */
+@Component
+@StepScope
+public class ProjectHierarchyCacheListener implements StepExecutionListener {
+
+	@Autowired private ProjectHierarchyCache projectHierarchyCache;
+
+	@Autowired private SprintRepository sprintRepository;
+
+	@Value("#{jobParameters['projectId']}")
+	private String projectId;
+
+	@Value("#{jobParameters['sprintId']}")
+	private String sprintId;
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		projectHierarchyCache.evict(getProjectId());
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		projectHierarchyCache.evict(getProjectId());
+		return null;
+	}
+
+	private String getProjectId() {
+		if (null == projectId && null != sprintId) {
+			SprintDetails sprintDetails = sprintRepository.findBySprintID(sprintId);
+			if (null != sprintDetails && null != sprintDetails.getBasicProjectConfigId()) {
+				projectId = sprintDetails.getBasicProjectConfigId().toString();
+			}
+		}
+		return projectId;
+	}
+}
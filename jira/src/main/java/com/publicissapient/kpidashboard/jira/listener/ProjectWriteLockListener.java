@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.listener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+/**
+ * Serializes the processing and writing of the chunks of a project across the concurrent date
+ * window partitions of its issue fetch. The sprint, project hierarchy and assignee documents of a
+ * project are read by the processors and saved whole by the writers, so two windows converting
+ * issues of the same sprint at once would otherwise overwrite each other's changes.
+ *
+ * <p>The lock of the project is taken before the first item of a chunk is processed and released
+ * once the chunk is committed or rolled back, so that the windows still read their pages from
+ * Jira concurrently.
+ */
+@Component
+public class ProjectWriteLockListener
+		implements ItemProcessListener<ReadData, CompositeResult>, ChunkListener {
+
+	private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+	private final ThreadLocal<ReentrantLock> heldLock = new ThreadLocal<>();
+
+	@Override
+	public void beforeProcess(ReadData item) {
+		if (null != heldLock.get()
+				|| null == item.getProjectConfFieldMapping()
+				|| null == item.getProjectConfFieldMapping().getBasicProjectConfigId()) {
+			return;
+		}
+		ReentrantLock lock =
+				locks.computeIfAbsent(
+						item.getProjectConfFieldMapping().getBasicProjectConfigId().toString(),
+						id -> new ReentrantLock());
+		lock.lock();
+		heldLock.set(lock);
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		release();
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		release();
+	}
+
+	private void release() {
+		ReentrantLock lock = heldLock.get();
+		if (null != lock) {
+			heldLock.remove();
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ *   Copyright 2014 CapitalOne, LLC.
+ *   Further development Copyright 2022 Sapient Corporation.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.publicissapient.kpidashboard.jira.listener;
+
+import java.util.Objects;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adds the item counts of a finished chunk step to the <code>processor.step.items</code> counter,
+ * one series per type of count (read, processed, written and skipped), step and project. The
+ * workers of a partitioned step add to the series of the step.
+ */
+@Component
+public class StepMetricsListener implements StepExecutionListener {
+
+	static final String STEP_ITEMS_METRIC = "processor.step.items";
+	private static final String PARTITION_SEPARATOR = ":";
+	private static final String NO_PROJECT = "none";
+
+	@Autowired MeterRegistry meterRegistry;
+
+	/**
+	 * (non-Javadoc)
+	 *
+	 * @param stepExecution instance of {@link StepExecution}.
+	 * @return null
+	 */
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		String stepName = stepExecution.getStepName();
+		int partition = stepName.indexOf(PARTITION_SEPARATOR);
+		if (partition > 0) {
+			stepName = stepName.substring(0, partition);
+		}
+		String projectId =
+				Objects.toString(stepExecution.getJobParameters().getString("projectId"), NO_PROJECT);
+		increment("read", stepName, projectId, stepExecution.getReadCount());
+		increment(
+				"processed",
+				stepName,
+				projectId,
+				stepExecution.getWriteCount() + stepExecution.getWriteSkipCount());
+		increment("written", stepName, projectId, stepExecution.getWriteCount());
+		increment(
+				"skipped",
+				stepName,
+				projectId,
+				stepExecution.getFilterCount() + stepExecution.getSkipCount());
+		return null;
+	}
+
+	private void increment(String type, String stepName, String projectId, long amount) {
+		Counter.builder(STEP_ITEMS_METRIC)
+				.description("Items handled by the chunk steps")
+				.tag("type", type)
+				.tag("step", stepName)
+				.tag("project", projectId)
+				.tag("processor", JiraConstants.JIRA)
+				.register(meterRegistry)
+				.increment(amount);
+	}
+}
@@ -22,4 +22,5 @@ public class CompositeResult {
 	private AssigneeDetails assigneeDetails;
 	private KanbanJiraIssue kanbanJiraIssue;
 	private KanbanIssueCustomHistory kanbanIssueCustomHistory;
+	private String issueFingerprint;
 }
@@ -28,6 +28,7 @@ import lombok.Setter;
 @Data
 @Builder
 public class JiraInfo {
+	private String connectionId;
 	private String username;
 	private String password;
 	private String jiraConfigBaseUrl;
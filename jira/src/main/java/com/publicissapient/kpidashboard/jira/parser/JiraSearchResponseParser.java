@@ -18,34 +18,183 @@
 
 package com.publicissapient.kpidashboard.jira.parser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.codehaus.jettison.json.JSONArray;
 import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
+import org.codehaus.jettison.json.JSONTokener;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.atlassian.jira.rest.client.internal.json.GenericJsonArrayParser;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
 
 public class JiraSearchResponseParser {
 
+	private static final String ISSUES = "issues";
+	private static final String NAMES = "names";
+	private static final String SCHEMA = "schema";
+	private static final String IS_LAST = "isLast";
+	private static final String NEXT_PAGE_TOKEN = "nextPageToken";
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
 	public JiraSearchResponse parse(JSONObject json) throws JSONException {
-		JSONArray issuesJsonArray = json.getJSONArray("issues");
+		JSONArray issuesJsonArray = json.getJSONArray(ISSUES);
 
 		Iterable<Issue> issues;
 		if (issuesJsonArray.length() > 0) {
 			CustomIssueJsonParser issueParser =
-					new CustomIssueJsonParser(json.optJSONObject("names"), json.optJSONObject("schema"));
+					new CustomIssueJsonParser(json.optJSONObject(NAMES), json.optJSONObject(SCHEMA));
 			GenericJsonArrayParser<Issue> issuesParser = GenericJsonArrayParser.create(issueParser);
 			issues = issuesParser.parse(issuesJsonArray);
 		} else {
 			issues = Collections.emptyList();
 		}
 
-		boolean isLast = json.optBoolean("isLast", true);
-		String nextPageToken = json.optString("nextPageToken", null);
+		boolean isLast = json.optBoolean(IS_LAST, true);
+		String nextPageToken = json.optString(NEXT_PAGE_TOKEN, null);
 
 		return new JiraSearchResponse(issues, isLast, nextPageToken);
 	}
+
+	/**
+	 * Parses a search response while it is read from the given stream. Only one issue is held as a
+	 * Jettison tree at a time when the names and schema sections precede the issues; otherwise the
+	 * issue trees are kept until the end of the page and released one by one as they are converted.
+	 * The resulting issues are the same as the ones of {@link #parse(JSONObject)} on the whole page.
+	 *
+	 * @param content response body, not closed by this method
+	 * @return parsed search response
+	 * @throws IOException IOException
+	 * @throws JSONException when the body is not a search response
+	 */
+	public JiraSearchResponse parse(InputStream content) throws IOException, JSONException {
+		JSONObject names = null;
+		JSONObject schema = null;
+		CustomIssueJsonParser issueParser = null;
+		List<JSONObject> pendingIssues = new ArrayList<>();
+		List<Issue> issues = null;
+		boolean isLast = true;
+		String nextPageToken = null;
+
+		try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+			parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONException("A JSONObject text must begin with '{'");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldName = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				switch (fieldName) {
+					case ISSUES:
+						if (token != JsonToken.START_ARRAY) {
+							throw new JSONException("JSONObject[\"" + ISSUES + "\"] is not a JSONArray.");
+						}
+						issues = new ArrayList<>();
+						if (names != null && schema != null) {
+							issueParser = new CustomIssueJsonParser(names, schema);
+						}
+						while (parser.nextToken() != JsonToken.END_ARRAY) {
+							JSONObject issueJson = readObject(parser);
+							if (issueParser != null) {
+								issues.add(issueParser.parse(issueJson));
+							} else {
+								pendingIssues.add(issueJson);
+							}
+						}
+						break;
+					case NAMES:
+						names = token == JsonToken.START_OBJECT ? readObject(parser) : skip(parser);
+						break;
+					case SCHEMA:
+						schema = token == JsonToken.START_OBJECT ? readObject(parser) : skip(parser);
+						break;
+					case IS_LAST:
+						isLast = readBoolean(parser, token);
+						break;
+					case NEXT_PAGE_TOKEN:
+						nextPageToken = token == JsonToken.VALUE_NULL ? null : parser.getText();
+						break;
+					default:
+						parser.skipChildren();
+						break;
+				}
+			}
+		}
+
+		if (issues == null) {
+			throw new JSONException("JSONObject[\"" + ISSUES + "\"] not found.");
+		}
+		if (!pendingIssues.isEmpty()) {
+			issueParser = new CustomIssueJsonParser(names, schema);
+			for (int i = 0; i < pendingIssues.size(); i++) {
+				issues.add(issueParser.parse(pendingIssues.get(i)));
+				pendingIssues.set(i, null);
+			}
+		}
+
+		return new JiraSearchResponse(
+				issues.isEmpty() ? Collections.<Issue>emptyList() : issues, isLast, nextPageToken);
+	}
+
+	private static JSONObject skip(JsonParser parser) throws IOException {
+		parser.skipChildren();
+		return null;
+	}
+
+	private static boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+		if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+			return token == JsonToken.VALUE_TRUE;
+		}
+		if (token == JsonToken.VALUE_STRING && "false".equalsIgnoreCase(parser.getText())) {
+			return false;
+		}
+		parser.skipChildren();
+		return true;
+	}
+
+	private static JSONObject readObject(JsonParser parser) throws IOException, JSONException {
+		JSONObject object = new JSONObject();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String fieldName = parser.getCurrentName();
+			parser.nextToken();
+			object.put(fieldName, readValue(parser));
+		}
+		return object;
+	}
+
+	private static JSONArray readArray(JsonParser parser) throws IOException, JSONException {
+		JSONArray array = new JSONArray();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			array.put(readValue(parser));
+		}
+		return array;
+	}
+
+	private static Object readValue(JsonParser parser) throws IOException, JSONException {
+		switch (parser.currentToken()) {
+			case START_OBJECT:
+				return readObject(parser);
+			case START_ARRAY:
+				return readArray(parser);
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_TRUE:
+				return Boolean.TRUE;
+			case VALUE_FALSE:
+				return Boolean.FALSE;
+			default:
+				// numbers and null go through the Jettison tokenizer, so that they get the same Integer,
+				// Long, Double or null representation as when the whole page is parsed by Jettison
+				return new JSONTokener(parser.getText()).nextValue();
+		}
+	}
 }
@@ -29,6 +29,7 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectHierarch
 import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
 
@@ -50,6 +51,8 @@ public class IssueKanbanProcessor implements ItemProcessor<ReadData, CompositeRe
 
 	@Autowired private KanbanJiraIssueAssigneeProcessor kanbanJiraIssueAssigneeProcessor;
 
+	@Autowired private IssueFingerprintHelper issueFingerprintHelper;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -61,6 +64,10 @@ public class IssueKanbanProcessor implements ItemProcessor<ReadData, CompositeRe
 		log.debug(
 				"Kanban processing started for the project : {}",
 				readData.getProjectConfFieldMapping().getProjectName());
+		String fingerprint = issueFingerprintHelper.getFingerprint(readData);
+		if (issueFingerprintHelper.isUnchanged(KanbanJiraIssue.class, readData, fingerprint)) {
+			return kanbanCompositeResult;
+		}
 		KanbanJiraIssue kanbanJiraIssue = convertIssueToKanbanJiraIssue(readData);
 		if (null != kanbanJiraIssue) {
 			kanbanCompositeResult = new CompositeResult();
@@ -71,6 +78,7 @@ public class IssueKanbanProcessor implements ItemProcessor<ReadData, CompositeRe
 			AssigneeDetails assigneeDetails = createAssigneeDetails(readData, kanbanJiraIssue);
 			kanbanCompositeResult.setKanbanJiraIssue(kanbanJiraIssue);
 			kanbanCompositeResult.setKanbanIssueCustomHistory(kanbanIssueCustomHistory);
+			kanbanCompositeResult.setIssueFingerprint(fingerprint);
 			if (CollectionUtils.isNotEmpty(accountHierarchies)) {
 				kanbanCompositeResult.setProjectHierarchies(accountHierarchies);
 			}
@@ -32,6 +32,8 @@ import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
 
@@ -54,6 +56,8 @@ public class IssueScrumProcessor implements ItemProcessor<ReadData, CompositeRes
 
 	@Autowired private SprintDataProcessor sprintDataProcessor;
 
+	@Autowired private IssueFingerprintHelper issueFingerprintHelper;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -65,16 +69,22 @@ public class IssueScrumProcessor implements ItemProcessor<ReadData, CompositeRes
 				"Scrum processing started for the project : {}",
 				readData.getProjectConfFieldMapping().getProjectName());
 		CompositeResult compositeResult = null;
-		JiraIssue jiraIssue = convertIssueToJiraIssue(readData);
+		String fingerprint = issueFingerprintHelper.getFingerprint(readData);
+		if (issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, fingerprint)) {
+			return compositeResult;
+		}
+		// decoded once and shared by the issue, history and sprint conversions
+		DecodedIssue decodedIssue = DecodedIssue.of(readData.getIssue());
+		JiraIssue jiraIssue = convertIssueToJiraIssue(readData, decodedIssue);
 		if (null != jiraIssue) {
 			compositeResult = new CompositeResult();
 			JiraIssueCustomHistory jiraIssueCustomHistory =
-					convertIssueToJiraIssueHistory(readData, jiraIssue);
+					convertIssueToJiraIssueHistory(readData, decodedIssue, jiraIssue);
 			Set<SprintDetails> sprintDetailsSet = null;
 			Set<ProjectHierarchy> projectHierarchies = null;
 			AssigneeDetails assigneeDetails = null;
 			if (!readData.isSprintFetch()) {
-				sprintDetailsSet = processSprintData(readData);
+				sprintDetailsSet = processSprintData(readData, decodedIssue);
 				projectHierarchies = createAccountHierarchies(jiraIssue, readData, sprintDetailsSet);
 				assigneeDetails = createAssigneeDetails(readData, jiraIssue);
 			}
@@ -84,6 +94,7 @@ public class IssueScrumProcessor implements ItemProcessor<ReadData, CompositeRes
 			}
 			compositeResult.setJiraIssue(jiraIssue);
 			compositeResult.setJiraIssueCustomHistory(jiraIssueCustomHistory);
+			compositeResult.setIssueFingerprint(fingerprint);
 			if (CollectionUtils.isNotEmpty(projectHierarchies)) {
 				compositeResult.setProjectHierarchies(projectHierarchies);
 			}
@@ -94,23 +105,25 @@ public class IssueScrumProcessor implements ItemProcessor<ReadData, CompositeRes
 		return compositeResult;
 	}
 
-	private JiraIssue convertIssueToJiraIssue(ReadData readData) throws JSONException {
+	private JiraIssue convertIssueToJiraIssue(ReadData readData, DecodedIssue decodedIssue)
+			throws JSONException {
 		return jiraIssueProcessor.convertToJiraIssue(
-				readData.getIssue(),
+				decodedIssue,
 				readData.getProjectConfFieldMapping(),
 				readData.getBoardId(),
 				readData.getProcessorId());
 	}
 
 	private JiraIssueCustomHistory convertIssueToJiraIssueHistory(
-			ReadData readData, JiraIssue jiraIssue) throws JSONException {
+			ReadData readData, DecodedIssue decodedIssue, JiraIssue jiraIssue) throws JSONException {
 		return jiraIssueHistoryProcessor.convertToJiraIssueHistory(
-				readData.getIssue(), readData.getProjectConfFieldMapping(), jiraIssue);
+				decodedIssue, readData.getProjectConfFieldMapping(), jiraIssue);
 	}
 
-	private Set<SprintDetails> processSprintData(ReadData readData) throws IOException {
+	private Set<SprintDetails> processSprintData(ReadData readData, DecodedIssue decodedIssue)
+			throws IOException {
 		return sprintDataProcessor.processSprintData(
-				readData.getIssue(),
+				decodedIssue,
 				readData.getProjectConfFieldMapping(),
 				readData.getBoardId(),
 				readData.getProcessorId());
@@ -17,7 +17,6 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.processor;
 
-import java.lang.reflect.InvocationTargetException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -26,11 +25,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.beanutils.PropertyUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -42,8 +41,7 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectBasicCon
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
-import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
-import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import lombok.extern.slf4j.Slf4j;
@@ -55,9 +53,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JiraIssueAccountHierarchyProcessorImpl implements JiraIssueAccountHierarchyProcessor {
 
-	@Autowired private HierarchyLevelService hierarchyLevelService;
-
-	@Autowired private ProjectHierarchyService projectHierarchyService;
+	@Autowired private ProjectHierarchyCache projectHierarchyCache;
 
 	@Override
 	public Set<ProjectHierarchy> createAccountHierarchy(
@@ -67,7 +63,7 @@ public class JiraIssueAccountHierarchyProcessorImpl implements JiraIssueAccountH
 
 		log.info("Creating account_hierarchy for the project : {}", projectConfig.getProjectName());
 		List<HierarchyLevel> hierarchyLevelList =
-				hierarchyLevelService.getFullHierarchyLevels(projectConfig.isKanban());
+				projectHierarchyCache.getHierarchyLevels(projectConfig.isKanban());
 
 		Map<String, HierarchyLevel> hierarchyLevelsMap =
 				hierarchyLevelList.stream()
@@ -88,10 +84,9 @@ public class JiraIssueAccountHierarchyProcessorImpl implements JiraIssueAccountH
 				&& StringUtils.isNotBlank(jiraIssue.getSprintName())
 				&& StringUtils.isNotBlank(jiraIssue.getSprintBeginDate())
 				&& StringUtils.isNotBlank(jiraIssue.getSprintEndDate())) {
-			// get all the hierarchies related to the selected project from project
-			// hierarchies collection
+			// get all the hierarchies related to the selected project, loaded once per step
 			Map<String, List<ProjectHierarchy>> existingHierarchy =
-					projectHierarchyService.getProjectHierarchyMapByConfig(
+					projectHierarchyCache.getScrumHierarchy(
 							projectConfig.getBasicProjectConfigId().toString());
 
 			ObjectId basicProjectConfigId = new ObjectId(jiraIssue.getBasicProjectConfigId());
@@ -145,11 +140,14 @@ public class JiraIssueAccountHierarchyProcessorImpl implements JiraIssueAccountH
 					sprintHierarchy.setCreatedDate(LocalDateTime.now());
 					setToSave.add(sprintHierarchy);
 				} else if (!projectHierarchy.equals(sprintHierarchy)) {
-					projectHierarchy.setBeginDate(sprintHierarchy.getBeginDate());
-					projectHierarchy.setNodeName(sprintHierarchy.getNodeName()); // sprint name changed
-					projectHierarchy.setEndDate(sprintHierarchy.getEndDate());
-					projectHierarchy.setSprintState(sprintHierarchy.getSprintState());
-					setToSave.add(projectHierarchy);
+					// update a copy, the cached hierarchy is refreshed once it is written
+					ProjectHierarchy updatedHierarchy = new ProjectHierarchy();
+					BeanUtils.copyProperties(projectHierarchy, updatedHierarchy);
+					updatedHierarchy.setBeginDate(sprintHierarchy.getBeginDate());
+					updatedHierarchy.setNodeName(sprintHierarchy.getNodeName()); // sprint name changed
+					updatedHierarchy.setEndDate(sprintHierarchy.getEndDate());
+					updatedHierarchy.setSprintState(sprintHierarchy.getSprintState());
+					setToSave.add(updatedHierarchy);
 				}
 			}
 		}
@@ -159,29 +157,18 @@ public class JiraIssueAccountHierarchyProcessorImpl implements JiraIssueAccountH
 			SprintDetails sprintDetails,
 			ProjectBasicConfig projectBasicConfig,
 			HierarchyLevel hierarchyLevel) {
-		ProjectHierarchy projectHierachy = null;
-		try {
-
-			projectHierachy = new ProjectHierarchy();
-			projectHierachy.setBasicProjectConfigId(projectBasicConfig.getId());
-			projectHierachy.setHierarchyLevelId(hierarchyLevel.getHierarchyLevelId());
-			String sprintName = (String) PropertyUtils.getSimpleProperty(sprintDetails, "sprintName");
-			String sprintId = (String) PropertyUtils.getSimpleProperty(sprintDetails, "sprintID");
-			String state = (String) PropertyUtils.getSimpleProperty(sprintDetails, "state");
-			projectHierachy.setNodeId(sprintId);
-			// IF WANT TO CHANGE THE NAME
-			projectHierachy.setNodeName(sprintName);
-			projectHierachy.setNodeDisplayName(sprintName);
-			projectHierachy.setSprintState(state);
-			projectHierachy.setBeginDate(
-					(String) PropertyUtils.getSimpleProperty(sprintDetails, "startDate"));
-			projectHierachy.setEndDate(
-					(String) PropertyUtils.getSimpleProperty(sprintDetails, "endDate"));
-			projectHierachy.setParentId(projectBasicConfig.getProjectNodeId());
-
-		} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-			log.error("Jira Processor Failed to get Account Hierarchy data {}", e);
-		}
+		ProjectHierarchy projectHierachy = new ProjectHierarchy();
+		projectHierachy.setBasicProjectConfigId(projectBasicConfig.getId());
+		projectHierachy.setHierarchyLevelId(hierarchyLevel.getHierarchyLevelId());
+		String sprintName = sprintDetails.getSprintName();
+		projectHierachy.setNodeId(sprintDetails.getSprintID());
+		// IF WANT TO CHANGE THE NAME
+		projectHierachy.setNodeName(sprintName);
+		projectHierachy.setNodeDisplayName(sprintName);
+		projectHierachy.setSprintState(sprintDetails.getState());
+		projectHierachy.setBeginDate(sprintDetails.getStartDate());
+		projectHierachy.setEndDate(sprintDetails.getEndDate());
+		projectHierachy.setParentId(projectBasicConfig.getProjectNodeId());
 		return projectHierachy;
 	}
 
@@ -17,19 +17,14 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.processor;
 
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
-
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.common.model.jira.Assignee;
 import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import lombok.extern.slf4j.Slf4j;
@@ -41,44 +36,20 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JiraIssueAssigneeProcessorImpl implements JiraIssueAssigneeProcessor {
 
-	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
 
 	@Override
 	public AssigneeDetails createAssigneeDetails(
 			ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue) {
 
 		log.info("Creating assignee details for the project : {}", projectConfig.getProjectName());
-		AssigneeDetails assigneeDetails =
-				assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
-						projectConfig.getBasicProjectConfigId().toString(), ProcessorConstants.JIRA);
-
-		Set<Assignee> assigneeSetToSave = new LinkedHashSet<>();
-		if (StringUtils.isNotEmpty(jiraIssue.getAssigneeId())
-				&& StringUtils.isNotEmpty(jiraIssue.getAssigneeName())) {
-			Assignee assignee = new Assignee(jiraIssue.getAssigneeId(), jiraIssue.getAssigneeName());
-			assigneeSetToSave.add(assignee);
-			if (assigneeDetails == null) {
-				assigneeDetails = new AssigneeDetails();
-				assigneeDetails.setBasicProjectConfigId(projectConfig.getBasicProjectConfigId().toString());
-				assigneeDetails.setSource(ProcessorConstants.JIRA);
-				assigneeDetails.setAssignee(assigneeSetToSave);
-				if (!projectConfig.getProjectBasicConfig().isSaveAssigneeDetails()) {
-					assigneeDetails.setAssigneeSequence(2);
-				}
-			} else if (!assigneeDetails.getAssignee().contains(assignee)) {
-				Set<Assignee> updatedAssigneeSetToSave = new HashSet<>();
-				updatedAssigneeSetToSave.addAll(assigneeDetails.getAssignee());
-				updatedAssigneeSetToSave.addAll(assigneeSetToSave);
-				assigneeDetails.setAssignee(updatedAssigneeSetToSave);
-				if (!projectConfig.getProjectBasicConfig().isSaveAssigneeDetails()) {
-					assigneeDetails.setAssigneeSequence(assigneeDetails.getAssigneeSequence() + 1);
-				}
-			} else {
-				return null;
-			}
-		} else {
+		if (StringUtils.isEmpty(jiraIssue.getAssigneeId())
+				|| StringUtils.isEmpty(jiraIssue.getAssigneeName())) {
 			return null;
 		}
-		return assigneeDetails;
+		return projectAssigneeCache.addAssignee(
+				projectConfig.getBasicProjectConfigId().toString(),
+				new Assignee(jiraIssue.getAssigneeId(), jiraIssue.getAssigneeName()),
+				!projectConfig.getProjectBasicConfig().isSaveAssigneeDetails());
 	}
 }
@@ -20,6 +20,7 @@ package com.publicissapient.kpidashboard.jira.processor;
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 /**
@@ -32,6 +33,17 @@ public interface JiraIssueHistoryProcessor {
 	 * @param jiraIssue jiraIssue
 	 * @return JiraIssueCustomHistory
 	 */
+	default JiraIssueCustomHistory convertToJiraIssueHistory(
+			Issue issue, ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue) {
+		return convertToJiraIssueHistory(DecodedIssue.of(issue), projectConfig, jiraIssue);
+	}
+
+	/**
+	 * @param issue decoded issue
+	 * @param projectConfig projectConfig
+	 * @param jiraIssue jiraIssue
+	 * @return JiraIssueCustomHistory
+	 */
 	JiraIssueCustomHistory convertToJiraIssueHistory(
-			Issue issue, ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue);
+			DecodedIssue issue, ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue);
 }
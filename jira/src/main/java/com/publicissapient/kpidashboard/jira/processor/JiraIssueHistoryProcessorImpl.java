@@ -35,8 +35,6 @@ import org.codehaus.jettison.json.JSONException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
-import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.atlassian.jira.rest.client.api.domain.IssueField;
 import com.atlassian.jira.rest.client.api.domain.Version;
@@ -50,10 +48,12 @@ import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.helper.ChangelogIndex;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.helper.JiraHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
-import com.publicissapient.kpidashboard.jira.util.JiraIssueClientUtil;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -67,14 +67,16 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 
 	@Autowired private JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
 
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
+
 	@Override
 	public JiraIssueCustomHistory convertToJiraIssueHistory(
-			Issue issue, ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue) {
+			DecodedIssue issue, ProjectConfFieldMapping projectConfig, JiraIssue jiraIssue) {
 		log.info(
 				"Converting issue to JiraIssueHistory for the project : {}",
 				projectConfig.getProjectName());
-		String issueNumber = JiraProcessorUtil.deodeUTF8String(issue.getKey());
-		Map<String, IssueField> fields = JiraIssueClientUtil.buildFieldMap(issue.getFields());
+		String issueNumber = JiraProcessorUtil.deodeUTF8String(issue.getIssue().getKey());
+		Map<String, IssueField> fields = issue.getFields();
 		JiraIssueCustomHistory jiraIssueHistory = getIssueCustomHistory(projectConfig, issueNumber);
 		setJiraIssueHistory(jiraIssueHistory, jiraIssue, issue, projectConfig, fields);
 
@@ -84,17 +86,21 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	private JiraIssueCustomHistory getIssueCustomHistory(
 			ProjectConfFieldMapping projectConfig, String issueId) {
 		String basicProjectConfigId = projectConfig.getBasicProjectConfigId().toString();
-		JiraIssueCustomHistory jiraIssueHistory =
-				jiraIssueCustomHistoryRepository.findByStoryIDAndBasicProjectConfigId(
-						issueId, basicProjectConfigId);
-
-		return jiraIssueHistory != null ? jiraIssueHistory : new JiraIssueCustomHistory();
+		return jiraIssueChunkCache
+				.getJiraIssueCustomHistory(basicProjectConfigId, issueId)
+				.orElseGet(
+						() -> {
+							JiraIssueCustomHistory jiraIssueHistory =
+									jiraIssueCustomHistoryRepository.findByStoryIDAndBasicProjectConfigId(
+											issueId, basicProjectConfigId);
+							return jiraIssueHistory != null ? jiraIssueHistory : new JiraIssueCustomHistory();
+						});
 	}
 
 	private void setJiraIssueHistory(
 			JiraIssueCustomHistory jiraIssueHistory,
 			JiraIssue jiraIssue,
-			Issue issue,
+			DecodedIssue issue,
 			ProjectConfFieldMapping projectConfig,
 			Map<String, IssueField> fields) {
 
@@ -114,47 +120,40 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	private void processJiraIssueHistory(
 			JiraIssueCustomHistory jiraIssueCustomHistory,
 			JiraIssue jiraIssue,
-			Issue issue,
+			DecodedIssue issue,
 			ProjectConfFieldMapping projectConfig,
 			Map<String, IssueField> fields) {
-		List<ChangelogGroup> changeLogList = JiraHelper.sortChangeLogGroup(issue);
-		List<ChangelogGroup> modChangeLogList = new ArrayList<>();
-
-		for (ChangelogGroup changeLog : changeLogList) {
-			List<ChangelogItem> changeLogCollection = Lists.newArrayList(changeLog.getItems().iterator());
-			ChangelogGroup grp =
-					new ChangelogGroup(changeLog.getAuthor(), changeLog.getCreated(), changeLogCollection);
-			modChangeLogList.add(grp);
-		}
+		ChangelogIndex changelogIndex =
+				ChangelogIndex.of(JiraHelper.sortChangeLogGroup(issue.getIssue()));
 
 		if (null != jiraIssue.getDevicePlatform()) {
 			jiraIssueCustomHistory.setDevicePlatform(jiraIssue.getDevicePlatform());
 		}
 		if (null == jiraIssueCustomHistory.getStoryID()) {
 			addStoryHistory(
-					jiraIssueCustomHistory, jiraIssue, issue, modChangeLogList, projectConfig, fields);
+					jiraIssueCustomHistory, jiraIssue, issue, changelogIndex, projectConfig, fields);
 		} else {
 			if (NormalizedJira.DEFECT_TYPE.getValue().equalsIgnoreCase(jiraIssue.getTypeName())) {
 				jiraIssueCustomHistory.setDefectStoryID(jiraIssue.getDefectStoryID());
 			}
 
 			setJiraIssueCustomHistoryUpdationLog(
-					jiraIssueCustomHistory, changeLogList, projectConfig, fields, issue);
+					jiraIssueCustomHistory, changelogIndex, projectConfig, fields, issue);
 		}
 	}
 
 	private void addStoryHistory(
 			JiraIssueCustomHistory jiraIssueCustomHistory,
 			JiraIssue jiraIssue,
-			Issue issue,
-			List<ChangelogGroup> changeLogList,
+			DecodedIssue issue,
+			ChangelogIndex changelogIndex,
 			ProjectConfFieldMapping projectConfig,
 			Map<String, IssueField> fields) {
 
 		setJiraIssueCustomHistoryUpdationLog(
-				jiraIssueCustomHistory, changeLogList, projectConfig, fields, issue);
+				jiraIssueCustomHistory, changelogIndex, projectConfig, fields, issue);
 		jiraIssueCustomHistory.setStoryID(jiraIssue.getNumber());
-		jiraIssueCustomHistory.setCreatedDate(issue.getCreationDate());
+		jiraIssueCustomHistory.setCreatedDate(issue.getIssue().getCreationDate());
 
 		// estimate
 		jiraIssueCustomHistory.setEstimate(jiraIssue.getEstimate());
@@ -165,28 +164,16 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	}
 
 	private List<JiraHistoryChangeLog> getJiraFieldChangeLog(
-			List<ChangelogGroup> changeLogList, String jiraField) {
+			ChangelogIndex changelogIndex, String jiraField) {
 
 		List<JiraHistoryChangeLog> fieldHistoryLog = new ArrayList<>();
 
-		if (CollectionUtils.isNotEmpty(changeLogList)) {
-			for (ChangelogGroup history : changeLogList) {
-				history
-						.getItems()
-						.forEach(
-								item -> {
-									if (item.getField().trim().equalsIgnoreCase(jiraField.trim())) {
-										JiraHistoryChangeLog jiraHistoryChangeLog = new JiraHistoryChangeLog();
-										jiraHistoryChangeLog.setChangedFrom(handleStr(item.getFromString()));
-										jiraHistoryChangeLog.setChangedTo(handleStr(item.getToString()));
-										jiraHistoryChangeLog.setUpdatedOn(
-												LocalDateTime.parse(
-														JiraProcessorUtil.getFormattedDate(
-																JiraProcessorUtil.deodeUTF8String(history.getCreated()))));
-										fieldHistoryLog.add(jiraHistoryChangeLog);
-									}
-								});
-			}
+		for (ChangelogIndex.IndexedItem indexedItem : changelogIndex.getItems(jiraField)) {
+			JiraHistoryChangeLog jiraHistoryChangeLog = new JiraHistoryChangeLog();
+			jiraHistoryChangeLog.setChangedFrom(handleStr(indexedItem.item().getFromString()));
+			jiraHistoryChangeLog.setChangedTo(handleStr(indexedItem.item().getToString()));
+			jiraHistoryChangeLog.setUpdatedOn(indexedItem.updatedOn());
+			fieldHistoryLog.add(jiraHistoryChangeLog);
 		}
 
 		// Merging Fix Version object based on updation Timestamp
@@ -207,9 +194,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	}
 
 	private List<JiraHistoryChangeLog> getDueDateChangeLog(
-			List<ChangelogGroup> changeLogList,
-			FieldMapping fieldMapping,
-			Map<String, IssueField> fields) {
+			ChangelogIndex changelogIndex, FieldMapping fieldMapping, Map<String, IssueField> fields) {
 		if (StringUtils.isNotEmpty(fieldMapping.getJiraDueDateField())) {
 			String field = "";
 			if (fieldMapping.getJiraDueDateField().equalsIgnoreCase(CommonConstant.DUE_DATE))
@@ -219,33 +204,23 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 				IssueField issueField = fields.get(fieldMapping.getJiraDueDateCustomField());
 				if (ObjectUtils.isNotEmpty(issueField.getName())) field = issueField.getName();
 			}
-			return createDueDateChangeLogs(changeLogList, field);
+			return createDueDateChangeLogs(changelogIndex, field);
 		}
 		return new ArrayList<>();
 	}
 
 	private List<JiraHistoryChangeLog> createDueDateChangeLogs(
-			List<ChangelogGroup> changeLogList, String field) {
+			ChangelogIndex changelogIndex, String field) {
 		List<JiraHistoryChangeLog> fieldHistoryLog = new ArrayList<>();
-		if (CollectionUtils.isNotEmpty(changeLogList)) {
-			for (ChangelogGroup history : changeLogList) {
-				String finalField = field;
-				history
-						.getItems()
-						.forEach(
-								item -> {
-									if (item.getField().trim().equalsIgnoreCase(finalField)) {
-										JiraHistoryChangeLog jiraHistoryChangeLog = new JiraHistoryChangeLog();
-										jiraHistoryChangeLog.setChangedFrom(parseStringToLocalDateTime(item.getFrom()));
-										jiraHistoryChangeLog.setChangedTo(parseStringToLocalDateTime(item.getTo()));
-										jiraHistoryChangeLog.setUpdatedOn(
-												LocalDateTime.parse(
-														JiraProcessorUtil.getFormattedDate(
-																JiraProcessorUtil.deodeUTF8String(history.getCreated()))));
-										fieldHistoryLog.add(jiraHistoryChangeLog);
-									}
-								});
-			}
+		if (StringUtils.isEmpty(field)) {
+			return fieldHistoryLog;
+		}
+		for (ChangelogIndex.IndexedItem indexedItem : changelogIndex.getItems(field)) {
+			JiraHistoryChangeLog jiraHistoryChangeLog = new JiraHistoryChangeLog();
+			jiraHistoryChangeLog.setChangedFrom(parseStringToLocalDateTime(indexedItem.item().getFrom()));
+			jiraHistoryChangeLog.setChangedTo(parseStringToLocalDateTime(indexedItem.item().getTo()));
+			jiraHistoryChangeLog.setUpdatedOn(indexedItem.updatedOn());
+			fieldHistoryLog.add(jiraHistoryChangeLog);
 		}
 		return fieldHistoryLog;
 	}
@@ -296,12 +271,12 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	}
 
 	private List<JiraHistoryChangeLog> getCustomFieldChangeLog(
-			List<ChangelogGroup> changeLogList, String jiraCustomField, Map<String, IssueField> fields) {
+			ChangelogIndex changelogIndex, String jiraCustomField, Map<String, IssueField> fields) {
 
 		if (StringUtils.isNotEmpty(jiraCustomField.trim())
 				&& ObjectUtils.isNotEmpty(fields.get(jiraCustomField.trim()))) {
 			String field = fields.get(jiraCustomField.trim()).getName();
-			return getJiraFieldChangeLog(changeLogList, field.trim());
+			return getJiraFieldChangeLog(changelogIndex, field.trim());
 		}
 
 		return new ArrayList<>();
@@ -320,10 +295,11 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 
 	private void setJiraIssueCustomHistoryUpdationLog(
 			JiraIssueCustomHistory jiraIssueCustomHistory,
-			List<ChangelogGroup> changeLogList,
+			ChangelogIndex changelogIndex,
 			ProjectConfFieldMapping projectConfig,
 			Map<String, IssueField> fields,
-			Issue issue) {
+			DecodedIssue decodedIssue) {
+		Issue issue = decodedIssue.getIssue();
 		FieldMapping fieldMapping = projectConfig.getFieldMapping();
 		Optional<Connection> connectionOptional = projectConfig.getJira().getConnection();
 		Boolean cloudEnv = Boolean.FALSE;
@@ -332,55 +308,59 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 			cloudEnv = connection.isCloudEnv();
 		}
 		List<JiraHistoryChangeLog> statusChangeLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.STATUS);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.STATUS);
 		List<JiraHistoryChangeLog> assigneeChangeLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.ASSIGNEE);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.ASSIGNEE);
 		List<JiraHistoryChangeLog> priorityChangeLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.PRIORITY);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.PRIORITY);
 		List<JiraHistoryChangeLog> fixVersionChangeLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.FIXVERSION);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.FIXVERSION);
 		List<JiraHistoryChangeLog> labelsChangeLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.LABELS);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.LABELS);
 		List<JiraHistoryChangeLog> workLog =
-				getJiraFieldChangeLog(changeLogList, JiraConstants.WORKLOG);
+				getJiraFieldChangeLog(changelogIndex, JiraConstants.WORKLOG);
 		List<JiraHistoryChangeLog> dueDateChangeLog =
-				getDueDateChangeLog(changeLogList, fieldMapping, fields);
+				getDueDateChangeLog(changelogIndex, fieldMapping, fields);
 		List<JiraHistoryChangeLog> devDueDateChangeLog =
-				getDevDueDateChangeLog(changeLogList, fieldMapping, fields);
+				getDevDueDateChangeLog(changelogIndex, fieldMapping, fields);
 		List<JiraHistoryChangeLog> severityChangeLog =
 				getCustomFieldChangeLog(
-						changeLogList,
+						changelogIndex,
 						handleStr(fieldMapping.getJiraDefectSeverityByCustomFieldKPI194()),
 						fields);
 		List<JiraHistoryChangeLog> sprintChangeLog =
-				getCustomFieldChangeLog(changeLogList, handleStr(fieldMapping.getSprintName()), fields);
+				getCustomFieldChangeLog(changelogIndex, handleStr(fieldMapping.getSprintName()), fields);
 		List<JiraHistoryChangeLog> flagStatusChangeLog;
 		if (cloudEnv) {
 			flagStatusChangeLog =
-					getJiraFieldChangeLog(changeLogList, JiraConstants.FLAG_STATUS_FOR_CLOUD);
+					getJiraFieldChangeLog(changelogIndex, JiraConstants.FLAG_STATUS_FOR_CLOUD);
 		} else {
 			flagStatusChangeLog =
-					getJiraFieldChangeLog(changeLogList, JiraConstants.FLAG_STATUS_FOR_SERVER);
+					getJiraFieldChangeLog(changelogIndex, JiraConstants.FLAG_STATUS_FOR_SERVER);
 		}
 		createFirstEntryOfChangeLog(
 				statusChangeLog,
-				issue,
+				decodedIssue,
 				ObjectUtils.isNotEmpty(issue.getStatus()) ? issue.getStatus().getName() : "");
 		createFirstEntryOfChangeLog(
 				assigneeChangeLog,
-				issue,
+				decodedIssue,
 				ObjectUtils.isNotEmpty(issue.getAssignee()) ? issue.getAssignee().getDisplayName() : "");
 		createFirstEntryOfChangeLog(
 				priorityChangeLog,
-				issue,
+				decodedIssue,
 				ObjectUtils.isNotEmpty(issue.getPriority()) ? issue.getPriority().getName() : "");
-		createFirstEntryOfChangeLog(labelsChangeLog, issue, StringUtils.join(issue.getLabels(), " "));
-		createFirstEntryOfChangeLog(workLog, issue, "");
-		createFirstEntryOfDueDateChangeLog(dueDateChangeLog, fieldMapping, issue, fields);
-		createFirstEntryOfDevDueDateChangeLog(devDueDateChangeLog, fieldMapping, issue, fields);
-		creatingFirstEntryOfSprintChangeLog(sprintChangeLog, fieldMapping, issue, fields);
+		createFirstEntryOfChangeLog(
+				labelsChangeLog, decodedIssue, StringUtils.join(issue.getLabels(), " "));
+		createFirstEntryOfChangeLog(workLog, decodedIssue, "");
+		createFirstEntryOfDueDateChangeLog(dueDateChangeLog, fieldMapping, decodedIssue, fields);
+		createFirstEntryOfDevDueDateChangeLog(
+				devDueDateChangeLog, fieldMapping, decodedIssue, fields);
+		creatingFirstEntryOfSprintChangeLog(sprintChangeLog, fieldMapping, decodedIssue, fields);
 		createFixVersionHistory(
-				fixVersionChangeLog, issue, convertIterableVersionToString(issue.getFixVersions()));
+				fixVersionChangeLog,
+				decodedIssue,
+				convertIterableVersionToString(issue.getFixVersions()));
 		splitMultipleSprintsAndStoreLastSprint(sprintChangeLog);
 
 		jiraIssueCustomHistory.setStatusUpdationLog(statusChangeLog);
@@ -397,9 +377,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	}
 
 	private List<JiraHistoryChangeLog> getDevDueDateChangeLog(
-			List<ChangelogGroup> changeLogList,
-			FieldMapping fieldMapping,
-			Map<String, IssueField> fields) {
+			ChangelogIndex changelogIndex, FieldMapping fieldMapping, Map<String, IssueField> fields) {
 		if (StringUtils.isNotEmpty(fieldMapping.getJiraDevDueDateField())) {
 			String field = "";
 			if (fieldMapping.getJiraDevDueDateField().equalsIgnoreCase(CommonConstant.DUE_DATE))
@@ -409,7 +387,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 				IssueField issueField = fields.get(fieldMapping.getJiraDevDueDateCustomField());
 				if (ObjectUtils.isNotEmpty(issueField.getName())) field = issueField.getName();
 			}
-			return createDueDateChangeLogs(changeLogList, field);
+			return createDueDateChangeLogs(changelogIndex, field);
 		}
 		return Collections.emptyList();
 	}
@@ -417,17 +395,18 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	private void createFirstEntryOfDevDueDateChangeLog(
 			List<JiraHistoryChangeLog> dueDateChangeLog,
 			FieldMapping fieldMapping,
-			Issue issue,
+			DecodedIssue issue,
 			Map<String, IssueField> fields) {
 		if (StringUtils.isNotEmpty(fieldMapping.getJiraDevDueDateField())) {
 			if (fieldMapping.getJiraDevDueDateField().equalsIgnoreCase(CommonConstant.DUE_DATE)
-					&& ObjectUtils.isNotEmpty(issue.getDueDate())) {
+					&& ObjectUtils.isNotEmpty(issue.getIssue().getDueDate())) {
 				createFirstEntryOfChangeLog(
 						dueDateChangeLog,
 						issue,
 						LocalDateTime.parse(
 										JiraProcessorUtil.getFormattedDate(
-												JiraProcessorUtil.deodeUTF8String(issue.getDueDate())))
+												JiraProcessorUtil.deodeUTF8String(
+														issue.getIssue().getDueDate())))
 								.toString());
 			} else if (StringUtils.isNotEmpty(fieldMapping.getJiraDevDueDateCustomField())
 					&& ObjectUtils.isNotEmpty(fields.get(fieldMapping.getJiraDevDueDateCustomField()))) {
@@ -448,7 +427,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	private void creatingFirstEntryOfSprintChangeLog(
 			List<JiraHistoryChangeLog> sprintChangeLog,
 			FieldMapping fieldMapping,
-			Issue issue,
+			DecodedIssue issue,
 			Map<String, IssueField> fields) {
 		if (StringUtils.isNotEmpty(fieldMapping.getSprintName())
 				&& ObjectUtils.isNotEmpty(fields.get(fieldMapping.getSprintName()))) {
@@ -456,8 +435,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 			if (ObjectUtils.isNotEmpty(issueField.getValue())) {
 				Object sValue = issueField.getValue();
 				try {
-					List<SprintDetails> sprints = JiraProcessorUtil.processSprintDetail(sValue);
-					Collections.sort(sprints, JiraHelper.SPRINT_COMPARATOR);
+					List<SprintDetails> sprints = issue.getSprints(fieldMapping.getSprintName());
 					if (!sprints.isEmpty())
 						createFirstEntryOfChangeLog(sprintChangeLog, issue, sprints.get(0).getSprintName());
 				} catch (ParseException | JSONException e) {
@@ -470,17 +448,18 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	private void createFirstEntryOfDueDateChangeLog(
 			List<JiraHistoryChangeLog> dueDateChangeLog,
 			FieldMapping fieldMapping,
-			Issue issue,
+			DecodedIssue issue,
 			Map<String, IssueField> fields) {
 		if (StringUtils.isNotEmpty(fieldMapping.getJiraDueDateField())) {
 			if (fieldMapping.getJiraDueDateField().equalsIgnoreCase(CommonConstant.DUE_DATE)
-					&& ObjectUtils.isNotEmpty(issue.getDueDate())) {
+					&& ObjectUtils.isNotEmpty(issue.getIssue().getDueDate())) {
 				createFirstEntryOfChangeLog(
 						dueDateChangeLog,
 						issue,
 						LocalDateTime.parse(
 										JiraProcessorUtil.getFormattedDate(
-												JiraProcessorUtil.deodeUTF8String(issue.getDueDate())))
+												JiraProcessorUtil.deodeUTF8String(
+														issue.getIssue().getDueDate())))
 								.toString());
 			} else if (StringUtils.isNotEmpty(fieldMapping.getJiraDueDateCustomField())
 					&& ObjectUtils.isNotEmpty(fields.get(fieldMapping.getJiraDueDateCustomField()))) {
@@ -500,7 +479,7 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 
 	private void createFixVersionHistory(
 			List<JiraHistoryChangeLog> fixVersionChangeLog,
-			Issue issue,
+			DecodedIssue issue,
 			String currentFixVersionPresentInIssue) {
 		final String[] lastLogChangeToValue = {currentFixVersionPresentInIssue};
 		Lists.reverse(fixVersionChangeLog)
@@ -539,17 +518,16 @@ public class JiraIssueHistoryProcessorImpl implements JiraIssueHistoryProcessor
 	}
 
 	private void createFirstEntryOfChangeLog(
-			List<JiraHistoryChangeLog> fieldChangeLog, Issue issue, String fieldValuefromIssue) {
+			List<JiraHistoryChangeLog> fieldChangeLog,
+			DecodedIssue issue,
+			String fieldValuefromIssue) {
 
-		if (null != issue.getCreationDate()
+		if (null != issue.getIssue().getCreationDate()
 				&& ((fieldChangeLog.isEmpty() && !fieldValuefromIssue.isEmpty())
 						|| (!fieldChangeLog.isEmpty() && !fieldChangeLog.get(0).getChangedFrom().isEmpty()))) {
 			JiraHistoryChangeLog firstEntry = new JiraHistoryChangeLog();
 			firstEntry.setChangedFrom("");
-			firstEntry.setUpdatedOn(
-					LocalDateTime.parse(
-							JiraProcessorUtil.getFormattedDate(
-									JiraProcessorUtil.deodeUTF8String(issue.getCreationDate()))));
+			firstEntry.setUpdatedOn(issue.getCreatedOn());
 			if (!fieldChangeLog.isEmpty()) {
 				firstEntry.setChangedTo(fieldChangeLog.get(0).getChangedFrom());
 			} else {
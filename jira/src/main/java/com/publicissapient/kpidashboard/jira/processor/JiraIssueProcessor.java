@@ -22,6 +22,7 @@ import org.codehaus.jettison.json.JSONException;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 /**
@@ -37,10 +38,28 @@ public interface JiraIssueProcessor {
 	 * @return JiraIssue
 	 * @throws JSONException JSONException
 	 */
-	JiraIssue convertToJiraIssue(
+	default JiraIssue convertToJiraIssue(
 			Issue currentPagedJiraRs,
 			ProjectConfFieldMapping projectConfig,
 			String boardId,
 			ObjectId processorId)
+			throws JSONException {
+		return convertToJiraIssue(
+				DecodedIssue.of(currentPagedJiraRs), projectConfig, boardId, processorId);
+	}
+
+	/**
+	 * @param issue decoded issue
+	 * @param projectConfig projectConfig
+	 * @param boardId boardId
+	 * @param processorId
+	 * @return JiraIssue
+	 * @throws JSONException JSONException
+	 */
+	JiraIssue convertToJiraIssue(
+			DecodedIssue issue,
+			ProjectConfFieldMapping projectConfig,
+			String boardId,
+			ObjectId processorId)
 			throws JSONException;
 }
@@ -17,7 +17,6 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.processor;
 
-import static com.publicissapient.kpidashboard.jira.helper.JiraHelper.buildFieldMap;
 import static com.publicissapient.kpidashboard.jira.helper.JiraHelper.getAffectedVersions;
 import static com.publicissapient.kpidashboard.jira.helper.JiraHelper.getFieldValue;
 import static com.publicissapient.kpidashboard.jira.helper.JiraHelper.getLabelsList;
@@ -29,7 +28,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -61,21 +59,20 @@ import com.atlassian.jira.rest.client.api.domain.Version;
 import com.atlassian.jira.rest.client.internal.json.JsonParseUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.constant.NormalizedJira;
-import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilter;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.ReleaseVersion;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.helper.AdditionalFilterHelper;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.helper.JiraHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
@@ -95,12 +92,12 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 	private static final String UAT_PHASE_KPI216 = "UAT_KPI216";
 	private static final String NO_VALUE = "No Value";
 
-	AssigneeDetails assigneeDetails;
 	@Autowired private JiraIssueRepository jiraIssueRepository;
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 	@Autowired private AdditionalFilterHelper additionalFilterHelper;
-	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
 	@Autowired private JiraProcessorRepository jiraProcessorRepository;
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
 
 	private static void storyWithSubTaskDefect(
 			Issue issue, Map<String, IssueField> fields, Set<String> defectStorySet) {
@@ -156,11 +153,15 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 
 	@Override
 	public JiraIssue convertToJiraIssue(
-			Issue issue, ProjectConfFieldMapping projectConfig, String boardId, ObjectId processorId)
+			DecodedIssue decodedIssue,
+			ProjectConfFieldMapping projectConfig,
+			String boardId,
+			ObjectId processorId)
 			throws JSONException {
 
 		JiraIssue jiraIssue = null;
 		log.info("Converting issue to JiraIssue for the project : {}", projectConfig.getProjectName());
+		Issue issue = decodedIssue.getIssue();
 		if (null == issue) {
 			log.error("JIRA Processor | No list of current paged JIRA's issues found");
 			return jiraIssue;
@@ -188,7 +189,7 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 			jiraIssue = getJiraIssue(projectConfig, issueId);
 			jiraIssue.setProcessorId(processorId);
 
-			Map<String, IssueField> fields = buildFieldMap(issue.getFields());
+			Map<String, IssueField> fields = decodedIssue.getFields();
 			IssueField epic = fields.get(fieldMapping.getEpicName());
 			jiraIssue.setIssueId(JiraProcessorUtil.deodeUTF8String(issue.getId()));
 			jiraIssue.setTypeId(JiraProcessorUtil.deodeUTF8String(issueType.getId()));
@@ -197,14 +198,14 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 
 			setEpicLinked(fieldMapping, jiraIssue, fields);
 			setSubTaskLinkage(jiraIssue, fieldMapping, issue, fields);
-			processJiraIssueData(jiraIssue, issue, fields, fieldMapping);
+			processJiraIssueData(jiraIssue, decodedIssue, fields, fieldMapping);
 			setURL(issue.getKey(), jiraIssue, projectConfig);
 			setRCA(fieldMapping, issue, jiraIssue, fields);
 			setThirdPartyDefectIdentificationField(fieldMapping, issue, jiraIssue, fields);
 			setDefectIssueType(jiraIssue, issueType, fieldMapping);
 			jiraIssue.setLabels(getLabelsList(issue));
 			setProjectSpecificDetails(projectConfig, jiraIssue, issue);
-			setAdditionalFilters(jiraIssue, issue, projectConfig);
+			setAdditionalFilters(jiraIssue, issue, fields, projectConfig);
 			setStoryLinkWithDefect(issue, jiraIssue, fields);
 			setProductionDefectIdentificationField(fieldMapping, issue, jiraIssue, fields);
 			setTestingPhaseDefectIdentificationField(issue, fieldMapping, jiraIssue, fields);
@@ -215,8 +216,7 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 			jiraIssue.setAffectedVersions(getAffectedVersions(issue));
 			setIssueEpics(issueEpics, epic, jiraIssue);
 			setJiraIssueValues(jiraIssue, issue, fieldMapping, fields);
-			IssueField sprint = fields.get(fieldMapping.getSprintName());
-			processSprintData(jiraIssue, sprint, projectConfig);
+			processSprintData(jiraIssue, decodedIssue, projectConfig);
 			User assignee = issue.getAssignee();
 			setJiraAssigneeDetails(jiraIssue, assignee, projectConfig);
 			setEstimates(jiraIssue, issue);
@@ -247,11 +247,16 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 
 	private JiraIssue getJiraIssue(ProjectConfFieldMapping projectConfig, String issueId) {
 		String basicProjectConfigId = projectConfig.getBasicProjectConfigId().toString();
-		JiraIssue jiraIssue =
-				jiraIssueRepository.findByIssueIdAndBasicProjectConfigId(
-						StringEscapeUtils.escapeHtml4(issueId), basicProjectConfigId);
-
-		return jiraIssue != null ? jiraIssue : new JiraIssue();
+		String escapedIssueId = StringEscapeUtils.escapeHtml4(issueId);
+		return jiraIssueChunkCache
+				.getJiraIssue(basicProjectConfigId, escapedIssueId)
+				.orElseGet(
+						() -> {
+							JiraIssue jiraIssue =
+									jiraIssueRepository.findByIssueIdAndBasicProjectConfigId(
+											escapedIssueId, basicProjectConfigId);
+							return jiraIssue != null ? jiraIssue : new JiraIssue();
+						});
 	}
 
 	private void setEpicLinked(
@@ -346,43 +351,7 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 	}
 
 	private String setAssigneeName(String assigneeId, String basicProjectConfigId) {
-		String assigneeName = JiraConstants.USER + JiraConstants.SPACE + 1;
-		if (null == assigneeDetails
-				|| !assigneeDetails.getBasicProjectConfigId().equalsIgnoreCase(basicProjectConfigId)) {
-			assigneeDetails =
-					assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
-							basicProjectConfigId, ProcessorConstants.JIRA);
-		}
-		Set<Assignee> assigneeSetToSave = new LinkedHashSet<>();
-		if (assigneeDetails == null) {
-			assigneeDetails = new AssigneeDetails();
-			assigneeDetails.setBasicProjectConfigId(basicProjectConfigId);
-			assigneeDetails.setSource(ProcessorConstants.JIRA);
-			assigneeSetToSave.add(new Assignee(assigneeId, assigneeName));
-			assigneeDetails.setAssignee(assigneeSetToSave);
-			assigneeDetails.setAssigneeSequence(2);
-		} else {
-			Assignee assignee =
-					assigneeDetails.getAssignee().stream()
-							.filter(Assignee -> assigneeId.equals(Assignee.getAssigneeId()))
-							.findAny()
-							.orElse(null);
-			if (null == assignee) {
-				assigneeName =
-						JiraConstants.USER + JiraConstants.SPACE + assigneeDetails.getAssigneeSequence();
-				assigneeDetails.setAssigneeSequence(assigneeDetails.getAssigneeSequence() + 1);
-				// this set is created so that there is no need to fetch
-				// assigneeDetails again and same assignee can be checked
-				// only with existing assigneeDetails object
-				Set<Assignee> newAssignee = new HashSet<>();
-				newAssignee.add(new Assignee(assigneeId, assigneeName));
-				assigneeDetails.getAssignee().addAll(newAssignee);
-
-			} else {
-				assigneeName = assignee.getAssigneeName();
-			}
-		}
-		return assigneeName;
+		return projectAssigneeCache.getAnonymisedName(basicProjectConfigId, assigneeId);
 	}
 
 	public String getAssignee(User user) {
@@ -430,17 +399,20 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 	}
 
 	private void processJiraIssueData(
-			JiraIssue jiraIssue, Issue issue, Map<String, IssueField> fields, FieldMapping fieldMapping)
+			JiraIssue jiraIssue,
+			DecodedIssue decodedIssue,
+			Map<String, IssueField> fields,
+			FieldMapping fieldMapping)
 			throws JSONException {
 
-		String status = issue.getStatus().getName();
-		String changeDate = issue.getUpdateDate().toString();
-		String createdDate = issue.getCreationDate().toString();
+		Issue issue = decodedIssue.getIssue();
+		String status = decodedIssue.getStatus();
+		String changeDate = decodedIssue.getChangeDate();
 		jiraIssue.setNumber(JiraProcessorUtil.deodeUTF8String(issue.getKey()));
 		jiraIssue.setName(JiraProcessorUtil.deodeUTF8String(issue.getSummary()));
 		log.debug("Issue : {}", jiraIssue.getNumber());
-		jiraIssue.setStatus(JiraProcessorUtil.deodeUTF8String(status));
-		jiraIssue.setState(JiraProcessorUtil.deodeUTF8String(status));
+		jiraIssue.setStatus(status);
+		jiraIssue.setState(status);
 
 		if (StringUtils.isNotEmpty(fieldMapping.getJiraStatusMappingCustomField())) {
 			JSONObject josnObject =
@@ -456,10 +428,8 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 		}
 		setEstimate(jiraIssue, fields, fieldMapping);
 		setAggregateTimeEstimates(jiraIssue, fields);
-		jiraIssue.setChangeDate(
-				JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(changeDate)));
-		jiraIssue.setUpdateDate(
-				JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(changeDate)));
+		jiraIssue.setChangeDate(changeDate);
+		jiraIssue.setUpdateDate(changeDate);
 		jiraIssue.setIsDeleted(JiraConstants.FALSE);
 
 		jiraIssue.setOwnersState(Arrays.asList("Active"));
@@ -478,8 +448,7 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 		}
 
 		// Created Date
-		jiraIssue.setCreatedDate(
-				JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(createdDate)));
+		jiraIssue.setCreatedDate(decodedIssue.getCreatedDate());
 	}
 
 	private void setAggregateTimeEstimates(JiraIssue jiraIssue, Map<String, IssueField> fields) {
@@ -560,9 +529,12 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 	}
 
 	private void setAdditionalFilters(
-			JiraIssue jiraIssue, Issue issue, ProjectConfFieldMapping projectConfig) {
+			JiraIssue jiraIssue,
+			Issue issue,
+			Map<String, IssueField> fields,
+			ProjectConfFieldMapping projectConfig) {
 		List<AdditionalFilter> additionalFilter =
-				additionalFilterHelper.getAdditionalFilter(issue, projectConfig);
+				additionalFilterHelper.getAdditionalFilter(issue, fields, projectConfig);
 		jiraIssue.setAdditionalFilters(additionalFilter);
 	}
 
@@ -927,7 +899,9 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 	}
 
 	private void processSprintData(
-			JiraIssue jiraIssue, IssueField sprintField, ProjectConfFieldMapping projectConfig) {
+			JiraIssue jiraIssue, DecodedIssue decodedIssue, ProjectConfFieldMapping projectConfig) {
+		IssueField sprintField =
+				decodedIssue.getField(projectConfig.getFieldMapping().getSprintName());
 		if (sprintField == null
 				|| sprintField.getValue() == null
 				|| JiraConstants.EMPTY_STR.equals(sprintField.getValue())) {
@@ -943,10 +917,10 @@ public class JiraIssueProcessorImpl implements JiraIssueProcessor {
 		} else {
 			Object sValue = sprintField.getValue();
 			try {
-				List<SprintDetails> sprints = JiraProcessorUtil.processSprintDetail(sValue);
-				// Now sort so we can use the most recent one
+				// sorted so we can use the most recent one
 				// yyyy-MM-dd'T'HH:mm:ss format so string compare will be fine
-				Collections.sort(sprints, JiraIssueClientUtil.SPRINT_COMPARATOR);
+				List<SprintDetails> sprints =
+						decodedIssue.getSprints(projectConfig.getFieldMapping().getSprintName());
 				setSprintData(sprints, jiraIssue, sValue, projectConfig);
 
 			} catch (ParseException | JSONException e) {
@@ -37,8 +37,7 @@ import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
-import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
-import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import lombok.extern.slf4j.Slf4j;
@@ -50,8 +49,7 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class KanbanJiraIssueAccountHierarchyProcessorImpl
 		implements KanbanJiraIssueAccountHierarchyProcessor {
-	@Autowired private HierarchyLevelService hierarchyLevelService;
-	@Autowired private ProjectHierarchyService projectHierarchyService;
+	@Autowired private ProjectHierarchyCache projectHierarchyCache;
 
 	@Override
 	public Set<ProjectHierarchy> createKanbanAccountHierarchy(
@@ -59,7 +57,7 @@ public class KanbanJiraIssueAccountHierarchyProcessorImpl
 		log.info(
 				"Creating kanban_account_hierarchy for the project : {}", projectConfig.getProjectName());
 		List<HierarchyLevel> hierarchyLevelList =
-				hierarchyLevelService.getFullHierarchyLevels(projectConfig.isKanban());
+				projectHierarchyCache.getHierarchyLevels(projectConfig.isKanban());
 		Map<String, HierarchyLevel> hierarchyLevelsMap =
 				hierarchyLevelList.stream()
 						.collect(Collectors.toMap(HierarchyLevel::getHierarchyLevelId, x -> x));
@@ -75,10 +73,9 @@ public class KanbanJiraIssueAccountHierarchyProcessorImpl
 		log.info("Fetching all hierarchy levels");
 
 		ProjectBasicConfig projectBasicConfig = projectConfig.getProjectBasicConfig();
-		// get all the hierarchies related to the selected project from project
-		// hierarchies collection
+		// get all the hierarchies related to the selected project, loaded once per step
 		Map<String, ProjectHierarchy> existingHierarchy =
-				projectHierarchyService.getProjectHierarchyMapByConfigId(
+				projectHierarchyCache.getKanbanHierarchy(
 						projectConfig.getBasicProjectConfigId().toString());
 
 		Set<ProjectHierarchy> accHierarchyToSave = new HashSet<>();
@@ -35,6 +35,7 @@ import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHisto
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueHistoryRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.util.JiraIssueClientUtil;
@@ -51,6 +52,8 @@ public class KanbanJiraIssueHistoryProcessorImpl implements KanbanJiraIssueHisto
 
 	@Autowired private KanbanJiraIssueHistoryRepository kanbanJiraIssueHistoryRepository;
 
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
+
 	@Override
 	public KanbanIssueCustomHistory convertToKanbanIssueHistory(
 			Issue issue, ProjectConfFieldMapping projectConfig, KanbanJiraIssue kanbanJiraIssue) {
@@ -69,11 +72,15 @@ public class KanbanJiraIssueHistoryProcessorImpl implements KanbanJiraIssueHisto
 	private KanbanIssueCustomHistory getKanbanIssueCustomHistory(
 			ProjectConfFieldMapping projectConfig, String issueId) {
 		String basicProjectConfigId = projectConfig.getBasicProjectConfigId().toString();
-		KanbanIssueCustomHistory jiraIssueHistory =
-				kanbanJiraIssueHistoryRepository.findByStoryIDAndBasicProjectConfigId(
-						issueId, basicProjectConfigId);
-
-		return jiraIssueHistory != null ? jiraIssueHistory : new KanbanIssueCustomHistory();
+		return jiraIssueChunkCache
+				.getKanbanIssueCustomHistory(basicProjectConfigId, issueId)
+				.orElseGet(
+						() -> {
+							KanbanIssueCustomHistory jiraIssueHistory =
+									kanbanJiraIssueHistoryRepository.findByStoryIDAndBasicProjectConfigId(
+											issueId, basicProjectConfigId);
+							return jiraIssueHistory != null ? jiraIssueHistory : new KanbanIssueCustomHistory();
+						});
 	}
 
 	public void setJiraIssueHistory(
@@ -30,7 +30,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -57,17 +56,15 @@ import com.atlassian.jira.rest.client.api.domain.Version;
 import com.atlassian.jira.rest.client.internal.json.JsonParseUtil;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.constant.NormalizedJira;
-import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.common.model.application.AdditionalFilter;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.ReleaseVersion;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.helper.AdditionalFilterHelper;
@@ -85,12 +82,12 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class KanbanJiraIssueProcessorImpl implements KanbanJiraIssueProcessor {
 
-	AssigneeDetails assigneeDetails;
 	@Autowired private JiraProcessorRepository jiraProcessorRepository;
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 	@Autowired private AdditionalFilterHelper additionalFilterHelper;
-	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
 	@Autowired private KanbanJiraIssueRepository kanbanJiraIssueRepository;
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
 
 	@Override
 	public KanbanJiraIssue convertToKanbanJiraIssue(
@@ -151,7 +148,7 @@ public class KanbanJiraIssueProcessorImpl implements KanbanJiraIssueProcessor {
 			setProjectSpecificDetails(projectConfig, jiraIssue, issue);
 
 			// Set additional filters
-			setAdditionalFilters(jiraIssue, issue, projectConfig);
+			setAdditionalFilters(jiraIssue, issue, fields, projectConfig);
 
 			setStoryLinkWithDefect(issue, jiraIssue);
 
@@ -186,11 +183,16 @@ public class KanbanJiraIssueProcessorImpl implements KanbanJiraIssueProcessor {
 	private KanbanJiraIssue getKanbanJiraIssue(
 			ProjectConfFieldMapping projectConfig, String issueId) {
 		String basicProjectConfigId = projectConfig.getBasicProjectConfigId().toString();
-		KanbanJiraIssue jiraIssue =
-				kanbanJiraIssueRepository.findByIssueIdAndBasicProjectConfigId(
-						StringEscapeUtils.escapeHtml4(issueId), basicProjectConfigId);
-
-		return jiraIssue != null ? jiraIssue : new KanbanJiraIssue();
+		String escapedIssueId = StringEscapeUtils.escapeHtml4(issueId);
+		return jiraIssueChunkCache
+				.getKanbanJiraIssue(basicProjectConfigId, escapedIssueId)
+				.orElseGet(
+						() -> {
+							KanbanJiraIssue jiraIssue =
+									kanbanJiraIssueRepository.findByIssueIdAndBasicProjectConfigId(
+											escapedIssueId, basicProjectConfigId);
+							return jiraIssue != null ? jiraIssue : new KanbanJiraIssue();
+						});
 	}
 
 	private void setJiraAssigneeDetails(
@@ -258,43 +260,7 @@ public class KanbanJiraIssueProcessorImpl implements KanbanJiraIssueProcessor {
 	}
 
 	private String setAssigneeName(String assigneeId, String basicProjectConfigId) {
-		String assigneeName = JiraConstants.USER + JiraConstants.SPACE + 1;
-		if (null == assigneeDetails
-				|| !assigneeDetails.getBasicProjectConfigId().equalsIgnoreCase(basicProjectConfigId)) {
-			assigneeDetails =
-					assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
-							basicProjectConfigId, ProcessorConstants.JIRA);
-		}
-		Set<Assignee> assigneeSetToSave = new LinkedHashSet<>();
-		if (assigneeDetails == null) {
-			assigneeDetails = new AssigneeDetails();
-			assigneeDetails.setBasicProjectConfigId(basicProjectConfigId);
-			assigneeDetails.setSource(ProcessorConstants.JIRA);
-			assigneeSetToSave.add(new Assignee(assigneeId, assigneeName));
-			assigneeDetails.setAssignee(assigneeSetToSave);
-			assigneeDetails.setAssigneeSequence(2);
-		} else {
-			Assignee assignee =
-					assigneeDetails.getAssignee().stream()
-							.filter(Assignee -> assigneeId.equals(Assignee.getAssigneeId()))
-							.findAny()
-							.orElse(null);
-			if (null == assignee) {
-				assigneeName =
-						JiraConstants.USER + JiraConstants.SPACE + assigneeDetails.getAssigneeSequence();
-				assigneeDetails.setAssigneeSequence(assigneeDetails.getAssigneeSequence() + 1);
-				// this set is created so that there is no need to fetch
-				// assigneeDetails again and same assignee can be checked
-				// only with existing assigneeDetails object
-				Set<Assignee> newAssignee = new HashSet<>();
-				newAssignee.add(new Assignee(assigneeId, assigneeName));
-				assigneeDetails.getAssignee().addAll(newAssignee);
-
-			} else {
-				assigneeName = assignee.getAssigneeName();
-			}
-		}
-		return assigneeName;
+		return projectAssigneeCache.getAnonymisedName(basicProjectConfigId, assigneeId);
 	}
 
 	private void setEpicLinked(
@@ -350,9 +316,12 @@ public class KanbanJiraIssueProcessorImpl implements KanbanJiraIssueProcessor {
 	}
 
 	private void setAdditionalFilters(
-			KanbanJiraIssue jiraIssue, Issue issue, ProjectConfFieldMapping projectConfig) {
+			KanbanJiraIssue jiraIssue,
+			Issue issue,
+			Map<String, IssueField> fields,
+			ProjectConfFieldMapping projectConfig) {
 		List<AdditionalFilter> additionalFilter =
-				additionalFilterHelper.getAdditionalFilter(issue, projectConfig);
+				additionalFilterHelper.getAdditionalFilter(issue, fields, projectConfig);
 		jiraIssue.setAdditionalFilters(additionalFilter);
 	}
 
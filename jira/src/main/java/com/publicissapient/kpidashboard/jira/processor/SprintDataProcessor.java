@@ -24,6 +24,7 @@ import org.bson.types.ObjectId;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 /**
@@ -38,7 +39,24 @@ public interface SprintDataProcessor {
 	 * @return Set of SprintDetails
 	 * @throws IOException throws io exception
 	 */
-	Set<SprintDetails> processSprintData(
+	default Set<SprintDetails> processSprintData(
 			Issue issue, ProjectConfFieldMapping projectConfig, String boardId, ObjectId processorId)
+			throws IOException {
+		return processSprintData(DecodedIssue.of(issue), projectConfig, boardId, processorId);
+	}
+
+	/**
+	 * @param issue decoded issue
+	 * @param projectConfig projectConfig
+	 * @param boardId boardId
+	 * @param processorId
+	 * @return Set of SprintDetails
+	 * @throws IOException throws io exception
+	 */
+	Set<SprintDetails> processSprintData(
+			DecodedIssue issue,
+			ProjectConfFieldMapping projectConfig,
+			String boardId,
+			ObjectId processorId)
 			throws IOException;
 }
@@ -21,28 +21,22 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
 import org.codehaus.jettison.json.JSONException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.atlassian.jira.rest.client.api.domain.Issue;
-import com.atlassian.jira.rest.client.api.domain.IssueField;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
 import com.publicissapient.kpidashboard.common.constant.CommonConstant;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
-import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.service.FetchSprintReport;
 import com.publicissapient.kpidashboard.jira.service.JiraClientService;
-import com.publicissapient.kpidashboard.jira.util.JiraIssueClientUtil;
-import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,33 +53,30 @@ public class SprintDataProcessorImpl implements SprintDataProcessor {
 
 	@Override
 	public Set<SprintDetails> processSprintData(
-			Issue issue, ProjectConfFieldMapping projectConfig, String boardId, ObjectId processorId)
+			DecodedIssue issue,
+			ProjectConfFieldMapping projectConfig,
+			String boardId,
+			ObjectId processorId)
 			throws IOException {
 		log.info("creating sprint report for the project : {}", projectConfig.getProjectName());
 		Set<SprintDetails> sprintDetailsSet = new HashSet<>();
 		FieldMapping fieldMapping = projectConfig.getFieldMapping();
 		String projectNodeId = projectConfig.getProjectBasicConfig().getProjectNodeId();
-		Map<String, IssueField> fields = JiraIssueClientUtil.buildFieldMap(issue.getFields());
-		IssueField sprintField = fields.get(fieldMapping.getSprintName());
-		if (null != sprintField
-				&& null != sprintField.getValue()
-				&& !JiraConstants.EMPTY_STR.equals(sprintField.getValue())) {
-			Object sValue = sprintField.getValue();
-			try {
-				List<SprintDetails> sprints = JiraProcessorUtil.processSprintDetail(sValue);
-				if (CollectionUtils.isNotEmpty(sprints)) {
-					for (SprintDetails sprint : sprints) {
-						sprint.setSprintID(
-								sprint.getOriginalSprintId()
-										+ CommonConstant.ADDITIONAL_FILTER_VALUE_ID_SEPARATOR
-										+ projectNodeId);
-						sprint.setBasicProjectConfigId(projectConfig.getBasicProjectConfigId());
-					}
-					sprintDetailsSet.addAll(sprints);
-				}
-			} catch (ParseException | JSONException e) {
-				log.error("JIRA Processor | Failed to obtain sprint data from {} {}", sValue, e);
+		try {
+			List<SprintDetails> sprints = issue.getSprints(fieldMapping.getSprintName());
+			for (SprintDetails sprint : sprints) {
+				sprint.setSprintID(
+						sprint.getOriginalSprintId()
+								+ CommonConstant.ADDITIONAL_FILTER_VALUE_ID_SEPARATOR
+								+ projectNodeId);
+				sprint.setBasicProjectConfigId(projectConfig.getBasicProjectConfigId());
 			}
+			sprintDetailsSet.addAll(sprints);
+		} catch (ParseException | JSONException e) {
+			log.error(
+					"JIRA Processor | Failed to obtain sprint data from {} {}",
+					issue.getField(fieldMapping.getSprintName()).getValue(),
+					e);
 		}
 		KerberosClient krb5Client =
 				jiraClientService.getKerberosClientMap(projectConfig.getBasicProjectConfigId().toString());
@@ -18,6 +18,7 @@
 package com.publicissapient.kpidashboard.jira.reader;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -28,7 +29,9 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.bson.types.ObjectId;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
 import org.springframework.batch.item.NonTransientResourceException;
 import org.springframework.batch.item.ParseException;
 import org.springframework.batch.item.UnexpectedInputException;
@@ -54,17 +57,22 @@ import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
 import com.publicissapient.kpidashboard.jira.service.FetchEpicData;
 import com.publicissapient.kpidashboard.jira.service.JiraClientService;
 import com.publicissapient.kpidashboard.jira.service.JiraCommonService;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.util.StringUtils;
 
 /**
+ * Reads the issues of the boards of a project, board after board. The board being read and the
+ * change date of its last committed issue are kept in the step execution context, so that a
+ * restarted step skips the boards already read and resumes the board it stopped in.
+ *
  * @author pankumar8
  */
 @Slf4j
 @Component
 @StepScope
-public class IssueBoardReader implements ItemReader<ReadData> {
+public class IssueBoardReader implements ItemReader<ReadData>, ItemStream {
 
 	private static final String NOBOARD_MSG = "noBoard";
 	@Autowired FetchProjectConfiguration fetchProjectConfiguration;
@@ -94,6 +102,12 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 	@Value("#{jobParameters['processorId']}")
 	private String processorId;
 
+	private int boardIndex = -1;
+	private int resumeBoardIndex;
+	private String resumeFrom;
+	private String lastChangeDate;
+	private int pageIssuesRead;
+
 	public void initializeReader(String projectId) {
 		pageSize = jiraProcessorConfig.getPageSize();
 		projectConfFieldMapping = fetchProjectConfiguration.fetchConfiguration(projectId);
@@ -121,6 +135,7 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 					&& CollectionUtils.isNotEmpty(
 							projectConfFieldMapping.getProjectToolConfig().getBoards())) {
 				boardIterator = projectConfFieldMapping.getProjectToolConfig().getBoards().iterator();
+				skipReadBoards();
 			}
 			if (checkIssueIterator()) {
 				List<Issue> epicIssues;
@@ -129,6 +144,10 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 					if (boardIterator.hasNext()) {
 						BoardDetails boardDetails = boardIterator.next();
 						boardId = boardDetails.getBoardId();
+						if (++boardIndex != resumeBoardIndex) {
+							resumeFrom = null;
+							lastChangeDate = null;
+						}
 						fetchIssues(client);
 						epicIssues = fetchEpics(krb5Client, client);
 						if (org.apache.commons.collections4.CollectionUtils.isNotEmpty(epicIssues)) {
@@ -141,6 +160,7 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 
 				if (CollectionUtils.isNotEmpty(issues)) {
 					issueIterator = issues.iterator();
+					pageIssuesRead = 0;
 				}
 			}
 			if (null != issueIterator && issueIterator.hasNext()) {
@@ -151,6 +171,12 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 				readData.setBoardId(boardId);
 				readData.setSprintFetch(false);
 				readData.setProcessorId(new ObjectId(processorId));
+				// epics are added after the issues of the first page and are not ordered with them
+				if (++pageIssuesRead <= boardIssueSize) {
+					lastChangeDate =
+							JiraProcessorUtil.getFormattedDate(
+									JiraProcessorUtil.deodeUTF8String(issue.getUpdateDate()));
+				}
 			}
 
 			if ((null == projectConfFieldMapping)
@@ -164,6 +190,13 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 		return readData;
 	}
 
+	private void skipReadBoards() {
+		while (boardIndex + 1 < resumeBoardIndex && boardIterator.hasNext()) {
+			log.info("Skipping board {} already read", boardIterator.next().getBoardId());
+			boardIndex++;
+		}
+	}
+
 	private String getProjectName() {
 		return projectConfFieldMapping == null ? "" : projectConfFieldMapping.getProjectName();
 	}
@@ -186,11 +219,16 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 							boardId,
 							pageNumber / pageSize);
 
-					String deltaDate = getDeltaDateFromTraceLog();
-
-					issues =
-							jiraCommonService.fetchIssueBasedOnBoard(
-									projectConfFieldMapping, client, pageNumber, boardId, deltaDate);
+					if (null != resumeFrom) {
+						issues =
+								jiraCommonService.fetchIssueBasedOnBoardWindow(
+										projectConfFieldMapping, client, pageNumber, boardId, resumeFrom);
+					} else {
+						String deltaDate = getDeltaDateFromTraceLog();
+						issues =
+								jiraCommonService.fetchIssueBasedOnBoard(
+										projectConfFieldMapping, client, pageNumber, boardId, deltaDate);
+					}
 					boardIssueSize = issues.size();
 					pageNumber += pageSize;
 					return null;
@@ -210,6 +248,41 @@ public class IssueBoardReader implements ItemReader<ReadData> {
 		}
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) {
+		if (!executionContext.containsKey(JiraConstants.READER_BOARD_INDEX)) {
+			return;
+		}
+		resumeBoardIndex = executionContext.getInt(JiraConstants.READER_BOARD_INDEX);
+		if (executionContext.containsKey(JiraConstants.READER_BOARD_LAST_CHANGE_DATE)) {
+			lastChangeDate = executionContext.getString(JiraConstants.READER_BOARD_LAST_CHANGE_DATE);
+			resumeFrom =
+					DateUtil.dateTimeFormatter(
+							LocalDateTime.parse(
+									lastChangeDate,
+									DateTimeFormatter.ofPattern(JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT)),
+							JiraConstants.QUERYDATEFORMAT);
+		}
+		log.info(
+				"Resuming issue fetch of project {} from board no {} at {}",
+				projectId,
+				resumeBoardIndex,
+				lastChangeDate);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		if (boardIndex < 0) {
+			return;
+		}
+		executionContext.putInt(JiraConstants.READER_BOARD_INDEX, boardIndex);
+		if (null == lastChangeDate) {
+			executionContext.remove(JiraConstants.READER_BOARD_LAST_CHANGE_DATE);
+		} else {
+			executionContext.putString(JiraConstants.READER_BOARD_LAST_CHANGE_DATE, lastChangeDate);
+		}
+	}
+
 	private String getDeltaDateFromTraceLog() {
 		String deltaDate =
 				DateUtil.dateTimeFormatter(
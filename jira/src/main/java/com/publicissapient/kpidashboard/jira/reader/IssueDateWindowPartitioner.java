@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.reader;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Splits the JQL issue fetch of the project of the job into consecutive updated date windows, from
+ * the last successful run of the project up to now. The last window is left open ended so that the
+ * issues updated while the job is running are fetched as well.
+ */
+@Slf4j
+@Component
+@StepScope
+public class IssueDateWindowPartitioner implements Partitioner {
+
+	private static final String PARTITION = "partition";
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+
+	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+
+	@Value("#{jobParameters['projectId']}")
+	private String projectId;
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		LocalDateTime start = getFetchStartDate().truncatedTo(ChronoUnit.MINUTES);
+		LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+		long days = Math.max(1, Duration.between(start, end).toDays());
+		int partitionCount = (int) Math.min(Math.max(1, gridSize), days);
+		Duration windowLength = Duration.between(start, end).dividedBy(partitionCount);
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		for (int index = 0; index < partitionCount; index++) {
+			LocalDateTime windowStart = start.plus(windowLength.multipliedBy(index));
+			ExecutionContext executionContext = new ExecutionContext();
+			executionContext.putInt(JiraConstants.PARTITION_INDEX, index);
+			executionContext.putString(
+					JiraConstants.PARTITION_WINDOW_START,
+					DateUtil.dateTimeFormatter(windowStart, JiraConstants.QUERYDATEFORMAT));
+			if (index < partitionCount - 1) {
+				executionContext.putString(
+						JiraConstants.PARTITION_WINDOW_END,
+						DateUtil.dateTimeFormatter(
+								start.plus(windowLength.multipliedBy(index + 1L)), JiraConstants.QUERYDATEFORMAT));
+			}
+			partitions.put(PARTITION + index, executionContext);
+		}
+		log.info(
+				"Issue fetch of project {} split into {} windows starting from {}",
+				projectId,
+				partitionCount,
+				start);
+		return partitions;
+	}
+
+	private LocalDateTime getFetchStartDate() {
+		String deltaDate =
+				DateUtil.dateTimeFormatter(
+						LocalDateTime.now().minusMonths(jiraProcessorConfig.getPrevMonthCountToFetchData()),
+						JiraConstants.QUERYDATEFORMAT);
+		List<ProcessorExecutionTraceLog> procExecTraceLogs =
+				processorExecutionTraceLogRepo
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								JiraConstants.JIRA, projectId);
+		if (CollectionUtils.isNotEmpty(procExecTraceLogs)) {
+			String lastSuccessfulRun =
+					procExecTraceLogs.get(procExecTraceLogs.size() - 1).getLastSuccessfulRun();
+			if (StringUtils.isNotBlank(lastSuccessfulRun)) {
+				deltaDate = lastSuccessfulRun;
+			}
+		}
+		return DateUtil.stringToLocalDateTime(deltaDate, JiraConstants.QUERYDATEFORMAT)
+				.minusDays(jiraProcessorConfig.getDaysToReduce());
+	}
+}
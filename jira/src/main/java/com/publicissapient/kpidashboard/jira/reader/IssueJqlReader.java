@@ -18,6 +18,7 @@
 package com.publicissapient.kpidashboard.jira.reader;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -28,7 +29,9 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.bson.types.ObjectId;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
 import org.springframework.batch.item.NonTransientResourceException;
 import org.springframework.batch.item.ParseException;
 import org.springframework.batch.item.UnexpectedInputException;
@@ -45,22 +48,32 @@ import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.helper.IssuePagePrefetcher;
 import com.publicissapient.kpidashboard.jira.helper.ReaderRetryHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
 import com.publicissapient.kpidashboard.jira.service.JiraClientService;
 import com.publicissapient.kpidashboard.jira.service.JiraCommonService;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import lombok.extern.slf4j.Slf4j;
 import net.logstash.logback.util.StringUtils;
 
 /**
+ * Reads the issues of a project with JQL configuration. When the step is a partition of {@link
+ * IssueDateWindowPartitioner}, only the issues updated within the window of the partition are read.
+ * The change date of the last committed issue is kept in the step execution context, so that a
+ * restarted step or partition resumes from it instead of reading the project again.
+ *
+ * <p>When issue prefetching is enabled, the next pages are fetched by {@link IssuePagePrefetcher}
+ * while the issues already read are processed and written.
+ *
  * @author pankumar8
  */
 @Slf4j
 @Component
 @StepScope
-public class IssueJqlReader implements ItemReader<ReadData> {
+public class IssueJqlReader implements ItemReader<ReadData>, ItemStream {
 
 	@Autowired FetchProjectConfiguration fetchProjectConfiguration;
 
@@ -87,6 +100,20 @@ public class IssueJqlReader implements ItemReader<ReadData> {
 	@Value("#{jobParameters['processorId']}")
 	private String processorId;
 
+	@Value("#{stepExecutionContext['windowStart']}")
+	private String windowStart;
+
+	@Value("#{stepExecutionContext['windowEnd']}")
+	private String windowEnd;
+
+	private String lastChangeDate;
+
+	private String resumeFrom;
+
+	@Autowired private IssuePagePrefetcher issuePagePrefetcher;
+
+	private IssuePagePrefetcher.PagePipeline pagePipeline;
+
 	public void initializeReader(String projectId) {
 		log.info("**** Jira Issue fetch started * * *");
 		pageSize = jiraProcessorConfig.getPageSize();
@@ -126,6 +153,9 @@ public class IssueJqlReader implements ItemReader<ReadData> {
 				readData.setProjectConfFieldMapping(projectConfFieldMapping);
 				readData.setSprintFetch(false);
 				readData.setProcessorId(new ObjectId(processorId));
+				lastChangeDate =
+						JiraProcessorUtil.getFormattedDate(
+								JiraProcessorUtil.deodeUTF8String(issue.getUpdateDate()));
 			}
 
 			if (null == issueIterator || (!issueIterator.hasNext() && issueSize < pageSize)) {
@@ -145,34 +175,95 @@ public class IssueJqlReader implements ItemReader<ReadData> {
 
 	@TrackExecutionTime
 	private void fetchIssues(ProcessorJiraRestClient client) throws Exception {
+		int pagesAhead = jiraProcessorConfig.getIssuePrefetchPageCount();
+		if (pagesAhead > 0) {
+			if (null == pagePipeline) {
+				pagePipeline =
+						issuePagePrefetcher.start(
+								pageStart -> fetchPage(client, pageStart), pageNumber, pageSize, pagesAhead);
+			}
+			issues = pagePipeline.nextPage();
+		} else {
+			issues = fetchPage(client, pageNumber);
+		}
+		issueSize = issues.size();
+		pageNumber += pageSize;
+	}
 
-		ReaderRetryHelper.RetryableOperation<Void> retryableOperation =
+	private List<Issue> fetchPage(ProcessorJiraRestClient client, int pageStart) throws Exception {
+
+		ReaderRetryHelper.RetryableOperation<List<Issue>> retryableOperation =
 				() -> {
 					log.info(
 							"Reading issues for project : {}, page No : {}",
 							projectConfFieldMapping.getProjectName(),
-							pageNumber / pageSize);
-					String deltaDate = getDeltaDateFromTraceLog();
-					issues =
-							jiraCommonService.fetchIssuesBasedOnJql(
-									projectConfFieldMapping, client, pageNumber, deltaDate);
-					issueSize = issues.size();
-					pageNumber += pageSize;
-					return null;
+							pageStart / pageSize);
+					if (null == windowStart && null != resumeFrom) {
+						return jiraCommonService.fetchIssuesBasedOnJqlWindow(
+								projectConfFieldMapping, client, pageStart, resumeFrom, null);
+					}
+					if (null == windowStart) {
+						String deltaDate = getDeltaDateFromTraceLog();
+						return jiraCommonService.fetchIssuesBasedOnJql(
+								projectConfFieldMapping, client, pageStart, deltaDate);
+					}
+					return jiraCommonService.fetchIssuesBasedOnJqlWindow(
+							projectConfFieldMapping, client, pageStart, windowStart, windowEnd);
 				};
 
 		try {
-			retryHelper.executeWithRetry(retryableOperation);
+			return retryHelper.executeWithRetry(retryableOperation);
 		} catch (Exception e) {
 			log.error(
 					"Exception while fetching issues for project: {}, page No: {}",
 					projectConfFieldMapping.getProjectName(),
-					pageNumber / pageSize);
+					pageStart / pageSize);
 			log.error("All retries attempts are failed");
 			throw e;
 		}
 	}
 
+	@Override
+	public void open(ExecutionContext executionContext) {
+		if (!executionContext.containsKey(JiraConstants.PARTITION_LAST_CHANGE_DATE)) {
+			return;
+		}
+		lastChangeDate = executionContext.getString(JiraConstants.PARTITION_LAST_CHANGE_DATE);
+		String resumeDate =
+				DateUtil.dateTimeFormatter(
+						LocalDateTime.parse(
+								lastChangeDate,
+								DateTimeFormatter.ofPattern(JiraConstants.JIRA_ISSUE_CHANGE_DATE_FORMAT)),
+						JiraConstants.QUERYDATEFORMAT);
+		if (null != windowStart) {
+			log.info(
+					"Resuming window {} - {} of project {} from {}",
+					windowStart,
+					windowEnd,
+					projectId,
+					lastChangeDate);
+			windowStart = resumeDate;
+		} else {
+			log.info("Resuming issue fetch of project {} from {}", projectId, lastChangeDate);
+			resumeFrom = resumeDate;
+		}
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		if (null != lastChangeDate) {
+			executionContext.putString(JiraConstants.PARTITION_LAST_CHANGE_DATE, lastChangeDate);
+		}
+	}
+
+	@Override
+	public void close() {
+		if (null != pagePipeline) {
+			pagePipeline.close();
+			pagePipeline = null;
+		}
+	}
+
 	private String getDeltaDateFromTraceLog() {
 		String deltaDate =
 				DateUtil.dateTimeFormatter(
@@ -21,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.bson.types.ObjectId;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
@@ -36,7 +35,6 @@ import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.jira.aspect.TrackExecutionTime;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
-import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.helper.ReaderRetryHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
@@ -46,6 +44,9 @@ import com.publicissapient.kpidashboard.jira.service.JiraClientService;
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * Reads the issues of a sprint being refreshed. All the issues of the sprint are fetched at once,
+ * the batches of issue keys being fetched concurrently by {@link FetchIssueSprint}.
+ *
  * @author purgupta2
  */
 @Slf4j
@@ -57,13 +58,8 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 
 	@Autowired JiraClientService jiraClientService;
 
-	@Autowired JiraProcessorConfig jiraProcessorConfig;
-
 	@Autowired FetchIssueSprint fetchIssueSprint;
-	int pageSize = 50;
-	int pageNumber = 0;
 	List<Issue> issues = new ArrayList<>();
-	int issueSize = 0;
 	private Iterator<Issue> issueIterator;
 	ProjectConfFieldMapping projectConfFieldMapping;
 
@@ -78,7 +74,6 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 
 	public void initializeReader(String sprintId) {
 		log.info("**** Jira Issue fetch started * * *");
-		pageSize = jiraProcessorConfig.getPageSize();
 		projectConfFieldMapping = fetchProjectConfiguration.fetchConfigurationBasedOnSprintId(sprintId);
 		retryHelper = new ReaderRetryHelper();
 		client = jiraClientService.getRestClientMap(sprintId);
@@ -95,15 +90,10 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 		ReadData readData = null;
 		if (null != projectConfFieldMapping) {
 			if (null == issueIterator) {
-				pageNumber = 0;
-				fetchIssues(client);
-			}
-
-			if (null != issueIterator && !issueIterator.hasNext()) {
 				fetchIssues(client);
 			}
 
-			if (null != issueIterator && issueIterator.hasNext()) {
+			if (issueIterator.hasNext()) {
 				Issue issue = issueIterator.next();
 				readData = new ReadData();
 				readData.setIssue(issue);
@@ -112,10 +102,9 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 				readData.setProcessorId(new ObjectId(processorId));
 			}
 
-			if (null == issueIterator || (!issueIterator.hasNext() && issueSize < pageSize)) {
+			if (null == readData) {
 				log.info(
 						"Data has been fetched for the project : {}", projectConfFieldMapping.getProjectName());
-				readData = null;
 			}
 		}
 
@@ -127,17 +116,11 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 		ReaderRetryHelper.RetryableOperation<Void> retryableOperation =
 				() -> {
 					log.info(
-							"Reading issues for project : {}, page No : {}",
+							"Reading issues for project : {}, sprint : {}",
 							projectConfFieldMapping.getProjectName(),
-							pageNumber / pageSize);
-					issues =
-							fetchIssueSprint.fetchIssuesSprintBasedOnJql(
-									projectConfFieldMapping, client, pageNumber, sprintId);
-					issueSize = issues.size();
-					pageNumber += pageSize;
-					if (CollectionUtils.isNotEmpty(issues)) {
-						issueIterator = issues.iterator();
-					}
+							sprintId);
+					issues = fetchIssueSprint.fetchSprintIssues(projectConfFieldMapping, client, sprintId);
+					issueIterator = issues.iterator();
 					return null;
 				};
 
@@ -145,9 +128,9 @@ public class IssueSprintReader implements ItemReader<ReadData> {
 			retryHelper.executeWithRetry(retryableOperation);
 		} catch (Exception e) {
 			log.error(
-					"Exception while fetching issues for project: {}, page No: {}",
+					"Exception while fetching issues for project: {}, sprint: {}",
 					projectConfFieldMapping.getProjectName(),
-					pageNumber / pageSize);
+					sprintId);
 			log.error("All retries attempts are failed");
 			throw e;
 		}
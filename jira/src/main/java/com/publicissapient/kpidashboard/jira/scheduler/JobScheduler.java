@@ -19,14 +19,11 @@ package com.publicissapient.kpidashboard.jira.scheduler;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.bson.types.ObjectId;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
@@ -37,7 +34,6 @@ import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
-import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,14 +44,11 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class JobScheduler {
 
-	private static final String NUMBER_OF_PROCESSOR_AVAILABLE_MSG =
-			"Total number of processor available : {} = number or projects run in parallel";
 	private static final String PROJECT_ID = "projectId";
 	private static final String CURRENTTIME = "currentTime";
 	private static final String IS_SCHEDULER = "isScheduler";
 	private static final String VALUE = "true";
 	private static final String PROCESSOR_ID = "processorId";
-	@Autowired JobLauncher jobLauncher;
 
 	@Qualifier("fetchIssueScrumBoardJob")
 	@Autowired
@@ -74,7 +67,7 @@ public class JobScheduler {
 	Job fetchIssueKanbanJqlJob;
 
 	@Autowired private FetchProjectConfiguration fetchProjectConfiguration;
-	@Autowired private OngoingExecutionsService ongoingExecutionsService;
+	@Autowired private ProjectJobQueue projectJobQueue;
 	@Autowired private JiraProcessorRepository jiraProcessorRepository;
 
 	/** This method is used to start scrum job setup with board */
@@ -87,30 +80,8 @@ public class JobScheduler {
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, false, false);
 		log.info("Scrum - Board Wise Projects : {}", scrumBoardbasicProjConfIds);
 		List<JobParameters> parameterSets = getDynamicParameterSets(scrumBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						final String projectId = params.getString(PROJECT_ID);
-						if (!ongoingExecutionsService.isExecutionInProgress(projectId)) {
-							try {
-								// making execution onGoing for project
-								ongoingExecutionsService.markExecutionInProgress(projectId);
-								jobLauncher.run(fetchIssueScrumBoardJob, params);
-							} catch (Exception e) {
-								log.info(
-										"Jira Scrum data for board fetch failed for BasicProjectConfigId : {}, with exception : {}",
-										projectId,
-										e);
-								ongoingExecutionsService.markExecutionAsCompleted(projectId);
-							}
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueScrumBoardJob, params, false, false));
 	}
 
 	/** This method is used to start scrum job setup with JQL */
@@ -123,30 +94,8 @@ public class JobScheduler {
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, true, false);
 
 		List<JobParameters> parameterSets = getDynamicParameterSets(scrumBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						final String projectId = params.getString(PROJECT_ID);
-						if (!ongoingExecutionsService.isExecutionInProgress(projectId)) {
-							try {
-								// making execution onGoing for project
-								ongoingExecutionsService.markExecutionInProgress(projectId);
-								jobLauncher.run(fetchIssueScrumJqlJob, params);
-							} catch (Exception e) {
-								log.info(
-										"Jira Scrum data for JQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
-										projectId,
-										e);
-								ongoingExecutionsService.markExecutionAsCompleted(projectId);
-							}
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueScrumJqlJob, params, false, false));
 	}
 
 	/** This method is used to start Kanban job setup with Board */
@@ -157,30 +106,8 @@ public class JobScheduler {
 		List<String> kanbanBoardbasicProjConfIds =
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, false, true);
 		List<JobParameters> parameterSets = getDynamicParameterSets(kanbanBoardbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						final String projectId = params.getString(PROJECT_ID);
-						if (!ongoingExecutionsService.isExecutionInProgress(projectId)) {
-							try {
-								// making execution onGoing for project
-								ongoingExecutionsService.markExecutionInProgress(projectId);
-								jobLauncher.run(fetchIssueKanbanBoardJob, params);
-							} catch (Exception e) {
-								log.info(
-										"Jira Kanban data for board fetch failed for BasicProjectConfigId : {}, with exception : {}",
-										projectId,
-										e);
-								ongoingExecutionsService.markExecutionAsCompleted(projectId);
-							}
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueKanbanBoardJob, params, true, false));
 	}
 
 	/** This method is used to start Kanban job setup with JQL */
@@ -193,30 +120,8 @@ public class JobScheduler {
 				fetchProjectConfiguration.fetchBasicProjConfId(JiraConstants.JIRA, true, true);
 
 		List<JobParameters> parameterSets = getDynamicParameterSets(kanbanJQLbasicProjConfIds);
-		log.info(NUMBER_OF_PROCESSOR_AVAILABLE_MSG, Runtime.getRuntime().availableProcessors());
-		ExecutorService executorService =
-				Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-		for (JobParameters params : parameterSets) {
-			executorService.submit(
-					() -> {
-						final String projectId = params.getString(PROJECT_ID);
-						if (!ongoingExecutionsService.isExecutionInProgress(projectId)) {
-							try {
-								// making execution onGoing for project
-								ongoingExecutionsService.markExecutionInProgress(projectId);
-								jobLauncher.run(fetchIssueKanbanJqlJob, params);
-							} catch (Exception e) {
-								log.info(
-										"Jira Kanban data for JQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
-										projectId,
-										e);
-								ongoingExecutionsService.markExecutionAsCompleted(projectId);
-							}
-						}
-					});
-		}
-		executorService.shutdown();
+		parameterSets.forEach(
+				params -> projectJobQueue.enqueue(fetchIssueKanbanJqlJob, params, true, false));
 	}
 
 	private List<JobParameters> getDynamicParameterSets(List<String> scrumBoardbasicProjConfIds) {
@@ -0,0 +1,354 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
+import com.publicissapient.kpidashboard.common.model.connection.Connection;
+import com.publicissapient.kpidashboard.common.repository.application.ProjectToolConfigRepository;
+import com.publicissapient.kpidashboard.common.repository.connection.ConnectionRepository;
+import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
+import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.service.JobRestartService;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the issue jobs of all the Jira projects on one long-lived pool. At most <code>
+ * jira.jobQueueConcurrency</code> projects run at once and, when set, at most <code>
+ * jira.jobQueuePerHostLimit</code> of them against the same Jira host name. The crons and the
+ * manual triggers only queue projects, so overlapping runs share the same budget instead of each
+ * starting a pool of its own.
+ *
+ * <p>A project is queued once: {@link OngoingExecutionsService} keeps it in progress from the time
+ * it is queued until its job listener marks it completed. Queued projects are launched manual
+ * triggers first, then projects whose last successful run is older than <code>
+ * jira.jobQueueStaleHours</code>, then the others; within the same priority larger projects go
+ * first. A project whose last run failed is resumed through {@link JobRestartService}.
+ *
+ * <p>The queue is reported as the <code>jira.job.queue.size</code> and <code>jira.job.queue.running
+ * </code> gauges, and the time a project waited as the <code>jira.job.queue.wait</code> timer
+ * tagged with its priority.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectJobQueue {
+
+	static final String QUEUE_SIZE_METRIC = "jira.job.queue.size";
+	static final String RUNNING_METRIC = "jira.job.queue.running";
+	static final String WAIT_METRIC = "jira.job.queue.wait";
+	private static final String PROJECT_ID = "projectId";
+	private static final String THREAD_PREFIX = "jira-project-job-";
+
+	private static final Comparator<QueuedJob> LAUNCH_ORDER =
+			Comparator.comparing(QueuedJob::priority)
+					.thenComparing(QueuedJob::size, Comparator.reverseOrder())
+					.thenComparingLong(QueuedJob::sequence);
+
+	/** Priorities of the queued projects, highest first. */
+	public enum Priority {
+		MANUAL,
+		STALE,
+		SCHEDULED
+	}
+
+	private final List<QueuedJob> queue = new ArrayList<>();
+	private final Map<String, Integer> runningPerHost = new HashMap<>();
+	private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+	private final AtomicLong sequence = new AtomicLong();
+	private int running;
+	private int concurrency;
+	private int perHostLimit;
+	private ExecutorService executorService;
+
+	private final JiraProcessorConfig jiraProcessorConfig;
+	private final OngoingExecutionsService ongoingExecutionsService;
+	private final ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	private final ProjectToolConfigRepository toolRepository;
+	private final ConnectionRepository connectionRepository;
+	private final JiraIssueRepository jiraIssueRepository;
+	private final KanbanJiraIssueRepository kanbanJiraIssueRepository;
+	private final JobLauncher jobLauncher;
+	private final JobRestartService jobRestartService;
+	private final MeterRegistry meterRegistry;
+
+	@PostConstruct
+	public void init() {
+		concurrency =
+				jiraProcessorConfig.getJobQueueConcurrency() > 0
+						? jiraProcessorConfig.getJobQueueConcurrency()
+						: Runtime.getRuntime().availableProcessors();
+		perHostLimit =
+				jiraProcessorConfig.getJobQueuePerHostLimit() > 0
+						? jiraProcessorConfig.getJobQueuePerHostLimit()
+						: Integer.MAX_VALUE;
+		executorService =
+				Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory(THREAD_PREFIX));
+		Gauge.builder(QUEUE_SIZE_METRIC, this, ProjectJobQueue::queueSize)
+				.description("Jira projects waiting for their issue job")
+				.register(meterRegistry);
+		Gauge.builder(RUNNING_METRIC, this, ProjectJobQueue::runningCount)
+				.description("Jira projects running their issue job")
+				.register(meterRegistry);
+		for (Priority priority : Priority.values()) {
+			waitTimers.put(
+					priority,
+					Timer.builder(WAIT_METRIC)
+							.description("Time a Jira project waited in the queue before its issue job started")
+							.tag("priority", priority.name().toLowerCase())
+							.publishPercentileHistogram()
+							.register(meterRegistry));
+		}
+		log.info(
+				"Jira project jobs run {} at once, at most {} per Jira host",
+				concurrency,
+				perHostLimit == Integer.MAX_VALUE ? "all" : perHostLimit);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		List<QueuedJob> dropped;
+		synchronized (this) {
+			dropped = new ArrayList<>(queue);
+			queue.clear();
+		}
+		dropped.forEach(queued -> ongoingExecutionsService.markExecutionAsCompleted(queued.projectId()));
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Queues the job of a project unless the project is already queued or running. A manual trigger
+	 * for a project that is still queued moves it to the front instead.
+	 *
+	 * @param job issue job of the project
+	 * @param params job parameters, holding the projectId
+	 * @param kanban whether the project is kanban
+	 * @param manual whether the run was triggered manually
+	 * @return true if the project is queued
+	 */
+	public boolean enqueue(Job job, JobParameters params, boolean kanban, boolean manual) {
+		String projectId = params.getString(PROJECT_ID);
+		if (!ongoingExecutionsService.markExecutionInProgressIfAbsent(projectId)) {
+			boolean promoted = manual && promote(projectId);
+			log.info(
+					"Jira project {} is already queued or running{}",
+					projectId,
+					promoted ? ", moved it to the front of the queue" : "");
+			return promoted;
+		}
+		QueuedJob queued;
+		try {
+			Priority priority = manual ? Priority.MANUAL : getPriority(projectId);
+			long size = manual ? 0L : getSize(projectId, kanban);
+			queued =
+					new QueuedJob(
+							projectId,
+							job,
+							params,
+							getHost(projectId),
+							priority,
+							size,
+							sequence.incrementAndGet(),
+							System.nanoTime());
+		} catch (RuntimeException e) {
+			ongoingExecutionsService.markExecutionAsCompleted(projectId);
+			throw e;
+		}
+		synchronized (this) {
+			queue.add(queued);
+		}
+		log.info(
+				"Queued Jira project {} with priority {} against {}",
+				projectId,
+				queued.priority(),
+				queued.host());
+		dispatch();
+		return true;
+	}
+
+	synchronized int queueSize() {
+		return queue.size();
+	}
+
+	synchronized int runningCount() {
+		return running;
+	}
+
+	private synchronized boolean promote(String projectId) {
+		for (int i = 0; i < queue.size(); i++) {
+			QueuedJob queued = queue.get(i);
+			if (queued.projectId().equals(projectId)) {
+				queue.set(i, queued.withPriority(Priority.MANUAL));
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void dispatch() {
+		List<QueuedJob> launched = new ArrayList<>();
+		synchronized (this) {
+			while (running < concurrency) {
+				Optional<QueuedJob> next =
+						queue.stream()
+								.filter(queued -> runningPerHost.getOrDefault(queued.host(), 0) < perHostLimit)
+								.min(LAUNCH_ORDER);
+				if (next.isEmpty()) {
+					break;
+				}
+				queue.remove(next.get());
+				running++;
+				runningPerHost.merge(next.get().host(), 1, Integer::sum);
+				launched.add(next.get());
+			}
+		}
+		for (QueuedJob queued : launched) {
+			try {
+				executorService.execute(() -> run(queued));
+			} catch (RejectedExecutionException e) {
+				log.error("Jira project job pool is shut down, dropping project {}", queued.projectId());
+				release(queued);
+				ongoingExecutionsService.markExecutionAsCompleted(queued.projectId());
+			}
+		}
+	}
+
+	private void run(QueuedJob queued) {
+		waitTimers
+				.get(queued.priority())
+				.record(System.nanoTime() - queued.queuedAt(), TimeUnit.NANOSECONDS);
+		try {
+			jobLauncher.run(
+					queued.job(),
+					jobRestartService.getLaunchParameters(queued.job().getName(), queued.params()));
+		} catch (Exception e) {
+			log.error(
+					"Jira fetch failed for BasicProjectConfigId : {}, with exception : {}",
+					queued.projectId(),
+					e);
+			ongoingExecutionsService.markExecutionAsCompleted(queued.projectId());
+		} finally {
+			release(queued);
+			dispatch();
+		}
+	}
+
+	private synchronized void release(QueuedJob queued) {
+		running--;
+		runningPerHost.computeIfPresent(queued.host(), (host, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private Priority getPriority(String projectId) {
+		List<ProcessorExecutionTraceLog> traceLogs =
+				processorExecutionTraceLogRepository
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								JiraConstants.JIRA, projectId);
+		if (CollectionUtils.isEmpty(traceLogs)) {
+			return Priority.STALE;
+		}
+		String lastSuccessfulRun = traceLogs.get(traceLogs.size() - 1).getLastSuccessfulRun();
+		if (StringUtils.isBlank(lastSuccessfulRun)) {
+			return Priority.STALE;
+		}
+		try {
+			LocalDateTime lastRun =
+					DateUtil.stringToLocalDateTime(lastSuccessfulRun, DateUtil.DATE_TIME_FORMAT);
+			return lastRun == null
+							|| lastRun.isBefore(
+									LocalDateTime.now().minusHours(jiraProcessorConfig.getJobQueueStaleHours()))
+					? Priority.STALE
+					: Priority.SCHEDULED;
+		} catch (RuntimeException e) {
+			log.warn("Unreadable last successful run {} of project {}", lastSuccessfulRun, projectId);
+			return Priority.STALE;
+		}
+	}
+
+	private long getSize(String projectId, boolean kanban) {
+		return kanban
+				? kanbanJiraIssueRepository.countByBasicProjectConfigIdAndExcludeTypeName(
+						projectId, JiraConstants.EPIC)
+				: jiraIssueRepository.countByBasicProjectConfigIdAndExcludeTypeName(
+						projectId, JiraConstants.EPIC);
+	}
+
+	private String getHost(String projectId) {
+		List<ProjectToolConfig> projectToolConfigs =
+				toolRepository.findByToolNameAndBasicProjectConfigId(
+						JiraConstants.JIRA, new ObjectId(projectId));
+		return Optional.ofNullable(projectToolConfigs).orElseGet(ArrayList::new).stream()
+				.findFirst()
+				.map(ProjectToolConfig::getConnectionId)
+				.flatMap(connectionRepository::findById)
+				.map(Connection::getBaseUrl)
+				.map(JiraProcessorUtil::getHost)
+				.orElse(StringUtils.EMPTY);
+	}
+
+	private record QueuedJob(
+			String projectId,
+			Job job,
+			JobParameters params,
+			String host,
+			Priority priority,
+			long size,
+			long sequence,
+			long queuedAt) {
+
+		QueuedJob withPriority(Priority newPriority) {
+			return new QueuedJob(
+					projectId, job, params, host, newPriority, size, sequence, queuedAt);
+		}
+	}
+}
@@ -28,10 +28,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
@@ -42,7 +40,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.codehaus.jettison.json.JSONException;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.stereotype.Service;
 
@@ -66,7 +63,6 @@ import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.parser.JiraSearchResponseParser;
 
-import io.atlassian.util.concurrent.Promise;
 import kong.unirest.HttpResponse;
 import kong.unirest.JsonNode;
 import kong.unirest.Unirest;
@@ -110,10 +106,10 @@ public class FetchEpicDataImpl implements FetchEpicData {
 				int startIndex = 0;
 				do {
 					URL url = getEpicUrl(projectConfig, boardId, startIndex);
-					String jsonResponse = jiraCommonService.getDataFromClient(projectConfig, url, krb5Client);
+					Object jsonResponse =
+							jiraCommonService.getParsedDataFromClient(projectConfig, url, krb5Client);
 					isLast = populateData(jsonResponse, epicList);
 					startIndex = epicList.size();
-					TimeUnit.MILLISECONDS.sleep(jiraProcessorConfig.getSubsequentApiCallDelayInMilli());
 				} while (!isLast);
 			}
 		} catch (RestClientException rce) {
@@ -122,12 +118,14 @@ public class FetchEpicDataImpl implements FetchEpicData {
 		} catch (MalformedURLException mfe) {
 			log.error("Malformed url for loading epic data", mfe);
 			throw mfe;
+		} catch (ParseException pe) {
+			log.error("Parser exception when parsing statuses", pe);
 		}
 
 		List<Issue> issues = new ArrayList<>();
 		try {
 			// Attempt fetching using REST client
-			issues = getEpicIssuesQuery(epicList, client);
+			issues = getEpicIssuesQuery(epicList, client, projectConfig);
 		} catch (RestClientException rce) {
 			Throwable cause = rce.getCause();
 			if (cause != null && cause.getMessage() != null && cause.getMessage().contains("410")) {
@@ -141,7 +139,10 @@ public class FetchEpicDataImpl implements FetchEpicData {
 		return issues;
 	}
 
-	private List<Issue> getEpicIssuesQuery(List<String> epicKeyList, ProcessorJiraRestClient client)
+	private List<Issue> getEpicIssuesQuery(
+			List<String> epicKeyList,
+			ProcessorJiraRestClient client,
+			ProjectConfFieldMapping projectConfig)
 			throws InterruptedException {
 
 		List<Issue> issueList = new ArrayList<>();
@@ -154,11 +155,14 @@ public class FetchEpicDataImpl implements FetchEpicData {
 				int fetchedEpic = 0;
 				boolean continueFlag = true;
 				do {
-					Promise<SearchResult> promise =
-							client
-									.getProcessorSearchClient()
-									.searchJql(query, jiraProcessorConfig.getPageSize(), pageStart, null);
-					searchResult = promise.claim();
+					int startAt = pageStart;
+					searchResult =
+							jiraCommonService.claimRateLimited(
+									projectConfig,
+									() ->
+											client
+													.getProcessorSearchClient()
+													.searchJql(query, jiraProcessorConfig.getPageSize(), startAt, null));
 					if (null != searchResult && null != searchResult.getIssues()) {
 						if (totalEpic == 0) {
 							totalEpic = searchResult.getTotal();
@@ -177,7 +181,6 @@ public class FetchEpicDataImpl implements FetchEpicData {
 					} else {
 						break;
 					}
-					TimeUnit.MILLISECONDS.sleep(jiraProcessorConfig.getSubsequentApiCallDelayInMilli());
 				} while (totalEpic < fetchedEpic || continueFlag);
 			}
 		} catch (RestClientException e) {
@@ -367,20 +370,12 @@ public class FetchEpicDataImpl implements FetchEpicData {
 		return new JiraSearchResponseParser().parse(jsonObject);
 	}
 
-	private boolean populateData(String sprintReportObj, List<String> epicList) {
+	private boolean populateData(Object sprintReportObj, List<String> epicList) {
 		boolean isLast = true;
-		if (StringUtils.isNotBlank(sprintReportObj)) {
-			JSONArray valuesJson = new JSONArray();
-			try {
-				JSONObject obj = (JSONObject) new JSONParser().parse(sprintReportObj);
-				if (null != obj) {
-					valuesJson = (JSONArray) obj.get("values");
-				}
-				getEpic(valuesJson, epicList);
-				isLast = Boolean.parseBoolean(Objects.requireNonNull(obj).get("isLast").toString());
-			} catch (ParseException pe) {
-				log.error("Parser exception when parsing statuses", pe);
-			}
+		if (null != sprintReportObj) {
+			JSONObject obj = (JSONObject) sprintReportObj;
+			getEpic((JSONArray) obj.get("values"), epicList);
+			isLast = Boolean.parseBoolean(obj.get("isLast").toString());
 		}
 		return isLast;
 	}
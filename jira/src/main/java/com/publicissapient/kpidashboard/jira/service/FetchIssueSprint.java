@@ -26,17 +26,15 @@ import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 public interface FetchIssueSprint {
 
 	/**
+	 * Fetches all the issues of a sprint at once, for the refresh of a sprint.
+	 *
 	 * @param projectConfig projectConfig
 	 * @param client client
-	 * @param pageNumber pageNumber
 	 * @param sprintId sprintId
 	 * @return List of Issue
 	 * @throws InterruptedException InterruptedException
 	 */
-	List<Issue> fetchIssuesSprintBasedOnJql(
-			ProjectConfFieldMapping projectConfig,
-			ProcessorJiraRestClient client,
-			int pageNumber,
-			String sprintId)
+	List<Issue> fetchSprintIssues(
+			ProjectConfFieldMapping projectConfig, ProcessorJiraRestClient client, String sprintId)
 			throws InterruptedException;
 }
@@ -29,14 +29,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import com.atlassian.jira.rest.client.api.RestClientException;
@@ -57,6 +66,8 @@ import com.publicissapient.kpidashboard.jira.helper.JiraHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -68,6 +79,9 @@ public class FetchIssueSprintImpl implements FetchIssueSprint {
 	public static final String DOLLAR_SYMBOL = "$";
 	private static final String MSG_JIRA_CLIENT_SETUP_FAILED =
 			"Jira client setup failed. No results obtained. Check your jira setup.";
+	private static final String SPRINT_ISSUE_THREAD = "jira-sprint-issue-";
+
+	private ExecutorService executorService;
 
 	@Autowired JiraProcessorConfig jiraProcessorConfig;
 	@Autowired private ProcessorToolConnectionService processorToolConnectionService;
@@ -77,23 +91,123 @@ public class FetchIssueSprintImpl implements FetchIssueSprint {
 
 	@Autowired JiraCommonService jiraCommonService;
 
+	@PostConstruct
+	public void init() {
+		executorService =
+				Executors.newFixedThreadPool(
+						Math.max(1, jiraProcessorConfig.getSprintIssueFetchThreads()),
+						new CustomizableThreadFactory(SPRINT_ISSUE_THREAD));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Fetches all the issues of a sprint. The issues to update are collected once, then fetched by
+	 * batches of a page of issue keys, the batches being independent of each other. The batches of
+	 * all the sprints being refreshed share a pool of <code>jira.sprintIssueFetchThreads</code>
+	 * threads. Calls to Jira stay rate limited per host.
+	 */
 	@Override
-	public List<Issue> fetchIssuesSprintBasedOnJql(
+	public List<Issue> fetchSprintIssues(
+			ProjectConfFieldMapping projectConfig, ProcessorJiraRestClient client, String sprintId)
+			throws InterruptedException {
+		if (client == null) {
+			log.error(MSG_JIRA_CLIENT_SETUP_FAILED);
+			return new ArrayList<>();
+		}
+		SprintDetails updatedSprintDetails = sprintRepository.findBySprintID(sprintId);
+		List<String> issuesToUpdate = getIssuesToUpdate(projectConfig, updatedSprintDetails);
+		if (CollectionUtils.isEmpty(issuesToUpdate)) {
+			log.info("No issuesToUpdate found in Sprint {}", updatedSprintDetails.getSprintName());
+			return new ArrayList<>();
+		}
+		List<List<String>> keyBatches =
+				ListUtils.partition(issuesToUpdate, Math.max(1, jiraProcessorConfig.getPageSize()));
+		List<Issue> issues = new ArrayList<>();
+		if (jiraProcessorConfig.getSprintIssueFetchThreads() <= 1 || keyBatches.size() <= 1) {
+			for (List<String> keyBatch : keyBatches) {
+				issues.addAll(fetchIssueBatch(projectConfig, client, keyBatch));
+			}
+			return issues;
+		}
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		StepExecution stepExecution = null == stepContext ? null : stepContext.getStepExecution();
+		List<Future<List<Issue>>> batches = new ArrayList<>();
+		try {
+			for (List<String> keyBatch : keyBatches) {
+				batches.add(
+						executorService.submit(
+								() -> fetchIssueBatch(projectConfig, client, keyBatch, stepExecution)));
+			}
+			for (Future<List<Issue>> batch : batches) {
+				issues.addAll(batch.get());
+			}
+			return issues;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof InterruptedException interruptedException) {
+				throw interruptedException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			batches.forEach(batch -> batch.cancel(true));
+		}
+	}
+
+	private List<Issue> fetchIssueBatch(
 			ProjectConfFieldMapping projectConfig,
 			ProcessorJiraRestClient client,
-			int pageNumber,
-			String sprintId)
+			List<String> issueKeys,
+			StepExecution stepExecution)
 			throws InterruptedException {
+		// progress of the search is saved in the context of the step the batch is fetched for
+		if (null != stepExecution) {
+			StepSynchronizationManager.register(stepExecution);
+		}
+		try {
+			return fetchIssueBatch(projectConfig, client, issueKeys);
+		} finally {
+			if (null != stepExecution) {
+				StepSynchronizationManager.close();
+			}
+		}
+	}
 
-		SprintDetails updatedSprintDetails = sprintRepository.findBySprintID(sprintId);
+	/** Fetches the issues of a batch of keys, in several pages when Jira caps the page size. */
+	private List<Issue> fetchIssueBatch(
+			ProjectConfFieldMapping projectConfig, ProcessorJiraRestClient client, List<String> issueKeys)
+			throws InterruptedException {
+		List<Issue> issues = new ArrayList<>();
+		SearchResult searchResult;
+		List<Issue> page;
+		do {
+			searchResult = getIssuesSprint(projectConfig, client, issues.size(), issueKeys);
+			page = JiraHelper.getIssuesFromResult(searchResult);
+			issues.addAll(page);
+		} while (!page.isEmpty()
+				&& issues.size() < Math.min(searchResult.getTotal(), issueKeys.size()));
+		return issues;
+	}
 
+	/**
+	 * Collects the keys of the issues of the sprint report, and of the defects linked to its
+	 * stories when subtasks are configured as bugs. Keys are sorted, so that pages of a search
+	 * over them are stable.
+	 */
+	private List<String> getIssuesToUpdate(
+			ProjectConfFieldMapping projectConfig, SprintDetails updatedSprintDetails) {
 		// collecting the jiraIssue & history of to be updated
 		Set<String> issuesToUpdate =
 				Optional.ofNullable(updatedSprintDetails.getTotalIssues())
 						.map(Collection::stream)
 						.orElse(Stream.empty())
 						.map(SprintIssue::getNumber)
-						.collect(Collectors.toSet());
+						.collect(Collectors.toCollection(TreeSet::new));
 
 		issuesToUpdate.addAll(
 				Optional.ofNullable(updatedSprintDetails.getPuntedIssues())
@@ -113,19 +227,7 @@ public class FetchIssueSprintImpl implements FetchIssueSprint {
 
 		// checking if subtask is configured as bug
 		getSubTaskAsBug(fieldMapping, updatedSprintDetails, issuesToUpdate);
-		List<Issue> issues = new ArrayList<>();
-		if (client == null) {
-			log.error(MSG_JIRA_CLIENT_SETUP_FAILED);
-		} else {
-			if (CollectionUtils.isNotEmpty(issuesToUpdate)) {
-				SearchResult searchResult =
-						getIssuesSprint(projectConfig, client, pageNumber, new ArrayList<>(issuesToUpdate));
-				issues = JiraHelper.getIssuesFromResult(searchResult);
-			} else {
-				log.info("No issuesToUpdate found in Sprint {}", updatedSprintDetails.getSprintName());
-			}
-		}
-		return issues;
+		return new ArrayList<>(issuesToUpdate);
 	}
 
 	public SearchResult getIssuesSprint(
@@ -179,7 +281,6 @@ public class FetchIssueSprintImpl implements FetchIssueSprint {
 											pageStart + jiraProcessorConfig.getPageSize() - 1, searchResult.getTotal()),
 									searchResult.getTotal()));
 				}
-				TimeUnit.MILLISECONDS.sleep(jiraProcessorConfig.getSubsequentApiCallDelayInMilli());
 			} catch (RestClientException e) {
 				log.error(ERROR_MSG_NO_RESULT_WAS_AVAILABLE, e);
 				throw e;
@@ -44,6 +44,7 @@ import com.publicissapient.kpidashboard.common.repository.application.KanbanAcco
 import com.publicissapient.kpidashboard.common.repository.application.ProjectReleaseRepo;
 import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.helper.ReleaseFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +59,7 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 	@Autowired private JiraCommonService jiraCommonService;
 	@Autowired private ProjectHierarchyService projectHierarchyService;
 	@Autowired private ProjectHierarchySyncService projectHierarchySyncService;
+	@Autowired private ReleaseFingerprintHelper releaseFingerprintHelper;
 
 	@Override
 	public void processReleaseInfo(ProjectConfFieldMapping projectConfig, KerberosClient krb5Client)
@@ -82,6 +84,17 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 		if (CollectionUtils.isNotEmpty(projectVersionList)) {
 			ProjectBasicConfig projectBasicConfig = confFieldMapping.getProjectBasicConfig();
 			if (null != projectBasicConfig.getProjectNodeId()) {
+				List<ProjectHierarchy> hierarchyForRelease =
+						createKanbanHierarchyForRelease(projectVersionList, projectBasicConfig);
+				String fingerprint =
+						releaseFingerprintHelper.getFingerprint(
+								projectBasicConfig, projectVersionList, hierarchyForRelease);
+				if (releaseFingerprintHelper.isUnchanged(projectBasicConfig.getId(), fingerprint)) {
+					log.info(
+							"Versions of project {} unchanged since the last run, skipping the release sync",
+							projectBasicConfig.getProjectName());
+					return;
+				}
 				ProjectRelease projectRelease =
 						projectReleaseRepo.findByConfigId(projectBasicConfig.getId());
 				projectRelease = projectRelease == null ? new ProjectRelease() : projectRelease;
@@ -89,8 +102,10 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 				projectRelease.setProjectName(projectBasicConfig.getProjectName());
 				projectRelease.setProjectId(projectBasicConfig.getProjectNodeId());
 				projectRelease.setConfigId(projectBasicConfig.getId());
-				saveKanbanAccountHierarchy(projectBasicConfig, projectRelease);
+				saveKanbanAccountHierarchy(projectBasicConfig, hierarchyForRelease);
 				projectReleaseRepo.save(projectRelease);
+				// stored once the release is written, a failed sync is done again on the next run
+				releaseFingerprintHelper.saveFingerprint(projectBasicConfig.getId(), fingerprint);
 			}
 			log.info(
 					"Version processed for project version{}",
@@ -99,14 +114,12 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 	}
 
 	private void saveKanbanAccountHierarchy(
-			ProjectBasicConfig projectConfig, ProjectRelease projectRelease) {
+			ProjectBasicConfig projectConfig, List<ProjectHierarchy> hierarchyForRelease) {
 		Map<String, ProjectHierarchy> existingHierarchy =
 				projectHierarchyService.getProjectHierarchyMapByConfigIdAndHierarchyLevelId(
 						projectConfig.getId().toString(), CommonConstant.HIERARCHY_LEVEL_ID_RELEASE);
 		Set<ProjectHierarchy> setToSave = new HashSet<>();
 
-		List<ProjectHierarchy> hierarchyForRelease =
-				createKanbanHierarchyForRelease(projectRelease, projectConfig);
 		if (CollectionUtils.isNotEmpty(hierarchyForRelease)) {
 			hierarchyForRelease.forEach(
 					hierarchy -> {
@@ -135,12 +148,12 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 	/**
 	 * create hierarchies for kanban
 	 *
-	 * @param projectRelease
+	 * @param projectVersions
 	 * @param projectBasicConfig
 	 * @return
 	 */
 	private List<ProjectHierarchy> createKanbanHierarchyForRelease(
-			ProjectRelease projectRelease, ProjectBasicConfig projectBasicConfig) {
+			List<ProjectVersion> projectVersions, ProjectBasicConfig projectBasicConfig) {
 		List<HierarchyLevel> hierarchyLevelList =
 				hierarchyLevelService.getFullHierarchyLevels(projectBasicConfig.isKanban());
 		Map<String, HierarchyLevel> hierarchyLevelsMap =
@@ -150,7 +163,7 @@ public class FetchKanbanReleaseDataImpl implements FetchKanbanReleaseData {
 				hierarchyLevelsMap.get(CommonConstant.HIERARCHY_LEVEL_ID_RELEASE);
 		List<ProjectHierarchy> accountHierarchies = new ArrayList<>();
 		try {
-			projectRelease.getListProjectVersion().stream()
+			projectVersions.stream()
 					.forEach(
 							projectVersion -> {
 								ProjectHierarchy releaseHierarchy = new ProjectHierarchy();
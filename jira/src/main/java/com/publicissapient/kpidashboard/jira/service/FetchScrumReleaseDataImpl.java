@@ -46,6 +46,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectRel
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
 import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.helper.ReleaseFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +61,7 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 	@Autowired private JiraCommonService jiraCommonService;
 	@Autowired private ProjectHierarchyService projectHierarchyService;
 	@Autowired private ProjectHierarchySyncService projectHierarchySyncService;
+	@Autowired private ReleaseFingerprintHelper releaseFingerprintHelper;
 
 	@Override
 	public void processReleaseInfo(ProjectConfFieldMapping projectConfig, KerberosClient krb5Client)
@@ -79,6 +81,17 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 		if (CollectionUtils.isNotEmpty(projectVersionList)) {
 			ProjectBasicConfig projectBasicConfig = confFieldMapping.getProjectBasicConfig();
 			if (null != projectBasicConfig.getProjectNodeId()) {
+				List<ProjectHierarchy> hierarchyForRelease =
+						createScrumHierarchyForRelease(projectVersionList, projectBasicConfig);
+				String fingerprint =
+						releaseFingerprintHelper.getFingerprint(
+								projectBasicConfig, projectVersionList, hierarchyForRelease);
+				if (releaseFingerprintHelper.isUnchanged(projectBasicConfig.getId(), fingerprint)) {
+					log.info(
+							"Versions of project {} unchanged since the last run, skipping the release sync",
+							projectBasicConfig.getProjectName());
+					return;
+				}
 				ProjectRelease projectRelease =
 						projectReleaseRepo.findByConfigId(projectBasicConfig.getId());
 				projectRelease = projectRelease == null ? new ProjectRelease() : projectRelease;
@@ -86,8 +99,10 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 				projectRelease.setProjectName(projectBasicConfig.getProjectName());
 				projectRelease.setProjectId(projectBasicConfig.getProjectNodeId());
 				projectRelease.setConfigId(projectBasicConfig.getId());
-				saveScrumAccountHierarchy(projectBasicConfig, projectRelease);
+				saveScrumAccountHierarchy(projectBasicConfig, hierarchyForRelease);
 				projectReleaseRepo.save(projectRelease);
+				// stored once the release is written, a failed sync is done again on the next run
+				releaseFingerprintHelper.saveFingerprint(projectBasicConfig.getId(), fingerprint);
 			}
 			log.debug(
 					"Version processed {}",
@@ -96,15 +111,13 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 	}
 
 	private void saveScrumAccountHierarchy(
-			ProjectBasicConfig projectConfig, ProjectRelease projectRelease) {
+			ProjectBasicConfig projectConfig, List<ProjectHierarchy> hierarchyForRelease) {
 
 		Map<String, ProjectHierarchy> existingHierarchy =
 				projectHierarchyService.getProjectHierarchyMapByConfigIdAndHierarchyLevelId(
 						projectConfig.getId().toString(), CommonConstant.HIERARCHY_LEVEL_ID_RELEASE);
 
 		Set<ProjectHierarchy> setToSave = new HashSet<>();
-		List<ProjectHierarchy> hierarchyForRelease =
-				createScrumHierarchyForRelease(projectRelease, projectConfig);
 		setToSaveAccountHierarchy(setToSave, hierarchyForRelease, existingHierarchy);
 		projectHierarchySyncService.syncReleaseHierarchy(projectConfig.getId(), hierarchyForRelease);
 		if (CollectionUtils.isNotEmpty(setToSave)) {
@@ -145,12 +158,12 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 	/**
 	 * create hierarchy for scrum
 	 *
-	 * @param projectRelease
+	 * @param projectVersions
 	 * @param projectBasicConfig
 	 * @return
 	 */
 	private List<ProjectHierarchy> createScrumHierarchyForRelease(
-			ProjectRelease projectRelease, ProjectBasicConfig projectBasicConfig) {
+			List<ProjectVersion> projectVersions, ProjectBasicConfig projectBasicConfig) {
 		log.info("Create Account Hierarchy");
 		List<HierarchyLevel> hierarchyLevelList =
 				hierarchyLevelService.getFullHierarchyLevels(projectBasicConfig.isKanban());
@@ -179,7 +192,7 @@ public class FetchScrumReleaseDataImpl implements FetchScrumReleaseData {
 		List<ProjectHierarchy> hierarchyArrayList = new ArrayList<>();
 		try {
 			// out of all the releases, fetching only those which are required
-			projectRelease.getListProjectVersion().stream()
+			projectVersions.stream()
 					.filter(projectVersion -> releaseVersions.contains(projectVersion.getName()))
 					.forEach(
 							projectVersion -> {
@@ -18,6 +18,7 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -28,7 +29,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,9 +43,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import com.atlassian.jira.rest.client.api.RestClientException;
@@ -59,6 +65,8 @@ import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
 import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -87,12 +95,30 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 	private static final String COMPLETEDATE = "completeDate";
 	private static final String ACTIVATEDDATE = "activatedDate";
 	private static final String GOAL = "goal";
+	private static final String SPRINT_REPORT_THREAD = "jira-sprint-report-";
+
+	private final Map<String, Semaphore> hostSprintReportPermits = new ConcurrentHashMap<>();
+	private ExecutorService executorService;
+
 	@Autowired private JiraProcessorConfig jiraProcessorConfig;
 	@Autowired private SprintRepository sprintRepository;
 	@Autowired private JiraCommonService jiraCommonService;
 	@Autowired private JiraProcessorRepository jiraProcessorRepository;
 	@Autowired private ProcessorToolConnectionService processorToolConnectionService;
 
+	@PostConstruct
+	public void init() {
+		executorService =
+				Executors.newFixedThreadPool(
+						Math.max(1, jiraProcessorConfig.getSprintReportFetchThreads()),
+						new CustomizableThreadFactory(SPRINT_REPORT_THREAD));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
 	@Override
 	public Set<SprintDetails> fetchSprints(
 			ProjectConfFieldMapping projectConfig,
@@ -102,6 +128,7 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			ObjectId jiraProcessorId)
 			throws IOException {
 		Set<SprintDetails> sprintToSave = new HashSet<>();
+		List<SprintReportRequest> reportRequests = new ArrayList<>();
 		if (CollectionUtils.isNotEmpty(sprintDetailsSet)) {
 			List<String> sprintIds = sprintDetailsSet.stream().map(SprintDetails::getSprintID).toList();
 			List<SprintDetails> dbSprints = sprintRepository.findBySprintIDIn(sprintIds);
@@ -149,26 +176,96 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 				}
 
 				if (fetchReport) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(jiraProcessorConfig.getSubsequentApiCallDelayInMilli());
-					} catch (InterruptedException e) {
-						Thread.currentThread().interrupt();
-						throw new RuntimeException(e);
-					}
-					getSprintReport(
-							sprint,
-							projectConfig,
-							boardId,
-							dbSprintDetailMap.get(sprint.getSprintID()),
-							krb5Client);
-					sprintToSave.add(sprint);
+					reportRequests.add(
+							new SprintReportRequest(
+									sprint, boardId, dbSprintDetailMap.get(sprint.getSprintID())));
 				}
 			}
 		}
+		fetchSprintReports(projectConfig, reportRequests, krb5Client);
+		reportRequests.forEach(request -> sprintToSave.add(request.sprint()));
 
 		return sprintToSave;
 	}
 
+	/**
+	 * Fetches the reports of the sprints on the pool shared by all the projects being processed.
+	 * Reports are independent, each one only updates its own sprint, and the calls to one Jira host
+	 * are capped across the projects. Failures are raised in the order of the sprints, as when
+	 * fetched one by one.
+	 *
+	 * <p>The kerberos client keeps the session cookies of its login and is not known to be safe for
+	 * concurrent requests, so the reports of a kerberos connection are fetched one by one.
+	 */
+	private void fetchSprintReports(
+			ProjectConfFieldMapping projectConfig,
+			List<SprintReportRequest> reportRequests,
+			KerberosClient krb5Client)
+			throws IOException {
+		int threads =
+				Math.min(jiraProcessorConfig.getSprintReportFetchThreads(), reportRequests.size());
+		if (threads <= 1 || null != krb5Client) {
+			for (SprintReportRequest request : reportRequests) {
+				getSprintReport(
+						request.sprint(), projectConfig, request.boardId(), request.dbSprint(), krb5Client);
+			}
+			return;
+		}
+		Semaphore hostPermits = getHostPermits(projectConfig);
+		List<Future<Void>> reports = new ArrayList<>();
+		try {
+			for (SprintReportRequest request : reportRequests) {
+				reports.add(
+						executorService.submit(
+								() -> {
+									hostPermits.acquire();
+									try {
+										getSprintReport(
+												request.sprint(),
+												projectConfig,
+												request.boardId(),
+												request.dbSprint(),
+												krb5Client);
+									} finally {
+										hostPermits.release();
+									}
+									return null;
+								}));
+			}
+			for (Future<Void> report : reports) {
+				report.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while fetching sprint reports");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			reports.forEach(report -> report.cancel(true));
+		}
+	}
+
+	private Semaphore getHostPermits(ProjectConfFieldMapping projectConfig) {
+		String host =
+				Optional.ofNullable(projectConfig.getJira())
+						.flatMap(JiraToolConfig::getConnection)
+						.map(Connection::getBaseUrl)
+						.map(JiraProcessorUtil::getHost)
+						.orElse(StringUtils.EMPTY);
+		return hostSprintReportPermits.computeIfAbsent(
+				host,
+				key -> new Semaphore(Math.max(1, jiraProcessorConfig.getSprintReportFetchPerHostLimit())));
+	}
+
+	private record SprintReportRequest(
+			SprintDetails sprint, String boardId, SprintDetails dbSprint) {}
+
 	private void getSprintReport(
 			SprintDetails sprint,
 			ProjectConfFieldMapping projectConfig,
@@ -204,7 +301,7 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			if (null != jiraToolConfig) {
 				URL url = getSprintReportUrl(projectConfig, sprintId, boardId);
 				getReport(
-						jiraCommonService.getDataFromClient(projectConfig, url, krb5Client),
+						jiraCommonService.getParsedDataFromClient(projectConfig, url, krb5Client),
 						sprint,
 						projectConfig,
 						dbSprintDetails,
@@ -219,23 +316,18 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 		} catch (MalformedURLException mfe) {
 			log.error("Malformed url for loading sprint report for sprint :{} ", sprintId, mfe);
 			throw mfe;
+		} catch (ParseException pe) {
+			log.error("Parser exception when parsing statuses", pe);
 		}
 	}
 
 	private void getReport(
-			String sprintReportObj,
+			Object sprintReportObj,
 			SprintDetails sprint,
 			ProjectConfFieldMapping projectConfig,
 			SprintDetails dbSprintDetails,
 			String boardId) {
-		if (StringUtils.isNotBlank(sprintReportObj)) {
-			JSONArray completedIssuesJson = new JSONArray();
-			JSONArray notCompletedIssuesJson = new JSONArray();
-			JSONArray puntedIssuesJson = new JSONArray();
-			JSONArray completedIssuesAnotherSprintJson = new JSONArray();
-			org.json.simple.JSONObject addedIssuesJson = new org.json.simple.JSONObject();
-			org.json.simple.JSONObject entityDataJson = new org.json.simple.JSONObject();
-
+		if (null != sprintReportObj) {
 			boolean otherBoardExist = findIfOtherBoardExist(sprint);
 			Set<SprintIssue> completedIssues =
 					getCompletedIssues(dbSprintDetails, boardId, otherBoardExist);
@@ -247,44 +339,46 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			Set<SprintIssue> totalIssues = getTotalIssues(dbSprintDetails, boardId, otherBoardExist);
 			Set<String> addedIssues =
 					getAddedIssues(dbSprintDetails, otherBoardExist, puntedIssues, totalIssues);
-			try {
-				org.json.simple.JSONObject obj =
-						(org.json.simple.JSONObject) new JSONParser().parse(sprintReportObj);
-				if (null != obj) {
-					org.json.simple.JSONObject contentObj = (org.json.simple.JSONObject) obj.get(CONTENTS);
-					completedIssuesJson = (JSONArray) contentObj.get(COMPLETED_ISSUES);
-					notCompletedIssuesJson = (JSONArray) contentObj.get(NOT_COMPLETED_ISSUES);
-					puntedIssuesJson = (JSONArray) contentObj.get(PUNTED_ISSUES);
-					completedIssuesAnotherSprintJson =
-							(JSONArray) contentObj.get(COMPLETED_ISSUES_ANOTHER_SPRINT);
-					addedIssuesJson = (org.json.simple.JSONObject) contentObj.get(ADDED_ISSUES);
-					entityDataJson = (org.json.simple.JSONObject) contentObj.get(ENTITY_DATA);
-				}
-
-				populateMetaData(entityDataJson, projectConfig);
-
-				setIssues(completedIssuesJson, completedIssues, totalIssues, projectConfig, boardId);
-
-				setIssues(notCompletedIssuesJson, notCompletedIssues, totalIssues, projectConfig, boardId);
 
-				setPuntedCompletedAnotherSprint(puntedIssuesJson, puntedIssues, projectConfig, boardId);
+			org.json.simple.JSONObject contentObj =
+					(org.json.simple.JSONObject) ((org.json.simple.JSONObject) sprintReportObj).get(CONTENTS);
+			JSONArray completedIssuesJson = (JSONArray) contentObj.get(COMPLETED_ISSUES);
+			JSONArray notCompletedIssuesJson = (JSONArray) contentObj.get(NOT_COMPLETED_ISSUES);
+			JSONArray puntedIssuesJson = (JSONArray) contentObj.get(PUNTED_ISSUES);
+			JSONArray completedIssuesAnotherSprintJson =
+					(JSONArray) contentObj.get(COMPLETED_ISSUES_ANOTHER_SPRINT);
+			org.json.simple.JSONObject addedIssuesJson =
+					(org.json.simple.JSONObject) contentObj.get(ADDED_ISSUES);
+			org.json.simple.JSONObject entityDataJson =
+					(org.json.simple.JSONObject) contentObj.get(ENTITY_DATA);
+
+			JiraIssueMetadata metadata = getMetaData(entityDataJson);
+
+			setIssues(
+					completedIssuesJson, completedIssues, totalIssues, projectConfig, metadata, boardId);
+
+			setIssues(
+					notCompletedIssuesJson,
+					notCompletedIssues,
+					totalIssues,
+					projectConfig,
+					metadata,
+					boardId);
 
-				setPuntedCompletedAnotherSprint(
-						completedIssuesAnotherSprintJson, completedIssuesAnotherSprint, projectConfig, boardId);
+			setPuntedCompletedAnotherSprint(puntedIssuesJson, puntedIssues, projectConfig, boardId);
 
-				addedIssues = setAddedIssues(addedIssuesJson, addedIssues);
+			setPuntedCompletedAnotherSprint(
+					completedIssuesAnotherSprintJson, completedIssuesAnotherSprint, projectConfig, boardId);
 
-				if (null != sprint) {
-					sprint.setCompletedIssues(completedIssues);
-					sprint.setNotCompletedIssues(notCompletedIssues);
-					sprint.setCompletedIssuesAnotherSprint(completedIssuesAnotherSprint);
-					sprint.setPuntedIssues(puntedIssues);
-					sprint.setAddedIssues(addedIssues);
-					sprint.setTotalIssues(totalIssues);
-				}
+			addedIssues = setAddedIssues(addedIssuesJson, addedIssues);
 
-			} catch (org.json.simple.parser.ParseException pe) {
-				log.error("Parser exception when parsing statuses", pe);
+			if (null != sprint) {
+				sprint.setCompletedIssues(completedIssues);
+				sprint.setNotCompletedIssues(notCompletedIssues);
+				sprint.setCompletedIssuesAnotherSprint(completedIssuesAnotherSprint);
+				sprint.setPuntedIssues(puntedIssues);
+				sprint.setAddedIssues(addedIssues);
+				sprint.setTotalIssues(totalIssues);
 			}
 		}
 	}
@@ -414,9 +508,13 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 		}
 	}
 
-	private void populateMetaData(
-			org.json.simple.JSONObject entityDataJson, ProjectConfFieldMapping projectConfig) {
-		JiraIssueMetadata jiraIssueMetadata = new JiraIssueMetadata();
+	/**
+	 * Metadata is kept per sprint report rather than on the project configuration, as reports of the
+	 * same project are fetched concurrently.
+	 */
+	private JiraIssueMetadata getMetaData(org.json.simple.JSONObject entityDataJson) {
+		JiraIssueMetadata jiraIssueMetadata =
+				new JiraIssueMetadata(new HashMap<>(), new HashMap<>(), new HashMap<>());
 		if (Objects.nonNull(entityDataJson)) {
 			jiraIssueMetadata.setIssueTypeMap(
 					getMetaDataMap((org.json.simple.JSONObject) entityDataJson.get("types"), "typeName"));
@@ -426,8 +524,8 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			jiraIssueMetadata.setPriorityMap(
 					getMetaDataMap(
 							(org.json.simple.JSONObject) entityDataJson.get("priorities"), "priorityName"));
-			projectConfig.setJiraIssueMetadata(jiraIssueMetadata);
 		}
+		return jiraIssueMetadata;
 	}
 
 	private Map<String, String> getMetaDataMap(org.json.simple.JSONObject object, String fieldName) {
@@ -452,12 +550,13 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			Set<SprintIssue> issues,
 			Set<SprintIssue> totalIssues,
 			ProjectConfFieldMapping projectConfig,
+			JiraIssueMetadata metadata,
 			String boardId) {
 		issuesJson.forEach(
 				jsonObj -> {
 					org.json.simple.JSONObject obj = (org.json.simple.JSONObject) jsonObj;
 					if (null != obj) {
-						SprintIssue issue = getSprintIssue(obj, projectConfig, boardId);
+						SprintIssue issue = getSprintIssue(obj, projectConfig, metadata, boardId);
 						issues.remove(issue);
 						issues.add(issue);
 						totalIssues.remove(issue);
@@ -467,7 +566,10 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 	}
 
 	private SprintIssue getSprintIssue(
-			org.json.simple.JSONObject obj, ProjectConfFieldMapping projectConfig, String boardId) {
+			org.json.simple.JSONObject obj,
+			ProjectConfFieldMapping projectConfig,
+			JiraIssueMetadata metadata,
+			String boardId) {
 		SprintIssue issue = new SprintIssue();
 		issue.setNumber(obj.get(KEY).toString());
 		issue.setOriginBoardId(boardId);
@@ -478,9 +580,9 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 			issue.setStatus(getOptionalString(obj, "statusName"));
 			issue.setTypeName(getOptionalString(obj, "typeName"));
 		} else {
-			issue.setPriority(getName(projectConfig, PRIORITYID, obj));
-			issue.setStatus(getName(projectConfig, STATUSID, obj));
-			issue.setTypeName(getName(projectConfig, TYPEID, obj));
+			issue.setPriority(getName(metadata, PRIORITYID, obj));
+			issue.setStatus(getName(metadata, STATUSID, obj));
+			issue.setTypeName(getName(metadata, TYPEID, obj));
 		}
 		setEstimateStatistics(issue, obj, projectConfig);
 		setTimeTrackingStatistics(issue, obj);
@@ -545,13 +647,10 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 	}
 
 	private String getName(
-			ProjectConfFieldMapping projectConfig,
-			String entityDataKey,
-			org.json.simple.JSONObject jsonObject) {
+			JiraIssueMetadata metadata, String entityDataKey, org.json.simple.JSONObject jsonObject) {
 		String name = null;
 		Object obj = jsonObject.get(entityDataKey);
 		if (null != obj) {
-			JiraIssueMetadata metadata = projectConfig.getJiraIssueMetadata();
 			switch (entityDataKey) {
 				case PRIORITYID:
 					name = metadata.getPriorityMap().getOrDefault(obj.toString(), null);
@@ -643,11 +742,11 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 				int startIndex = 0;
 				do {
 					URL url = getSprintUrl(projectConfig, boardId, startIndex);
-					String jsonResponse = jiraCommonService.getDataFromClient(projectConfig, url, krb5Client);
+					Object jsonResponse =
+							jiraCommonService.getParsedDataFromClient(projectConfig, url, krb5Client);
 					isLast =
 							populateSprintDetailsList(jsonResponse, sprintDetailsList, projectConfig, boardId);
 					startIndex = sprintDetailsList.size();
-					TimeUnit.MILLISECONDS.sleep(jiraProcessorConfig.getSubsequentApiCallDelayInMilli());
 				} while (!isLast);
 			}
 		} catch (RestClientException rce) {
@@ -664,31 +763,22 @@ public class FetchSprintReportImpl implements FetchSprintReport {
 		} catch (MalformedURLException mfe) {
 			log.error("Malformed url for loading sprint sprints for board", mfe);
 			throw mfe;
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new RuntimeException(e);
+		} catch (ParseException pe) {
+			log.error("Parser exception when parsing statuses", pe);
 		}
 		return sprintDetailsList;
 	}
 
 	private boolean populateSprintDetailsList(
-			String sprintReportObj,
+			Object sprintReportObj,
 			List<SprintDetails> sprintDetailsSet,
 			ProjectConfFieldMapping projectConfig,
 			String boardId) {
 		boolean isLast = true;
-		if (StringUtils.isNotBlank(sprintReportObj)) {
-			JSONArray valuesJson = new JSONArray();
-			try {
-				JSONObject obj = (JSONObject) new JSONParser().parse(sprintReportObj);
-				if (null != obj) {
-					valuesJson = (JSONArray) obj.get("values");
-				}
-				setSprintDetails(valuesJson, sprintDetailsSet, projectConfig, boardId);
-				isLast = Boolean.parseBoolean(Objects.requireNonNull(obj).get("isLast").toString());
-			} catch (ParseException pe) {
-				log.error("Parser exception when parsing statuses", pe);
-			}
+		if (null != sprintReportObj) {
+			JSONObject obj = (JSONObject) sprintReportObj;
+			setSprintDetails((JSONArray) obj.get("values"), sprintDetailsSet, projectConfig, boardId);
+			isLast = Boolean.parseBoolean(obj.get("isLast").toString());
 		}
 		return isLast;
 	}
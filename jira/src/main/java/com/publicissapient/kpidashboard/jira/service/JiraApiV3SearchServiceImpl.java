@@ -21,6 +21,8 @@ import static com.atlassian.jira.rest.client.api.IssueRestClient.Expandos.CHANGE
 import static com.atlassian.jira.rest.client.api.IssueRestClient.Expandos.NAMES;
 import static com.atlassian.jira.rest.client.api.IssueRestClient.Expandos.SCHEMA;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,6 +31,7 @@ import javax.annotation.Nullable;
 import javax.ws.rs.core.UriBuilder;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.codehaus.jettison.json.JSONException;
 import org.springframework.stereotype.Service;
 
@@ -44,9 +47,11 @@ import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.parser.JiraSearchResponseParser;
 
+import kong.unirest.HttpRequest;
 import kong.unirest.HttpResponse;
-import kong.unirest.JsonNode;
+import kong.unirest.RawResponse;
 import kong.unirest.Unirest;
+import kong.unirest.UnirestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -122,7 +127,6 @@ public class JiraApiV3SearchServiceImpl implements JiraApiV3SearchService {
 
 		final URI baseUri = buildJqlSearchUri(connection);
 
-		HttpResponse<JsonNode> response;
 		kong.unirest.GetRequest request =
 				Unirest.get(baseUri.toString())
 						.basicAuth(connection.getUsername(), password)
@@ -134,17 +138,7 @@ public class JiraApiV3SearchServiceImpl implements JiraApiV3SearchService {
 						.queryString(JiraConstants.EXPAND_ATTRIBUTE, expandJoined)
 						.queryString(JiraConstants.FIELDS_ATTRIBUTE, fieldsJoined);
 
-		response = request.asJson();
-
-		if (response.getStatus() != 200) {
-			throw new JiraApiException("Failed to fetch issues: HTTP " + response.getStatus());
-		}
-
-		kong.unirest.json.JSONObject jsonFromUnirest = response.getBody().getObject();
-		org.codehaus.jettison.json.JSONObject jsonObject =
-				new org.codehaus.jettison.json.JSONObject(jsonFromUnirest.toString());
-
-		return new JiraSearchResponseParser().parse(jsonObject);
+		return readSearchResponse(request);
 	}
 
 	private URI buildJqlSearchUri(Connection connection) {
@@ -199,22 +193,52 @@ public class JiraApiV3SearchServiceImpl implements JiraApiV3SearchService {
 
 		final URI baseUri = buildJqlSearchUri(connection);
 
-		HttpResponse<JsonNode> response =
+		kong.unirest.RequestBodyEntity request =
 				Unirest.post(baseUri.toString())
 						.basicAuth(connection.getUsername(), password)
 						.header(ACCEPT, APPLICATION_JSON)
 						.header(CONTENT_TYPE, APPLICATION_JSON)
-						.body(payload.toString())
-						.asJson();
+						.body(payload.toString());
+
+		return readSearchResponse(request);
+	}
+
+	/**
+	 * Sends the request and parses the search response while the body is streamed, instead of
+	 * building the Unirest JSON tree, serializing it and parsing it again with Jettison.
+	 *
+	 * @param request search request
+	 * @return parsed search response
+	 * @throws JSONException when the body is not a search response
+	 * @throws JiraApiException when Jira does not answer with HTTP 200
+	 */
+	private JiraSearchResponse readSearchResponse(HttpRequest<?> request)
+			throws JSONException, JiraApiException {
+		HttpResponse<JiraSearchResponse> response;
+		try {
+			response = request.asObject(JiraApiV3SearchServiceImpl::parseSearchResponse);
+		} catch (UnirestException e) {
+			JSONException parseError = ExceptionUtils.throwableOfType(e, JSONException.class);
+			if (parseError != null) {
+				throw parseError;
+			}
+			throw e;
+		}
 
 		if (response.getStatus() != 200) {
 			throw new JiraApiException("Failed to fetch issues: HTTP " + response.getStatus());
 		}
+		return response.getBody();
+	}
 
-		kong.unirest.json.JSONObject jsonFromUnirest = response.getBody().getObject();
-		org.codehaus.jettison.json.JSONObject jsonObject =
-				new org.codehaus.jettison.json.JSONObject(jsonFromUnirest.toString());
-
-		return new JiraSearchResponseParser().parse(jsonObject);
+	static JiraSearchResponse parseSearchResponse(RawResponse rawResponse) {
+		if (rawResponse.getStatus() != 200) {
+			return null;
+		}
+		try (InputStream content = rawResponse.getContent()) {
+			return new JiraSearchResponseParser().parse(content);
+		} catch (IOException | JSONException e) {
+			throw new UnirestException(e);
+		}
 	}
 }
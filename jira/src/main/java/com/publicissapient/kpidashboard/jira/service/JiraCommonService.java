@@ -17,11 +17,14 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.service;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.PushbackReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -36,6 +39,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -61,16 +65,15 @@ import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.atlassian.jira.rest.client.api.domain.SearchResult;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
 import com.publicissapient.kpidashboard.common.exceptions.ClientErrorMessageEnum;
-import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
 import com.publicissapient.kpidashboard.common.model.ToolCredential;
 import com.publicissapient.kpidashboard.common.model.application.ErrorDetail;
 import com.publicissapient.kpidashboard.common.model.application.ProjectVersion;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.processortool.service.ProcessorToolConnectionService;
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.common.service.AesEncryptionService;
 import com.publicissapient.kpidashboard.common.service.ToolCredentialProvider;
 import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.client.HostRateLimiter;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
@@ -78,6 +81,7 @@ import com.publicissapient.kpidashboard.jira.helper.JiraHelper;
 import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
 
 import io.atlassian.util.concurrent.Promise;
 import lombok.extern.slf4j.Slf4j;
@@ -89,6 +93,7 @@ public class JiraCommonService {
 	public static final String PROCESSING_ISSUES_PRINT_LOG = "Processing issues %d - %d out of %d";
 	private static final String MSG_JIRA_CLIENT_SETUP_FAILED =
 			"Jira client setup failed. No results obtained. Check your jira setup.";
+	private static final Pattern STATUS_CODE_PATTERN = Pattern.compile("\\b(\\d{3})\\b");
 
 	// Cache for API v3 pagination tokens - key format: projectKey_queryHash
 	private final Map<String, String> advancedJqlNextPageTokenCache = new ConcurrentHashMap<>();
@@ -101,8 +106,9 @@ public class JiraCommonService {
 
 	@Autowired private AesEncryptionService aesEncryptionService;
 	@Autowired private ProcessorToolConnectionService processorToolConnectionService;
-	@Autowired private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 	@Lazy @Autowired private JiraApiV3SearchService jiraApiV3SearchService;
+	@Autowired private HostRateLimiter hostRateLimiter;
 
 	/**
 	 * @param projectConfig projectConfig
@@ -131,6 +137,30 @@ public class JiraCommonService {
 		}
 	}
 
+	/**
+	 * Fetches the response of the given url and parses it while it is streamed from the server, so
+	 * that large payloads such as sprint reports are never held as a complete String.
+	 *
+	 * @param projectConfig projectConfig
+	 * @param url url
+	 * @param krb5Client krb5Client
+	 * @return parsed {@link JSONObject} or {@link JSONArray}, null when the response is empty
+	 * @throws IOException IOException
+	 * @throws ParseException ParseException
+	 */
+	public Object getParsedDataFromClient(
+			ProjectConfFieldMapping projectConfig, URL url, KerberosClient krb5Client)
+			throws IOException, ParseException {
+		Optional<Connection> connectionOptional = projectConfig.getJira().getConnection();
+		boolean spenagoClient = connectionOptional.map(Connection::isJaasKrbAuth).orElse(false);
+		if (spenagoClient) {
+			String response = getDataFromClient(projectConfig, url, krb5Client);
+			return StringUtils.isBlank(response) ? null : new JSONParser().parse(response);
+		}
+		return readFromServer(
+				url, connectionOptional, projectConfig.getBasicProjectConfigId(), this::parseJson);
+	}
+
 	/**
 	 * @param url url
 	 * @param connectionOptional connectionOptional
@@ -140,6 +170,69 @@ public class JiraCommonService {
 	public String getDataFromServer(
 			URL url, Optional<Connection> connectionOptional, ObjectId projectConfigId)
 			throws IOException {
+		try {
+			String response =
+					readFromServer(
+							url,
+							connectionOptional,
+							projectConfigId,
+							in -> new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			return null == response ? "" : response;
+		} catch (ParseException pe) {
+			// not thrown while reading the raw response
+			throw new IOException(pe);
+		}
+	}
+
+	/**
+	 * Opens an authorized connection to the server and hands the response stream to the given reader.
+	 * On success the stream is closed without disconnecting, so the JDK keep-alive cache can reuse
+	 * the connection for the next call to the same host.
+	 *
+	 * @param url url
+	 * @param connectionOptional connectionOptional
+	 * @param projectConfigId projectConfigId
+	 * @param responseReader reads the response stream
+	 * @return value returned by the reader, null when the response could not be read
+	 * @throws IOException IOException
+	 * @throws ParseException ParseException
+	 */
+	private <T> T readFromServer(
+			URL url,
+			Optional<Connection> connectionOptional,
+			ObjectId projectConfigId,
+			ResponseReader<T> responseReader)
+			throws IOException, ParseException {
+		HttpURLConnection request = openConnection(url, connectionOptional);
+		int retries = 0;
+		// calls rate limited by the server are retried once the limiter allows it
+		while (hostRateLimiter.onResponse(
+						url.getHost(), request.getResponseCode(), request::getHeaderField)
+				&& retries++ < jiraProcessorConfig.getRateLimitMaxRetries()) {
+			request.disconnect();
+			request = openConnection(url, connectionOptional);
+		}
+		// process the client error
+		processClientError(connectionOptional, request, projectConfigId);
+		try (InputStream in = new BufferedInputStream((InputStream) request.getContent())) {
+			return responseReader.read(in);
+		} catch (IOException ie) {
+			log.error("Read exception when connecting to server {}", ie);
+			Matcher matcher = STATUS_CODE_PATTERN.matcher(String.valueOf(ie.getMessage()));
+			isClientException(connectionOptional, matcher);
+			request.disconnect();
+		}
+		return null;
+	}
+
+	private HttpURLConnection openConnection(URL url, Optional<Connection> connectionOptional)
+			throws IOException {
+		try {
+			hostRateLimiter.acquire(url.getHost());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting to call " + url.getHost());
+		}
 		HttpURLConnection request = (HttpURLConnection) url.openConnection();
 
 		String username = null;
@@ -168,27 +261,63 @@ public class JiraCommonService {
 					"Authorization", "Basic " + encodeCredentialsToBase64(username, password)); // NOSONAR
 		}
 		request.connect();
-		// process the client error
-		processClientError(connectionOptional, request, projectConfigId);
-		StringBuilder sb = new StringBuilder();
-		try (InputStream in = (InputStream) request.getContent();
-				BufferedReader inReader =
-						new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-			int cp;
-			while ((cp = inReader.read()) != -1) {
-				sb.append((char) cp);
+		return request;
+	}
+
+	/**
+	 * Claims the promise of a Jira REST client call once the rate limiter of the Jira host allows it.
+	 * Calls rate limited by Jira are retried up to the configured number of times.
+	 *
+	 * @param projectConfig projectConfig
+	 * @param call starts the call
+	 * @return result of the call
+	 * @throws InterruptedException InterruptedException
+	 */
+	public <T> T claimRateLimited(ProjectConfFieldMapping projectConfig, Supplier<Promise<T>> call)
+			throws InterruptedException {
+		String host = getJiraHost(projectConfig);
+		int retries = 0;
+		while (true) {
+			hostRateLimiter.acquire(host);
+			try {
+				T result = call.get().claim();
+				hostRateLimiter.onResponse(host, HttpURLConnection.HTTP_OK, name -> null);
+				return result;
+			} catch (RestClientException e) {
+				int statusCode = e.getStatusCode().orElse(0);
+				if (!hostRateLimiter.onResponse(host, statusCode, name -> null)
+						|| retries++ >= jiraProcessorConfig.getRateLimitMaxRetries()) {
+					throw e;
+				}
 			}
-			request.disconnect();
-		} catch (IOException ie) {
-			log.error("Read exception when connecting to server {}", ie);
-			String errorMessage = ie.getMessage();
-			// Regular expression pattern to extract the status code
-			Pattern pattern = Pattern.compile("\\b(\\d{3})\\b");
-			Matcher matcher = pattern.matcher(errorMessage);
-			isClientException(connectionOptional, matcher);
-			request.disconnect();
 		}
-		return sb.toString();
+	}
+
+	private static String getJiraHost(ProjectConfFieldMapping projectConfig) {
+		return JiraProcessorUtil.getHost(
+				Optional.ofNullable(projectConfig)
+						.map(ProjectConfFieldMapping::getJira)
+						.flatMap(JiraToolConfig::getConnection)
+						.map(Connection::getBaseUrl)
+						.orElse(null));
+	}
+
+	private Object parseJson(InputStream in) throws IOException, ParseException {
+		PushbackReader reader = new PushbackReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		int first;
+		do {
+			first = reader.read();
+		} while (first != -1 && Character.isWhitespace(first));
+		if (first == -1) {
+			return null;
+		}
+		reader.unread(first);
+		return new JSONParser().parse(reader);
+	}
+
+	@FunctionalInterface
+	private interface ResponseReader<T> {
+		T read(InputStream in) throws IOException, ParseException;
 	}
 
 	/**
@@ -204,6 +333,13 @@ public class JiraCommonService {
 			ObjectId basicProjectConfigId)
 			throws IOException {
 		int responseCode = request.getResponseCode();
+		if (HostRateLimiter.isRateLimited(responseCode)) {
+			// the server is busy, the connection itself is fine
+			String errorMessage =
+					null == request.getErrorStream() ? "" : readErrorStream(request.getErrorStream());
+			request.disconnect();
+			throw new IOException(String.format("Error: %d - %s", responseCode, errorMessage));
+		}
 		if (responseCode >= 400 && responseCode < 500) {
 			// Read error message from the server
 			String errorMessage = readErrorStream(request.getErrorStream());
@@ -214,18 +350,7 @@ public class JiraCommonService {
 								request.getURL().toString(),
 								errorMessage,
 								determineImpactBasedOnUrl(request.getURL().toString()));
-				Optional<ProcessorExecutionTraceLog> existingTraceLog =
-						processorExecutionTraceLogRepository
-								.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsTrue(
-										JiraConstants.JIRA, basicProjectConfigId.toString());
-				existingTraceLog.ifPresent(
-						traceLog -> {
-							List<ErrorDetail> errorDetailList =
-									Optional.ofNullable(traceLog.getErrorDetailList()).orElseGet(ArrayList::new);
-							errorDetailList.add(errorDetail);
-							traceLog.setErrorDetailList(errorDetailList);
-							processorExecutionTraceLogRepository.save(traceLog);
-						});
+				ongoingExecutionsService.recordErrorDetail(basicProjectConfigId.toString(), errorDetail);
 			}
 			// flagging the connection flag w.r.t error code.
 			connectionOptional.ifPresent(
@@ -334,6 +459,37 @@ public class JiraCommonService {
 		return issues;
 	}
 
+	/**
+	 * Fetches one page of the issues updated within a window of a partitioned fetch. Window bounds
+	 * are used as they are, without reducing the configured days, so that windows do not overlap.
+	 *
+	 * @param projectConfig projectConfig
+	 * @param clientIncoming clientIncoming
+	 * @param pageNumber pageNumber
+	 * @param windowStart inclusive start of the updated date window
+	 * @param windowEnd exclusive end of the updated date window, open ended when null
+	 * @return List of Issue
+	 * @throws InterruptedException InterruptedException
+	 */
+	public List<Issue> fetchIssuesBasedOnJqlWindow(
+			ProjectConfFieldMapping projectConfig,
+			ProcessorJiraRestClient clientIncoming,
+			int pageNumber,
+			String windowStart,
+			String windowEnd)
+			throws InterruptedException {
+
+		client = clientIncoming;
+		List<Issue> issues = new ArrayList<>();
+		if (client == null) {
+			log.error(MSG_JIRA_CLIENT_SETUP_FAILED);
+		} else {
+			SearchResult searchResult = getJqlIssues(projectConfig, windowStart, windowEnd, pageNumber);
+			issues = JiraHelper.getIssuesFromResult(searchResult);
+		}
+		return issues;
+	}
+
 	/**
 	 * Checks if the exception is a 410 Gone error from deprecated JIRA API
 	 *
@@ -368,9 +524,9 @@ public class JiraCommonService {
 			throws InterruptedException {
 
 		try {
-			Promise<SearchResult> promise =
-					client.getProcessorSearchClient().searchJql(jql, maxResults, startAt, fields);
-			return promise.claim();
+			return claimRateLimited(
+					projectConfig,
+					() -> client.getProcessorSearchClient().searchJql(jql, maxResults, startAt, fields));
 		} catch (RestClientException e) {
 			if (is410Error(e)) {
 				log.warn("410 Gone - using API v3 fallback for JQL search: {}", jql);
@@ -403,9 +559,14 @@ public class JiraCommonService {
 			String jql, ProcessorJiraRestClient client, ProjectConfFieldMapping projectConfig) {
 
 		try {
-			Promise<SearchResult> promise = client.getProcessorSearchClient().searchJql(jql, 0, 0, null);
-			SearchResult result = promise.claim();
+			SearchResult result =
+					claimRateLimited(
+							projectConfig, () -> client.getProcessorSearchClient().searchJql(jql, 0, 0, null));
 			return result != null ? (long) result.getTotal() : 0L;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Interrupted while counting issues. JQL: {}", jql);
+			return 0L;
 		} catch (RestClientException e) {
 			if (is410Error(e)) {
 				log.warn("410 Gone - using API v3 fallback to count issues. JQL: {}", jql);
@@ -483,6 +644,12 @@ public class JiraCommonService {
 	public SearchResult getJqlIssues(
 			ProjectConfFieldMapping projectConfig, String deltaDate, int pageStart)
 			throws InterruptedException {
+		return getJqlIssues(projectConfig, deltaDate, null, pageStart);
+	}
+
+	private SearchResult getJqlIssues(
+			ProjectConfFieldMapping projectConfig, String deltaDate, String endDate, int pageStart)
+			throws InterruptedException {
 		SearchResult searchResult = null;
 		String[] jiraIssueTypeNames = projectConfig.getFieldMapping().getJiraIssueTypeNames();
 		if (client == null) {
@@ -510,6 +677,9 @@ public class JiraCommonService {
 				query.append(userQuery);
 				query.append(
 						" and issuetype in (" + issueTypes + " ) and updatedDate>='" + deltaDate + "' ");
+				if (StringUtils.isNotEmpty(endDate)) {
+					query.append(" and updatedDate<'" + endDate + "' ");
+				}
 				query.append(" order BY updatedDate asc");
 				log.info("jql query :{}", query);
 
@@ -818,6 +988,38 @@ public class JiraCommonService {
 		return issues;
 	}
 
+	/**
+	 * Fetches one page of the issues of a board updated since a restarted fetch stopped. The date is
+	 * used as it is, without reducing the configured days, the issues before it being written
+	 * already.
+	 *
+	 * @param projectConfig projectConfig
+	 * @param clientIncoming clientIncoming
+	 * @param pageNumber pageNumber
+	 * @param boardId boardId
+	 * @param windowStart inclusive start of the updated date window
+	 * @return List of Issue
+	 * @throws InterruptedException InterruptedException
+	 */
+	public List<Issue> fetchIssueBasedOnBoardWindow(
+			ProjectConfFieldMapping projectConfig,
+			ProcessorJiraRestClient clientIncoming,
+			int pageNumber,
+			String boardId,
+			String windowStart)
+			throws InterruptedException {
+
+		client = clientIncoming;
+		List<Issue> issues = new ArrayList<>();
+		if (client == null) {
+			log.error(MSG_JIRA_CLIENT_SETUP_FAILED);
+		} else {
+			SearchResult searchResult = getBoardIssues(boardId, projectConfig, windowStart, pageNumber);
+			issues = JiraHelper.getIssuesFromResult(searchResult);
+		}
+		return issues;
+	}
+
 	/**
 	 * @param boardId boardId
 	 * @param projectConfig projectConfig
@@ -841,16 +1043,18 @@ public class JiraCommonService {
 		} else {
 			try {
 				String query = "updatedDate>='" + deltaDate + "' order by updatedDate asc";
-				Promise<SearchResult> promisedRs =
-						client
-								.getCustomIssueClient()
-								.searchBoardIssue(
-										boardId,
-										query,
-										jiraProcessorConfig.getPageSize(),
-										pageStart,
-										JiraConstants.ISSUE_FIELD_SET);
-				searchResult = promisedRs.claim();
+				searchResult =
+						claimRateLimited(
+								projectConfig,
+								() ->
+										client
+												.getCustomIssueClient()
+												.searchBoardIssue(
+														boardId,
+														query,
+														jiraProcessorConfig.getPageSize(),
+														pageStart,
+														JiraConstants.ISSUE_FIELD_SET));
 				if (searchResult != null) {
 					saveSearchDetailsInContext(
 							searchResult, pageStart, boardId, StepSynchronizationManager.getContext());
@@ -893,7 +1097,8 @@ public class JiraCommonService {
 			JiraToolConfig jiraToolConfig = projectConfig.getJira();
 			if (null != jiraToolConfig) {
 				URL url = getVersionUrl(projectConfig);
-				parseVersionData(getDataFromClient(projectConfig, url, krb5Client), projectVersionList);
+				parseVersionData(
+						getParsedDataFromClient(projectConfig, url, krb5Client), projectVersionList);
 			}
 		} catch (RestClientException rce) {
 			if (rce.getStatusCode().isPresent()
@@ -926,41 +1131,37 @@ public class JiraCommonService {
 		return new URL(baseUrl + (baseUrl.endsWith("/") ? "" : "/") + serverURL);
 	}
 
-	private void parseVersionData(
-			String dataFromServer, List<ProjectVersion> projectVersionDetailList) throws ParseException {
-		if (StringUtils.isNotBlank(dataFromServer)) {
+	private void parseVersionData(Object versionData, List<ProjectVersion> projectVersionDetailList) {
+		if (null != versionData) {
 			try {
-				JSONArray obj = (JSONArray) new JSONParser().parse(dataFromServer);
-				if (null != obj) {
-					((JSONArray) new JSONParser().parse(dataFromServer))
-							.forEach(
-									values -> {
-										ProjectVersion projectVersion = new ProjectVersion();
-										projectVersion.setId(
-												Long.valueOf(
-														Objects.requireNonNull(getOptionalString((JSONObject) values, "id"))));
-										projectVersion.setName(getOptionalString((JSONObject) values, "name"));
-										projectVersion.setArchived(
-												Boolean.parseBoolean(getOptionalString((JSONObject) values, "archived")));
-										projectVersion.setReleased(
-												Boolean.parseBoolean(getOptionalString((JSONObject) values, "released")));
-										if (getOptionalString((JSONObject) values, "startDate") != null) {
-											projectVersion.setStartDate(
-													DateUtil.stringToDateTime(
-															Objects.requireNonNull(
-																	getOptionalString((JSONObject) values, "startDate")),
-															"yyyy-MM-dd"));
-										}
-										if (getOptionalString((JSONObject) values, "releaseDate") != null) {
-											projectVersion.setReleaseDate(
-													DateUtil.stringToDateTime(
-															Objects.requireNonNull(
-																	getOptionalString((JSONObject) values, "releaseDate")),
-															"yyyy-MM-dd"));
-										}
-										projectVersionDetailList.add(projectVersion);
-									});
-				}
+				((JSONArray) versionData)
+						.forEach(
+								values -> {
+									ProjectVersion projectVersion = new ProjectVersion();
+									projectVersion.setId(
+											Long.valueOf(
+													Objects.requireNonNull(getOptionalString((JSONObject) values, "id"))));
+									projectVersion.setName(getOptionalString((JSONObject) values, "name"));
+									projectVersion.setArchived(
+											Boolean.parseBoolean(getOptionalString((JSONObject) values, "archived")));
+									projectVersion.setReleased(
+											Boolean.parseBoolean(getOptionalString((JSONObject) values, "released")));
+									if (getOptionalString((JSONObject) values, "startDate") != null) {
+										projectVersion.setStartDate(
+												DateUtil.stringToDateTime(
+														Objects.requireNonNull(
+																getOptionalString((JSONObject) values, "startDate")),
+														"yyyy-MM-dd"));
+									}
+									if (getOptionalString((JSONObject) values, "releaseDate") != null) {
+										projectVersion.setReleaseDate(
+												DateUtil.stringToDateTime(
+														Objects.requireNonNull(
+																getOptionalString((JSONObject) values, "releaseDate")),
+														"yyyy-MM-dd"));
+									}
+									projectVersionDetailList.add(projectVersion);
+								});
 			} catch (Exception pe) {
 				log.error("Parser exception when parsing versions", pe);
 				throw pe;
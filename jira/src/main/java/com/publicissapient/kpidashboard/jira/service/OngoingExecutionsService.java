@@ -1,71 +1,337 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.model.application.ErrorDetail;
+import com.publicissapient.kpidashboard.common.model.application.ProgressStatus;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Keeps the execution state of the projects in memory and writes it behind to the progress trace
+ * log of each project. Step and chunk progress, the last successful run and the errors of the
+ * resources not found only change the in-memory state; the changes are coalesced and written
+ * every <code>jira.traceLogFlushMillis</code> as one unordered bulk of partial updates. A project
+ * is flushed at once when it is marked in progress, so that the reset of the previous run is
+ * written before anything of the new one, and when its job ends.
+ *
+ * <p>The progress trace log is only written through this service, so that no full save of the
+ * document overwrites the pending changes.
+ */
 @Service
 @Slf4j
 public class OngoingExecutionsService {
 
-	@Autowired ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	private static final String PROCESSOR_NAME = "processorName";
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String PROGRESS_STATS = "progressStats";
+	private static final String EXECUTION_ONGOING = "executionOngoing";
+	private static final String PROGRESS_STATUS_LIST = "progressStatusList";
+	private static final String ERROR_DETAIL_LIST = "errorDetailList";
+	private static final String LAST_SUCCESSFUL_RUN = "lastSuccessfulRun";
 
-	private final ConcurrentHashMap<String, Boolean> ongoingExecutions = new ConcurrentHashMap<>();
+	@Autowired private MongoTemplate mongoTemplate;
+
+	private final Map<String, ExecutionState> executionStates = new ConcurrentHashMap<>();
 
 	public boolean isExecutionInProgress(String basicProjectConfigId) {
-		return ongoingExecutions.containsKey(basicProjectConfigId);
+		ExecutionState state = executionStates.get(basicProjectConfigId);
+		return state != null && state.isOngoing();
 	}
 
 	public void markExecutionInProgress(String basicProjectConfigId) {
-		ongoingExecutions.put(basicProjectConfigId, true);
-		setExecutionOngoingForProcessor(ProcessorConstants.JIRA, basicProjectConfigId, true);
+		executionStates
+				.computeIfAbsent(basicProjectConfigId, key -> new ExecutionState())
+				.start(true);
+		flushProgress(basicProjectConfigId);
+	}
+
+	/**
+	 * Marks the execution of a project as in progress unless one is already in progress.
+	 *
+	 * @param basicProjectConfigId ProjectId
+	 * @return false if an execution of the project was already in progress
+	 */
+	public boolean markExecutionInProgressIfAbsent(String basicProjectConfigId) {
+		AtomicBoolean started = new AtomicBoolean();
+		executionStates.compute(
+				basicProjectConfigId,
+				(key, state) -> {
+					ExecutionState executionState = state == null ? new ExecutionState() : state;
+					started.set(executionState.start(false));
+					return executionState;
+				});
+		if (started.get()) {
+			flushProgress(basicProjectConfigId);
+		}
+		return started.get();
 	}
 
 	public void markExecutionAsCompleted(String basicProjectConfigId) {
-		ongoingExecutions.remove(basicProjectConfigId);
-		setExecutionOngoingForProcessor(ProcessorConstants.JIRA, basicProjectConfigId, false);
+		executionStates
+				.computeIfAbsent(basicProjectConfigId, key -> new ExecutionState())
+				.complete();
+		flushProgress(basicProjectConfigId);
 	}
 
 	/**
-	 * Set the executionOngoing flag for a processor
+	 * Records the progress of a step of the ongoing execution of a project. It is written to the
+	 * trace log with the next flush.
 	 *
-	 * @param processorName Name of Processor
 	 * @param basicProjectConfigId ProjectId
-	 * @param executionOngoing Flag is processor execution ongoing
+	 * @param progressStatus Progress status of the step
 	 */
-	public void setExecutionOngoingForProcessor(
-			String processorName, String basicProjectConfigId, boolean executionOngoing) {
-		Optional<ProcessorExecutionTraceLog> existingTraceLog =
-				processorExecutionTraceLogRepository
-						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsTrue(
-								processorName, basicProjectConfigId);
-		ProcessorExecutionTraceLog processorExecutionTraceLog =
-				existingTraceLog.orElseGet(ProcessorExecutionTraceLog::new);
-		processorExecutionTraceLog.setBasicProjectConfigId(basicProjectConfigId);
-		processorExecutionTraceLog.setExecutionOngoing(executionOngoing);
-		processorExecutionTraceLog.setProgressStats(true);
-		processorExecutionTraceLog.setProcessorName(processorName);
-		if (executionOngoing) {
-			processorExecutionTraceLog.setProgressStatusList(new ArrayList<>()); // clear the prev record
-			processorExecutionTraceLog.setErrorMessage(null); // Clear the error message
-			processorExecutionTraceLog.setFailureLog(null); // Clear the failure log message
-			processorExecutionTraceLog.setAdditionalInfo(null); // clearing additional info msg
-			processorExecutionTraceLog.setErrorDetailList(new ArrayList<>());
+	public void recordProgress(String basicProjectConfigId, ProgressStatus progressStatus) {
+		executionStates
+				.computeIfAbsent(basicProjectConfigId, key -> new ExecutionState())
+				.addProgress(progressStatus);
+	}
+
+	/**
+	 * Records the change date up to which the issues of a project are processed. It is written to the
+	 * trace log with the next flush.
+	 *
+	 * @param basicProjectConfigId ProjectId
+	 * @param lastSuccessfulRun last successful run, formatted as stored
+	 */
+	public void recordLastSuccessfulRun(String basicProjectConfigId, String lastSuccessfulRun) {
+		executionStates
+				.computeIfAbsent(basicProjectConfigId, key -> new ExecutionState())
+				.setLastSuccessfulRun(lastSuccessfulRun);
+	}
+
+	/**
+	 * Records a resource of a project not found on the server. It is written to the trace log with
+	 * the next flush.
+	 *
+	 * @param basicProjectConfigId ProjectId
+	 * @param errorDetail error of the resource
+	 */
+	public void recordErrorDetail(String basicProjectConfigId, ErrorDetail errorDetail) {
+		executionStates
+				.computeIfAbsent(basicProjectConfigId, key -> new ExecutionState())
+				.addErrorDetail(errorDetail);
+	}
+
+	/**
+	 * Writes the pending state of a project to its trace log now.
+	 *
+	 * @param basicProjectConfigId ProjectId
+	 */
+	public void flushProgress(String basicProjectConfigId) {
+		write(List.of(basicProjectConfigId));
+	}
+
+	/** Writes the pending state of all the projects to their trace logs. */
+	@Scheduled(fixedDelayString = "${jira.traceLogFlushMillis:5000}")
+	public void flushPendingProgress() {
+		write(new ArrayList<>(executionStates.keySet()));
+	}
+
+	@PreDestroy
+	public void close() {
+		flushPendingProgress();
+	}
+
+	private void write(List<String> basicProjectConfigIds) {
+		Map<String, PendingUpdate> updates = new LinkedHashMap<>();
+		basicProjectConfigIds.forEach(
+				basicProjectConfigId ->
+						Optional.ofNullable(executionStates.get(basicProjectConfigId))
+								.flatMap(ExecutionState::drain)
+								.ifPresent(update -> updates.put(basicProjectConfigId, update)));
+		if (updates.isEmpty()) {
+			return;
+		}
+		BulkOperations bulkOperations =
+				mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProcessorExecutionTraceLog.class);
+		updates.forEach(
+				(basicProjectConfigId, update) ->
+						bulkOperations.upsert(getTraceLogQuery(basicProjectConfigId), getUpdate(update)));
+		try {
+			bulkOperations.execute();
+			log.info("Flushed the execution state of projects {} to the trace log", updates.keySet());
+		} catch (RuntimeException e) {
+			log.error("Flushing the execution state of projects {} failed", updates.keySet(), e);
+			updates.forEach(
+					(basicProjectConfigId, update) ->
+							Optional.ofNullable(executionStates.get(basicProjectConfigId))
+									.ifPresent(state -> state.restore(update)));
+			return;
+		}
+		updates
+				.keySet()
+				.forEach(
+						basicProjectConfigId ->
+								executionStates.computeIfPresent(
+										basicProjectConfigId, (key, state) -> state.isIdle() ? null : state));
+	}
+
+	private static Query getTraceLogQuery(String basicProjectConfigId) {
+		return new Query(
+				Criteria.where(PROCESSOR_NAME)
+						.is(ProcessorConstants.JIRA)
+						.and(BASIC_PROJECT_CONFIG_ID)
+						.is(basicProjectConfigId)
+						.and(PROGRESS_STATS)
+						.is(true));
+	}
+
+	private static Update getUpdate(PendingUpdate pendingUpdate) {
+		Update update = new Update();
+		if (null != pendingUpdate.ongoing()) {
+			update.set(EXECUTION_ONGOING, pendingUpdate.ongoing());
+		}
+		if (pendingUpdate.reset()) {
+			// a new execution clears the record of the previous one
+			update
+					.set(PROGRESS_STATUS_LIST, pendingUpdate.progress())
+					.set("errorMessage", null)
+					.set("failureLog", null)
+					.set("additionalInfo", null)
+					.set(ERROR_DETAIL_LIST, pendingUpdate.errorDetails());
+		} else {
+			if (!pendingUpdate.progress().isEmpty()) {
+				update.push(PROGRESS_STATUS_LIST).each(pendingUpdate.progress().toArray());
+			}
+			if (!pendingUpdate.errorDetails().isEmpty()) {
+				update.push(ERROR_DETAIL_LIST).each(pendingUpdate.errorDetails().toArray());
+			}
+		}
+		if (null != pendingUpdate.lastSuccessfulRun()) {
+			update.set(LAST_SUCCESSFUL_RUN, pendingUpdate.lastSuccessfulRun());
+		}
+		return update;
+	}
+
+	/**
+	 * Changes of the trace log of a project not written yet, ongoing being null when the execution
+	 * state did not change.
+	 */
+	record PendingUpdate(
+			Boolean ongoing,
+			boolean reset,
+			List<ProgressStatus> progress,
+			List<ErrorDetail> errorDetails,
+			String lastSuccessfulRun,
+			long generation) {}
+
+	/** In-memory execution state of a project. */
+	private static final class ExecutionState {
+		private boolean ongoing;
+		// executionOngoing of the trace log, also set by the steps of jobs run without a mark
+		private boolean traceLogOngoing;
+		private boolean ongoingChanged;
+		private boolean reset;
+		private boolean dirty;
+		private long generation;
+		private List<ProgressStatus> progress = new ArrayList<>();
+		private List<ErrorDetail> errorDetails = new ArrayList<>();
+		private String lastSuccessfulRun;
+
+		synchronized boolean isOngoing() {
+			return ongoing;
+		}
+
+		synchronized boolean isIdle() {
+			return !ongoing && !traceLogOngoing && !dirty;
+		}
+
+		synchronized boolean start(boolean force) {
+			if (ongoing && !force) {
+				return false;
+			}
+			ongoing = true;
+			traceLogOngoing = true;
+			ongoingChanged = true;
+			reset = true;
+			dirty = true;
+			generation++;
+			progress = new ArrayList<>();
+			errorDetails = new ArrayList<>();
+			return true;
+		}
+
+		synchronized void complete() {
+			ongoing = false;
+			traceLogOngoing = false;
+			ongoingChanged = true;
+			dirty = true;
+		}
+
+		synchronized void addProgress(ProgressStatus progressStatus) {
+			progress.add(progressStatus);
+			traceLogOngoing = true;
+			ongoingChanged = true;
+			dirty = true;
+		}
+
+		synchronized void addErrorDetail(ErrorDetail errorDetail) {
+			errorDetails.add(errorDetail);
+			dirty = true;
+		}
+
+		synchronized void setLastSuccessfulRun(String lastSuccessfulRun) {
+			this.lastSuccessfulRun = lastSuccessfulRun;
+			dirty = true;
+		}
+
+		synchronized Optional<PendingUpdate> drain() {
+			if (!dirty) {
+				return Optional.empty();
+			}
+			PendingUpdate update =
+					new PendingUpdate(
+							ongoingChanged ? traceLogOngoing : null,
+							reset,
+							progress,
+							errorDetails,
+							lastSuccessfulRun,
+							generation);
+			progress = new ArrayList<>();
+			errorDetails = new ArrayList<>();
+			lastSuccessfulRun = null;
+			ongoingChanged = false;
+			reset = false;
+			dirty = false;
+			return Optional.of(update);
+		}
+
+		synchronized void restore(PendingUpdate update) {
+			if (update.generation() != generation) {
+				// a new execution started since, its reset supersedes the failed update
+				return;
+			}
+			List<ProgressStatus> restored = new ArrayList<>(update.progress());
+			restored.addAll(progress);
+			progress = restored;
+			List<ErrorDetail> restoredErrors = new ArrayList<>(update.errorDetails());
+			restoredErrors.addAll(errorDetails);
+			errorDetails = restoredErrors;
+			if (null == lastSuccessfulRun) {
+				lastSuccessfulRun = update.lastSuccessfulRun();
+			}
+			ongoingChanged |= null != update.ongoing();
+			reset |= update.reset();
+			dirty = true;
 		}
-		log.info(
-				"ProjectId {} for processor {} executionOngoing to {} ",
-				basicProjectConfigId,
-				processorName,
-				executionOngoing);
-		processorExecutionTraceLogRepository.save(processorExecutionTraceLog);
 	}
 }
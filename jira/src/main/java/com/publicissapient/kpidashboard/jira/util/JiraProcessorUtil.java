@@ -18,6 +18,7 @@
 
 package com.publicissapient.kpidashboard.jira.util;
 
+import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.CharsetDecoder;
@@ -26,7 +27,7 @@ import java.text.MessageFormat;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,7 +44,6 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
 import com.publicissapient.kpidashboard.common.model.application.ProgressStatus;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.util.JsonUtils;
@@ -343,43 +343,78 @@ public class JiraProcessorUtil {
 	}
 
 	/**
-	 * Method to fetch progress of chunk based issues processing from context save into traceLog.
+	 * Method to fetch progress of chunk based issues processing from context, to be recorded in the
+	 * progress trace log.
 	 *
-	 * @param processorExecutionTraceLog processorTraceLog
 	 * @param stepContext stepContext
+	 * @return progress status of the chunk, null without a step context
 	 */
-	public static ProcessorExecutionTraceLog saveChunkProgressInTrace(
-			ProcessorExecutionTraceLog processorExecutionTraceLog, StepContext stepContext) {
+	public static ProgressStatus getChunkProgress(StepContext stepContext) {
 		if (stepContext == null) {
 			log.error("StepContext is null");
 			return null;
 		}
-		if (processorExecutionTraceLog == null) {
-			log.error("ProcessorExecutionTraceLog is not present");
-			return null;
-		}
 		JobExecution jobExecution = stepContext.getStepExecution().getJobExecution();
 		int totalIssues = jobExecution.getExecutionContext().getInt(JiraConstants.TOTAL_ISSUES, 0);
 		int processedIssues =
 				jobExecution.getExecutionContext().getInt(JiraConstants.PROCESSED_ISSUES, 0);
 		int pageStart = jobExecution.getExecutionContext().getInt(JiraConstants.PAGE_START, 0);
 		String boardId = jobExecution.getExecutionContext().getString(JiraConstants.BOARD_ID, "");
+		// counted per step, the windows of a partitioned fetch being processed concurrently
+		int skippedIssues =
+				jobExecution.getStepExecutions().stream()
+						.mapToInt(
+								stepExecution ->
+										stepExecution.getExecutionContext().getInt(JiraConstants.SKIPPED_ISSUES, 0))
+						.sum();
 
-		List<ProgressStatus> progressStatusList =
-				Optional.ofNullable(processorExecutionTraceLog.getProgressStatusList())
-						.orElseGet(ArrayList::new);
 		ProgressStatus progressStatus = new ProgressStatus();
 
 		String stepMsg =
 				MessageFormat.format(
 								"Process Issues {0} to {1} out of {2}", pageStart, processedIssues, totalIssues)
-						+ (StringUtils.isNotEmpty(boardId) ? ", Board ID : " + boardId : "");
+						+ (StringUtils.isNotEmpty(boardId) ? ", Board ID : " + boardId : "")
+						+ (skippedIssues > 0 ? ", Unchanged Issues Skipped : " + skippedIssues : "");
 		progressStatus.setStepName(stepMsg);
 		progressStatus.setStatus(BatchStatus.COMPLETED.toString());
 		progressStatus.setEndTime(System.currentTimeMillis());
-		progressStatusList.add(progressStatus);
-		processorExecutionTraceLog.setProgressStatusList(progressStatusList);
-		return processorExecutionTraceLog;
+		return progressStatus;
+	}
+
+	/**
+	 * Checks whether the step is a window of a partitioned issue fetch other than the first one.
+	 * Trace log of a partitioned fetch is only maintained by the first window.
+	 *
+	 * @param stepContext stepContext
+	 * @return true when the step is a partition after the first one
+	 */
+	public static boolean isSecondaryPartition(StepContext stepContext) {
+		return stepContext != null
+				&& stepContext
+								.getStepExecution()
+								.getExecutionContext()
+								.getInt(JiraConstants.PARTITION_INDEX, 0)
+						> 0;
+	}
+
+	/**
+	 * Host name of a Jira base url, so that the urls of one server written with a different scheme,
+	 * port, path or letter case are recognised as the same server.
+	 *
+	 * @param baseUrl base url of a Jira connection
+	 * @return lower case host name, the trimmed url when it has none, empty when blank
+	 */
+	public static String getHost(String baseUrl) {
+		if (StringUtils.isBlank(baseUrl)) {
+			return StringUtils.EMPTY;
+		}
+		String host;
+		try {
+			host = StringUtils.defaultIfBlank(URI.create(baseUrl.trim()).getHost(), baseUrl.trim());
+		} catch (IllegalArgumentException e) {
+			host = baseUrl.trim();
+		}
+		return host.toLowerCase(Locale.ROOT);
 	}
 
 	public static String generateLogMessage(Throwable exception) {
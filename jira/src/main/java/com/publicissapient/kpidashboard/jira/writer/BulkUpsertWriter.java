@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.writer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the issue documents of a chunk with unordered bulk upserts keyed on the issue key and the
+ * basicProjectConfigId, instead of one full document replace per issue. When the stored document
+ * was prefetched for the chunk only the changed fields are set, and unchanged documents are not
+ * written at all. Documents without a prefetched snapshot are upserted with a whole replace, so
+ * that fields no longer present are removed as when the document is saved.
+ *
+ * <p>Upserts are prepared on the thread writing the chunk, as the prefetched documents are chunk
+ * scoped, and the bulk writes of the different collections are then executed concurrently on a
+ * pool of <code>jira.issueBulkWriteThreads</code> threads shared by all the chunks. The
+ * latency and the number of documents of every bulk write are reported per collection as the <code>
+ * jira.issue.bulk.write</code> timer and the <code>jira.issue.bulk.write.documents</code> summary.
+ */
+@Slf4j
+@Component
+public class BulkUpsertWriter {
+
+	private static final String ID = "_id";
+	private static final String BASIC_PROJECT_CONFIG_ID = "basicProjectConfigId";
+	private static final String WRITE_LATENCY_METRIC = "jira.issue.bulk.write";
+	private static final String WRITE_DOCUMENTS_METRIC = "jira.issue.bulk.write.documents";
+	private static final String COLLECTION_TAG = "collection";
+
+	private static final String BULK_WRITE_THREAD = "jira-issue-bulk-write-";
+
+	private ExecutorService executorService;
+
+	@Autowired private MongoTemplate mongoTemplate;
+
+	@Autowired private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+
+	@PostConstruct
+	public void init() {
+		executorService =
+				Executors.newFixedThreadPool(
+						Math.max(1, jiraProcessorConfig.getIssueBulkWriteThreads()),
+						new CustomizableThreadFactory(BULK_WRITE_THREAD));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Prepares the upserts of the given documents.
+	 *
+	 * @param type document type
+	 * @param keyField field identifying the issue within the project
+	 * @param documents documents to write
+	 * @return upserts to execute
+	 */
+	public <T> BulkUpsert prepare(Class<T> type, String keyField, Collection<T> documents) {
+		List<Upsert> upserts = new ArrayList<>();
+		for (T document : documents) {
+			Document converted = new Document();
+			mongoTemplate.getConverter().write(document, converted);
+			converted.remove(ID);
+			Object basicProjectConfigId = converted.get(BASIC_PROJECT_CONFIG_ID);
+			Object key = converted.get(keyField);
+			Query query =
+					new Query(
+							Criteria.where(BASIC_PROJECT_CONFIG_ID)
+									.is(basicProjectConfigId)
+									.and(keyField)
+									.is(key));
+			Optional<Document> stored =
+					jiraIssueChunkCache.getStoredDocument(
+							type, String.valueOf(basicProjectConfigId), String.valueOf(key));
+			if (stored.isEmpty()) {
+				upserts.add(new Upsert(query, null, converted));
+				continue;
+			}
+			Update update = getUpdate(converted, stored.get());
+			if (!update.getUpdateObject().isEmpty()) {
+				upserts.add(new Upsert(query, update, null));
+			}
+		}
+		return new BulkUpsert(type, mongoTemplate.getCollectionName(type), documents.size(), upserts);
+	}
+
+	/**
+	 * Executes the bulk upserts of the chunk concurrently and waits for all of them.
+	 *
+	 * @param bulkUpserts prepared upserts, one per collection
+	 */
+	public void execute(List<BulkUpsert> bulkUpserts) {
+		List<CompletableFuture<Void>> writes = new ArrayList<>();
+		for (int index = 1; index < bulkUpserts.size(); index++) {
+			BulkUpsert bulkUpsert = bulkUpserts.get(index);
+			writes.add(CompletableFuture.runAsync(() -> execute(bulkUpsert), executorService));
+		}
+		try {
+			if (!bulkUpserts.isEmpty()) {
+				execute(bulkUpserts.get(0));
+			}
+			CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	private void execute(BulkUpsert bulkUpsert) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int matched = 0;
+		int modified = 0;
+		int inserted = 0;
+		if (!bulkUpsert.upserts().isEmpty()) {
+			BulkOperations bulkOperations =
+					mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, bulkUpsert.type());
+			for (Upsert upsert : bulkUpsert.upserts()) {
+				if (null == upsert.replacement()) {
+					bulkOperations.upsert(upsert.query(), upsert.update());
+				} else {
+					bulkOperations.replaceOne(
+							upsert.query(), upsert.replacement(), FindAndReplaceOptions.options().upsert());
+				}
+			}
+			BulkWriteResult result = bulkOperations.execute();
+			matched = result.getMatchedCount();
+			modified = result.getModifiedCount();
+			inserted = result.getUpserts().size();
+		}
+		long nanos =
+				sample.stop(
+						Timer.builder(WRITE_LATENCY_METRIC)
+								.description("Latency of the bulk write of the issue documents of a chunk")
+								.tag(COLLECTION_TAG, bulkUpsert.collection())
+								.register(meterRegistry));
+		DistributionSummary.builder(WRITE_DOCUMENTS_METRIC)
+				.description("Documents of a chunk sent in a bulk write")
+				.tag(COLLECTION_TAG, bulkUpsert.collection())
+				.register(meterRegistry)
+				.record(bulkUpsert.upserts().size());
+		log.info(
+				"Bulk write to {}: {} documents, {} unchanged, {} matched, {} modified, {} inserted in {} ms",
+				bulkUpsert.collection(),
+				bulkUpsert.documents(),
+				bulkUpsert.documents() - bulkUpsert.upserts().size(),
+				matched,
+				modified,
+				inserted,
+				nanos / 1_000_000);
+	}
+
+	/** Sets the fields which differ from the stored document and unsets the ones removed. */
+	private static Update getUpdate(Document converted, Document stored) {
+		Update update = new Update();
+		converted.forEach(
+				(field, value) -> {
+					if (!Objects.equals(stored.get(field), value)) {
+						update.set(field, value);
+					}
+				});
+		stored.keySet().stream()
+				.filter(field -> !ID.equals(field) && !converted.containsKey(field))
+				.forEach(update::unset);
+		return update;
+	}
+
+	/** Upserts of the documents of one collection. */
+	public record BulkUpsert(Class<?> type, String collection, int documents, List<Upsert> upserts) {}
+
+	/** Partial update of a prefetched document, or whole replacement of a document not prefetched. */
+	record Upsert(Query query, Update update, Document replacement) {}
+}
@@ -23,7 +23,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -33,14 +32,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueHistoryRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 
 import lombok.extern.slf4j.Slf4j;
@@ -52,10 +52,17 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class IssueKanbanWriter implements ItemWriter<CompositeResult> {
 
+	private static final String ISSUE_ID = "issueId";
+	private static final String STORY_ID = "storyID";
+
 	@Autowired private KanbanJiraIssueRepository kanbanJiraIssueRepository;
 	@Autowired private KanbanJiraIssueHistoryRepository kanbanJiraIssueHistoryRepository;
 	@Autowired private ProjectHierarchyService projectHierarchyService;
-	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
+	@Autowired private ProjectHierarchyCache projectHierarchyCache;
+	@Autowired private BulkUpsertWriter bulkUpsertWriter;
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+	@Autowired private IssueFingerprintHelper issueFingerprintHelper;
 
 	/*
 	 * (non-Javadoc)
@@ -67,16 +74,25 @@ public class IssueKanbanWriter implements ItemWriter<CompositeResult> {
 		Map<String, KanbanJiraIssue> jiraIssues = new HashMap<>();
 		Map<String, KanbanIssueCustomHistory> kanbanIssueCustomHistory = new HashMap<>();
 		Set<ProjectHierarchy> projectHierarchies = new HashSet<>();
-		Map<String, AssigneeDetails> assigneesToSave = new HashMap<>();
-		Set<Assignee> assignee = new HashSet<>();
+		Set<String> assigneeProjects = new HashSet<>();
+		List<IssueFingerprintHelper.IssueFingerprint> fingerprints = new ArrayList<>();
 
 		for (CompositeResult kanbanCompositeResult : kanbanCompositeResults) {
 			if (null != kanbanCompositeResult.getKanbanJiraIssue()) {
+				assigneeProjects.add(
+						kanbanCompositeResult.getKanbanJiraIssue().getBasicProjectConfigId());
 				String key =
 						kanbanCompositeResult.getKanbanJiraIssue().getNumber()
 								+ ","
 								+ kanbanCompositeResult.getKanbanJiraIssue().getBasicProjectConfigId();
-				jiraIssues.putIfAbsent(key, kanbanCompositeResult.getKanbanJiraIssue());
+				if (null == jiraIssues.putIfAbsent(key, kanbanCompositeResult.getKanbanJiraIssue())
+						&& null != kanbanCompositeResult.getIssueFingerprint()) {
+					fingerprints.add(
+							new IssueFingerprintHelper.IssueFingerprint(
+									kanbanCompositeResult.getKanbanJiraIssue().getBasicProjectConfigId(),
+									kanbanCompositeResult.getKanbanJiraIssue().getIssueId(),
+									kanbanCompositeResult.getIssueFingerprint()));
+				}
 			}
 			if (null != kanbanCompositeResult.getKanbanIssueCustomHistory()) {
 				String key =
@@ -89,41 +105,44 @@ public class IssueKanbanWriter implements ItemWriter<CompositeResult> {
 			if (CollectionUtils.isNotEmpty(kanbanCompositeResult.getProjectHierarchies())) {
 				projectHierarchies.addAll(kanbanCompositeResult.getProjectHierarchies());
 			}
-			addAssignees(assigneesToSave, assignee, kanbanCompositeResult);
-		}
-		if (MapUtils.isNotEmpty(jiraIssues)) {
-			writeKanbanJiraItem(jiraIssues);
 		}
-		if (MapUtils.isNotEmpty(kanbanIssueCustomHistory)) {
-			writeKanbanJiraHistory(kanbanIssueCustomHistory);
+		if (jiraProcessorConfig.isIssueBulkWriteEnabled()) {
+			bulkWriteIssues(jiraIssues, kanbanIssueCustomHistory);
+		} else {
+			if (MapUtils.isNotEmpty(jiraIssues)) {
+				writeKanbanJiraItem(jiraIssues);
+			}
+			if (MapUtils.isNotEmpty(kanbanIssueCustomHistory)) {
+				writeKanbanJiraHistory(kanbanIssueCustomHistory);
+			}
 		}
 		if (CollectionUtils.isNotEmpty(projectHierarchies)) {
 			writeKanbanAccountHierarchy(projectHierarchies);
 		}
-		if (MapUtils.isNotEmpty(assigneesToSave)) {
-			writeAssigneeDetails(assigneesToSave);
-		}
+		// saves the assignees the processors found for the issues of the chunk
+		projectAssigneeCache.flush(assigneeProjects);
+		// stored once everything is written, an issue failing to be written is converted again
+		issueFingerprintHelper.saveFingerprints(KanbanJiraIssue.class, fingerprints);
 	}
 
 	/**
-	 * Adding assignees to map
-	 *
-	 * @param assigneesToSave
-	 * @param assignee
-	 * @param kanbanCompositeResult
+	 * Upserts the changed issue and history documents, the two collections being written
+	 * concurrently.
 	 */
-	private static void addAssignees(
-			Map<String, AssigneeDetails> assigneesToSave,
-			Set<Assignee> assignee,
-			CompositeResult kanbanCompositeResult) {
-		if (kanbanCompositeResult.getAssigneeDetails() != null
-				&& CollectionUtils.isNotEmpty(kanbanCompositeResult.getAssigneeDetails().getAssignee())) {
-			assignee.addAll(kanbanCompositeResult.getAssigneeDetails().getAssignee());
-			kanbanCompositeResult.getAssigneeDetails().setAssignee(assignee);
-			assigneesToSave.put(
-					kanbanCompositeResult.getAssigneeDetails().getBasicProjectConfigId(),
-					kanbanCompositeResult.getAssigneeDetails());
+	private void bulkWriteIssues(
+			Map<String, KanbanJiraIssue> jiraIssues,
+			Map<String, KanbanIssueCustomHistory> kanbanIssueCustomHistory) {
+		List<BulkUpsertWriter.BulkUpsert> bulkUpserts = new ArrayList<>();
+		if (MapUtils.isNotEmpty(jiraIssues)) {
+			bulkUpserts.add(
+					bulkUpsertWriter.prepare(KanbanJiraIssue.class, ISSUE_ID, jiraIssues.values()));
 		}
+		if (MapUtils.isNotEmpty(kanbanIssueCustomHistory)) {
+			bulkUpserts.add(
+					bulkUpsertWriter.prepare(
+							KanbanIssueCustomHistory.class, STORY_ID, kanbanIssueCustomHistory.values()));
+		}
+		bulkUpsertWriter.execute(bulkUpserts);
 	}
 
 	public void writeKanbanJiraItem(Map<String, KanbanJiraIssue> jiraItems) {
@@ -143,12 +162,6 @@ public class IssueKanbanWriter implements ItemWriter<CompositeResult> {
 	public void writeKanbanAccountHierarchy(Set<ProjectHierarchy> projectHierarchySet) {
 		log.info("Writing issues to kanban_account_hierarchy Collection");
 		projectHierarchyService.saveAll(projectHierarchySet);
-	}
-
-	public void writeAssigneeDetails(Map<String, AssigneeDetails> assigneesToSave) {
-		log.info("Writing assingees to asignee_details Collection");
-		List<AssigneeDetails> assignees =
-				assigneesToSave.values().stream().collect(Collectors.toList());
-		assigneeDetailsRepository.saveAll(assignees);
+		projectHierarchyCache.addHierarchies(projectHierarchySet);
 	}
 }
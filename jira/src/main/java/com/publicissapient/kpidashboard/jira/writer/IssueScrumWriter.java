@@ -23,7 +23,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -33,16 +32,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 
 import lombok.extern.slf4j.Slf4j;
@@ -54,16 +54,26 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class IssueScrumWriter implements ItemWriter<CompositeResult> {
 
+	private static final String ISSUE_ID = "issueId";
+	private static final String STORY_ID = "storyID";
+
 	@Autowired private JiraIssueRepository jiraIssueRepository;
 
 	@Autowired private JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
 
 	@Autowired private ProjectHierarchyService projectHierarchyService;
 
-	@Autowired private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Autowired private ProjectAssigneeCache projectAssigneeCache;
 
 	@Autowired private SprintRepository sprintRepository;
 
+	@Autowired private ProjectHierarchyCache projectHierarchyCache;
+
+	@Autowired private BulkUpsertWriter bulkUpsertWriter;
+
+	@Autowired private JiraProcessorConfig jiraProcessorConfig;
+	@Autowired private IssueFingerprintHelper issueFingerprintHelper;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -74,17 +84,25 @@ public class IssueScrumWriter implements ItemWriter<CompositeResult> {
 		Map<String, JiraIssue> jiraIssues = new HashMap<>();
 		Map<String, JiraIssueCustomHistory> jiraHistoryItems = new HashMap<>();
 		Set<ProjectHierarchy> projectHierarchies = new HashSet<>();
-		Map<String, AssigneeDetails> assigneesToSave = new HashMap<>();
+		Set<String> assigneeProjects = new HashSet<>();
 		Set<SprintDetails> sprintDetailsSet = new HashSet<>();
-		Set<Assignee> assignee = new HashSet<>();
+		List<IssueFingerprintHelper.IssueFingerprint> fingerprints = new ArrayList<>();
 
 		for (CompositeResult compositeResult : compositeResults) {
 			if (null != compositeResult.getJiraIssue()) {
+				assigneeProjects.add(compositeResult.getJiraIssue().getBasicProjectConfigId());
 				String key =
 						compositeResult.getJiraIssue().getNumber()
 								+ ","
 								+ compositeResult.getJiraIssue().getBasicProjectConfigId();
-				jiraIssues.putIfAbsent(key, compositeResult.getJiraIssue());
+				if (null == jiraIssues.putIfAbsent(key, compositeResult.getJiraIssue())
+						&& null != compositeResult.getIssueFingerprint()) {
+					fingerprints.add(
+							new IssueFingerprintHelper.IssueFingerprint(
+									compositeResult.getJiraIssue().getBasicProjectConfigId(),
+									compositeResult.getJiraIssue().getIssueId(),
+									compositeResult.getIssueFingerprint()));
+				}
 			}
 			if (null != compositeResult.getJiraIssueCustomHistory()) {
 				String key =
@@ -99,14 +117,17 @@ public class IssueScrumWriter implements ItemWriter<CompositeResult> {
 			if (CollectionUtils.isNotEmpty(compositeResult.getProjectHierarchies())) {
 				projectHierarchies.addAll(compositeResult.getProjectHierarchies());
 			}
-			addAssigness(assigneesToSave, assignee, compositeResult);
 		}
 
-		if (MapUtils.isNotEmpty(jiraIssues)) {
-			writeJiraItem(jiraIssues);
-		}
-		if (MapUtils.isNotEmpty(jiraHistoryItems)) {
-			writeJiraHistory(jiraHistoryItems);
+		if (jiraProcessorConfig.isIssueBulkWriteEnabled()) {
+			bulkWriteIssues(jiraIssues, jiraHistoryItems);
+		} else {
+			if (MapUtils.isNotEmpty(jiraIssues)) {
+				writeJiraItem(jiraIssues);
+			}
+			if (MapUtils.isNotEmpty(jiraHistoryItems)) {
+				writeJiraHistory(jiraHistoryItems);
+			}
 		}
 		if (CollectionUtils.isNotEmpty(sprintDetailsSet)) {
 			writeSprintDetail(sprintDetailsSet);
@@ -114,30 +135,28 @@ public class IssueScrumWriter implements ItemWriter<CompositeResult> {
 		if (CollectionUtils.isNotEmpty(projectHierarchies)) {
 			writeAccountHierarchy(projectHierarchies);
 		}
-		if (MapUtils.isNotEmpty(assigneesToSave)) {
-			writeAssigneeDetails(assigneesToSave);
-		}
+		// saves the assignees the processors found for the issues of the chunk
+		projectAssigneeCache.flush(assigneeProjects);
+		// stored once everything is written, an issue failing to be written is converted again
+		issueFingerprintHelper.saveFingerprints(JiraIssue.class, fingerprints);
 	}
 
 	/**
-	 * Adding assignees to map
-	 *
-	 * @param assigneesToSave
-	 * @param assignee
-	 * @param compositeResult
+	 * Upserts the changed issue and history documents, the two collections being written
+	 * concurrently.
 	 */
-	private static void addAssigness(
-			Map<String, AssigneeDetails> assigneesToSave,
-			Set<Assignee> assignee,
-			CompositeResult compositeResult) {
-		if (compositeResult.getAssigneeDetails() != null
-				&& CollectionUtils.isNotEmpty(compositeResult.getAssigneeDetails().getAssignee())) {
-			assignee.addAll(compositeResult.getAssigneeDetails().getAssignee());
-			compositeResult.getAssigneeDetails().setAssignee(assignee);
-			assigneesToSave.put(
-					compositeResult.getAssigneeDetails().getBasicProjectConfigId(),
-					compositeResult.getAssigneeDetails());
+	private void bulkWriteIssues(
+			Map<String, JiraIssue> jiraIssues, Map<String, JiraIssueCustomHistory> jiraHistoryItems) {
+		List<BulkUpsertWriter.BulkUpsert> bulkUpserts = new ArrayList<>();
+		if (MapUtils.isNotEmpty(jiraIssues)) {
+			bulkUpserts.add(bulkUpsertWriter.prepare(JiraIssue.class, ISSUE_ID, jiraIssues.values()));
 		}
+		if (MapUtils.isNotEmpty(jiraHistoryItems)) {
+			bulkUpserts.add(
+					bulkUpsertWriter.prepare(
+							JiraIssueCustomHistory.class, STORY_ID, jiraHistoryItems.values()));
+		}
+		bulkUpsertWriter.execute(bulkUpserts);
 	}
 
 	private void writeJiraItem(Map<String, JiraIssue> jiraItems) {
@@ -161,12 +180,6 @@ public class IssueScrumWriter implements ItemWriter<CompositeResult> {
 	private void writeAccountHierarchy(Set<ProjectHierarchy> projectHierarchies) {
 		log.info("Writing issues to project hierarchy Collection");
 		projectHierarchyService.saveAll(projectHierarchies);
-	}
-
-	private void writeAssigneeDetails(Map<String, AssigneeDetails> assigneesToSave) {
-		log.info("Writing assignees to assignee_details Collection");
-		List<AssigneeDetails> assignees =
-				assigneesToSave.values().stream().collect(Collectors.toList());
-		assigneeDetailsRepository.saveAll(assignees);
+		projectHierarchyCache.addHierarchies(projectHierarchies);
 	}
 }
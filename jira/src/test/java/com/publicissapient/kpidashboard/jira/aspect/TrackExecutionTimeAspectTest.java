@@ -31,13 +31,19 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @RunWith(MockitoJUnitRunner.class)
 public class TrackExecutionTimeAspectTest {
 	@Mock private ProceedingJoinPoint proceedingJoinPoint;
 	@Mock private MethodSignature methodSignature;
 	@Mock private TrackExecutionTime trackExecutionTimeAnnotation;
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 	@InjectMocks private PerformanceLoggingAspect performanceLoggingAspect;
 
 	@Before
@@ -61,5 +67,32 @@ public class TrackExecutionTimeAspectTest {
 		Object actualResult = performanceLoggingAspect.executionTime(proceedingJoinPoint);
 		// Add assertions for the actual and expected results
 		assertEquals(expectedResult, actualResult);
+		Timer timer =
+				meterRegistry
+						.get(PerformanceLoggingAspect.EXECUTION_TIME_METRIC)
+						.tags("method", "testMethod", "project", "none", "processor", "Jira")
+						.timer();
+		assertEquals(1, timer.count());
+	}
+
+	@Test
+	public void testExecutionTimeRecordedOnFailure() throws Throwable {
+		when(proceedingJoinPoint.getSignature()).thenReturn(methodSignature);
+		when(methodSignature.getDeclaringType()).thenReturn(getClass());
+		when(methodSignature.getName()).thenReturn("failingMethod");
+		when(proceedingJoinPoint.proceed()).thenThrow(new IllegalStateException("failed"));
+
+		try {
+			performanceLoggingAspect.executionTime(proceedingJoinPoint);
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertEquals(
+				1,
+				meterRegistry
+						.get(PerformanceLoggingAspect.EXECUTION_TIME_METRIC)
+						.tag("method", "failingMethod")
+						.timer()
+						.count());
 	}
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JiraIssueChunkCacheTest {
+
+	private static final ObjectId PROJECT_ID = new ObjectId("63bfa0d5b7617e260763ca21");
+
+	@Mock private MongoTemplate mongoTemplate;
+
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Mock private MongoConverter mongoConverter;
+
+	@InjectMocks private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Before
+	public void setUp() {
+		jiraIssueChunkCache.startChunk();
+	}
+
+	@Test
+	public void lookupWithoutRegisteredIssuesFallsBackToRepository() {
+		assertFalse(jiraIssueChunkCache.getJiraIssue(PROJECT_ID.toString(), "1001").isPresent());
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	public void chunkIssuesAreLoadedWithSingleQuery() {
+		JiraIssue existing = new JiraIssue();
+		existing.setIssueId("1001");
+		jiraIssueChunkCache.register(readData(1001L, "TEST-1"));
+		jiraIssueChunkCache.register(readData(1002L, "TEST-2"));
+		when(mongoTemplate.find(any(Query.class), eq(JiraIssue.class))).thenReturn(List.of(existing));
+
+		Optional<JiraIssue> first = jiraIssueChunkCache.getJiraIssue(PROJECT_ID.toString(), "1001");
+		Optional<JiraIssue> second = jiraIssueChunkCache.getJiraIssue(PROJECT_ID.toString(), "1002");
+		Optional<JiraIssue> unknown = jiraIssueChunkCache.getJiraIssue(PROJECT_ID.toString(), "9999");
+
+		assertSame(existing, first.orElse(null));
+		assertTrue(second.isPresent());
+		assertNull(second.get().getIssueId());
+		assertFalse(unknown.isPresent());
+		verify(mongoTemplate, times(1)).find(any(Query.class), eq(JiraIssue.class));
+	}
+
+	@Test
+	public void endChunkRecordsRoundTripsSaved() {
+		jiraIssueChunkCache.register(readData(1001L, "TEST-1"));
+		jiraIssueChunkCache.register(readData(1002L, "TEST-2"));
+		jiraIssueChunkCache.register(readData(1003L, "TEST-3"));
+		when(mongoTemplate.find(any(Query.class), eq(JiraIssueCustomHistory.class)))
+				.thenReturn(List.of());
+
+		jiraIssueChunkCache.getJiraIssueCustomHistory(PROJECT_ID.toString(), "TEST-1");
+		jiraIssueChunkCache.getJiraIssueCustomHistory(PROJECT_ID.toString(), "TEST-2");
+		jiraIssueChunkCache.getJiraIssueCustomHistory(PROJECT_ID.toString(), "TEST-3");
+		jiraIssueChunkCache.endChunk();
+
+		assertEquals(
+				2.0, meterRegistry.get("jira.issue.prefetch.roundtrips.saved").counter().count(), 0.0);
+		assertFalse(
+				jiraIssueChunkCache.getJiraIssueCustomHistory(PROJECT_ID.toString(), "TEST-1").isPresent());
+	}
+
+	@Test
+	public void storedDocumentIsSnapshotForBulkWrite() {
+		JiraIssue existing = new JiraIssue();
+		existing.setIssueId("1001");
+		jiraIssueChunkCache.register(readData(1001L, "TEST-1"));
+		when(jiraProcessorConfig.isIssueBulkWriteEnabled()).thenReturn(true);
+		when(mongoTemplate.find(any(Query.class), eq(JiraIssue.class))).thenReturn(List.of(existing));
+		when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+		doAnswer(
+						invocation -> {
+							Document document = invocation.getArgument(1);
+							document.put("issueId", ((JiraIssue) invocation.getArgument(0)).getIssueId());
+							return null;
+						})
+				.when(mongoConverter)
+				.write(any(), any());
+
+		jiraIssueChunkCache
+				.getJiraIssue(PROJECT_ID.toString(), "1001")
+				.ifPresent(issue -> issue.setIssueId("changed"));
+
+		assertEquals(
+				"1001",
+				jiraIssueChunkCache
+						.getStoredDocument(JiraIssue.class, PROJECT_ID.toString(), "1001")
+						.map(document -> document.get("issueId"))
+						.orElse(null));
+		assertFalse(
+				jiraIssueChunkCache
+						.getStoredDocument(JiraIssue.class, PROJECT_ID.toString(), "1002")
+						.isPresent());
+	}
+
+	private ReadData readData(Long id, String key) {
+		Issue issue = mock(Issue.class);
+		lenient().when(issue.getId()).thenReturn(id);
+		lenient().when(issue.getKey()).thenReturn(key);
+		ReadData readData = new ReadData();
+		readData.setIssue(issue);
+		readData.setProjectConfFieldMapping(
+				ProjectConfFieldMapping.builder().basicProjectConfigId(PROJECT_ID).build());
+		return readData;
+	}
+}
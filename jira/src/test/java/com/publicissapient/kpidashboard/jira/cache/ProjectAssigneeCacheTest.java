@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
+import com.publicissapient.kpidashboard.common.model.jira.Assignee;
+import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
+import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectAssigneeCacheTest {
+
+	private static final String PROJECT_ID = "63c04dc7b7617e260763ca4e";
+
+	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+
+	@InjectMocks private ProjectAssigneeCache projectAssigneeCache;
+
+	@Test
+	public void anonymisedNamesAreSequencedOncePerAssignee() {
+		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
+						PROJECT_ID, ProcessorConstants.JIRA))
+				.thenReturn(storedDetails());
+
+		assertEquals("User 1", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "31"));
+		assertEquals("User 3", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "33"));
+		assertEquals("User 3", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "33"));
+		assertEquals("User 4", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "34"));
+
+		verify(assigneeDetailsRepository, times(1))
+				.findByBasicProjectConfigIdAndSource(PROJECT_ID, ProcessorConstants.JIRA);
+	}
+
+	@Test
+	public void firstAssigneeOfNewProject() {
+		assertEquals("User 1", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "31"));
+		assertEquals("User 2", projectAssigneeCache.getAnonymisedName(PROJECT_ID, "32"));
+	}
+
+	@Test
+	public void knownAssigneeIsNotAdded() {
+		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
+						PROJECT_ID, ProcessorConstants.JIRA))
+				.thenReturn(storedDetails());
+
+		assertNull(
+				projectAssigneeCache.addAssignee(PROJECT_ID, new Assignee("31", "User 1"), false));
+		projectAssigneeCache.flush(Set.of(PROJECT_ID));
+
+		verify(assigneeDetailsRepository, never()).save(any());
+	}
+
+	@Test
+	public void newAssigneesAreSavedOncePerFlush() {
+		AssigneeDetails assigneeDetails =
+				projectAssigneeCache.addAssignee(PROJECT_ID, new Assignee("41", "John"), false);
+		projectAssigneeCache.addAssignee(PROJECT_ID, new Assignee("42", "Jane"), false);
+
+		assertNotNull(assigneeDetails);
+		assertEquals(PROJECT_ID, assigneeDetails.getBasicProjectConfigId());
+		assertEquals(2, assigneeDetails.getAssignee().size());
+
+		projectAssigneeCache.flush(Set.of(PROJECT_ID));
+		projectAssigneeCache.flush(Set.of(PROJECT_ID));
+
+		verify(assigneeDetailsRepository, times(1)).save(assigneeDetails);
+	}
+
+	@Test
+	public void evictSavesPendingAssigneesAndReloads() {
+		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(
+						PROJECT_ID, ProcessorConstants.JIRA))
+				.thenReturn(storedDetails());
+		projectAssigneeCache.getAnonymisedName(PROJECT_ID, "33");
+
+		projectAssigneeCache.evict(PROJECT_ID);
+		projectAssigneeCache.getAnonymisedName(PROJECT_ID, "31");
+
+		verify(assigneeDetailsRepository, times(1)).save(any());
+		verify(assigneeDetailsRepository, times(2))
+				.findByBasicProjectConfigIdAndSource(PROJECT_ID, ProcessorConstants.JIRA);
+	}
+
+	private static AssigneeDetails storedDetails() {
+		Set<Assignee> assignees =
+				new HashSet<>(List.of(new Assignee("31", "User 1"), new Assignee("32", "User 2")));
+		return new AssigneeDetails(PROJECT_ID, ProcessorConstants.JIRA, assignees, 3);
+	}
+}
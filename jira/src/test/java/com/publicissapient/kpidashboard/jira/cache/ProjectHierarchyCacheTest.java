@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.publicissapient.kpidashboard.common.model.application.HierarchyLevel;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
+import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectHierarchyCacheTest {
+
+	private static final String PROJECT_ID = "63c04dc7b7617e260763ca4e";
+	private static final String OTHER_PROJECT_ID = "63c04dc7b7617e260763ca4f";
+
+	@Mock private HierarchyLevelService hierarchyLevelService;
+
+	@Mock private ProjectHierarchyService projectHierarchyService;
+
+	@InjectMocks private ProjectHierarchyCache projectHierarchyCache;
+
+	@Test
+	public void hierarchiesAreLoadedOncePerProject() {
+		List<HierarchyLevel> hierarchyLevels = List.of(new HierarchyLevel());
+		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(hierarchyLevels);
+		when(projectHierarchyService.getProjectHierarchyMapByConfig(PROJECT_ID))
+				.thenReturn(new HashMap<>());
+
+		projectHierarchyCache.getHierarchyLevels(false);
+		projectHierarchyCache.getScrumHierarchy(PROJECT_ID);
+
+		assertSame(hierarchyLevels, projectHierarchyCache.getHierarchyLevels(false));
+		assertEquals(0, projectHierarchyCache.getScrumHierarchy(PROJECT_ID).size());
+		verify(hierarchyLevelService, times(1)).getFullHierarchyLevels(false);
+		verify(projectHierarchyService, times(1)).getProjectHierarchyMapByConfig(PROJECT_ID);
+	}
+
+	@Test
+	public void writtenHierarchiesReplaceNodeWithSameParent() {
+		ProjectHierarchy existing = hierarchy("sprint_1", "project_1", "Sprint 1");
+		ProjectHierarchy otherParent = hierarchy("sprint_1", "project_2", "Sprint 1");
+		Map<String, List<ProjectHierarchy>> hierarchyMap = new HashMap<>();
+		hierarchyMap.put("sprint_1", new ArrayList<>(List.of(existing, otherParent)));
+		when(projectHierarchyService.getProjectHierarchyMapByConfig(PROJECT_ID))
+				.thenReturn(hierarchyMap);
+		projectHierarchyCache.getScrumHierarchy(PROJECT_ID);
+
+		ProjectHierarchy renamed = hierarchy("sprint_1", "project_1", "Sprint 1 renamed");
+		ProjectHierarchy added = hierarchy("sprint_2", "project_1", "Sprint 2");
+		projectHierarchyCache.addHierarchies(Set.of(renamed, added));
+
+		Map<String, List<ProjectHierarchy>> cached =
+				projectHierarchyCache.getScrumHierarchy(PROJECT_ID);
+		assertEquals(List.of(otherParent, renamed), cached.get("sprint_1"));
+		assertEquals(List.of(added), cached.get("sprint_2"));
+		verify(projectHierarchyService, times(1)).getProjectHierarchyMapByConfig(PROJECT_ID);
+	}
+
+	@Test
+	public void evictReloadsHierarchies() {
+		when(projectHierarchyService.getProjectHierarchyMapByConfigId(PROJECT_ID))
+				.thenReturn(new HashMap<>());
+
+		projectHierarchyCache.getKanbanHierarchy(PROJECT_ID);
+		projectHierarchyCache.evict(PROJECT_ID);
+		projectHierarchyCache.getKanbanHierarchy(PROJECT_ID);
+
+		verify(projectHierarchyService, times(2)).getProjectHierarchyMapByConfigId(PROJECT_ID);
+	}
+
+	@Test
+	public void evictKeepsOtherProjectsAndHierarchyLevels() {
+		when(hierarchyLevelService.getFullHierarchyLevels(true)).thenReturn(List.of());
+		when(projectHierarchyService.getProjectHierarchyMapByConfigId(PROJECT_ID))
+				.thenReturn(new HashMap<>());
+		when(projectHierarchyService.getProjectHierarchyMapByConfigId(OTHER_PROJECT_ID))
+				.thenReturn(new HashMap<>());
+
+		projectHierarchyCache.getHierarchyLevels(true);
+		projectHierarchyCache.getKanbanHierarchy(PROJECT_ID);
+		projectHierarchyCache.getKanbanHierarchy(OTHER_PROJECT_ID);
+		projectHierarchyCache.evict(PROJECT_ID);
+		projectHierarchyCache.evict(null);
+		projectHierarchyCache.getHierarchyLevels(true);
+		projectHierarchyCache.getKanbanHierarchy(OTHER_PROJECT_ID);
+
+		verify(hierarchyLevelService, times(1)).getFullHierarchyLevels(true);
+		verify(projectHierarchyService, times(1)).getProjectHierarchyMapByConfigId(OTHER_PROJECT_ID);
+	}
+
+	@Test
+	public void refreshReloadsHierarchyLevels() {
+		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(List.of());
+
+		projectHierarchyCache.getHierarchyLevels(false);
+		projectHierarchyCache.refreshHierarchyLevels();
+		projectHierarchyCache.getHierarchyLevels(false);
+
+		verify(hierarchyLevelService, times(2)).getFullHierarchyLevels(false);
+	}
+
+	private ProjectHierarchy hierarchy(String nodeId, String parentId, String nodeName) {
+		ProjectHierarchy projectHierarchy = new ProjectHierarchy();
+		projectHierarchy.setBasicProjectConfigId(new ObjectId(PROJECT_ID));
+		projectHierarchy.setNodeId(nodeId);
+		projectHierarchy.setParentId(parentId);
+		projectHierarchy.setNodeName(nodeName);
+		return projectHierarchy;
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class HostRateLimiterTest {
+
+	private static final String HOST = "jira.example.com";
+
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicLong slept = new AtomicLong();
+	private HostRateLimiter hostRateLimiter;
+
+	@Before
+	public void setUp() {
+		hostRateLimiter =
+				new HostRateLimiter(
+						10,
+						2,
+						clock::get,
+						nanos -> {
+							slept.addAndGet(nanos);
+							clock.addAndGet(nanos);
+						});
+	}
+
+	@Test
+	public void callsWithinBurstDoNotWait() throws InterruptedException {
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire(HOST);
+
+		assertEquals(0, slept.get());
+	}
+
+	@Test
+	public void callsBeyondBurstWaitForConfiguredRate() throws InterruptedException {
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire(HOST);
+
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(100), slept.get());
+	}
+
+	@Test
+	public void hostsAreLimitedSeparately() throws InterruptedException {
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire("other.example.com");
+		hostRateLimiter.acquire(null);
+
+		assertEquals(0, slept.get());
+	}
+
+	@Test
+	public void tooManyRequestsPausesForRetryAfter() throws InterruptedException {
+		assertTrue(
+				hostRateLimiter.onResponse(HOST, 429, Map.of(HostRateLimiter.RETRY_AFTER, "5")::get));
+
+		hostRateLimiter.acquire(HOST);
+
+		assertTrue(slept.get() >= TimeUnit.SECONDS.toNanos(5));
+	}
+
+	@Test
+	public void tooManyRequestsWithoutRetryAfterBacksOffExponentially() throws InterruptedException {
+		hostRateLimiter.onResponse(HOST, 429, name -> null);
+		hostRateLimiter.acquire(HOST);
+		long firstPause = slept.getAndSet(0);
+		hostRateLimiter.onResponse(HOST, 429, name -> null);
+		hostRateLimiter.acquire(HOST);
+
+		assertTrue(firstPause >= TimeUnit.SECONDS.toNanos(1));
+		assertTrue(slept.get() >= TimeUnit.SECONDS.toNanos(2));
+	}
+
+	@Test
+	public void rateLimitHeadersSetRateOfHost() throws InterruptedException {
+		Map<String, String> headers =
+				Map.of(
+						HostRateLimiter.RATE_LIMIT_LIMIT, "1",
+						HostRateLimiter.RATE_LIMIT_FILL_RATE, "1",
+						HostRateLimiter.RATE_LIMIT_INTERVAL_SECONDS, "2");
+		assertFalse(hostRateLimiter.onResponse(HOST, 200, headers::get));
+
+		hostRateLimiter.acquire(HOST);
+		hostRateLimiter.acquire(HOST);
+
+		assertEquals(TimeUnit.SECONDS.toNanos(2), slept.get());
+	}
+
+	@Test
+	public void exhaustedRemainingWaitsForReset() throws InterruptedException {
+		String reset = String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 30);
+		Map<String, String> headers =
+				Map.of(HostRateLimiter.RATE_LIMIT_REMAINING, "0", HostRateLimiter.RATE_LIMIT_RESET, reset);
+		hostRateLimiter.onResponse(HOST, 200, headers::get);
+
+		hostRateLimiter.acquire(HOST);
+
+		assertTrue(slept.get() >= TimeUnit.SECONDS.toNanos(20));
+	}
+}
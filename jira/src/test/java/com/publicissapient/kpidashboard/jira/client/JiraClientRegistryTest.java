@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rest.client.auth.BasicHttpAuthenticationHandler;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JiraClientRegistryTest {
+
+	private static final URI SERVER_URI = URI.create("https://jira.example.com");
+
+	private MeterRegistry meterRegistry;
+	private JiraClientRegistry jiraClientRegistry;
+
+	static JiraClientRegistry newRegistry() {
+		return newRegistry(new SimpleMeterRegistry());
+	}
+
+	private static JiraClientRegistry newRegistry(MeterRegistry meterRegistry) {
+		JiraProcessorConfig jiraProcessorConfig = new JiraProcessorConfig();
+		jiraProcessorConfig.setSocketTimeOut(30);
+		jiraProcessorConfig.setHttpClientMaxConnectionsPerRoute(5);
+		jiraProcessorConfig.setHttpClientIdleEvictionSeconds(0);
+		JiraClientRegistry registry = new JiraClientRegistry(jiraProcessorConfig, meterRegistry);
+		registry.registerMetrics();
+		return registry;
+	}
+
+	@Before
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		jiraClientRegistry = newRegistry(meterRegistry);
+	}
+
+	@After
+	public void tearDown() {
+		jiraClientRegistry.close();
+	}
+
+	@Test
+	public void projectsOfOneConnectionSharePool() {
+		ProcessorJiraRestClient first = borrow("connection1", "user:secret");
+		ProcessorJiraRestClient second = borrow("connection1", "user:secret");
+
+		assertNotSame(first, second);
+		assertNotNull(second.getProcessorSearchClient());
+		assertEquals(1, pools(), 0);
+		assertEquals(2, borrowers("connection1"), 0);
+	}
+
+	@Test
+	public void otherCredentialsGetOwnPool() {
+		borrow("connection1", "user:secret");
+		borrow("connection1", "user:rotated");
+		borrow("connection2", "user:secret");
+
+		assertEquals(3, pools(), 0);
+	}
+
+	@Test
+	public void closingClientGivesPoolBackOnce() throws IOException {
+		ProcessorJiraRestClient first = borrow("connection1", "user:secret");
+		borrow("connection1", "user:secret");
+
+		first.close();
+		first.close();
+
+		assertEquals(1, borrowers("connection1"), 0);
+	}
+
+	@Test
+	public void idlePoolsAreEvicted() throws IOException {
+		borrow("connection1", "user:secret").close();
+		borrow("connection2", "user:secret");
+
+		jiraClientRegistry.evictIdlePools();
+
+		assertEquals(1, pools(), 0);
+		assertNull(
+				meterRegistry
+						.find(JiraClientRegistry.BORROWERS_METRIC)
+						.tag("connection", "connection1")
+						.gauge());
+		assertEquals(1, borrowers("connection2"), 0);
+	}
+
+	@Test
+	public void evictedPoolIsCreatedAgainOnBorrow() throws IOException {
+		borrow("connection1", "user:secret").close();
+		jiraClientRegistry.evictIdlePools();
+
+		borrow("connection1", "user:secret");
+
+		assertEquals(1, pools(), 0);
+		assertEquals(1, borrowers("connection1"), 0);
+	}
+
+	private ProcessorJiraRestClient borrow(String connectionId, String credentials) {
+		String[] userAndPassword = credentials.split(":");
+		return jiraClientRegistry.borrow(
+				connectionId,
+				SERVER_URI,
+				credentials,
+				new BasicHttpAuthenticationHandler(userAndPassword[0], userAndPassword[1]));
+	}
+
+	private double pools() {
+		return meterRegistry.get(JiraClientRegistry.POOLS_METRIC).gauge().value();
+	}
+
+	private double borrowers(String connectionId) {
+		return meterRegistry
+				.get(JiraClientRegistry.BORROWERS_METRIC)
+				.tag("connection", connectionId)
+				.gauge()
+				.value();
+	}
+}
@@ -30,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.atlassian.jira.rest.client.internal.async.DisposableHttpClient;
@@ -78,6 +79,8 @@ public class JiraClientTest {
 
 	@Mock private ToolCredentialProvider toolCredentialProvider;
 
+	@Spy private JiraClientRegistry jiraClientRegistry = JiraClientRegistryTest.newRegistry();
+
 	@InjectMocks private JiraClient jiraClient;
 
 	@Test(expected = NullPointerException.class)
@@ -23,6 +23,8 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
 
@@ -40,7 +42,6 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.http.ResponseEntity;
@@ -55,7 +56,7 @@ import com.publicissapient.kpidashboard.common.service.TemplateConfigurationServ
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfigurationImpl;
 import com.publicissapient.kpidashboard.jira.model.JiraProcessor;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
-import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
+import com.publicissapient.kpidashboard.jira.scheduler.ProjectJobQueue;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JobControllerTest {
@@ -69,7 +70,7 @@ public class JobControllerTest {
 
 	@Mock private ProjectToolConfigRepository toolRepository;
 
-	@Mock private OngoingExecutionsService ongoingExecutionsService;
+	@Mock private ProjectJobQueue projectJobQueue;
 
 	@Mock private Job fetchIssueSprintJob;
 
@@ -93,7 +94,7 @@ public class JobControllerTest {
 	}
 
 	@Test
-	public void testStartScrumBoardJob_Success() throws JobExecutionException {
+	public void testStartScrumBoardJob_Success() {
 		// Mocking fetchBasicProjConfId to return a list of project IDs
 		List<String> projectIds = new ArrayList<>();
 		projectIds.add("projectId1");
@@ -103,26 +104,30 @@ public class JobControllerTest {
 
 		// Calling the method
 		ResponseEntity<String> response = jobController.startScrumBoardJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumBoardJob), any(JobParameters.class), eq(false), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for scrum board", response.getBody());
 	}
 
 	@Test
-	public void testStartScrumBoardJob_ExceptionHandling() throws JobExecutionException {
+	public void testStartScrumBoardJob_ExceptionHandling() {
 		// Mocking fetchBasicProjConfId to return a list of project IDs
 		List<String> projectIds = new ArrayList<>();
 		projectIds.add("projectId1");
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueScrumBoardJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueScrumBoardJob), any(JobParameters.class), anyBoolean(), eq(true)))
+				.thenReturn(false);
 
 		// Calling the method
 		ResponseEntity<String> response = jobController.startScrumBoardJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumBoardJob), any(JobParameters.class), eq(false), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for scrum board", response.getBody());
@@ -136,12 +141,10 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-		when(jobLauncher.run(any(Job.class), any(JobParameters.class)))
-				.thenReturn(new JobExecution(1L));
-
 		// Calling the method
 		ResponseEntity<String> response = jobController.startScrumJqlJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumJqlJob), any(JobParameters.class), eq(false), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for scrum JQL", response.getBody());
@@ -155,13 +158,15 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueScrumJqlJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueScrumJqlJob), any(JobParameters.class), anyBoolean(), eq(true)))
+				.thenReturn(false);
 
 		// Calling the method
 		ResponseEntity<String> response = jobController.startScrumJqlJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumJqlJob), any(JobParameters.class), eq(false), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for scrum JQL", response.getBody());
@@ -175,12 +180,10 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-		when(jobLauncher.run(any(Job.class), any(JobParameters.class)))
-				.thenReturn(new JobExecution(1L));
-
 		// Calling the method
 		ResponseEntity<String> response = jobController.startKanbanJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanBoardJob), any(JobParameters.class), eq(true), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for Kanban Board", response.getBody());
@@ -194,13 +197,15 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		// doThrow(new RuntimeException("Simulated job execution
-		// exception")).when(jobLauncher)
-		// .run(eq(fetchIssueKanbanBoardJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueKanbanBoardJob), any(JobParameters.class), anyBoolean(), eq(true)))
+				.thenReturn(false);
 
 		// Calling the method
 		ResponseEntity<String> response = jobController.startKanbanJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanBoardJob), any(JobParameters.class), eq(true), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for Kanban Board", response.getBody());
@@ -214,12 +219,10 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-		when(jobLauncher.run(any(Job.class), any(JobParameters.class)))
-				.thenReturn(new JobExecution(1L));
-
 		// Calling the method
 		ResponseEntity<String> response = jobController.startKanbanJqlJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanJqlJob), any(JobParameters.class), eq(true), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for Kanban JQL", response.getBody());
@@ -233,13 +236,15 @@ public class JobControllerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueKanbanJqlJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueKanbanJqlJob), any(JobParameters.class), anyBoolean(), eq(true)))
+				.thenReturn(false);
 
 		// Calling the method
 		ResponseEntity<String> response = jobController.startKanbanJqlJob();
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanJqlJob), any(JobParameters.class), eq(true), eq(true));
 
 		// Verifying the response
 		assertEquals("job started for Kanban JQL", response.getBody());
@@ -285,8 +290,10 @@ public class JobControllerTest {
 
 	@Test
 	public void testStartProjectWiseIssueJob_ExceptionHandling() throws Exception {
-		// Mocking ongoingExecutionsService.isExecutionInProgress() to return true
-		when(ongoingExecutionsService.isExecutionInProgress(anyString())).thenReturn(true);
+		// Project is already running
+		when(toolRepository.findByToolNameAndBasicProjectConfigId(any(), any()))
+				.thenReturn(Collections.singletonList(new ProjectToolConfig()));
+		when(projectJobQueue.enqueue(any(), any(), anyBoolean(), eq(true))).thenReturn(false);
 
 		// Calling the method with ProcessorExecutionBasicConfig
 		ProcessorExecutionBasicConfig processorExecutionBasicConfig =
@@ -306,8 +313,6 @@ public class JobControllerTest {
 
 	@Test
 	public void testStartProjectWiseIssueJob_Success() throws Exception {
-		// Mocking ongoingExecutionsService.isExecutionInProgress() to return false
-		when(ongoingExecutionsService.isExecutionInProgress(anyString())).thenReturn(false);
 		// Mocking findById() to return an Optional<ProjectBasicConfig>
 		Optional<ProjectBasicConfig> projectBasicConfig = Optional.of(new ProjectBasicConfig());
 		when(projectConfigRepository.findById(any())).thenReturn(projectBasicConfig);
@@ -331,8 +336,7 @@ public class JobControllerTest {
 
 	@Test
 	public void testStartProjectWiseIssueJob_SuccessfulExecution() throws Exception {
-		// Mocking ongoingExecutionsService.isExecutionInProgress() to return false
-		when(ongoingExecutionsService.isExecutionInProgress(anyString())).thenReturn(false);
+		when(projectJobQueue.enqueue(any(), any(), anyBoolean(), eq(true))).thenReturn(true);
 
 		// Mocking findById() to return an Optional<ProjectBasicConfig>
 		Optional<ProjectBasicConfig> projectBasicConfig = Optional.of(new ProjectBasicConfig());
@@ -350,6 +354,10 @@ public class JobControllerTest {
 				Collections.singletonList("507f1f77bcf86cd799439011"));
 		ResponseEntity<String> response =
 				jobController.startProjectWiseIssueJob(processorExecutionBasicConfig);
+
+		assertEquals(200, response.getStatusCode().value());
+		verify(projectJobQueue)
+				.enqueue(eq(fetchIssueScrumBoardJob), any(JobParameters.class), eq(false), eq(true));
 	}
 
 	@Test
@@ -383,8 +391,7 @@ public class JobControllerTest {
 
 	@Test
 	public void testStartProjectWiseIssueJobKanban_SuccessfulExecution() throws Exception {
-		// Mocking ongoingExecutionsService.isExecutionInProgress() to return false
-		when(ongoingExecutionsService.isExecutionInProgress(anyString())).thenReturn(false);
+		when(projectJobQueue.enqueue(any(), any(), anyBoolean(), eq(true))).thenReturn(true);
 
 		// Mocking findById() to return an Optional<ProjectBasicConfig>
 		ProjectBasicConfig projectBasicConfig = new ProjectBasicConfig();
@@ -403,5 +410,9 @@ public class JobControllerTest {
 				Collections.singletonList("507f1f77bcf86cd799439011"));
 		ResponseEntity<String> response =
 				jobController.startProjectWiseIssueJob(processorExecutionBasicConfig);
+
+		assertEquals(200, response.getStatusCode().value());
+		verify(projectJobQueue)
+				.enqueue(eq(fetchIssueKanbanBoardJob), any(JobParameters.class), eq(true), eq(true));
 	}
 }
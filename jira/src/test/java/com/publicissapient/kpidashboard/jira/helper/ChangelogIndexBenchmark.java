@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
+import com.atlassian.jira.rest.client.api.domain.FieldType;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+/**
+ * Compares rescanning the whole changelog of an issue for every tracked field, as the history
+ * processor used to, with reading the fields from a {@link ChangelogIndex} built once. Run with
+ * {@link #main(String[])} from the test classpath; it is not part of the unit test run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangelogIndexBenchmark {
+
+	/** Fields read by the history processor for every issue. */
+	private static final String[] TRACKED_FIELDS = {
+		"status",
+		"assignee",
+		"priority",
+		"Fix Version",
+		"labels",
+		"timespent",
+		"Flagged",
+		"Sprint",
+		"Severity",
+		"duedate"
+	};
+
+	/** Fields changed by the generated changelog, the tracked ones among others. */
+	private static final String[] CHANGED_FIELDS = {
+		"status",
+		"assignee",
+		"priority",
+		"Fix Version",
+		"labels",
+		"timespent",
+		"Flagged",
+		"Sprint",
+		"Severity",
+		"duedate",
+		"description",
+		"summary",
+		"Story Points",
+		"Rank",
+		"Component"
+	};
+
+	/** Changelog items of the issue, in groups of {@link #itemsPerGroup} items. */
+	@Param({"1000", "10000", "50000"})
+	private int changelogItems;
+
+	@Param({"3"})
+	private int itemsPerGroup;
+
+	private List<ChangelogGroup> changeLogList;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+						new OptionsBuilder()
+								.include(ChangelogIndexBenchmark.class.getSimpleName())
+								.addProfiler("gc")
+								.build())
+				.run();
+	}
+
+	@Setup
+	public void setUp() {
+		changeLogList = new ArrayList<>(changelogItems / itemsPerGroup + 1);
+		DateTime created = new DateTime(2024, 1, 2, 10, 15);
+		int changed = 0;
+		for (int g = 0; changed < changelogItems; g++) {
+			List<ChangelogItem> items = new ArrayList<>(itemsPerGroup);
+			for (int i = 0; i < itemsPerGroup && changed < changelogItems; i++) {
+				String field = CHANGED_FIELDS[changed++ % CHANGED_FIELDS.length];
+				items.add(new ChangelogItem(FieldType.JIRA, field, null, "from " + g, null, "to " + g));
+			}
+			changeLogList.add(new ChangelogGroup(null, created.plusHours(g), items));
+		}
+	}
+
+	@Benchmark
+	public void scanPerField(Blackhole blackhole) {
+		for (String field : TRACKED_FIELDS) {
+			for (ChangelogGroup history : changeLogList) {
+				for (ChangelogItem item : history.getItems()) {
+					if (item.getField().trim().equalsIgnoreCase(field.trim())) {
+						blackhole.consume(item.getToString());
+						blackhole.consume(
+								LocalDateTime.parse(
+										JiraProcessorUtil.getFormattedDate(
+												JiraProcessorUtil.deodeUTF8String(history.getCreated()))));
+					}
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void indexOnce(Blackhole blackhole) {
+		ChangelogIndex changelogIndex = ChangelogIndex.of(changeLogList);
+		for (String field : TRACKED_FIELDS) {
+			for (ChangelogIndex.IndexedItem indexedItem : changelogIndex.getItems(field)) {
+				blackhole.consume(indexedItem.item().getToString());
+				blackhole.consume(indexedItem.updatedOn());
+			}
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
+import com.atlassian.jira.rest.client.api.domain.FieldType;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+public class ChangelogIndexTest {
+
+	@Test
+	public void itemsAreBucketedByNormalizedFieldName() {
+		DateTime created = new DateTime(2024, 1, 10, 10, 30);
+		ChangelogItem status = item("Status", "Open", "In Progress");
+		ChangelogItem assignee = item("assignee", "", "John");
+		ChangelogItem statusAgain = item(" status ", "In Progress", "Closed");
+		List<ChangelogGroup> changeLogList = new ArrayList<>();
+		changeLogList.add(new ChangelogGroup(null, created, List.of(status, assignee)));
+		changeLogList.add(new ChangelogGroup(null, created.plusDays(1), List.of(statusAgain)));
+
+		ChangelogIndex changelogIndex = ChangelogIndex.of(changeLogList);
+
+		List<ChangelogIndex.IndexedItem> statusItems = changelogIndex.getItems("STATUS ");
+		assertEquals(2, statusItems.size());
+		assertSame(status, statusItems.get(0).item());
+		assertSame(statusAgain, statusItems.get(1).item());
+		assertEquals(1, changelogIndex.getItems("Assignee").size());
+		assertTrue(changelogIndex.getItems("priority").isEmpty());
+	}
+
+	@Test
+	public void createdDateIsParsedOncePerGroup() {
+		DateTime created = new DateTime(2024, 1, 10, 10, 30);
+		List<ChangelogGroup> changeLogList = new ArrayList<>();
+		changeLogList.add(
+				new ChangelogGroup(
+						null, created, List.of(item("status", "Open", "Done"), item("labels", "", "ui"))));
+
+		ChangelogIndex changelogIndex = ChangelogIndex.of(changeLogList);
+
+		LocalDateTime expected =
+				LocalDateTime.parse(
+						JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(created)));
+		LocalDateTime statusUpdatedOn = changelogIndex.getItems("status").get(0).updatedOn();
+		assertEquals(expected, statusUpdatedOn);
+		assertSame(statusUpdatedOn, changelogIndex.getItems("labels").get(0).updatedOn());
+	}
+
+	@Test
+	public void emptyChangelogReturnsNoItems() {
+		assertTrue(ChangelogIndex.of(new ArrayList<>()).getItems("status").isEmpty());
+		assertTrue(ChangelogIndex.of(null).getItems(null).isEmpty());
+	}
+
+	private ChangelogItem item(String field, String fromString, String toString) {
+		return new ChangelogItem(FieldType.JIRA, field, null, fromString, null, toString);
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.util.JiraIssueClientUtil;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+/**
+ * Compares decoding the fields, sprints and creation date of an issue in every sub-processor, as
+ * the scrum processor used to, with the shared {@link DecodedIssue} view. Run with {@link
+ * #main(String[])} from the test classpath; it is not part of the unit test run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodedIssueBenchmark {
+
+	private static final String SPRINT_FIELD = "customfield_12700";
+
+	/** Field maps built per issue: issue, history and sprint conversions plus two filters. */
+	private static final int FIELD_MAP_READS = 5;
+
+	/** Sprint field parsed by the issue, history and sprint conversions. */
+	private static final int SPRINT_READS = 3;
+
+	/** First change log entries stamped with the creation date by the history conversion. */
+	private static final int CREATED_DATE_READS = 8;
+
+	@Param({"100"})
+	private int issueCount;
+
+	@Param({"60"})
+	private int fieldsPerIssue;
+
+	private List<Issue> issues;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+						new OptionsBuilder()
+								.include(DecodedIssueBenchmark.class.getSimpleName())
+								.addProfiler("gc")
+								.build())
+				.run();
+	}
+
+	@Setup
+	public void setUp() {
+		issues = new ArrayList<>(issueCount);
+		for (int i = 0; i < issueCount; i++) {
+			issues.add(issue(i));
+		}
+	}
+
+	@Benchmark
+	public void decodedPerSubProcessor(Blackhole blackhole) throws Exception {
+		for (Issue issue : issues) {
+			for (int i = 0; i < FIELD_MAP_READS; i++) {
+				Map<String, IssueField> fields = JiraIssueClientUtil.buildFieldMap(issue.getFields());
+				blackhole.consume(fields);
+				if (i < SPRINT_READS) {
+					List<SprintDetails> sprints =
+							JiraProcessorUtil.processSprintDetail(fields.get(SPRINT_FIELD).getValue());
+					sprints.sort(JiraHelper.SPRINT_COMPARATOR);
+					blackhole.consume(sprints);
+				}
+			}
+			for (int i = 0; i < CREATED_DATE_READS; i++) {
+				blackhole.consume(
+						LocalDateTime.parse(
+								JiraProcessorUtil.getFormattedDate(
+										JiraProcessorUtil.deodeUTF8String(issue.getCreationDate()))));
+			}
+		}
+	}
+
+	@Benchmark
+	public void decodedOnce(Blackhole blackhole) throws Exception {
+		for (Issue issue : issues) {
+			DecodedIssue decodedIssue = DecodedIssue.of(issue);
+			for (int i = 0; i < FIELD_MAP_READS; i++) {
+				blackhole.consume(decodedIssue.getFields());
+				if (i < SPRINT_READS) {
+					blackhole.consume(decodedIssue.getSprints(SPRINT_FIELD));
+				}
+			}
+			for (int i = 0; i < CREATED_DATE_READS; i++) {
+				blackhole.consume(decodedIssue.getCreatedOn());
+			}
+		}
+	}
+
+	private Issue issue(int index) {
+		List<IssueField> issueFields = new ArrayList<>(fieldsPerIssue + 1);
+		for (int f = 0; f < fieldsPerIssue; f++) {
+			String id = "customfield_" + (10000 + f);
+			issueFields.add(new IssueField(id, "Custom field " + f, null, "value " + index));
+		}
+		issueFields.add(
+				new IssueField(
+						SPRINT_FIELD,
+						"Sprint",
+						null,
+						new JSONArray(
+								Arrays.asList(
+										sprint(index + 1, "2024-01-20T11:38:31.937Z"),
+										sprint(index, "2024-01-06T11:38:31.937Z")))));
+		DateTime created = new DateTime(2024, 1, 2, 10, 15).plusMinutes(index);
+		return new Issue(
+				"Issue summary " + index,
+				null,
+				"TEST-" + index,
+				(long) index,
+				null,
+				null,
+				null,
+				"story",
+				null,
+				null,
+				new ArrayList<>(),
+				null,
+				null,
+				created,
+				created.plusDays(3),
+				null,
+				new ArrayList<>(),
+				new ArrayList<>(),
+				new ArrayList<>(),
+				null,
+				issueFields,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				Arrays.asList("expandos"),
+				null,
+				Arrays.asList(),
+				null,
+				new HashSet<>(Arrays.asList("backend")));
+	}
+
+	private static String sprint(int id, String startDate) {
+		return "com.atlassian.greenhopper.service.sprint.Sprint@6fc7072e[id="
+				+ id
+				+ ",rapidViewId=11649,state=CLOSED,name=Sprint "
+				+ id
+				+ ",startDate="
+				+ startDate
+				+ ",endDate=<null>,completeDate=<null>,sequence="
+				+ id
+				+ ",goal=]";
+	}
+}
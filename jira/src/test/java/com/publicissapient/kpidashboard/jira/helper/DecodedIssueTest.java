@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.codehaus.jettison.json.JSONArray;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.util.JiraProcessorUtil;
+
+public class DecodedIssueTest {
+
+	private static final String SPRINT_FIELD = "customfield_12700";
+
+	@Test
+	public void fieldsAndDatesAreDecodedOnce() {
+		DateTime created = new DateTime(2024, 1, 10, 10, 30);
+		DateTime updated = created.plusDays(2);
+		Issue issue = issue(created, updated, new JSONArray());
+
+		DecodedIssue decodedIssue = DecodedIssue.of(issue);
+
+		assertSame(issue, decodedIssue.getIssue());
+		assertEquals("Sprint", decodedIssue.getField(SPRINT_FIELD).getName());
+		assertEquals(
+				JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(created)),
+				decodedIssue.getCreatedDate());
+		assertEquals(
+				JiraProcessorUtil.getFormattedDate(JiraProcessorUtil.deodeUTF8String(updated)),
+				decodedIssue.getChangeDate());
+		LocalDateTime createdOn = decodedIssue.getCreatedOn();
+		assertEquals(LocalDateTime.parse(decodedIssue.getCreatedDate()), createdOn);
+		assertSame(createdOn, decodedIssue.getCreatedOn());
+		assertEquals("", decodedIssue.getStatus());
+	}
+
+	@Test
+	public void sprintsAreParsedOnceAndSorted() throws Exception {
+		JSONArray sprints =
+				new JSONArray(
+						Arrays.asList(
+								sprint(2, "Sprint 2", "2020-01-20T11:38:31.937Z"),
+								sprint(1, "Sprint 1", "2020-01-06T11:38:31.937Z")));
+		DecodedIssue decodedIssue = DecodedIssue.of(issue(DateTime.now(), DateTime.now(), sprints));
+
+		List<SprintDetails> parsed = decodedIssue.getSprints(SPRINT_FIELD);
+
+		assertEquals(2, parsed.size());
+		assertEquals("Sprint 1", parsed.get(0).getSprintName());
+		assertEquals("Sprint 2", parsed.get(1).getSprintName());
+	}
+
+	@Test
+	public void changesToReadSprintsDoNotReachTheNextRead() throws Exception {
+		JSONArray sprints =
+				new JSONArray(Arrays.asList(sprint(1, "Sprint 1", "2020-01-06T11:38:31.937Z")));
+		DecodedIssue decodedIssue = DecodedIssue.of(issue(DateTime.now(), DateTime.now(), sprints));
+
+		SprintDetails read = decodedIssue.getSprints(SPRINT_FIELD).get(0);
+		read.setSprintID("1_project");
+
+		SprintDetails readAgain = decodedIssue.getSprints(SPRINT_FIELD).get(0);
+		assertNotSame(read, readAgain);
+		assertEquals("1", readAgain.getSprintID());
+		assertEquals("Sprint 1", readAgain.getSprintName());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void parsedSprintsAreReadOnly() throws Exception {
+		JSONArray sprints =
+				new JSONArray(Arrays.asList(sprint(1, "Sprint 1", "2020-01-06T11:38:31.937Z")));
+		DecodedIssue.of(issue(DateTime.now(), DateTime.now(), sprints))
+				.getSprints(SPRINT_FIELD)
+				.clear();
+	}
+
+	@Test
+	public void missingIssueAndFieldsYieldEmptyValues() throws Exception {
+		DecodedIssue decodedIssue = DecodedIssue.of(null);
+
+		assertTrue(decodedIssue.getFields().isEmpty());
+		assertNull(decodedIssue.getField(SPRINT_FIELD));
+		assertNull(decodedIssue.getCreatedOn());
+		assertEquals("", decodedIssue.getCreatedDate());
+		assertTrue(decodedIssue.getSprints(SPRINT_FIELD).isEmpty());
+		assertTrue(
+				DecodedIssue.of(issue(DateTime.now(), DateTime.now(), null))
+						.getSprints(SPRINT_FIELD)
+						.isEmpty());
+	}
+
+	private static String sprint(int id, String name, String startDate) {
+		return "com.atlassian.greenhopper.service.sprint.Sprint@6fc7072e[id="
+				+ id
+				+ ",rapidViewId=11649,state=CLOSED,name="
+				+ name
+				+ ",startDate="
+				+ startDate
+				+ ",endDate=<null>,completeDate=<null>,sequence=22778,goal=]";
+	}
+
+	private static Issue issue(DateTime created, DateTime updated, Object sprints) {
+		List<IssueField> issueFields = new ArrayList<>();
+		issueFields.add(new IssueField(SPRINT_FIELD, "Sprint", null, sprints));
+		return new Issue(
+				"summary1",
+				null,
+				"key1",
+				1L,
+				null,
+				null,
+				null,
+				"story",
+				null,
+				null,
+				new ArrayList<>(),
+				null,
+				null,
+				created,
+				updated,
+				null,
+				new ArrayList<>(),
+				new ArrayList<>(),
+				new ArrayList<>(),
+				null,
+				issueFields,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				Arrays.asList("expandos"),
+				null,
+				Arrays.asList(),
+				null,
+				new HashSet<>(Arrays.asList("label1")));
+	}
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.codehaus.jettison.json.JSONObject;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IssueFingerprintHelperTest {
+
+	private static final ObjectId PROJECT_ID = new ObjectId("63bfa0d5b7617e260763ca21");
+	private static final DateTime CREATED = new DateTime(2024, 1, 10, 10, 0);
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Mock private MongoTemplate mongoTemplate;
+
+	@InjectMocks private IssueFingerprintHelper issueFingerprintHelper;
+
+	private ProjectConfFieldMapping projectConfig;
+
+	@Before
+	public void setUp() {
+		projectConfig = ProjectConfFieldMapping.builder().basicProjectConfigId(PROJECT_ID).build();
+	}
+
+	@Test
+	public void watcherChangeKeepsFingerprint() throws Exception {
+		when(jiraProcessorConfig.isIssueFingerprintEnabled()).thenReturn(true);
+
+		String fingerprint =
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 1), projectConfig));
+		String watched =
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 4, 1), projectConfig));
+
+		assertNotNull(fingerprint);
+		assertEquals(fingerprint, watched);
+	}
+
+	@Test
+	public void storedFieldOrChangelogChangeChangesFingerprint() throws Exception {
+		when(jiraProcessorConfig.isIssueFingerprintEnabled()).thenReturn(true);
+
+		String fingerprint =
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 1), projectConfig));
+
+		assertNotEquals(
+				fingerprint,
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "8", 1, 1), projectConfig)));
+		assertNotEquals(
+				fingerprint,
+				issueFingerprintHelper.getFingerprint(
+						readData(issue("Renamed story", "5", 1, 1), projectConfig)));
+		assertNotEquals(
+				fingerprint,
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 2), projectConfig)));
+	}
+
+	@Test
+	public void fieldMappingChangeChangesFingerprint() throws Exception {
+		when(jiraProcessorConfig.isIssueFingerprintEnabled()).thenReturn(true);
+		MongoConverter mongoConverter = mock(MongoConverter.class);
+		when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+		doAnswer(
+						invocation -> {
+							FieldMapping fieldMapping = invocation.getArgument(0);
+							((Document) invocation.getArgument(1))
+									.put("sprintName", fieldMapping.getSprintName());
+							return null;
+						})
+				.when(mongoConverter)
+				.write(any(), any());
+		FieldMapping fieldMapping = new FieldMapping();
+		fieldMapping.setSprintName("customfield_10020");
+		projectConfig.setFieldMapping(fieldMapping);
+		String fingerprint =
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 1), projectConfig));
+
+		FieldMapping changedFieldMapping = new FieldMapping();
+		changedFieldMapping.setSprintName("customfield_10021");
+		projectConfig.setFieldMapping(changedFieldMapping);
+
+		assertNotEquals(
+				fingerprint,
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 1), projectConfig)));
+	}
+
+	@Test
+	public void noFingerprintWhenDisabledOrForSprintFetch() throws Exception {
+		assertNull(
+				issueFingerprintHelper.getFingerprint(readData(issue("Story", "5", 1, 1), projectConfig)));
+
+		when(jiraProcessorConfig.isIssueFingerprintEnabled()).thenReturn(true);
+		ReadData sprintReadData = readData(issue("Story", "5", 1, 1), projectConfig);
+		sprintReadData.setSprintFetch(true);
+
+		assertNull(issueFingerprintHelper.getFingerprint(sprintReadData));
+		assertFalse(issueFingerprintHelper.isUnchanged(JiraIssue.class, sprintReadData, null));
+	}
+
+	@Test
+	public void unchangedIssueIsCountedAsSkippedOnceTheChunkIsCommitted() throws Exception {
+		ReadData readData = readData(issue("Story", "5", 1, 1), projectConfig);
+		when(jiraIssueChunkCache.getStoredFingerprint(JiraIssue.class, PROJECT_ID.toString(), "1001"))
+				.thenReturn(Optional.of("abc"));
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L));
+
+		assertTrue(issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, "abc"));
+		assertFalse(issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, "def"));
+		assertFalse(stepExecution.getExecutionContext().containsKey(JiraConstants.SKIPPED_ISSUES));
+		issueFingerprintHelper.countSkippedIssues(stepExecution);
+
+		assertEquals(1, stepExecution.getExecutionContext().getInt(JiraConstants.SKIPPED_ISSUES));
+	}
+
+	@Test
+	public void skippedIssuesOfRolledBackChunkAreNotCounted() throws Exception {
+		ReadData readData = readData(issue("Story", "5", 1, 1), projectConfig);
+		when(jiraIssueChunkCache.getStoredFingerprint(JiraIssue.class, PROJECT_ID.toString(), "1001"))
+				.thenReturn(Optional.of("abc"));
+		StepExecution stepExecution = new StepExecution("step", new JobExecution(1L));
+
+		assertTrue(issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, "abc"));
+		issueFingerprintHelper.discardSkippedIssues();
+		// the chunk is processed again after the rollback
+		assertTrue(issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, "abc"));
+		issueFingerprintHelper.countSkippedIssues(stepExecution);
+
+		assertEquals(1, stepExecution.getExecutionContext().getInt(JiraConstants.SKIPPED_ISSUES));
+	}
+
+	@Test
+	public void fingerprintsAreStoredWithBulkUpdate() {
+		BulkOperations bulkOperations = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JiraIssue.class))
+				.thenReturn(bulkOperations);
+
+		issueFingerprintHelper.saveFingerprints(
+				JiraIssue.class,
+				List.of(
+						new IssueFingerprintHelper.IssueFingerprint(PROJECT_ID.toString(), "1001", "abc"),
+						new IssueFingerprintHelper.IssueFingerprint(PROJECT_ID.toString(), "1002", "def")));
+
+		verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+		verify(bulkOperations, times(1)).execute();
+	}
+
+	private static ReadData readData(Issue issue, ProjectConfFieldMapping projectConfig) {
+		ReadData readData = new ReadData();
+		readData.setIssue(issue);
+		readData.setProjectConfFieldMapping(projectConfig);
+		return readData;
+	}
+
+	private static Issue issue(String summary, String storyPoints, int watchCount, int changelogSize)
+			throws Exception {
+		List<IssueField> issueFields =
+				List.of(
+						new IssueField("customfield_10002", "Story Points", null, storyPoints),
+						new IssueField(
+								"watches", "Watchers", null, new JSONObject().put("watchCount", watchCount)),
+						new IssueField("lastViewed", "Last Viewed", null, new DateTime().toString()));
+		return new Issue(
+				summary,
+				new URI(""),
+				"KEY-1",
+				1001L,
+				null,
+				null,
+				null,
+				"",
+				null,
+				null,
+				null,
+				null,
+				null,
+				CREATED,
+				new DateTime(),
+				null,
+				null,
+				null,
+				null,
+				null,
+				issueFields,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				null,
+				Collections.nCopies(changelogSize, new ChangelogGroup(null, CREATED, List.of())),
+				null,
+				null);
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.atlassian.jira.rest.client.api.domain.Issue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class IssuePagePrefetcherTest {
+
+	private static final int PAGE_SIZE = 2;
+
+	private final IssuePagePrefetcher issuePagePrefetcher = new IssuePagePrefetcher();
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		ReflectionTestUtils.setField(issuePagePrefetcher, "meterRegistry", meterRegistry);
+	}
+
+	@Test
+	public void pagesAreReturnedInOrderUntilShortPage() throws Exception {
+		List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+		IssuePagePrefetcher.PagePipeline pagePipeline =
+				issuePagePrefetcher.start(
+						pageStart -> {
+							requestedPages.add(pageStart);
+							return issues(pageStart < 4 ? PAGE_SIZE : 1);
+						},
+						0,
+						PAGE_SIZE,
+						2);
+
+		assertEquals(PAGE_SIZE, pagePipeline.nextPage().size());
+		assertEquals(PAGE_SIZE, pagePipeline.nextPage().size());
+		assertEquals(1, pagePipeline.nextPage().size());
+		assertTrue(pagePipeline.nextPage().isEmpty());
+		pagePipeline.close();
+
+		assertEquals(List.of(0, 2, 4), requestedPages);
+		assertEquals(0.0, meterRegistry.get("jira.issue.prefetch.queue.depth").gauge().value(), 0.0);
+	}
+
+	@Test
+	public void fetchFailureIsThrownToReader() {
+		IllegalStateException failure = new IllegalStateException("search failed");
+		IssuePagePrefetcher.PagePipeline pagePipeline =
+				issuePagePrefetcher.start(
+						pageStart -> {
+							throw failure;
+						},
+						0,
+						PAGE_SIZE,
+						2);
+
+		try {
+			pagePipeline.nextPage();
+		} catch (Exception e) {
+			assertSame(failure, e);
+		}
+		pagePipeline.close();
+	}
+
+	@Test
+	public void closeStopsFetcherWaitingOnFullQueue() throws Exception {
+		IssuePagePrefetcher.PagePipeline pagePipeline =
+				issuePagePrefetcher.start(pageStart -> issues(PAGE_SIZE), 0, PAGE_SIZE, 1);
+
+		assertEquals(PAGE_SIZE, pagePipeline.nextPage().size());
+		pagePipeline.close();
+
+		assertEquals(0.0, meterRegistry.get("jira.issue.prefetch.queue.depth").gauge().value(), 0.0);
+	}
+
+	private static List<Issue> issues(int count) {
+		List<Issue> issues = new ArrayList<>();
+		for (int index = 0; index < count; index++) {
+			issues.add(mock(Issue.class));
+		}
+		return Collections.unmodifiableList(issues);
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.joda.time.DateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
+import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
+import com.publicissapient.kpidashboard.common.model.application.ProjectRelease;
+import com.publicissapient.kpidashboard.common.model.application.ProjectVersion;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReleaseFingerprintHelperTest {
+
+	private static final ObjectId PROJECT_ID = new ObjectId("63bfa0d5b7617e260763ca21");
+	private static final DateTime RELEASE_DATE = new DateTime(2024, 1, 10, 10, 0);
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Mock private MongoTemplate mongoTemplate;
+
+	@InjectMocks private ReleaseFingerprintHelper releaseFingerprintHelper;
+
+	private ProjectBasicConfig projectBasicConfig;
+
+	@Before
+	public void setUp() {
+		projectBasicConfig = new ProjectBasicConfig();
+		projectBasicConfig.setId(PROJECT_ID);
+		projectBasicConfig.setProjectName("TEST Project");
+		projectBasicConfig.setProjectNodeId("TEST_1234");
+	}
+
+	@Test
+	public void releaseChangeChangesFingerprint() {
+		when(jiraProcessorConfig.isReleaseFingerprintEnabled()).thenReturn(true);
+		List<ProjectVersion> versions = List.of(version(false));
+
+		String fingerprint =
+				releaseFingerprintHelper.getFingerprint(
+						projectBasicConfig, versions, List.of(hierarchy("V1.0")));
+
+		assertNotNull(fingerprint);
+		assertEquals(
+				fingerprint,
+				releaseFingerprintHelper.getFingerprint(
+						projectBasicConfig, List.of(version(false)), List.of(hierarchy("V1.0"))));
+		assertNotEquals(
+				fingerprint,
+				releaseFingerprintHelper.getFingerprint(
+						projectBasicConfig, List.of(version(true)), List.of(hierarchy("V1.0"))));
+		// a scrum release becomes part of the hierarchy once an issue is tagged with it
+		assertNotEquals(
+				fingerprint,
+				releaseFingerprintHelper.getFingerprint(projectBasicConfig, versions, List.of()));
+	}
+
+	@Test
+	public void disabledFingerprint() {
+		assertNull(
+				releaseFingerprintHelper.getFingerprint(
+						projectBasicConfig, List.of(version(false)), List.of(hierarchy("V1.0"))));
+		assertFalse(releaseFingerprintHelper.isUnchanged(PROJECT_ID, null));
+		releaseFingerprintHelper.saveFingerprint(PROJECT_ID, null);
+
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	public void comparesStoredFingerprint() {
+		when(mongoTemplate.getCollectionName(ProjectRelease.class)).thenReturn("project_release");
+		when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("project_release")))
+				.thenReturn(new Document(JiraConstants.RELEASE_FINGERPRINT, "abc"));
+
+		assertTrue(releaseFingerprintHelper.isUnchanged(PROJECT_ID, "abc"));
+		assertFalse(releaseFingerprintHelper.isUnchanged(PROJECT_ID, "def"));
+	}
+
+	@Test
+	public void savesFingerprintOnRelease() {
+		releaseFingerprintHelper.saveFingerprint(PROJECT_ID, "abc");
+
+		verify(mongoTemplate)
+				.updateFirst(
+						any(Query.class),
+						eq(Update.update(JiraConstants.RELEASE_FINGERPRINT, "abc")),
+						eq(ProjectRelease.class));
+	}
+
+	private static ProjectVersion version(boolean released) {
+		ProjectVersion version = new ProjectVersion();
+		version.setId(123L);
+		version.setName("V1.0");
+		version.setReleased(released);
+		version.setReleaseDate(RELEASE_DATE);
+		return version;
+	}
+
+	private static ProjectHierarchy hierarchy(String name) {
+		ProjectHierarchy hierarchy = new ProjectHierarchy();
+		hierarchy.setNodeId("123_TEST_1234");
+		hierarchy.setNodeName(name);
+		hierarchy.setParentId("TEST_1234");
+		return hierarchy;
+	}
+}
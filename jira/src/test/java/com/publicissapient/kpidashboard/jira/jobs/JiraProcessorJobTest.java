@@ -21,6 +21,9 @@ package com.publicissapient.kpidashboard.jira.jobs;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.Test;
@@ -28,6 +31,9 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -35,7 +41,9 @@ import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
 import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.builder.TaskletStepBuilder;
@@ -44,11 +52,14 @@ import org.springframework.batch.core.step.tasklet.TaskletStep;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.helper.BuilderFactory;
+import com.publicissapient.kpidashboard.jira.listener.IssueFetchPartitionListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueBoardWriterListener;
+import com.publicissapient.kpidashboard.jira.listener.JiraIssueChunkPrefetchListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueJqlWriterListener;
 import com.publicissapient.kpidashboard.jira.listener.JiraIssueSprintJobListener;
 import com.publicissapient.kpidashboard.jira.listener.JobListenerKanban;
@@ -56,9 +67,12 @@ import com.publicissapient.kpidashboard.jira.listener.JobListenerScrum;
 import com.publicissapient.kpidashboard.jira.listener.JobStepProgressListener;
 import com.publicissapient.kpidashboard.jira.listener.KanbanJiraIssueJqlWriterListener;
 import com.publicissapient.kpidashboard.jira.listener.KanbanJiraIssueWriterListener;
+import com.publicissapient.kpidashboard.jira.listener.ProjectHierarchyCacheListener;
+import com.publicissapient.kpidashboard.jira.listener.ProjectWriteLockListener;
 import com.publicissapient.kpidashboard.jira.processor.IssueKanbanProcessor;
 import com.publicissapient.kpidashboard.jira.processor.IssueScrumProcessor;
 import com.publicissapient.kpidashboard.jira.reader.IssueBoardReader;
+import com.publicissapient.kpidashboard.jira.reader.IssueDateWindowPartitioner;
 import com.publicissapient.kpidashboard.jira.reader.IssueJqlReader;
 import com.publicissapient.kpidashboard.jira.reader.IssueSprintReader;
 import com.publicissapient.kpidashboard.jira.tasklet.JiraIssueReleaseStatusTasklet;
@@ -119,6 +133,16 @@ public class JiraProcessorJobTest {
 
 	@Mock private JobStepProgressListener jobStepProgressListener;
 
+	@Mock private JiraIssueChunkPrefetchListener jiraIssueChunkPrefetchListener;
+
+	@Mock private ProjectHierarchyCacheListener projectHierarchyCacheListener;
+
+	@Mock private IssueDateWindowPartitioner issueDateWindowPartitioner;
+
+	@Mock private IssueFetchPartitionListener issueFetchPartitionListener;
+
+	@Mock private ProjectWriteLockListener projectWriteLockListener;
+
 	@InjectMocks private JiraProcessorJob jiraProcessorJob;
 
 	@Mock ItemReader reader;
@@ -166,6 +190,10 @@ public class JiraProcessorJobTest {
 		when(simpleStepBuilder.processor(any(ItemProcessor.class))).thenReturn(simpleStepBuilder);
 		when(simpleStepBuilder.writer(any(ItemWriter.class))).thenReturn(simpleStepBuilder);
 		when(simpleStepBuilder.listener(any(ItemWriteListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(ItemReadListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(ChunkListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(StepExecutionListener.class)))
+				.thenReturn(simpleStepBuilder);
 		when(simpleStepBuilder.build()).thenReturn(taskletStep);
 		jiraProcessorJob.fetchIssueScrumBoardJob();
 		jiraProcessorJob.fetchIssueKanbanBoardJob();
@@ -174,4 +202,69 @@ public class JiraProcessorJobTest {
 		jiraProcessorJob.fetchIssueKanbanJqlJob();
 		jiraProcessorJob.runMetaDataStep();
 	}
+
+	@Test
+	public void testFetchIssueJqlJobsWithPartitionedIssueFetch() {
+		Job job = mock(Job.class);
+		JobBuilder jobBuilder = mock(JobBuilder.class);
+		SimpleJobBuilder simpleJobBuilder = mock(SimpleJobBuilder.class);
+		when(builderFactory.getJobBuilder(any(String.class), any(JobRepository.class)))
+				.thenReturn(jobBuilder);
+		when(jobBuilder.incrementer(any(RunIdIncrementer.class))).thenReturn(jobBuilder);
+		when(jobBuilder.start(any(Step.class))).thenReturn(simpleJobBuilder);
+		when(simpleJobBuilder.next(any(Step.class))).thenReturn(simpleJobBuilder);
+		when(simpleJobBuilder.listener(jobListenerScrum)).thenReturn(simpleJobBuilder);
+		when(simpleJobBuilder.listener(jobListenerKanban)).thenReturn(simpleJobBuilder);
+		when(simpleJobBuilder.build()).thenReturn(job);
+
+		StepBuilder stepBuilder = mock(StepBuilder.class);
+		TaskletStepBuilder taskletStepBuilder = mock(TaskletStepBuilder.class);
+		TaskletStep taskletStep = mock(TaskletStep.class);
+		when(builderFactory.getStepBuilder(any(String.class), any(JobRepository.class)))
+				.thenReturn(stepBuilder);
+		when(stepBuilder.tasklet(any(Tasklet.class), any(PlatformTransactionManager.class)))
+				.thenReturn(taskletStepBuilder);
+		when(taskletStepBuilder.listener(any(StepExecutionListener.class)))
+				.thenReturn(taskletStepBuilder);
+		when(taskletStepBuilder.build()).thenReturn(taskletStep);
+		SimpleStepBuilder simpleStepBuilder = mock(SimpleStepBuilder.class);
+		when(stepBuilder.chunk(any(Integer.class), any(PlatformTransactionManager.class)))
+				.thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.reader(any(ItemReader.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.processor(any(ItemProcessor.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.writer(any(ItemWriter.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(ItemWriteListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(ItemReadListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(ChunkListener.class))).thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.listener(any(StepExecutionListener.class)))
+				.thenReturn(simpleStepBuilder);
+		when(simpleStepBuilder.build()).thenReturn(taskletStep);
+		when(taskletStep.getName()).thenReturn("Fetch Issues Jql");
+
+		when(jiraProcessorConfig.getIssueFetchPartitionCount()).thenReturn(4);
+		when(jiraProcessorConfig.getIssueFetchPartitionConcurrency()).thenReturn(2);
+		PartitionStepBuilder partitionStepBuilder = mock(PartitionStepBuilder.class);
+		Step partitionedStep = mock(Step.class);
+		when(stepBuilder.partitioner(any(String.class), any(Partitioner.class)))
+				.thenReturn(partitionStepBuilder);
+		when(partitionStepBuilder.step(taskletStep)).thenReturn(partitionStepBuilder);
+		when(partitionStepBuilder.gridSize(4)).thenReturn(partitionStepBuilder);
+		when(partitionStepBuilder.taskExecutor(any(TaskExecutor.class)))
+				.thenReturn(partitionStepBuilder);
+		when(partitionStepBuilder.listener(issueFetchPartitionListener))
+				.thenReturn(partitionStepBuilder);
+		when(partitionStepBuilder.listener(projectHierarchyCacheListener))
+				.thenReturn(partitionStepBuilder);
+		when(simpleStepBuilder.listener(any(ItemProcessListener.class))).thenReturn(simpleStepBuilder);
+		when(partitionStepBuilder.build()).thenReturn(partitionedStep);
+
+		jiraProcessorJob.fetchIssueScrumJqlJob();
+		jiraProcessorJob.fetchIssueKanbanJqlJob();
+
+		verify(simpleJobBuilder, times(2)).next(partitionedStep);
+		verify(partitionStepBuilder, times(2)).listener(projectHierarchyCacheListener);
+		verify(simpleStepBuilder, never()).listener(projectHierarchyCacheListener);
+		verify(simpleStepBuilder, times(2))
+				.listener((ItemProcessListener<?, ?>) projectWriteLockListener);
+	}
 }
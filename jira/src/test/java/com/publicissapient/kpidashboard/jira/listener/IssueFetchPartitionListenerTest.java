@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IssueFetchPartitionListenerTest {
+
+	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+
+	@InjectMocks private IssueFetchPartitionListener issueFetchPartitionListener;
+
+	private JobExecution jobExecution;
+
+	private ProcessorExecutionTraceLog traceLog;
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(
+				issueFetchPartitionListener, "projectId", "63bfa0d5b7617e260763ca21");
+		jobExecution = new JobExecution(1L);
+		traceLog = new ProcessorExecutionTraceLog();
+	}
+
+	@Test
+	public void latestChangeDateIsSavedWhenAllWindowsComplete() {
+		when(processorExecutionTraceLogRepo.findByProcessorNameAndBasicProjectConfigIdIn(
+						anyString(), anyList()))
+				.thenReturn(List.of(traceLog));
+		partition(0, "2024-01-01 00:00", "2024-01-20T08:00:00.0000000", BatchStatus.COMPLETED);
+		partition(1, "2024-02-01 00:00", "2024-02-10T08:00:00.0000000", BatchStatus.COMPLETED);
+
+		issueFetchPartitionListener.afterStep(managerStep(BatchStatus.COMPLETED));
+
+		assertEquals(
+				DateUtil.dateTimeFormatter(LocalDateTime.of(2024, 2, 10, 8, 0), DateUtil.DATE_TIME_FORMAT),
+				traceLog.getLastSuccessfulRun());
+		verify(processorExecutionTraceLogRepo).saveAll(List.of(traceLog));
+	}
+
+	@Test
+	public void earliestCheckpointOfFailedWindowsIsSaved() {
+		when(processorExecutionTraceLogRepo.findByProcessorNameAndBasicProjectConfigIdIn(
+						anyString(), anyList()))
+				.thenReturn(List.of(traceLog));
+		partition(0, "2024-01-01 00:00", "2024-01-20T08:00:00.0000000", BatchStatus.COMPLETED);
+		partition(1, "2024-02-01 00:00", "2024-02-10T08:00:00.0000000", BatchStatus.FAILED);
+		partition(2, "2024-03-01 00:00", null, BatchStatus.FAILED);
+
+		issueFetchPartitionListener.afterStep(managerStep(BatchStatus.FAILED));
+
+		assertEquals(
+				DateUtil.dateTimeFormatter(LocalDateTime.of(2024, 2, 10, 8, 0), DateUtil.DATE_TIME_FORMAT),
+				traceLog.getLastSuccessfulRun());
+	}
+
+	@Test
+	public void nothingIsSavedWithoutPartitions() {
+		issueFetchPartitionListener.afterStep(managerStep(BatchStatus.COMPLETED));
+
+		verify(processorExecutionTraceLogRepo, never()).saveAll(any());
+	}
+
+	private void partition(int index, String windowStart, String lastChangeDate, BatchStatus status) {
+		StepExecution stepExecution =
+				jobExecution.createStepExecution("Fetch Issues:partition" + index);
+		stepExecution.getExecutionContext().putInt(JiraConstants.PARTITION_INDEX, index);
+		stepExecution
+				.getExecutionContext()
+				.putString(JiraConstants.PARTITION_WINDOW_START, windowStart);
+		if (null != lastChangeDate) {
+			stepExecution
+					.getExecutionContext()
+					.putString(JiraConstants.PARTITION_LAST_CHANGE_DATE, lastChangeDate);
+		}
+		stepExecution.setStatus(status);
+	}
+
+	private StepExecution managerStep(BatchStatus status) {
+		StepExecution stepExecution = jobExecution.createStepExecution("Fetch Issues Partitioned");
+		stepExecution.setStatus(status);
+		return stepExecution;
+	}
+}
@@ -18,6 +18,7 @@
 
 package com.publicissapient.kpidashboard.jira.listener;
 
+import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
@@ -46,11 +47,13 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JiraIssueBoardWriterListenerTest {
 
 	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
 	@InjectMocks private JiraIssueBoardWriterListener listener;
 
@@ -87,6 +90,7 @@ public class JiraIssueBoardWriterListenerTest {
 
 		// Verify
 		verify(processorExecutionTraceLogRepo, times(1)).saveAll(anyList());
+		verify(ongoingExecutionsService).recordLastSuccessfulRun(eq("testProjectId"), any());
 
 		// Assert
 		List<ProcessorExecutionTraceLog> savedLogs = new ArrayList<>();
@@ -18,8 +18,11 @@
 
 package com.publicissapient.kpidashboard.jira.listener;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.AssertionErrors.assertTrue;
 
@@ -42,10 +45,12 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JiraIssueJqlWriterListenerTest {
 	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
 	@InjectMocks private JiraIssueJqlWriterListener listener;
 
@@ -138,5 +143,7 @@ public class JiraIssueJqlWriterListenerTest {
 						eq(JiraConstants.JIRA), anyList()))
 				.thenReturn(List.of(processorExecutionTraceLog));
 		listener.afterWrite(createSampleCompositeResults());
+		verify(ongoingExecutionsService).recordLastSuccessfulRun(eq("Project1"), any());
+		verify(processorExecutionTraceLogRepo, never()).saveAll(anyList());
 	}
 }
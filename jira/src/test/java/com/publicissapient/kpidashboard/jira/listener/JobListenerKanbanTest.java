@@ -53,6 +53,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectBas
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.jira.cache.JiraProcessorCacheEvictor;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.client.CustomAsynchronousIssueRestClient;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
@@ -85,6 +86,8 @@ public class JobListenerKanbanTest {
 	@Mock private JiraClientService jiraClientService;
 	@Mock private JiraProcessorCacheEvictor jiraProcessorCacheEvictor;
 	@Mock private OngoingExecutionsService ongoingExecutionsService;
+
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 	@Mock private ProjectBasicConfigRepository projectBasicConfigRepository;
 	@Mock private JiraCommonService jiraCommonService;
 	@Mock private ProcessorJiraRestClient client;
@@ -128,6 +131,7 @@ public class JobListenerKanbanTest {
 		// Act
 		jobListenerKanban.afterJob(jobExecution);
 		verify(ongoingExecutionsService).markExecutionAsCompleted(null);
+		verify(projectAssigneeCache).evict(null);
 	}
 
 	@Test
@@ -60,6 +60,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectBas
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.jira.cache.JiraProcessorCacheEvictor;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.client.CustomAsynchronousIssueRestClient;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfiguration;
@@ -89,6 +90,8 @@ public class JobListenerScrumTest {
 
 	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
+
 	@Mock private ProjectBasicConfigRepository projectBasicConfigRepository;
 
 	@Mock private JiraCommonService jiraCommonService;
@@ -17,7 +17,10 @@
 
 package com.publicissapient.kpidashboard.jira.listener;
 
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertNull;
 
@@ -32,14 +35,14 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.common.service.ProcessorExecutionTraceLogService;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JobStepProgressListenerTest {
 
 	@Mock private ProcessorExecutionTraceLogService processorExecutionTraceLogService;
-	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 	@InjectMocks private JobStepProgressListener jobStepProgressListener;
 
 	@Before
@@ -74,5 +77,12 @@ public class JobStepProgressListenerTest {
 
 		// Assert
 		assertNull(exitStatus);
+		verify(ongoingExecutionsService)
+				.recordProgress(
+						isNull(),
+						argThat(
+								progressStatus ->
+										"testStep".equals(progressStatus.getStepName())
+												&& "COMPLETED".equals(progressStatus.getStatus())));
 	}
 }
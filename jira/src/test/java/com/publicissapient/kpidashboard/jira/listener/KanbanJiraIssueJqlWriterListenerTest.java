@@ -44,10 +44,12 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class KanbanJiraIssueJqlWriterListenerTest {
 	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
 	@InjectMocks private KanbanJiraIssueJqlWriterListener listener;
 
@@ -140,5 +142,7 @@ public class KanbanJiraIssueJqlWriterListenerTest {
 						eq(JiraConstants.JIRA), any()))
 				.thenReturn(List.of(processorExecutionTraceLog));
 		listener.afterWrite(compositeResults);
+		verify(ongoingExecutionsService).recordLastSuccessfulRun(eq("testProjectId"), any());
+		verify(processorExecutionTraceLogRepo, never()).saveAll(anyList());
 	}
 }
@@ -18,8 +18,10 @@
 
 package com.publicissapient.kpidashboard.jira.listener;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.AssertionErrors.assertTrue;
 import static org.testng.AssertJUnit.assertEquals;
@@ -42,11 +44,13 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class KanbanJiraIssueWriterListenerTest {
 
 	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
 	@InjectMocks private KanbanJiraIssueWriterListener listener;
 
@@ -78,6 +82,7 @@ public class KanbanJiraIssueWriterListenerTest {
 
 		// Act
 		listener.afterWrite(compositeResults);
+		verify(ongoingExecutionsService).recordLastSuccessfulRun(eq("testProjectId"), any());
 
 		// Assert
 		List<ProcessorExecutionTraceLog> savedLogs = new ArrayList<>();
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.listener;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
+import com.publicissapient.kpidashboard.jira.model.ReadData;
+
+public class ProjectWriteLockListenerTest {
+
+	private final ProjectWriteLockListener projectWriteLockListener = new ProjectWriteLockListener();
+
+	@Test
+	public void chunkOfSameProjectWaitsForTheRunningChunk() throws InterruptedException {
+		ObjectId projectId = new ObjectId();
+		projectWriteLockListener.beforeProcess(readData(projectId));
+		projectWriteLockListener.beforeProcess(readData(projectId));
+
+		CountDownLatch processed = new CountDownLatch(1);
+		Thread otherWindow =
+				new Thread(
+						() -> {
+							projectWriteLockListener.beforeProcess(readData(projectId));
+							processed.countDown();
+							projectWriteLockListener.afterChunk(null);
+						});
+		otherWindow.start();
+
+		assertFalse(processed.await(200, TimeUnit.MILLISECONDS));
+		projectWriteLockListener.afterChunk(null);
+		assertTrue(processed.await(5, TimeUnit.SECONDS));
+		otherWindow.join();
+	}
+
+	@Test
+	public void chunkOfOtherProjectIsNotBlocked() throws InterruptedException {
+		projectWriteLockListener.beforeProcess(readData(new ObjectId()));
+
+		CountDownLatch processed = new CountDownLatch(1);
+		Thread otherProject =
+				new Thread(
+						() -> {
+							projectWriteLockListener.beforeProcess(readData(new ObjectId()));
+							processed.countDown();
+							projectWriteLockListener.afterChunkError(null);
+						});
+		otherProject.start();
+
+		assertTrue(processed.await(5, TimeUnit.SECONDS));
+		otherProject.join();
+		projectWriteLockListener.afterChunkError(null);
+	}
+
+	private static ReadData readData(ObjectId projectId) {
+		ReadData readData = new ReadData();
+		readData.setProjectConfFieldMapping(
+				ProjectConfFieldMapping.builder().basicProjectConfigId(projectId).build());
+		return readData;
+	}
+}
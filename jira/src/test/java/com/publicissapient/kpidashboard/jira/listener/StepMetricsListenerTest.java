@@ -0,0 +1,88 @@
+/*
+ *   Copyright 2014 CapitalOne, LLC.
+ *   Further development Copyright 2022 Sapient Corporation.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.publicissapient.kpidashboard.jira.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StepMetricsListenerTest {
+
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	@InjectMocks private StepMetricsListener stepMetricsListener;
+
+	@Test
+	public void afterStepCountsItemsOfPartitionsUnderTheStep() {
+		JobExecution jobExecution =
+				new JobExecution(
+						1L, new JobParametersBuilder().addString("projectId", "project1").toJobParameters());
+		StepExecution first = new StepExecution("fetchIssueStep:partition0", jobExecution);
+		first.setReadCount(10);
+		first.setWriteCount(8);
+		first.setFilterCount(2);
+		StepExecution second = new StepExecution("fetchIssueStep:partition1", jobExecution);
+		second.setReadCount(5);
+		second.setWriteCount(4);
+		second.setWriteSkipCount(1);
+
+		assertNull(stepMetricsListener.afterStep(first));
+		assertNull(stepMetricsListener.afterStep(second));
+
+		assertEquals(15.0, count("read"), 0);
+		assertEquals(13.0, count("processed"), 0);
+		assertEquals(12.0, count("written"), 0);
+		assertEquals(2.0, count("skipped"), 0);
+	}
+
+	@Test
+	public void afterStepWithoutProject() {
+		StepExecution stepExecution = new StepExecution("sprintStep", new JobExecution(2L));
+		stepExecution.setReadCount(3);
+
+		stepMetricsListener.afterStep(stepExecution);
+
+		assertEquals(
+				3.0,
+				meterRegistry
+						.get(StepMetricsListener.STEP_ITEMS_METRIC)
+						.tags("type", "read", "step", "sprintStep", "project", "none")
+						.counter()
+						.count(),
+				0);
+	}
+
+	private double count(String type) {
+		return meterRegistry
+				.get(StepMetricsListener.STEP_ITEMS_METRIC)
+				.tags("type", type, "step", "fetchIssueStep", "project", "project1", "processor", "Jira")
+				.counter()
+				.count();
+	}
+}
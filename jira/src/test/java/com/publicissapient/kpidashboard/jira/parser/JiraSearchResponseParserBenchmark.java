@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.parser;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.codehaus.jettison.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
+
+/**
+ * Compares the streamed parse of a JQL search page with the former Unirest tree, String and
+ * Jettison round trip. Run with {@link #main(String[])} from the test classpath; it is not part of
+ * the unit test run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JiraSearchResponseParserBenchmark {
+
+	private static final String SELF = "https://test.atlassian.net/rest/api/2/";
+
+	@Param({"100"})
+	private int issueCount;
+
+	@Param({"25"})
+	private int historiesPerIssue;
+
+	private byte[] page;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+						new OptionsBuilder()
+								.include(JiraSearchResponseParserBenchmark.class.getSimpleName())
+								.addProfiler("gc")
+								.build())
+				.run();
+	}
+
+	@Setup
+	public void setUp() throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		ObjectNode response = mapper.createObjectNode();
+		ArrayNode issues = response.putArray("issues");
+		for (int i = 0; i < issueCount; i++) {
+			issues.add(issue(mapper, i));
+		}
+		response.put("nextPageToken", "CAEaAggD");
+		response.put("isLast", false);
+		ObjectNode names = response.putObject("names");
+		ObjectNode schema = response.putObject("schema");
+		for (int f = 0; f < 30; f++) {
+			names.put("customfield_" + (10000 + f), "Custom field " + f);
+			schema.putObject("customfield_" + (10000 + f)).put("type", "string");
+		}
+		page = mapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public JiraSearchResponse unirestJettisonRoundTrip() throws Exception {
+		kong.unirest.JsonNode body =
+				new kong.unirest.JsonNode(new String(page, StandardCharsets.UTF_8));
+		return new JiraSearchResponseParser().parse(new JSONObject(body.getObject().toString()));
+	}
+
+	@Benchmark
+	public JiraSearchResponse streamParse() throws Exception {
+		return new JiraSearchResponseParser().parse(new ByteArrayInputStream(page));
+	}
+
+	private ObjectNode issue(ObjectMapper mapper, int index) {
+		ObjectNode issue = mapper.createObjectNode();
+		issue.put("expand", "renderedFields,names,schema,operations,editmeta,changelog");
+		issue.put("id", String.valueOf(10000 + index));
+		issue.put("self", SELF + "issue/" + (10000 + index));
+		issue.put("key", "TEST-" + index);
+
+		ObjectNode fields = issue.putObject("fields");
+		fields.put("summary", "Issue summary " + index);
+		fields.put("description", "A description long enough to resemble a real story body " + index);
+		fields.putObject("issuetype").put("self", SELF + "issuetype/1").put("id", "1").put("name", "Story");
+		fields
+				.putObject("project")
+				.put("self", SELF + "project/1")
+				.put("id", "1")
+				.put("key", "TEST")
+				.put("name", "Test");
+		fields.putObject("status").put("self", SELF + "status/3").put("id", "3").put("name", "Open");
+		fields.putObject("priority").put("self", SELF + "priority/3").put("id", "3").put("name", "High");
+		fields
+				.putObject("assignee")
+				.put("self", SELF + "user?accountId=a" + index)
+				.put("accountId", "a" + index)
+				.put("displayName", "User " + index)
+				.put("active", true);
+		fields.put("created", "2024-01-02T10:15:30.000+0000");
+		fields.put("updated", "2024-01-05T08:00:00.000+0000");
+		fields.putArray("labels").add("backend").add("api");
+		for (int f = 0; f < 30; f++) {
+			String id = "customfield_" + (10000 + f);
+			switch (f % 3) {
+				case 0:
+					fields.put(id, "value " + f);
+					break;
+				case 1:
+					fields.put(id, f * 1.5);
+					break;
+				default:
+					fields.putObject(id).put("self", SELF + "customFieldOption/" + f).put("value", "v" + f);
+					break;
+			}
+		}
+
+		ObjectNode changelog = issue.putObject("changelog");
+		changelog.put("startAt", 0).put("maxResults", historiesPerIssue).put("total", historiesPerIssue);
+		ArrayNode histories = changelog.putArray("histories");
+		for (int h = 0; h < historiesPerIssue; h++) {
+			ObjectNode history = histories.addObject();
+			history.put("id", String.valueOf(h));
+			history
+					.putObject("author")
+					.put("self", SELF + "user?accountId=a" + index)
+					.put("accountId", "a" + index)
+					.put("displayName", "User " + index);
+			history.put("created", "2024-01-03T09:00:00.000+0000");
+			ArrayNode items = history.putArray("items");
+			items
+					.addObject()
+					.put("field", "status")
+					.put("fieldtype", "jira")
+					.put("from", "1")
+					.put("fromString", "Open")
+					.put("to", "3")
+					.put("toString", "In Progress");
+			items
+					.addObject()
+					.put("field", "Story Points")
+					.put("fieldtype", "custom")
+					.put("fromString", String.valueOf(h))
+					.put("toString", String.valueOf(h + 1));
+		}
+		return issue;
+	}
+}
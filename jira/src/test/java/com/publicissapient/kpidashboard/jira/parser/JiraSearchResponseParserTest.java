@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.codehaus.jettison.json.JSONException;
+import org.codehaus.jettison.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rest.client.api.domain.ChangelogGroup;
+import com.atlassian.jira.rest.client.api.domain.ChangelogItem;
+import com.atlassian.jira.rest.client.api.domain.Issue;
+import com.atlassian.jira.rest.client.api.domain.IssueField;
+import com.atlassian.jira.rest.client.api.domain.IssueLink;
+import com.atlassian.jira.rest.client.api.domain.Version;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
+
+public class JiraSearchResponseParserTest {
+
+	private static final String SEARCH_RESPONSE = "/json/default/jql_search_response.json";
+
+	private final JiraSearchResponseParser parser = new JiraSearchResponseParser();
+
+	private String searchResponse;
+
+	@Before
+	public void setUp() throws IOException {
+		try (InputStream in = getClass().getResourceAsStream(SEARCH_RESPONSE)) {
+			searchResponse = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	@Test
+	public void testStreamParseMatchesJettisonParse() throws Exception {
+		JiraSearchResponse expected = parser.parse(new JSONObject(searchResponse));
+		JiraSearchResponse actual = parser.parse(stream(searchResponse));
+
+		assertSameResponse(expected, actual);
+		assertEquals(2, issues(actual).size());
+	}
+
+	@Test
+	public void testStreamParseWithNamesAndSchemaBeforeIssues() throws Exception {
+		ObjectMapper mapper = new ObjectMapper();
+		ObjectNode original = (ObjectNode) mapper.readTree(searchResponse);
+		ObjectNode reordered = mapper.createObjectNode();
+		reordered.set("names", original.get("names"));
+		reordered.set("schema", original.get("schema"));
+		reordered.set("isLast", original.get("isLast"));
+		reordered.set("issues", original.get("issues"));
+		reordered.set("nextPageToken", original.get("nextPageToken"));
+		String reorderedResponse = mapper.writeValueAsString(reordered);
+
+		JiraSearchResponse expected = parser.parse(new JSONObject(reorderedResponse));
+		JiraSearchResponse actual = parser.parse(stream(reorderedResponse));
+
+		assertSameResponse(expected, actual);
+	}
+
+	@Test
+	public void testStreamParseKeepsJettisonValueTypes() throws Exception {
+		Issue issue = issues(parser.parse(stream(searchResponse))).get(0);
+
+		assertEquals(Double.class, issue.getField("customfield_10002").getValue().getClass());
+		assertEquals(Integer.class, issue.getField("customfield_10003").getValue().getClass());
+		assertEquals(Long.class, issue.getField("customfield_10004").getValue().getClass());
+		assertNull(issue.getField("customfield_10005").getValue());
+		assertEquals(JSONObject.class, issue.getField("customfield_10006").getValue().getClass());
+		assertEquals("Story Points", issue.getField("customfield_10002").getName());
+	}
+
+	@Test
+	public void testStreamParseEmptyPage() throws Exception {
+		JiraSearchResponse response = parser.parse(stream("{\"issues\":[],\"total\":0}"));
+
+		assertTrue(issues(response).isEmpty());
+		assertTrue(response.isLast());
+		assertNull(response.getNextPageToken());
+	}
+
+	@Test
+	public void testStreamParsePaginationOnly() throws Exception {
+		JiraSearchResponse response =
+				parser.parse(stream("{\"isLast\":false,\"nextPageToken\":\"abc\",\"issues\":[]}"));
+
+		assertFalse(response.isLast());
+		assertEquals("abc", response.getNextPageToken());
+	}
+
+	@Test(expected = JSONException.class)
+	public void testStreamParseWithoutIssues() throws Exception {
+		parser.parse(stream("{\"total\":0}"));
+	}
+
+	@Test(expected = JSONException.class)
+	public void testStreamParseNotAnObject() throws Exception {
+		parser.parse(stream("[]"));
+	}
+
+	private static InputStream stream(String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static List<Issue> issues(JiraSearchResponse response) {
+		return StreamSupport.stream(response.getIssues().spliterator(), false)
+				.collect(Collectors.toList());
+	}
+
+	private static void assertSameResponse(JiraSearchResponse expected, JiraSearchResponse actual) {
+		assertEquals(expected.isLast(), actual.isLast());
+		assertEquals(expected.getNextPageToken(), actual.getNextPageToken());
+		List<String> expectedIssues = new ArrayList<>();
+		issues(expected).forEach(issue -> expectedIssues.add(describe(issue)));
+		List<String> actualIssues = new ArrayList<>();
+		issues(actual).forEach(issue -> actualIssues.add(describe(issue)));
+		assertEquals(expectedIssues, actualIssues);
+	}
+
+	private static String describe(Issue issue) {
+		StringBuilder description = new StringBuilder();
+		description
+				.append(issue.getKey())
+				.append('|')
+				.append(issue.getId())
+				.append('|')
+				.append(issue.getSelf())
+				.append('|')
+				.append(issue.getSummary())
+				.append('|')
+				.append(issue.getDescription())
+				.append('|')
+				.append(issue.getIssueType().getName())
+				.append('|')
+				.append(issue.getStatus().getName())
+				.append('|')
+				.append(issue.getPriority() == null ? null : issue.getPriority().getName())
+				.append('|')
+				.append(issue.getAssignee() == null ? null : issue.getAssignee().getDisplayName())
+				.append('|')
+				.append(issue.getReporter() == null ? null : issue.getReporter().getDisplayName())
+				.append('|')
+				.append(issue.getProject().getKey())
+				.append('|')
+				.append(issue.getCreationDate())
+				.append('|')
+				.append(issue.getUpdateDate())
+				.append('|')
+				.append(issue.getDueDate())
+				.append('|')
+				.append(new TreeSet<>(issue.getLabels()))
+				.append('|')
+				.append(issue.getExpandos());
+		if (issue.getFixVersions() != null) {
+			for (Version version : issue.getFixVersions()) {
+				description.append("|version:").append(version.getName());
+			}
+		}
+		if (issue.getIssueLinks() != null) {
+			for (IssueLink link : issue.getIssueLinks()) {
+				description.append("|link:").append(link.getTargetIssueKey());
+			}
+		}
+		StreamSupport.stream(issue.getFields().spliterator(), false)
+				.sorted(Comparator.comparing(IssueField::getId))
+				.forEach(
+						field ->
+								description
+										.append("|field:")
+										.append(field.getId())
+										.append(':')
+										.append(field.getName())
+										.append(':')
+										.append(field.getValue() == null ? null : field.getValue().getClass())
+										.append(':')
+										.append(field.getValue()));
+		if (issue.getChangelog() != null) {
+			for (ChangelogGroup group : issue.getChangelog()) {
+				description
+						.append("|history:")
+						.append(group.getCreated())
+						.append(':')
+						.append(group.getAuthor() == null ? null : group.getAuthor().getDisplayName());
+				for (ChangelogItem item : group.getItems()) {
+					description
+							.append("|item:")
+							.append(item.getField())
+							.append(':')
+							.append(item.getFrom())
+							.append(':')
+							.append(item.getFromString())
+							.append(':')
+							.append(item.getTo())
+							.append(':')
+							.append(item.getToString());
+				}
+			}
+		}
+		return description.toString();
+	}
+}
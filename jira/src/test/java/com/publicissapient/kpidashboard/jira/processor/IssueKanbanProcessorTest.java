@@ -35,6 +35,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.publicissapient.kpidashboard.common.model.application.ProjectHierarchy;
 import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
@@ -50,6 +51,8 @@ public class IssueKanbanProcessorTest {
 
 	@Mock private KanbanJiraIssueAssigneeProcessor jiraIssueAssigneeProcessor;
 
+	@Mock private IssueFingerprintHelper issueFingerprintHelper;
+
 	@InjectMocks private IssueKanbanProcessor issueKanbanProcessor;
 
 	@Test
@@ -19,6 +19,7 @@
 package com.publicissapient.kpidashboard.jira.processor;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.*;
 
 import java.util.HashSet;
@@ -35,6 +36,8 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectHierarch
 import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
@@ -52,6 +55,8 @@ public class IssueScrumProcessorTest {
 
 	@Mock private SprintDataProcessor sprintDataProcessor;
 
+	@Mock private IssueFingerprintHelper issueFingerprintHelper;
+
 	@InjectMocks private IssueScrumProcessor issueScrumProcessor;
 
 	@Test
@@ -64,12 +69,13 @@ public class IssueScrumProcessorTest {
 		readData.setProjectConfFieldMapping(projectConfFieldMapping);
 		readData.setSprintFetch(false);
 		JiraIssue jiraIssue = new JiraIssue();
-		when(jiraIssueProcessor.convertToJiraIssue(any(), any(), any(), any())).thenReturn(jiraIssue);
+		when(jiraIssueProcessor.convertToJiraIssue(any(DecodedIssue.class), any(), any(), any()))
+				.thenReturn(jiraIssue);
 		SprintDetails sprintDetails = new SprintDetails();
 		sprintDetails.setSprintID("123");
 		Set<SprintDetails> sprintDetailsSets = new HashSet<>();
 		sprintDetailsSets.add(sprintDetails);
-		when(sprintDataProcessor.processSprintData(any(), any(), any(), any()))
+		when(sprintDataProcessor.processSprintData(any(DecodedIssue.class), any(), any(), any()))
 				.thenReturn(sprintDetailsSets);
 		ProjectHierarchy projectHierarchy = new ProjectHierarchy();
 		projectHierarchy.setBasicProjectConfigId(new ObjectId("63bfa0f80b28191677615735"));
@@ -90,4 +96,17 @@ public class IssueScrumProcessorTest {
 		assertEquals(projectHierarchies, result.getProjectHierarchies());
 		assertEquals(assigneeDetails, result.getAssigneeDetails());
 	}
+
+	@Test
+	public void testProcessSkipsUnchangedIssue() throws Exception {
+		ReadData readData = new ReadData();
+		readData.setProjectConfFieldMapping(
+				ProjectConfFieldMapping.builder().projectName("xyz").build());
+		when(issueFingerprintHelper.getFingerprint(readData)).thenReturn("abc");
+		when(issueFingerprintHelper.isUnchanged(JiraIssue.class, readData, "abc")).thenReturn(true);
+
+		assertNull(issueScrumProcessor.process(readData));
+		verify(jiraIssueProcessor, never())
+				.convertToJiraIssue(any(DecodedIssue.class), any(), any(), any());
+	}
 }
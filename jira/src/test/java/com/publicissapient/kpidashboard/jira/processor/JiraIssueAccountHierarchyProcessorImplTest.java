@@ -54,8 +54,7 @@ import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
-import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
 import com.publicissapient.kpidashboard.jira.dataFactories.AccountHierarchiesDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.ConnectionsDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.FieldMappingDataFactory;
@@ -78,11 +77,10 @@ public class JiraIssueAccountHierarchyProcessorImplTest {
 	Optional<Connection> connection;
 	List<JiraIssue> jiraIssues;
 	List<ProjectBasicConfig> projectConfigsList;
-	@Mock private HierarchyLevelService hierarchyLevelService;
+	@Mock private ProjectHierarchyCache projectHierarchyCache;
 	@Mock private AccountHierarchyRepository accountHierarchyRepository;
 	@Mock private SprintDetails sprintDetails;
 	@InjectMocks private JiraIssueAccountHierarchyProcessorImpl createAccountHierarchy;
-	@Mock private ProjectHierarchyService projectHierarchyService;
 
 	@Before
 	public void setup() {
@@ -104,7 +102,7 @@ public class JiraIssueAccountHierarchyProcessorImplTest {
 
 	@Test
 	public void createAccountHierarchy() {
-		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(hierarchyLevelList);
+		when(projectHierarchyCache.getHierarchyLevels(false)).thenReturn(hierarchyLevelList);
 		Assert.assertEquals(
 				2,
 				createAccountHierarchy
@@ -114,12 +112,12 @@ public class JiraIssueAccountHierarchyProcessorImplTest {
 
 	@Test
 	public void testCreateAccountHierarchy_Success() {
-		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(hierarchyLevelList);
+		when(projectHierarchyCache.getHierarchyLevels(false)).thenReturn(hierarchyLevelList);
 		Map<String, List<ProjectHierarchy>> map = new HashMap<>();
 		List<ProjectHierarchy> projectHierarchies = new ArrayList<>();
 		projectHierarchies.add(new ProjectHierarchy());
 		map.put("41409_NewJira_63c04dc7b7617e260763ca4e", projectHierarchies);
-		when(projectHierarchyService.getProjectHierarchyMapByConfig(anyString())).thenReturn(map);
+		when(projectHierarchyCache.getScrumHierarchy(anyString())).thenReturn(map);
 		Set<ProjectHierarchy> result =
 				createAccountHierarchy.createAccountHierarchy(
 						jiraIssues.get(0), createProjectConfig(), getSprintDetails());
@@ -130,7 +128,7 @@ public class JiraIssueAccountHierarchyProcessorImplTest {
 
 	@Test
 	public void testCreateAccountHierarchy_Success_1() {
-		when(hierarchyLevelService.getFullHierarchyLevels(false)).thenReturn(hierarchyLevelList);
+		when(projectHierarchyCache.getHierarchyLevels(false)).thenReturn(hierarchyLevelList);
 		Map<String, List<ProjectHierarchy>> map = new HashMap<>();
 		List<ProjectHierarchy> projectHierarchies = new ArrayList<>();
 		ProjectHierarchy projectHierarchy = new ProjectHierarchy();
@@ -138,7 +136,7 @@ public class JiraIssueAccountHierarchyProcessorImplTest {
 		projectHierarchy.setParentId("project_unique_003");
 		projectHierarchies.add(projectHierarchy);
 		map.put("41409_NewJira_63c04dc7b7617e260763ca4e", projectHierarchies);
-		when(projectHierarchyService.getProjectHierarchyMapByConfig(anyString())).thenReturn(map);
+		when(projectHierarchyCache.getScrumHierarchy(anyString())).thenReturn(map);
 		Set<ProjectHierarchy> result =
 				createAccountHierarchy.createAccountHierarchy(
 						jiraIssues.get(0), createProjectConfig(), getSprintDetails());
@@ -71,8 +71,11 @@ import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
 import com.publicissapient.kpidashboard.jira.dataFactories.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.JiraIssueDataFactory;
+import com.publicissapient.kpidashboard.jira.helper.ChangelogIndex;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
@@ -85,6 +88,7 @@ public class JiraIssueHistoryProcessorImplTest {
 	@InjectMocks private JiraIssueHistoryProcessorImpl createJiraIssueHistory;
 	@Mock private JiraIssueCustomHistory jiraIssueCustomHistory;
 	@Mock private JiraIssueCustomHistoryRepository jiraIssueCustomHistoryRepository;
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
 	@Mock private FieldMapping fieldMapping;
 	private List<ChangelogGroup> changeLogList = new ArrayList<>();
 	private Issue issue;
@@ -140,7 +144,7 @@ public class JiraIssueHistoryProcessorImplTest {
 						"createFirstEntryOfDevDueDateChangeLog",
 						List.class,
 						FieldMapping.class,
-						Issue.class,
+						DecodedIssue.class,
 						Map.class); // Make the private method accessibl
 		method.setAccessible(true);
 		FieldMapping fieldMapping = new FieldMapping();
@@ -149,7 +153,8 @@ public class JiraIssueHistoryProcessorImplTest {
 		fieldMap.put(
 				"customfield_20303",
 				new IssueField("", "Dev_Due_Date", null, "2023-02-28T03:57:59.000+0000"));
-		method.invoke(createJiraIssueHistory, new ArrayList<>(), fieldMapping, issue, fieldMap);
+		method.invoke(
+				createJiraIssueHistory, new ArrayList<>(), fieldMapping, DecodedIssue.of(issue), fieldMap);
 	}
 
 	private ProjectConfFieldMapping createProjectConfig() {
@@ -493,9 +498,9 @@ public class JiraIssueHistoryProcessorImplTest {
 		fields.put("code_issue", issueField);
 		Method method =
 				JiraIssueHistoryProcessorImpl.class.getDeclaredMethod(
-						"getDueDateChangeLog", List.class, FieldMapping.class, Map.class);
+						"getDueDateChangeLog", ChangelogIndex.class, FieldMapping.class, Map.class);
 		method.setAccessible(true);
-		method.invoke(createJiraIssueHistory, changeLogList, fieldMapping, fields);
+		method.invoke(createJiraIssueHistory, ChangelogIndex.of(changeLogList), fieldMapping, fields);
 	}
 
 	@Test
@@ -515,8 +520,8 @@ public class JiraIssueHistoryProcessorImplTest {
 		fields.put("custom_date", issueField);
 		Method method =
 				JiraIssueHistoryProcessorImpl.class.getDeclaredMethod(
-						"getDueDateChangeLog", List.class, FieldMapping.class, Map.class);
+						"getDueDateChangeLog", ChangelogIndex.class, FieldMapping.class, Map.class);
 		method.setAccessible(true);
-		method.invoke(createJiraIssueHistory, changeLogList, fieldMapping, fields);
+		method.invoke(createJiraIssueHistory, ChangelogIndex.of(changeLogList), fieldMapping, fields);
 	}
 }
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -86,11 +87,10 @@ import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.dataFactories.ConnectionsDataFactory;
@@ -98,6 +98,7 @@ import com.publicissapient.kpidashboard.jira.dataFactories.JiraIssueDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.ProjectBasicConfigDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.ToolConfigDataFactory;
 import com.publicissapient.kpidashboard.jira.helper.AdditionalFilterHelper;
+import com.publicissapient.kpidashboard.jira.helper.DecodedIssue;
 import com.publicissapient.kpidashboard.jira.model.JiraProcessor;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
@@ -129,18 +130,17 @@ public class JiraIssueProcessorImplTest {
 	@Mock ExecutorService executorService;
 	List<IssueField> issueFieldList = new ArrayList<>();
 	@Mock private JiraIssueRepository jiraIssueRepository;
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
 	@Mock private JiraProcessorRepository jiraProcessorRepository;
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 	@Mock private AdditionalFilterHelper additionalFilterHelper;
-	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 
-	@Mock private AssigneeDetails assigneeDetails;
 	@Mock private FieldMapping fieldMapping;
 
 	@Mock private JiraIssue jiraIssue;
 
 	private Map<String, IssueField> fields;
-	Set<Assignee> assigneeSetToSave = new HashSet<>();
 
 	@Before
 	public void setup() throws URISyntaxException, JSONException {
@@ -148,16 +148,9 @@ public class JiraIssueProcessorImplTest {
 		projectToolConfigsForJQL = getMockProjectToolConfigForJQL();
 		projectToolConfigsForBoard = getMockProjectToolConfigForBoard();
 		connection = getMockConnection();
-		Assignee assignee = Assignee.builder().assigneeId("31").assigneeName("User 1").build();
-		Assignee assignee1 = Assignee.builder().assigneeId("32").assigneeName("User 2").build();
-		assigneeSetToSave.add(assignee);
-		assigneeSetToSave.add(assignee1);
-		AssigneeDetails assigneeDetailsToBeSave =
-				new AssigneeDetails(
-						"63c04dc7b7617e260763ca4e", ProcessorConstants.JIRA, assigneeSetToSave, 3);
-		when(assigneeDetails.getBasicProjectConfigId()).thenReturn("63c04dc7b7617e260763ca4e");
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
-				.thenReturn(assigneeDetailsToBeSave);
+		lenient()
+				.when(projectAssigneeCache.getAnonymisedName(any(), any()))
+				.thenReturn("User 1");
 		createIssue();
 		createIssuefieldsList();
 		prepareFiledMapping(0);
@@ -176,7 +169,7 @@ public class JiraIssueProcessorImplTest {
 				.thenReturn(JiraIssue.builder().build());
 		//		when(jiraProcessorConfig.getRcaValuesForCodeIssue()).thenReturn(Arrays.asList("code",
 		// "coding"));
-		when(additionalFilterHelper.getAdditionalFilter(any(), any()))
+		when(additionalFilterHelper.getAdditionalFilter(any(), any(), any()))
 				.thenReturn(getMockAdditionalFilterFromJiraIssue());
 		assertEquals(
 				JiraIssue.class,
@@ -195,7 +188,7 @@ public class JiraIssueProcessorImplTest {
 				.thenReturn(JiraIssue.builder().build());
 		//		when(jiraProcessorConfig.getRcaValuesForCodeIssue()).thenReturn(Arrays.asList("code",
 		// "coding"));
-		when(additionalFilterHelper.getAdditionalFilter(any(), any()))
+		when(additionalFilterHelper.getAdditionalFilter(any(), any(), any()))
 				.thenReturn(getMockAdditionalFilterFromJiraIssue());
 		assertEquals(
 				JiraIssue.class,
@@ -214,7 +207,7 @@ public class JiraIssueProcessorImplTest {
 				.thenReturn(JiraIssue.builder().build());
 		//		when(jiraProcessorConfig.getRcaValuesForCodeIssue()).thenReturn(Arrays.asList("code",
 		// "coding"));
-		when(additionalFilterHelper.getAdditionalFilter(any(), any()))
+		when(additionalFilterHelper.getAdditionalFilter(any(), any(), any()))
 				.thenReturn(getMockAdditionalFilterFromJiraIssue());
 		assertEquals(
 				JiraIssue.class,
@@ -835,21 +828,30 @@ public class JiraIssueProcessorImplTest {
 			throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
 		Method method =
 				JiraIssueProcessorImpl.class.getDeclaredMethod(
-						"processSprintData", JiraIssue.class, IssueField.class, ProjectConfFieldMapping.class);
+						"processSprintData",
+						JiraIssue.class,
+						DecodedIssue.class,
+						ProjectConfFieldMapping.class);
 		method.setAccessible(true);
-		method.invoke(transformFetchedIssueToJiraIssue, new JiraIssue(), null, projectConfFieldMapping);
+		method.invoke(
+				transformFetchedIssueToJiraIssue,
+				new JiraIssue(),
+				DecodedIssue.of(null),
+				projectConfFieldMapping);
 	}
 
 	@Test
 	public void testSetAssigneeName()
 			throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
-				.thenReturn(null);
+		when(projectAssigneeCache.getAnonymisedName("basicProjectConfigId", "assigneeId"))
+				.thenReturn("User 3");
 		Method method =
 				JiraIssueProcessorImpl.class.getDeclaredMethod(
 						"setAssigneeName", String.class, String.class);
 		method.setAccessible(true);
-		method.invoke(transformFetchedIssueToJiraIssue, "assigneeId", "basicProjectConfigId");
+		assertEquals(
+				"User 3",
+				method.invoke(transformFetchedIssueToJiraIssue, "assigneeId", "basicProjectConfigId"));
 	}
 
 	@Test
@@ -42,8 +42,7 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectToolConf
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
 import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
-import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
 import com.publicissapient.kpidashboard.jira.dataFactories.AccountHierarchiesKanbanDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.ConnectionsDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.FieldMappingDataFactory;
@@ -65,10 +64,9 @@ public class KanbanJiraIssueAccountHierarchyProcessorImplTest {
 	Optional<Connection> connection;
 	List<KanbanJiraIssue> kanbanJiraIssues;
 	List<ProjectBasicConfig> projectConfigsList;
-	@Mock private HierarchyLevelService hierarchyLevelService;
+	@Mock private ProjectHierarchyCache projectHierarchyCache;
 	@Mock private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepo;
 	@InjectMocks private KanbanJiraIssueAccountHierarchyProcessorImpl createKanbanAccountHierarchy;
-	@Mock ProjectHierarchyService service;
 
 	@Before
 	public void setup() {
@@ -84,7 +82,7 @@ public class KanbanJiraIssueAccountHierarchyProcessorImplTest {
 
 	@Test
 	public void createAccountHierarchy() {
-		when(hierarchyLevelService.getFullHierarchyLevels(true)).thenReturn(hierarchyLevelList);
+		when(projectHierarchyCache.getHierarchyLevels(true)).thenReturn(hierarchyLevelList);
 		Assert.assertEquals(
 				1,
 				createKanbanAccountHierarchy
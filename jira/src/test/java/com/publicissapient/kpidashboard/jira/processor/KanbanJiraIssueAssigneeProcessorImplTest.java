@@ -18,7 +18,11 @@
 
 package com.publicissapient.kpidashboard.jira.processor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.net.URISyntaxException;
@@ -42,7 +46,7 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectBasicCon
 import com.publicissapient.kpidashboard.common.model.jira.Assignee;
 import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.dataFactories.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.KanbanJiraIssueDataFactory;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
@@ -53,7 +57,7 @@ public class KanbanJiraIssueAssigneeProcessorImplTest {
 	KanbanJiraIssue jiraIssue;
 	Set<Assignee> assigneeSetToSave = new HashSet<>();
 	List<Issue> issues = new ArrayList<>();
-	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 	@InjectMocks private KanbanJiraIssueAssigneeProcessorImpl createAssigneeDetails;
 	@Mock private FieldMapping fieldMapping;
 	private List<ChangelogGroup> changeLogList = new ArrayList<>();
@@ -81,18 +85,28 @@ public class KanbanJiraIssueAssigneeProcessorImplTest {
 
 	@Test
 	public void setAssigneeDetails() {
-
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
+		jiraIssue.setAssigneeId("123");
+		jiraIssue.setAssigneeName("puru");
+		when(projectAssigneeCache.addAssignee(eq("63c04dc7b7617e260763ca4e"), any(), eq(true)))
 				.thenReturn(assigneeDetails);
-		createAssigneeDetails.createKanbanAssigneeDetails(createProjectConfig(), jiraIssue);
+		assertEquals(
+				assigneeDetails,
+				createAssigneeDetails.createKanbanAssigneeDetails(createProjectConfig(), jiraIssue));
 	}
 
 	@Test
 	public void setAssigneeDetails2() {
+		jiraIssue.setAssigneeId("123");
+		jiraIssue.setAssigneeName("puru");
+		when(projectAssigneeCache.addAssignee(any(), any(), eq(true))).thenReturn(null);
+		assertNull(createAssigneeDetails.createKanbanAssigneeDetails(createProjectConfig(), jiraIssue));
+	}
 
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
-				.thenReturn(null);
-		createAssigneeDetails.createKanbanAssigneeDetails(createProjectConfig(), jiraIssue);
+	@Test
+	public void setAssigneeDetailsWithoutAssignee() {
+		jiraIssue.setAssigneeId(null);
+		assertNull(createAssigneeDetails.createKanbanAssigneeDetails(createProjectConfig(), jiraIssue));
+		verifyNoInteractions(projectAssigneeCache);
 	}
 
 	private ProjectConfFieldMapping createProjectConfig() {
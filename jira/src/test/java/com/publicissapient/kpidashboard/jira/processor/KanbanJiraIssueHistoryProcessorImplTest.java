@@ -67,6 +67,7 @@ import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueHistoryRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
 import com.publicissapient.kpidashboard.jira.dataFactories.FieldMappingDataFactory;
 import com.publicissapient.kpidashboard.jira.dataFactories.KanbanJiraIssueDataFactory;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
@@ -79,6 +80,7 @@ public class KanbanJiraIssueHistoryProcessorImplTest {
 	@InjectMocks private KanbanJiraIssueHistoryProcessorImpl createJiraIssueHistory;
 	@Mock private KanbanIssueCustomHistory jiraIssueCustomHistory;
 	@Mock private KanbanJiraIssueHistoryRepository kanbanIssueHistoryRepo;
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
 	@Mock private FieldMapping fieldMapping;
 	private List<ChangelogGroup> changeLogList = new ArrayList<>();
 	private Issue issue;
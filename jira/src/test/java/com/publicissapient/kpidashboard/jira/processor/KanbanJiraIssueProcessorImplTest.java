@@ -20,6 +20,7 @@ package com.publicissapient.kpidashboard.jira.processor;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -80,11 +81,10 @@ import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
 import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
-import com.publicissapient.kpidashboard.common.model.jira.Assignee;
-import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.dataFactories.ConnectionsDataFactory;
@@ -112,13 +112,13 @@ public class KanbanJiraIssueProcessorImplTest {
 	Optional<Connection> connection;
 	List<FieldMapping> fieldMappingList;
 	@Mock private KanbanJiraIssueRepository kanbanJiraRepo;
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
 	@Mock private JiraProcessorRepository jiraProcessorRepository;
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 	@Mock private AdditionalFilterHelper additionalFilterHelper;
 	@Mock private JiraCommonService jiraCommonService;
-	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 
-	@Mock private AssigneeDetails assigneeDetails;
 
 	@Mock private IssueField issueField;
 
@@ -126,7 +126,6 @@ public class KanbanJiraIssueProcessorImplTest {
 
 	private Map<String, IssueField> fields;
 
-	Set<Assignee> assigneeSetToSave = new HashSet<>();
 
 	@Before
 	public void setup() throws URISyntaxException, JSONException {
@@ -136,16 +135,9 @@ public class KanbanJiraIssueProcessorImplTest {
 		projectToolConfigs = getMockProjectToolConfig();
 		connection = getMockConnection();
 		fieldMappingList = getMockFieldMappingList();
-		Assignee assignee = Assignee.builder().assigneeId("2424").assigneeName("User 1").build();
-		Assignee assignee1 = Assignee.builder().assigneeId("24324").assigneeName("User 2").build();
-		assigneeSetToSave.add(assignee);
-		assigneeSetToSave.add(assignee1);
-		AssigneeDetails assigneeDetailsToBeSave =
-				new AssigneeDetails(
-						"63c04dc7b7617e260763ca4e", ProcessorConstants.JIRA, assigneeSetToSave, 3);
-		when(assigneeDetails.getBasicProjectConfigId()).thenReturn("63c04dc7b7617e260763ca4e");
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
-				.thenReturn(assigneeDetailsToBeSave);
+		lenient()
+				.when(projectAssigneeCache.getAnonymisedName(any(), any()))
+				.thenReturn("User 1");
 		createProjectConfigMap();
 		createIssue();
 		fields = new HashMap<>();
@@ -158,7 +150,7 @@ public class KanbanJiraIssueProcessorImplTest {
 				.thenReturn(new KanbanJiraIssue());
 		//		when(jiraProcessorConfig.getRcaValuesForCodeIssue()).thenReturn(Arrays.asList("code",
 		// "coding"));
-		when(additionalFilterHelper.getAdditionalFilter(any(), any()))
+		when(additionalFilterHelper.getAdditionalFilter(any(), any(), any()))
 				.thenReturn(getMockAdditionalFilterFromJiraIssue());
 		Assert.assertEquals(
 				KanbanJiraIssue.class,
@@ -532,13 +524,14 @@ public class KanbanJiraIssueProcessorImplTest {
 	@Test
 	public void testSetAssigneeName()
 			throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-		when(assigneeDetailsRepository.findByBasicProjectConfigIdAndSource(any(), any()))
-				.thenReturn(null);
+		when(projectAssigneeCache.getAnonymisedName("basicProjectConfigId", "assigneeId"))
+				.thenReturn("User 3");
 		Method method =
 				KanbanJiraIssueProcessorImpl.class.getDeclaredMethod(
 						"setAssigneeName", String.class, String.class);
 		method.setAccessible(true);
 		method.invoke(transformFetchedIssueToKanbanJiraIssue, "assigneeId", "basicProjectConfigId");
+		verify(projectAssigneeCache).getAnonymisedName("basicProjectConfigId", "assigneeId");
 	}
 
 	@Test
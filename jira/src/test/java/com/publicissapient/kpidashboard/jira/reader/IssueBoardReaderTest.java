@@ -18,9 +18,13 @@
 package com.publicissapient.kpidashboard.jira.reader;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -28,6 +32,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
@@ -56,6 +62,7 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfigurationImpl;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.helper.ReaderRetryHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
@@ -161,6 +168,55 @@ public class IssueBoardReaderTest {
 		assertEquals(mockReadData.getIssue(), result.getIssue());
 	}
 
+	@Test
+	public void testUpdateKeepsBoardAndLastChangeDate() throws Exception {
+		when(processorExecutionTraceLogRepo
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								anyString(), anyString()))
+				.thenReturn(pl);
+		when(jiraCommonService.fetchIssueBasedOnBoard(any(), any(), anyInt(), anyString(), anyString()))
+				.thenReturn(issues);
+		when(fetchEpicData.fetchEpic(any(), anyString(), any(), any()))
+				.thenReturn(Collections.emptyList());
+
+		issueBoardReader.read();
+		ExecutionContext executionContext = new ExecutionContext();
+		issueBoardReader.update(executionContext);
+
+		assertEquals(0, executionContext.getInt(JiraConstants.READER_BOARD_INDEX));
+		assertTrue(executionContext.containsKey(JiraConstants.READER_BOARD_LAST_CHANGE_DATE));
+	}
+
+	@Test
+	public void testOpenResumesBoardFromCheckpoint() throws Exception {
+		projectConfFieldMapping
+				.getProjectToolConfig()
+				.setBoards(Arrays.asList(board("read"), board("resumed")));
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putInt(JiraConstants.READER_BOARD_INDEX, 1);
+		executionContext.putString(
+				JiraConstants.READER_BOARD_LAST_CHANGE_DATE, "2024-01-15T10:30:00.0000000");
+		when(jiraCommonService.fetchIssueBasedOnBoardWindow(
+						any(), any(), anyInt(), eq("resumed"), eq("2024-01-15 10:30")))
+				.thenReturn(issues);
+		when(fetchEpicData.fetchEpic(any(), eq("resumed"), any(), any()))
+				.thenReturn(Collections.emptyList());
+
+		issueBoardReader.open(executionContext);
+		ReadData result = issueBoardReader.read();
+
+		assertEquals("resumed", result.getBoardId());
+		assertEquals(issues.get(0), result.getIssue());
+		verify(jiraCommonService, never())
+				.fetchIssueBasedOnBoard(any(), any(), anyInt(), anyString(), anyString());
+	}
+
+	private static BoardDetails board(String boardId) {
+		BoardDetails boardDetails = new BoardDetails();
+		boardDetails.setBoardId(boardId);
+		return boardDetails;
+	}
+
 	@Test
 	public void testGetDeltaDateFromTraceLog() throws Exception {
 
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IssueDateWindowPartitionerTest {
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepo;
+
+	@InjectMocks private IssueDateWindowPartitioner issueDateWindowPartitioner;
+
+	@Before
+	public void setup() {
+		ReflectionTestUtils.setField(
+				issueDateWindowPartitioner, "projectId", "63bfa0d5b7617e260763ca21");
+		when(jiraProcessorConfig.getPrevMonthCountToFetchData()).thenReturn(12);
+		when(jiraProcessorConfig.getDaysToReduce()).thenReturn(1);
+	}
+
+	@Test
+	public void windowsAreContiguousAndLastOneIsOpenEnded() {
+		when(processorExecutionTraceLogRepo
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								anyString(), anyString()))
+				.thenReturn(new ArrayList<>());
+
+		Map<String, ExecutionContext> partitions = issueDateWindowPartitioner.partition(4);
+
+		assertEquals(4, partitions.size());
+		List<ExecutionContext> windows = new ArrayList<>(partitions.values());
+		for (int index = 0; index < windows.size() - 1; index++) {
+			assertEquals(index, windows.get(index).getInt(JiraConstants.PARTITION_INDEX));
+			assertEquals(
+					windows.get(index).getString(JiraConstants.PARTITION_WINDOW_END),
+					windows.get(index + 1).getString(JiraConstants.PARTITION_WINDOW_START));
+		}
+		assertFalse(windows.get(3).containsKey(JiraConstants.PARTITION_WINDOW_END));
+	}
+
+	@Test
+	public void shortDeltaIsNotSplitBelowOneDay() {
+		ProcessorExecutionTraceLog traceLog = new ProcessorExecutionTraceLog();
+		traceLog.setLastSuccessfulRun(
+				DateUtil.dateTimeFormatter(LocalDateTime.now(), JiraConstants.QUERYDATEFORMAT));
+		when(processorExecutionTraceLogRepo
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								anyString(), anyString()))
+				.thenReturn(List.of(traceLog));
+
+		Map<String, ExecutionContext> partitions = issueDateWindowPartitioner.partition(4);
+
+		assertEquals(1, partitions.size());
+		assertFalse(
+				partitions.values().iterator().next().containsKey(JiraConstants.PARTITION_WINDOW_END));
+	}
+}
@@ -18,9 +18,13 @@
 package com.publicissapient.kpidashboard.jira.reader;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -38,6 +42,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
 
 import com.atlassian.jira.rest.client.api.domain.Issue;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
@@ -56,6 +61,7 @@ import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExec
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfigurationImpl;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
 import com.publicissapient.kpidashboard.jira.helper.ReaderRetryHelper;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 import com.publicissapient.kpidashboard.jira.model.ReadData;
@@ -157,6 +163,54 @@ public class IssueJqlReaderTest {
 		assertEquals(mockReadData.getIssue(), result.getIssue());
 	}
 
+	@Test
+	public void testReadDataWithinPartitionWindow() throws Exception {
+		setPrivateField(issueJqlReader, "windowStart", "2024-01-01 00:00");
+		setPrivateField(issueJqlReader, "windowEnd", "2024-02-01 00:00");
+		when(jiraCommonService.fetchIssuesBasedOnJqlWindow(
+						any(), any(), anyInt(), eq("2024-01-01 00:00"), eq("2024-02-01 00:00")))
+				.thenReturn(issues);
+
+		ReadData result = issueJqlReader.read();
+
+		assertEquals(issues.get(0), result.getIssue());
+		verify(jiraCommonService, never()).fetchIssuesBasedOnJql(any(), any(), anyInt(), anyString());
+	}
+
+	@Test
+	public void testOpenResumesPartitionFromCheckpoint() throws Exception {
+		setPrivateField(issueJqlReader, "windowStart", "2024-01-01 00:00");
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putString(
+				JiraConstants.PARTITION_LAST_CHANGE_DATE, "2024-01-15T10:30:00.0000000");
+		when(jiraCommonService.fetchIssuesBasedOnJqlWindow(
+						any(), any(), anyInt(), eq("2024-01-15 10:30"), eq(null)))
+				.thenReturn(issues);
+
+		issueJqlReader.open(executionContext);
+		issueJqlReader.read();
+		ExecutionContext updatedContext = new ExecutionContext();
+		issueJqlReader.update(updatedContext);
+
+		assertTrue(updatedContext.containsKey(JiraConstants.PARTITION_LAST_CHANGE_DATE));
+	}
+
+	@Test
+	public void testOpenResumesProjectFromCheckpoint() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.putString(
+				JiraConstants.PARTITION_LAST_CHANGE_DATE, "2024-01-15T10:30:00.0000000");
+		when(jiraCommonService.fetchIssuesBasedOnJqlWindow(
+						any(), any(), anyInt(), eq("2024-01-15 10:30"), eq(null)))
+				.thenReturn(issues);
+
+		issueJqlReader.open(executionContext);
+		ReadData result = issueJqlReader.read();
+
+		assertEquals(issues.get(0), result.getIssue());
+		verify(jiraCommonService, never()).fetchIssuesBasedOnJql(any(), any(), anyInt(), anyString());
+	}
+
 	@Test
 	public void testGetDeltaDateFromTraceLog() throws Exception {
 
@@ -19,6 +19,8 @@
 package com.publicissapient.kpidashboard.jira.reader;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -121,7 +123,6 @@ public class IssueSprintReaderTest {
 		issues = IssueReaderUtil.createIssue();
 		boardIterator = projectConfFieldMapping.getProjectToolConfig().getBoards().iterator();
 		issueIterator = issues.iterator();
-		when(jiraProcessorConfig.getPageSize()).thenReturn(1);
 		when(fetchProjectConfiguration.fetchConfigurationBasedOnSprintId(null))
 				.thenReturn(projectConfFieldMapping);
 		setPrivateField(issueSprintReader, "processorId", "63bfa0d5b7617e260763ca21");
@@ -136,7 +137,7 @@ public class IssueSprintReaderTest {
 
 	@Test
 	public void testReadData() throws Exception {
-		when(fetchIssueSprint.fetchIssuesSprintBasedOnJql(projectConfFieldMapping, null, 0, null))
+		when(fetchIssueSprint.fetchSprintIssues(projectConfFieldMapping, null, null))
 				.thenReturn(issues);
 		// Arrange
 		ReadData mockReadData = IssueReaderUtil.getMockReadData(boardId, projectConfFieldMapping);
@@ -147,4 +148,18 @@ public class IssueSprintReaderTest {
 		// Assert
 		assertEquals(mockReadData.getIssue(), result.getIssue());
 	}
+
+	@Test
+	public void testReadsWholeSprintFetchedOnce() throws Exception {
+		when(fetchIssueSprint.fetchSprintIssues(projectConfFieldMapping, null, null))
+				.thenReturn(issues);
+
+		int read = 0;
+		while (null != issueSprintReader.read()) {
+			read++;
+		}
+
+		assertEquals(issues.size(), read);
+		verify(fetchIssueSprint, times(1)).fetchSprintIssues(projectConfFieldMapping, null, null);
+	}
 }
@@ -21,7 +21,8 @@ package com.publicissapient.kpidashboard.jira.scheduler;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -36,9 +37,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.launch.JobLauncher;
 
 import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
 import com.publicissapient.kpidashboard.common.repository.application.ProjectBasicConfigRepository;
@@ -46,13 +45,12 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectToo
 import com.publicissapient.kpidashboard.jira.config.FetchProjectConfigurationImpl;
 import com.publicissapient.kpidashboard.jira.model.JiraProcessor;
 import com.publicissapient.kpidashboard.jira.repository.JiraProcessorRepository;
-import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JobSchedulerTest {
 	@Mock private Job fetchIssueKanbanJqlJob;
 
-	@Mock private JobLauncher jobLauncher;
+	@Mock private ProjectJobQueue projectJobQueue;
 
 	@Mock private Job fetchIssueScrumBoardJob;
 
@@ -60,8 +58,6 @@ public class JobSchedulerTest {
 
 	@Mock private ProjectToolConfigRepository toolRepository;
 
-	@Mock private OngoingExecutionsService ongoingExecutionsService;
-
 	@Mock private Job fetchIssueSprintJob;
 
 	@InjectMocks private JobScheduler jobScheduler;
@@ -82,7 +78,7 @@ public class JobSchedulerTest {
 	}
 
 	@Test
-	public void testStartScrumBoardJob_Success() throws JobExecutionException {
+	public void testStartScrumBoardJob_Success() {
 		// Mocking fetchBasicProjConfId to return a list of project IDs
 		List<String> projectIds = new ArrayList<>();
 		projectIds.add("projectId1");
@@ -90,26 +86,30 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-
 		// Calling the method
 		jobScheduler.startScrumBoardJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumBoardJob), any(JobParameters.class), eq(false), eq(false));
 	}
 
 	@Test
-	public void testStartScrumBoardJob_ExceptionHandling() throws JobExecutionException {
+	public void testStartScrumBoardJob_ExceptionHandling() {
 		// Mocking fetchBasicProjConfId to return a list of project IDs
 		List<String> projectIds = new ArrayList<>();
 		projectIds.add("projectId1");
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueScrumBoardJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueScrumBoardJob), any(JobParameters.class), anyBoolean(), eq(false)))
+				.thenReturn(false);
 
 		jobScheduler.startScrumBoardJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumBoardJob), any(JobParameters.class), eq(false), eq(false));
 	}
 
 	@Test
@@ -121,6 +121,9 @@ public class JobSchedulerTest {
 				.thenReturn(projectIds);
 
 		jobScheduler.startScrumJqlJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumJqlJob), any(JobParameters.class), eq(false), eq(false));
 	}
 
 	@Test
@@ -131,12 +134,15 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueScrumJqlJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueScrumJqlJob), any(JobParameters.class), anyBoolean(), eq(false)))
+				.thenReturn(false);
 
 		jobScheduler.startScrumJqlJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueScrumJqlJob), any(JobParameters.class), eq(false), eq(false));
 	}
 
 	@Test
@@ -147,9 +153,10 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-
 		jobScheduler.startKanbanJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanBoardJob), any(JobParameters.class), eq(true), eq(false));
 	}
 
 	@Test
@@ -160,12 +167,15 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		// doThrow(new RuntimeException("Simulated job execution
-		// exception")).when(jobLauncher)
-		// .run(eq(fetchIssueKanbanBoardJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueKanbanBoardJob), any(JobParameters.class), anyBoolean(), eq(false)))
+				.thenReturn(false);
 
 		jobScheduler.startKanbanJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanBoardJob), any(JobParameters.class), eq(true), eq(false));
 	}
 
 	@Test
@@ -176,11 +186,11 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to return a JobExecution instance
-		// when(jobLauncher.run(any(Job.class),
-		// any(JobParameters.class))).thenReturn(new JobExecution(1L));
 
 		jobScheduler.startKanbanJqlJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanJqlJob), any(JobParameters.class), eq(true), eq(false));
 	}
 
 	@Test
@@ -191,11 +201,14 @@ public class JobSchedulerTest {
 		when(fetchProjectConfiguration.fetchBasicProjConfId(any(), anyBoolean(), anyBoolean()))
 				.thenReturn(projectIds);
 
-		// Mocking jobLauncher.run() to throw an exception
-		doThrow(new RuntimeException("Simulated job execution exception"))
-				.when(jobLauncher)
-				.run(eq(fetchIssueKanbanJqlJob), any(JobParameters.class));
+		// Project is already queued or running
+		when(projectJobQueue.enqueue(
+						eq(fetchIssueKanbanJqlJob), any(JobParameters.class), anyBoolean(), eq(false)))
+				.thenReturn(false);
 
 		jobScheduler.startKanbanJqlJob();
+
+		verify(projectJobQueue, times(projectIds.size()))
+				.enqueue(eq(fetchIssueKanbanJqlJob), any(JobParameters.class), eq(true), eq(false));
 	}
 }
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
+import com.publicissapient.kpidashboard.common.model.connection.Connection;
+import com.publicissapient.kpidashboard.common.repository.application.ProjectToolConfigRepository;
+import com.publicissapient.kpidashboard.common.repository.connection.ConnectionRepository;
+import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
+import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
+import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.util.DateUtil;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
+import com.publicissapient.kpidashboard.jira.service.JobRestartService;
+import com.publicissapient.kpidashboard.jira.service.OngoingExecutionsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProjectJobQueueTest {
+
+	private static final String BLOCKER = "63bfa0d5b7617e260763ca01";
+	private static final String FRESH_SMALL = "63bfa0d5b7617e260763ca02";
+	private static final String STALE = "63bfa0d5b7617e260763ca03";
+	private static final String MANUAL = "63bfa0d5b7617e260763ca04";
+	private static final String FRESH_LARGE = "63bfa0d5b7617e260763ca05";
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
+	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Mock private ProjectToolConfigRepository toolRepository;
+	@Mock private ConnectionRepository connectionRepository;
+	@Mock private JiraIssueRepository jiraIssueRepository;
+	@Mock private KanbanJiraIssueRepository kanbanJiraIssueRepository;
+	@Mock private JobLauncher jobLauncher;
+	@Mock private JobRestartService jobRestartService;
+	@Mock private Job job;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<String> launched = new CopyOnWriteArrayList<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ProjectJobQueue projectJobQueue;
+
+	@Before
+	public void setUp() throws Exception {
+		lenient().when(jiraProcessorConfig.getJobQueueStaleHours()).thenReturn(36);
+		lenient()
+				.when(jobRestartService.getLaunchParameters(any(), any(JobParameters.class)))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		lenient()
+				.when(ongoingExecutionsService.markExecutionInProgressIfAbsent(anyString()))
+				.thenReturn(true);
+		lenient()
+				.when(jobLauncher.run(any(Job.class), any(JobParameters.class)))
+				.thenAnswer(
+						invocation -> {
+							String projectId = invocation.<JobParameters>getArgument(1).getString("projectId");
+							launched.add(projectId);
+							if (BLOCKER.equals(projectId)) {
+								release.await(10, TimeUnit.SECONDS);
+							}
+							return new JobExecution(1L);
+						});
+	}
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		if (projectJobQueue != null) {
+			projectJobQueue.shutdown();
+		}
+	}
+
+	@Test
+	public void launchesManualThenStaleThenLargerProjects() {
+		newQueue(1, 1);
+		lastSuccessfulRun(FRESH_SMALL, LocalDateTime.now().minusHours(2));
+		lastSuccessfulRun(FRESH_LARGE, LocalDateTime.now().minusHours(2));
+		when(jiraIssueRepository.countByBasicProjectConfigIdAndExcludeTypeName(
+						FRESH_SMALL, JiraConstants.EPIC))
+				.thenReturn(10L);
+		when(jiraIssueRepository.countByBasicProjectConfigIdAndExcludeTypeName(
+						FRESH_LARGE, JiraConstants.EPIC))
+				.thenReturn(1000L);
+
+		assertTrue(projectJobQueue.enqueue(job, params(BLOCKER), false, true));
+		verify(jobLauncher, timeout(5000)).run(eq(job), any(JobParameters.class));
+		assertTrue(projectJobQueue.enqueue(job, params(FRESH_SMALL), false, false));
+		assertTrue(projectJobQueue.enqueue(job, params(STALE), false, false));
+		assertTrue(projectJobQueue.enqueue(job, params(MANUAL), false, true));
+		assertTrue(projectJobQueue.enqueue(job, params(FRESH_LARGE), false, false));
+		assertEquals(4.0, meterRegistry.get(ProjectJobQueue.QUEUE_SIZE_METRIC).gauge().value(), 0);
+		assertEquals(1.0, meterRegistry.get(ProjectJobQueue.RUNNING_METRIC).gauge().value(), 0);
+
+		release.countDown();
+
+		verify(jobLauncher, timeout(5000).times(5)).run(eq(job), any(JobParameters.class));
+		assertEquals(List.of(BLOCKER, MANUAL, STALE, FRESH_LARGE, FRESH_SMALL), launched);
+		assertEquals(
+				5L,
+				meterRegistry.get(ProjectJobQueue.WAIT_METRIC).timers().stream()
+						.mapToLong(timer -> timer.count())
+						.sum());
+	}
+
+	@Test
+	public void skipsProjectAlreadyInProgress() throws Exception {
+		newQueue(1, 1);
+		when(ongoingExecutionsService.markExecutionInProgressIfAbsent(STALE)).thenReturn(false);
+
+		assertFalse(projectJobQueue.enqueue(job, params(STALE), false, false));
+
+		verify(jobLauncher, after(200).never()).run(any(Job.class), any(JobParameters.class));
+	}
+
+	@Test
+	public void manualTriggerMovesQueuedProjectToTheFront() throws Exception {
+		newQueue(1, 1);
+		lastSuccessfulRun(FRESH_SMALL, LocalDateTime.now().minusHours(2));
+
+		projectJobQueue.enqueue(job, params(BLOCKER), false, true);
+		verify(jobLauncher, timeout(5000)).run(eq(job), any(JobParameters.class));
+		projectJobQueue.enqueue(job, params(FRESH_SMALL), false, false);
+		projectJobQueue.enqueue(job, params(STALE), false, false);
+		when(ongoingExecutionsService.markExecutionInProgressIfAbsent(FRESH_SMALL)).thenReturn(false);
+
+		assertTrue(projectJobQueue.enqueue(job, params(FRESH_SMALL), false, true));
+		release.countDown();
+
+		verify(jobLauncher, timeout(5000).times(3)).run(eq(job), any(JobParameters.class));
+		assertEquals(List.of(BLOCKER, FRESH_SMALL, STALE), launched);
+	}
+
+	@Test
+	public void limitsProjectsRunningAgainstOneHost() throws Exception {
+		newQueue(2, 1);
+		Connection connection = new Connection();
+		connection.setBaseUrl("https://jira.example.com/");
+		Connection sameHostConnection = new Connection();
+		sameHostConnection.setBaseUrl("https://JIRA.example.com:443/jira");
+		ProjectToolConfig toolConfig = new ProjectToolConfig();
+		toolConfig.setConnectionId(new ObjectId());
+		when(toolRepository.findByToolNameAndBasicProjectConfigId(eq(JiraConstants.JIRA), any()))
+				.thenReturn(Collections.singletonList(toolConfig));
+		when(connectionRepository.findById(toolConfig.getConnectionId()))
+				.thenReturn(Optional.of(connection), Optional.of(sameHostConnection));
+
+		projectJobQueue.enqueue(job, params(BLOCKER), false, true);
+		projectJobQueue.enqueue(job, params(MANUAL), false, true);
+
+		verify(jobLauncher, after(300).times(1)).run(eq(job), any(JobParameters.class));
+		release.countDown();
+		verify(jobLauncher, timeout(5000).times(2)).run(eq(job), any(JobParameters.class));
+	}
+
+	@Test
+	public void doesNotLimitProjectsPerHostByDefault() throws Exception {
+		newQueue(2, 0);
+		Connection connection = new Connection();
+		connection.setBaseUrl("https://jira.example.com/");
+		ProjectToolConfig toolConfig = new ProjectToolConfig();
+		toolConfig.setConnectionId(new ObjectId());
+		when(toolRepository.findByToolNameAndBasicProjectConfigId(eq(JiraConstants.JIRA), any()))
+				.thenReturn(Collections.singletonList(toolConfig));
+		when(connectionRepository.findById(toolConfig.getConnectionId()))
+				.thenReturn(Optional.of(connection));
+
+		projectJobQueue.enqueue(job, params(BLOCKER), false, true);
+		projectJobQueue.enqueue(job, params(MANUAL), false, true);
+
+		verify(jobLauncher, timeout(5000).times(2)).run(eq(job), any(JobParameters.class));
+		release.countDown();
+	}
+
+	@Test
+	public void completesProjectWhoseJobFailsToLaunch() throws Exception {
+		newQueue(1, 1);
+		doThrow(new IllegalStateException("launch failed"))
+				.when(jobLauncher)
+				.run(any(Job.class), any(JobParameters.class));
+
+		projectJobQueue.enqueue(job, params(MANUAL), false, true);
+
+		verify(ongoingExecutionsService, timeout(5000)).markExecutionAsCompleted(MANUAL);
+	}
+
+	private void newQueue(int concurrency, int perHostLimit) {
+		when(jiraProcessorConfig.getJobQueueConcurrency()).thenReturn(concurrency);
+		when(jiraProcessorConfig.getJobQueuePerHostLimit()).thenReturn(perHostLimit);
+		projectJobQueue =
+				new ProjectJobQueue(
+						jiraProcessorConfig,
+						ongoingExecutionsService,
+						processorExecutionTraceLogRepository,
+						toolRepository,
+						connectionRepository,
+						jiraIssueRepository,
+						kanbanJiraIssueRepository,
+						jobLauncher,
+						jobRestartService,
+						meterRegistry);
+		projectJobQueue.init();
+	}
+
+	private void lastSuccessfulRun(String projectId, LocalDateTime lastRun) {
+		ProcessorExecutionTraceLog traceLog = new ProcessorExecutionTraceLog();
+		traceLog.setLastSuccessfulRun(DateUtil.dateTimeFormatter(lastRun, DateUtil.DATE_TIME_FORMAT));
+		when(processorExecutionTraceLogRepository
+						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsFalse(
+								JiraConstants.JIRA, projectId))
+				.thenReturn(Collections.singletonList(traceLog));
+	}
+
+	private static JobParameters params(String projectId) {
+		return new JobParametersBuilder().addString("projectId", projectId).toJobParameters();
+	}
+}
@@ -35,17 +35,21 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.commons.io.IOUtils;
 import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
 import org.joda.time.DateTime;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.BeanUtils;
 
@@ -94,7 +98,7 @@ public class FetchEpicDataImplTest {
 
 	@Mock SearchRestClient searchRestClient;
 	@Mock Promise<SearchResult> promise;
-	String epicResponse;
+	Object epicResponse;
 	List<ProjectToolConfig> projectToolConfigs;
 	Optional<Connection> connection;
 	List<ProjectBasicConfig> projectConfigsList;
@@ -108,9 +112,9 @@ public class FetchEpicDataImplTest {
 	@InjectMocks private FetchEpicDataImpl fetchEpicData;
 
 	@Before
-	public void setUp() throws IOException, URISyntaxException, JSONException {
+	public void setUp() throws IOException, URISyntaxException, JSONException, ParseException {
 		FileInputStream fis = new FileInputStream("src/test/resources/json/default/epic_response.txt");
-		epicResponse = IOUtils.toString(fis, "UTF-8");
+		epicResponse = new JSONParser().parse(IOUtils.toString(fis, "UTF-8"));
 
 		projectToolConfigs = getMockProjectToolConfig();
 		connection = getMockConnection();
@@ -120,11 +124,11 @@ public class FetchEpicDataImplTest {
 	}
 
 	@Test
-	public void fetchEpic() throws IOException, InterruptedException {
+	public void fetchEpic() throws IOException, InterruptedException, ParseException {
 		when(jiraProcessorConfig.getJiraEpicApi())
 				.thenReturn("rest/agile/1.0/board/{boardId}/epic?startAt={startAtIndex}");
-		when(jiraCommonService.getDataFromClient(any(), any(), any())).thenReturn(epicResponse);
-		when(jiraProcessorConfig.getSubsequentApiCallDelayInMilli()).thenReturn(1000l);
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any())).thenReturn(epicResponse);
+		when(jiraCommonService.claimRateLimited(any(), any())).thenAnswer(this::claimPromise);
 		when(jiraProcessorConfig.getPageSize()).thenReturn(30);
 		when(client.getProcessorSearchClient()).thenReturn(searchRestClient);
 		when(searchRestClient.searchJql(anyString(), anyInt(), anyInt(), any())).thenReturn(promise);
@@ -326,6 +330,11 @@ public class FetchEpicDataImplTest {
 		searchResult = new SearchResult(0, 10, 2, issues);
 	}
 
+	private Object claimPromise(InvocationOnMock invocation) {
+		Supplier<Promise<?>> call = invocation.getArgument(1);
+		return call.get().claim();
+	}
+
 	private List<IssueLink> createIssueLinkData() throws URISyntaxException {
 		List<IssueLink> issueLinkList = new ArrayList<>();
 		URI uri = new URI("https://testDomain.com/jira/rest/api/2/issue/12344");
@@ -339,11 +348,11 @@ public class FetchEpicDataImplTest {
 
 	@Test
 	public void fetchEpic_fallbackToAdvancedJql_on410Error()
-			throws IOException, InterruptedException {
+			throws IOException, InterruptedException, ParseException {
 		when(jiraProcessorConfig.getJiraEpicApi())
 				.thenReturn("rest/agile/1.0/board/{boardId}/epic?startAt={startAtIndex}");
-		when(jiraCommonService.getDataFromClient(any(), any(), any())).thenReturn(epicResponse);
-		when(jiraProcessorConfig.getSubsequentApiCallDelayInMilli()).thenReturn(100L);
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any())).thenReturn(epicResponse);
+		when(jiraCommonService.claimRateLimited(any(), any())).thenAnswer(this::claimPromise);
 		when(jiraProcessorConfig.getPageSize()).thenReturn(30);
 
 		// Simulate 410 Gone error from JIRA REST client
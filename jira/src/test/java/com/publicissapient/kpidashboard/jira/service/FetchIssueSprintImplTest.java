@@ -19,20 +19,30 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.bson.types.ObjectId;
 import org.codehaus.jettison.json.JSONException;
@@ -46,6 +56,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.atlassian.jira.rest.client.api.SearchRestClient;
 import com.atlassian.jira.rest.client.api.StatusCategory;
@@ -74,10 +85,12 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectBasicCon
 import com.publicissapient.kpidashboard.common.model.application.ProjectToolConfig;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
+import com.publicissapient.kpidashboard.common.model.jira.SprintIssue;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 import com.publicissapient.kpidashboard.common.service.AesEncryptionService;
 import com.publicissapient.kpidashboard.common.util.SecurityUtils;
+import com.publicissapient.kpidashboard.jira.client.HostRateLimiter;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.dataFactories.ConnectionsDataFactory;
@@ -89,11 +102,13 @@ import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
 import io.atlassian.util.concurrent.Promise;
+import io.atlassian.util.concurrent.Promises;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FetchIssueSprintImplTest {
 
 	private static final String PLAIN_TEXT_PASSWORD = SecurityUtils.generateRandomPassword(8);
+	private static final Pattern ISSUE_KEYS = Pattern.compile("issueKey in \\(([^)]*)\\)");
 
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 
@@ -127,52 +142,132 @@ public class FetchIssueSprintImplTest {
 	}
 
 	@Test
-	public void fetchIssuesSprintBasedOnJql() throws InterruptedException {
+	public void fetchSprintIssuesByConcurrentKeyBatches() throws InterruptedException {
 		String sprintID = "sprint123";
-
-		List<ProjectToolConfig> projectToolConfigList = new ArrayList<>();
-		ProjectToolConfig projectToolConfig = new ProjectToolConfig();
-		projectToolConfig.setBasicProjectConfigId(new ObjectId("5ba8e182d3735010e7f1fa45"));
-		projectToolConfig.setConnectionId(new ObjectId("5b719d06a500d00814bfb2b9"));
-		projectToolConfig.setToolName(ProcessorConstants.JIRA);
-		projectToolConfigList.add(projectToolConfig);
-
-		Optional<Connection> conn = Optional.of(new Connection());
-		conn.get().setOffline(Boolean.FALSE);
-		conn.get().setIsOAuth(Boolean.TRUE);
-		conn.get().setUsername("xyz");
-		conn.get().setBearerToken(true);
-		conn.get().setPatOAuthToken("testPassword");
-
-		when(sprintRepository.findBySprintID(sprintID)).thenReturn(sprintDetails);
-
-		ProjectBasicConfig projectBasicConfig = ProjectBasicConfig.builder().build();
-		projectBasicConfig.setId(new ObjectId("5ba8e182d3735010e7f1fa45"));
-		projectBasicConfig.setProjectName("test-project");
-
+		SprintDetails sprint = new SprintDetails();
+		sprint.setSprintName("Sprint 1");
+		sprint.setBasicProjectConfigId(new ObjectId("5ba8e182d3735010e7f1fa45"));
+		List<SprintIssue> sprintIssues = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			SprintIssue sprintIssue = new SprintIssue();
+			sprintIssue.setNumber("TEST-" + i);
+			sprintIssue.setTypeName("Story");
+			sprintIssues.add(sprintIssue);
+		}
+		sprint.setTotalIssues(new HashSet<>(sprintIssues));
+		when(sprintRepository.findBySprintID(sprintID)).thenReturn(sprint);
+		when(jiraProcessorConfig.getPageSize()).thenReturn(2);
+		when(jiraProcessorConfig.getSprintIssueFetchThreads()).thenReturn(2);
 		when(jiraCommonService.searchJqlWithFallback(
 						anyString(), anyInt(), anyInt(), any(), any(), any()))
-				.thenReturn(searchResult);
-		List<Issue> result =
-				fetchIssueSprint.fetchIssuesSprintBasedOnJql(
-						createProjectConfig(false), client, 50, sprintID);
+				.thenAnswer(
+						invocation -> {
+							// one issue per key of the batch
+							String jql = invocation.getArgument(0);
+							int keys = jql.split(",").length;
+							List<Issue> batch = new ArrayList<>();
+							for (int i = 0; i < keys; i++) {
+								batch.add(mock(Issue.class));
+							}
+							return new SearchResult(0, 2, keys, batch);
+						});
+		ProjectConfFieldMapping projectConfig = createProjectConfig(false);
+		projectConfig.getProjectToolConfig().setProjectKey("TEST");
+		projectConfig.getProjectToolConfig().setBoardQuery(null);
+		fetchIssueSprint.init();
+
+		List<Issue> result;
+		try {
+			result = fetchIssueSprint.fetchSprintIssues(projectConfig, client, sprintID);
+		} finally {
+			fetchIssueSprint.shutdown();
+		}
 
-		assertEquals(0, result.size());
+		assertEquals(5, result.size());
+		verify(jiraCommonService, times(3))
+				.searchJqlWithFallback(anyString(), anyInt(), anyInt(), any(), any(), any());
+		verify(sprintRepository, times(1)).findBySprintID(sprintID);
+		verify(jiraIssueRepository, times(1)).findLinkedDefects(any(), any(), any());
 	}
 
 	@Test
-	public void fetchIssuesSprintBasedOnJqlWithNullClient() throws InterruptedException {
+	public void fetchSprintIssuesFromJiraByKeyBatchesOnSharedPool() throws InterruptedException {
 		String sprintID = "sprint123";
+		SprintDetails sprint = new SprintDetails();
+		sprint.setSprintName("Sprint 1");
+		sprint.setBasicProjectConfigId(new ObjectId("5ba8e182d3735010e7f1fa45"));
+		Map<String, Issue> jiraIssues = new HashMap<>();
+		Set<SprintIssue> sprintIssues = new HashSet<>();
+		for (int i = 1; i <= 7; i++) {
+			SprintIssue sprintIssue = new SprintIssue();
+			sprintIssue.setNumber("TEST-" + i);
+			sprintIssue.setTypeName("Story");
+			sprintIssues.add(sprintIssue);
+			jiraIssues.put(sprintIssue.getNumber(), mock(Issue.class));
+		}
+		sprint.setTotalIssues(sprintIssues);
+		when(sprintRepository.findBySprintID(sprintID)).thenReturn(sprint);
+		when(jiraProcessorConfig.getPageSize()).thenReturn(3);
+		when(jiraProcessorConfig.getSprintIssueFetchThreads()).thenReturn(2);
+
+		// Jira answering the searches of the client with the issues of the keys queried
+		Queue<List<String>> requestedKeys = new ConcurrentLinkedQueue<>();
+		Queue<String> requestThreads = new ConcurrentLinkedQueue<>();
+		SearchRestClient jiraSearch = mock(SearchRestClient.class);
+		when(jiraSearch.searchJql(anyString(), anyInt(), anyInt(), any()))
+				.thenAnswer(
+						invocation -> {
+							Matcher keys = ISSUE_KEYS.matcher(invocation.getArgument(0));
+							List<String> batch = keys.find() ? List.of(keys.group(1).split(", ")) : List.of();
+							requestedKeys.add(batch);
+							requestThreads.add(Thread.currentThread().getName());
+							return Promises.promise(
+									new SearchResult(
+											invocation.<Integer>getArgument(2),
+											invocation.<Integer>getArgument(1),
+											batch.size(),
+											batch.stream().map(jiraIssues::get).toList()));
+						});
+		ProcessorJiraRestClient jiraClient = mock(ProcessorJiraRestClient.class);
+		when(jiraClient.getProcessorSearchClient()).thenReturn(jiraSearch);
+		JiraCommonService commonService = new JiraCommonService();
+		ReflectionTestUtils.setField(commonService, "jiraProcessorConfig", jiraProcessorConfig);
+		ReflectionTestUtils.setField(commonService, "hostRateLimiter", new HostRateLimiter(1000, 100));
+		FetchIssueSprintImpl fetchIssues = new FetchIssueSprintImpl();
+		fetchIssues.jiraProcessorConfig = jiraProcessorConfig;
+		fetchIssues.sprintRepository = sprintRepository;
+		fetchIssues.jiraIssueRepository = jiraIssueRepository;
+		fetchIssues.jiraCommonService = commonService;
+		ProjectConfFieldMapping projectConfig = createProjectConfig(false);
+		projectConfig.getProjectToolConfig().setProjectKey("TEST");
+		projectConfig.getProjectToolConfig().setBoardQuery(null);
+		fetchIssues.init();
+
+		List<Issue> result;
+		try {
+			result = fetchIssues.fetchSprintIssues(projectConfig, jiraClient, sprintID);
+		} finally {
+			fetchIssues.shutdown();
+		}
 
-		when(sprintRepository.findBySprintID(sprintID)).thenReturn(sprintDetails);
-
-		ProjectBasicConfig projectBasicConfig = ProjectBasicConfig.builder().build();
-		projectBasicConfig.setId(new ObjectId("5ba8e182d3735010e7f1fa45"));
-		projectBasicConfig.setProjectName("test-project");
+		assertEquals(new HashSet<>(jiraIssues.values()), new HashSet<>(result));
+		assertEquals(7, result.size());
+		// sorted keys by batches of a page, each key requested once
+		assertEquals(
+				List.of(
+						List.of("TEST-1", "TEST-2", "TEST-3"),
+						List.of("TEST-4", "TEST-5", "TEST-6"),
+						List.of("TEST-7")),
+				requestedKeys.stream().sorted(Comparator.comparing(batch -> batch.get(0))).toList());
+		assertTrue(requestThreads.stream().allMatch(name -> name.startsWith("jira-sprint-issue-")));
+		verify(sprintRepository, times(1)).findBySprintID(sprintID);
+		verify(jiraIssueRepository, times(1)).findLinkedDefects(any(), any(), any());
+	}
 
+	@Test
+	public void fetchSprintIssuesWithNullClient() throws InterruptedException {
 		List<Issue> result =
-				fetchIssueSprint.fetchIssuesSprintBasedOnJql(
-						createProjectConfig(false), null, 50, sprintID);
+				fetchIssueSprint.fetchSprintIssues(createProjectConfig(false), null, "sprint123");
 
 		assertEquals(0, result.size());
 	}
@@ -19,6 +19,10 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -32,6 +36,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -47,6 +52,7 @@ import com.publicissapient.kpidashboard.common.repository.application.ProjectRel
 import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.ReleaseFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
@@ -63,6 +69,7 @@ public class FetchKanbanReleaseDataImplTest {
 	@Mock private JiraCommonService jiraCommonService;
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 	@Mock private ProjectHierarchySyncService projectHierarchySyncService;
+	@Mock private ReleaseFingerprintHelper releaseFingerprintHelper;
 	@InjectMocks private FetchKanbanReleaseDataImpl fetchKanbanReleaseData;
 	@Mock private ProjectHierarchyService projectHierarchyService;
 
@@ -111,6 +118,30 @@ public class FetchKanbanReleaseDataImplTest {
 		}
 	}
 
+	@Test
+	public void processReleaseInfoSkipsUnchangedVersions() throws IOException, ParseException {
+		when(releaseFingerprintHelper.getFingerprint(any(), any(), any())).thenReturn("abc");
+		when(releaseFingerprintHelper.isUnchanged(any(), eq("abc"))).thenReturn(true);
+
+		fetchKanbanReleaseData.processReleaseInfo(kanbanProjectMapping, krb5Client);
+
+		verify(projectReleaseRepo, never()).save(any());
+		verify(projectHierarchyService, never()).saveAll(any());
+		verify(releaseFingerprintHelper, never()).saveFingerprint(any(), any());
+	}
+
+	@Test
+	public void processReleaseInfoStoresFingerprintOfChangedVersions()
+			throws IOException, ParseException {
+		when(releaseFingerprintHelper.getFingerprint(any(), any(), any())).thenReturn("abc");
+
+		fetchKanbanReleaseData.processReleaseInfo(kanbanProjectMapping, krb5Client);
+
+		InOrder inOrder = inOrder(projectReleaseRepo, releaseFingerprintHelper);
+		inOrder.verify(projectReleaseRepo).save(any());
+		inOrder.verify(releaseFingerprintHelper).saveFingerprint(any(), eq("abc"));
+	}
+
 	private void prepareProjectConfig() {
 		// Online Project Config data
 		SubProjectConfig subProjectConfig = new SubProjectConfig();
@@ -19,8 +19,12 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -35,6 +39,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -53,6 +58,7 @@ import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHi
 import com.publicissapient.kpidashboard.common.service.HierarchyLevelService;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.ReleaseFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 import com.publicissapient.kpidashboard.jira.model.ProjectConfFieldMapping;
 
@@ -72,6 +78,7 @@ public class FetchScrumReleaseDataImplTest {
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 	@Mock private ProjectHierarchyService projectHierarchyService;
 	@Mock private ProjectHierarchySyncService projectHierarchySyncService;
+	@Mock private ReleaseFingerprintHelper releaseFingerprintHelper;
 
 	@Before
 	public void setUp() throws Exception {
@@ -138,6 +145,30 @@ public class FetchScrumReleaseDataImplTest {
 		fetchScrumReleaseData.processReleaseInfo(scrumProjectMapping, krb5Client);
 	}
 
+	@Test
+	public void processReleaseInfoSkipsUnchangedVersions() throws IOException, ParseException {
+		when(releaseFingerprintHelper.getFingerprint(any(), any(), any())).thenReturn("abc");
+		when(releaseFingerprintHelper.isUnchanged(any(), eq("abc"))).thenReturn(true);
+
+		fetchScrumReleaseData.processReleaseInfo(scrumProjectMapping, krb5Client);
+
+		verify(projectReleaseRepo, never()).save(any());
+		verify(projectHierarchyService, never()).saveAll(any());
+		verify(releaseFingerprintHelper, never()).saveFingerprint(any(), any());
+	}
+
+	@Test
+	public void processReleaseInfoStoresFingerprintOfChangedVersions()
+			throws IOException, ParseException {
+		when(releaseFingerprintHelper.getFingerprint(any(), any(), any())).thenReturn("abc");
+
+		fetchScrumReleaseData.processReleaseInfo(scrumProjectMapping, krb5Client);
+
+		InOrder inOrder = inOrder(projectReleaseRepo, releaseFingerprintHelper);
+		inOrder.verify(projectReleaseRepo).save(any());
+		inOrder.verify(releaseFingerprintHelper).saveFingerprint(any(), eq("abc"));
+	}
+
 	private void prepareProjectConfig() {
 		// Online Project Config data
 		scrumProjectMapping.setBasicProjectConfigId(new ObjectId("5e15d8b195fe1300014538ce"));
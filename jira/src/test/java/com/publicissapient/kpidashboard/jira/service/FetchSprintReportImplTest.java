@@ -19,6 +19,10 @@
 package com.publicissapient.kpidashboard.jira.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.FileInputStream;
@@ -31,6 +35,8 @@ import java.util.Set;
 
 import org.apache.commons.io.IOUtils;
 import org.bson.types.ObjectId;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -63,7 +69,7 @@ public class FetchSprintReportImplTest {
 	List<SprintDetails> sprintDetailsList = new ArrayList<>();
 	Set<SprintDetails> sprintDetailsSet = new HashSet<>();
 	ProjectConfFieldMapping projectConfig = ProjectConfFieldMapping.builder().build();
-	String sprintResponse;
+	Object sprintResponse;
 	KerberosClient krb5Client;
 	BoardDetails jiraBoard;
 	@Mock private SprintRepository sprintRepository;
@@ -115,20 +121,19 @@ public class FetchSprintReportImplTest {
 
 		FileInputStream fis1 =
 				new FileInputStream("src/test/resources/json/default/sprint_response.txt");
-		sprintResponse = IOUtils.toString(fis1, "UTF-8");
+		sprintResponse = new JSONParser().parse(IOUtils.toString(fis1, "UTF-8"));
 	}
 
 	@Test
-	public void fetchSprints() throws InterruptedException, IOException {
+	public void fetchSprints() throws InterruptedException, IOException, ParseException {
 		when(sprintRepository.findBySprintIDIn(any())).thenReturn(sprintDetailsList);
-		when(jiraProcessorConfig.getSubsequentApiCallDelayInMilli()).thenReturn(1000l);
 		when(jiraProcessorConfig.getJiraServerSprintReportApi())
 				.thenReturn(
 						"rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
 		//		when(jiraProcessorConfig.getJiraCloudGetUserApi()).thenReturn(
 		//
 		//	"jira.jiraServerSprintDetailsApi=rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
-		when(jiraCommonService.getDataFromClient(any(), any(), any())).thenReturn(sprintResponse);
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any())).thenReturn(sprintResponse);
 		Assert.assertEquals(
 				1,
 				fetchSprintReport
@@ -136,6 +141,88 @@ public class FetchSprintReportImplTest {
 						.size());
 	}
 
+	@Test
+	public void fetchSprintsConcurrently() throws IOException, ParseException {
+		when(sprintRepository.findBySprintIDIn(any())).thenReturn(new ArrayList<>());
+		when(jiraProcessorConfig.getSprintReportFetchThreads()).thenReturn(2);
+		when(jiraProcessorConfig.getSprintReportFetchPerHostLimit()).thenReturn(1);
+		when(jiraProcessorConfig.getJiraServerSprintReportApi())
+				.thenReturn(
+						"rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any())).thenReturn(sprintResponse);
+		Set<SprintDetails> sprints = new HashSet<>();
+		sprints.add(getSprint("41412"));
+		sprints.add(getSprint("41413"));
+
+		fetchSprintReport.init();
+		try {
+			Set<SprintDetails> fetched =
+					fetchSprintReport.fetchSprints(projectConfig, sprints, krb5Client, false, new ObjectId());
+
+			Assert.assertEquals(2, fetched.size());
+			fetched.forEach(sprint -> Assert.assertNotNull(sprint.getTotalIssues()));
+			verify(jiraCommonService, times(2)).getParsedDataFromClient(any(), any(), any());
+		} finally {
+			fetchSprintReport.shutdown();
+		}
+	}
+
+	@Test
+	public void fetchSprintsOfKerberosConnectionOneByOne() throws IOException, ParseException {
+		when(sprintRepository.findBySprintIDIn(any())).thenReturn(new ArrayList<>());
+		when(jiraProcessorConfig.getSprintReportFetchThreads()).thenReturn(2);
+		when(jiraProcessorConfig.getJiraServerSprintReportApi())
+				.thenReturn(
+						"rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
+		KerberosClient kerberosClient = mock(KerberosClient.class);
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), eq(kerberosClient)))
+				.thenReturn(sprintResponse);
+		Set<SprintDetails> sprints = new HashSet<>();
+		sprints.add(getSprint("41412"));
+		sprints.add(getSprint("41413"));
+
+		// the shared pool is not started, the reports are fetched on the calling thread
+		Set<SprintDetails> fetched =
+				fetchSprintReport.fetchSprints(
+						projectConfig, sprints, kerberosClient, false, new ObjectId());
+
+		Assert.assertEquals(2, fetched.size());
+		verify(jiraCommonService, times(2)).getParsedDataFromClient(any(), any(), eq(kerberosClient));
+	}
+
+	@Test(expected = IOException.class)
+	public void fetchSprintsConcurrentlyRaisesFailure() throws IOException, ParseException {
+		when(sprintRepository.findBySprintIDIn(any())).thenReturn(new ArrayList<>());
+		when(jiraProcessorConfig.getSprintReportFetchThreads()).thenReturn(2);
+		when(jiraProcessorConfig.getSprintReportFetchPerHostLimit()).thenReturn(2);
+		when(jiraProcessorConfig.getJiraServerSprintReportApi())
+				.thenReturn(
+						"rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any()))
+				.thenThrow(new IOException("Error: 401 - Unauthorized"));
+		Set<SprintDetails> sprints = new HashSet<>();
+		sprints.add(getSprint("41412"));
+		sprints.add(getSprint("41413"));
+
+		fetchSprintReport.init();
+		try {
+			fetchSprintReport.fetchSprints(projectConfig, sprints, krb5Client, false, new ObjectId());
+		} finally {
+			fetchSprintReport.shutdown();
+		}
+	}
+
+	private SprintDetails getSprint(String originalSprintId) {
+		SprintDetails sprintDetails = new SprintDetails();
+		sprintDetails.setSprintID(originalSprintId + "_Bazooka Unilever_63bfa0d5b7617e260763ca21");
+		sprintDetails.setOriginalSprintId(originalSprintId);
+		List<String> list = new ArrayList<>();
+		list.add("11857");
+		sprintDetails.setOriginBoardId(list);
+		sprintDetails.setState("CLOSED");
+		return sprintDetails;
+	}
+
 	private List<SprintDetails> getMockSprintDetails() {
 		SprintDetailsDataFactory sprintDetailsDataFactory =
 				SprintDetailsDataFactory.newInstance("/json/default/sprint_details.json");
@@ -156,20 +243,20 @@ public class FetchSprintReportImplTest {
 	}
 
 	@Test
-	public void createSprintDetailBasedOnBoard() throws IOException, InterruptedException {
+	public void createSprintDetailBasedOnBoard()
+			throws IOException, InterruptedException, ParseException {
 
 		when(jiraProcessorConfig.getJiraSprintByBoardUrlApi())
 				.thenReturn("rest/agile/1.0/board/{boardId}/sprint?startAt={startAtIndex}");
 		when(jiraProcessorConfig.getSprintReportCountToBeFetched()).thenReturn(15);
 		when(sprintRepository.findBySprintIDIn(any())).thenReturn(sprintDetailsList);
-		when(jiraProcessorConfig.getSubsequentApiCallDelayInMilli()).thenReturn(1000l);
 		when(jiraProcessorConfig.getJiraServerSprintReportApi())
 				.thenReturn(
 						"rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
 		//		when(jiraProcessorConfig.getJiraCloudGetUserApi()).thenReturn(
 		//
 		//	"jira.jiraServerSprintDetailsApi=rest/greenhopper/latest/rapid/charts/SprintDetails?rapidViewId={rapidViewId}&sprintId={sprintId}");
-		when(jiraCommonService.getDataFromClient(any(), any(), any())).thenReturn(sprintResponse);
+		when(jiraCommonService.getParsedDataFromClient(any(), any(), any())).thenReturn(sprintResponse);
 		Assert.assertEquals(
 				15,
 				fetchSprintReport
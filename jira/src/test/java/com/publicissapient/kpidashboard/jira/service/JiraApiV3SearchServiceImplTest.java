@@ -17,7 +17,10 @@
  ******************************************************************************/
 package com.publicissapient.kpidashboard.jira.service;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -27,8 +30,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -45,8 +52,9 @@ import com.publicissapient.kpidashboard.jira.model.JiraSearchResponse;
 import com.publicissapient.kpidashboard.jira.model.JiraToolConfig;
 
 import kong.unirest.HttpResponse;
-import kong.unirest.JsonNode;
+import kong.unirest.RawResponse;
 import kong.unirest.Unirest;
+import kong.unirest.UnirestException;
 
 @RunWith(MockitoJUnitRunner.class)
 public class JiraApiV3SearchServiceImplTest {
@@ -74,14 +82,10 @@ public class JiraApiV3SearchServiceImplTest {
 		String shortJql = "project = TEST";
 		Set<String> fields = Set.of("summary", "status");
 
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
-		JsonNode mockJsonNode = mock(JsonNode.class);
-		kong.unirest.json.JSONObject mockJsonObject = mock(kong.unirest.json.JSONObject.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 
 		when(mockResponse.getStatus()).thenReturn(200);
-		when(mockResponse.getBody()).thenReturn(mockJsonNode);
-		when(mockJsonNode.getObject()).thenReturn(mockJsonObject);
-		when(mockJsonObject.toString()).thenReturn("{\"issues\":[],\"total\":0}");
+		when(mockResponse.getBody()).thenReturn(emptyPage());
 		when(jiraCommonService.decryptJiraPassword("testpass")).thenReturn("decryptedpass");
 
 		try (MockedStatic<Unirest> unirestMock = mockStatic(Unirest.class)) {
@@ -95,7 +99,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(getRequest.queryString(anyString(), anyBoolean())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), anyInt())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), any(Integer.class))).thenReturn(getRequest);
-			when(getRequest.asJson()).thenReturn(mockResponse);
+			when(getRequest.asObject(any(Function.class))).thenReturn(mockResponse);
 
 			JiraSearchResponse result =
 					jiraApiV3SearchService.searchJql(shortJql, 50, fields, "test", jiraToolConfig);
@@ -108,14 +112,10 @@ public class JiraApiV3SearchServiceImplTest {
 	public void testSearchJql_LongJql_Success() throws Exception {
 		String longJql = "a".repeat(JiraConstants.MAX_JQL_LENGTH_FOR_HTTP_GET + 1);
 
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
-		JsonNode mockJsonNode = mock(JsonNode.class);
-		kong.unirest.json.JSONObject mockJsonObject = mock(kong.unirest.json.JSONObject.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 
 		when(mockResponse.getStatus()).thenReturn(200);
-		when(mockResponse.getBody()).thenReturn(mockJsonNode);
-		when(mockJsonNode.getObject()).thenReturn(mockJsonObject);
-		when(mockJsonObject.toString()).thenReturn("{\"issues\":[],\"total\":0}");
+		when(mockResponse.getBody()).thenReturn(emptyPage());
 		when(jiraCommonService.decryptJiraPassword("testpass")).thenReturn("decryptedpass");
 
 		try (MockedStatic<Unirest> unirestMock = mockStatic(Unirest.class)) {
@@ -126,7 +126,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(postRequest.basicAuth(anyString(), anyString())).thenReturn(postRequest);
 			when(postRequest.header(anyString(), anyString())).thenReturn(postRequest);
 			when(postRequest.body(anyString())).thenReturn(bodyEntity);
-			when(bodyEntity.asJson()).thenReturn(mockResponse);
+			when(bodyEntity.asObject(any(Function.class))).thenReturn(mockResponse);
 
 			JiraSearchResponse result =
 					jiraApiV3SearchService.searchJql(longJql, 50, null, null, jiraToolConfig);
@@ -150,14 +150,10 @@ public class JiraApiV3SearchServiceImplTest {
 		connection.setPatOAuthToken("oauthtoken");
 
 		String jql = "project = TEST";
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
-		JsonNode mockJsonNode = mock(JsonNode.class);
-		kong.unirest.json.JSONObject mockJsonObject = mock(kong.unirest.json.JSONObject.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 
 		when(mockResponse.getStatus()).thenReturn(200);
-		when(mockResponse.getBody()).thenReturn(mockJsonNode);
-		when(mockJsonNode.getObject()).thenReturn(mockJsonObject);
-		when(mockJsonObject.toString()).thenReturn("{\"issues\":[],\"total\":0}");
+		when(mockResponse.getBody()).thenReturn(emptyPage());
 		when(jiraCommonService.decryptJiraPassword("oauthtoken")).thenReturn("decryptedtoken");
 
 		try (MockedStatic<Unirest> unirestMock = mockStatic(Unirest.class)) {
@@ -169,7 +165,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(getRequest.queryString(anyString(), anyBoolean())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), anyInt())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), any(Integer.class))).thenReturn(getRequest);
-			when(getRequest.asJson()).thenReturn(mockResponse);
+			when(getRequest.asObject(any(Function.class))).thenReturn(mockResponse);
 
 			JiraSearchResponse result =
 					jiraApiV3SearchService.searchJql(
@@ -182,7 +178,7 @@ public class JiraApiV3SearchServiceImplTest {
 	@Test
 	public void testSearchJql_HttpError() throws Exception {
 		String jql = "project = TEST";
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 
 		when(mockResponse.getStatus()).thenReturn(401);
 		when(jiraCommonService.decryptJiraPassword("testpass")).thenReturn("decryptedpass");
@@ -196,7 +192,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(getRequest.queryString(anyString(), anyBoolean())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), anyInt())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), any(Integer.class))).thenReturn(getRequest);
-			when(getRequest.asJson()).thenReturn(mockResponse);
+			when(getRequest.asObject(any(Function.class))).thenReturn(mockResponse);
 
 			assertThrows(
 					JiraApiException.class,
@@ -210,7 +206,7 @@ public class JiraApiV3SearchServiceImplTest {
 	public void testSearchJql_PostHttpError() throws Exception {
 		String longJql = "a".repeat(JiraConstants.MAX_JQL_LENGTH_FOR_HTTP_GET + 1);
 
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 		when(mockResponse.getStatus()).thenReturn(500);
 		when(jiraCommonService.decryptJiraPassword("testpass")).thenReturn("decryptedpass");
 
@@ -222,7 +218,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(postRequest.basicAuth(anyString(), anyString())).thenReturn(postRequest);
 			when(postRequest.header(anyString(), anyString())).thenReturn(postRequest);
 			when(postRequest.body(anyString())).thenReturn(bodyEntity);
-			when(bodyEntity.asJson()).thenReturn(mockResponse);
+			when(bodyEntity.asObject(any(Function.class))).thenReturn(mockResponse);
 
 			assertThrows(
 					JiraApiException.class,
@@ -232,14 +228,10 @@ public class JiraApiV3SearchServiceImplTest {
 
 	@Test
 	public void testSearchJql_NullJql() throws Exception {
-		HttpResponse<JsonNode> mockResponse = mock(HttpResponse.class);
-		JsonNode mockJsonNode = mock(JsonNode.class);
-		kong.unirest.json.JSONObject mockJsonObject = mock(kong.unirest.json.JSONObject.class);
+		HttpResponse<JiraSearchResponse> mockResponse = mock(HttpResponse.class);
 
 		when(mockResponse.getStatus()).thenReturn(200);
-		when(mockResponse.getBody()).thenReturn(mockJsonNode);
-		when(mockJsonNode.getObject()).thenReturn(mockJsonObject);
-		when(mockJsonObject.toString()).thenReturn("{\"issues\":[],\"total\":0}");
+		when(mockResponse.getBody()).thenReturn(emptyPage());
 		when(jiraCommonService.decryptJiraPassword("testpass")).thenReturn("decryptedpass");
 
 		try (MockedStatic<Unirest> unirestMock = mockStatic(Unirest.class)) {
@@ -251,7 +243,7 @@ public class JiraApiV3SearchServiceImplTest {
 			when(getRequest.queryString(anyString(), anyBoolean())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), anyInt())).thenReturn(getRequest);
 			when(getRequest.queryString(anyString(), any(Integer.class))).thenReturn(getRequest);
-			when(getRequest.asJson()).thenReturn(mockResponse);
+			when(getRequest.asObject(any(Function.class))).thenReturn(mockResponse);
 			JiraSearchResponse result =
 					jiraApiV3SearchService.searchJql(
 							"In [Story]", 50, Set.of("summary", "status"), "test", jiraToolConfig);
@@ -259,4 +251,43 @@ public class JiraApiV3SearchServiceImplTest {
 			assertNotNull(result);
 		}
 	}
+
+	@Test
+	public void testParseSearchResponse_StreamsBody() {
+		RawResponse rawResponse = mock(RawResponse.class);
+		when(rawResponse.getStatus()).thenReturn(200);
+		when(rawResponse.getContent())
+				.thenReturn(
+						new ByteArrayInputStream(
+								"{\"issues\":[],\"isLast\":false,\"nextPageToken\":\"next\"}"
+										.getBytes(StandardCharsets.UTF_8)));
+
+		JiraSearchResponse result = JiraApiV3SearchServiceImpl.parseSearchResponse(rawResponse);
+
+		assertFalse(result.isLast());
+		assertEquals("next", result.getNextPageToken());
+	}
+
+	@Test
+	public void testParseSearchResponse_HttpErrorNotRead() {
+		RawResponse rawResponse = mock(RawResponse.class);
+		when(rawResponse.getStatus()).thenReturn(401);
+
+		assertNull(JiraApiV3SearchServiceImpl.parseSearchResponse(rawResponse));
+	}
+
+	@Test
+	public void testParseSearchResponse_InvalidBody() {
+		RawResponse rawResponse = mock(RawResponse.class);
+		when(rawResponse.getStatus()).thenReturn(200);
+		when(rawResponse.getContent())
+				.thenReturn(new ByteArrayInputStream("{\"total\":0}".getBytes(StandardCharsets.UTF_8)));
+
+		assertThrows(
+				UnirestException.class, () -> JiraApiV3SearchServiceImpl.parseSearchResponse(rawResponse));
+	}
+
+	private static JiraSearchResponse emptyPage() {
+		return new JiraSearchResponse(Collections.emptyList(), true, null);
+	}
 }
@@ -22,7 +22,9 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.AssertJUnit.assertEquals;
@@ -50,6 +52,7 @@ import org.bson.types.ObjectId;
 import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
 import org.joda.time.DateTime;
+import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.junit.Assert;
 import org.junit.Before;
@@ -88,7 +91,6 @@ import com.atlassian.jira.rest.client.api.domain.Visibility;
 import com.atlassian.jira.rest.client.api.domain.Worklog;
 import com.publicissapient.kpidashboard.common.client.KerberosClient;
 import com.publicissapient.kpidashboard.common.constant.ProcessorConstants;
-import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
 import com.publicissapient.kpidashboard.common.model.application.ErrorDetail;
 import com.publicissapient.kpidashboard.common.model.application.FieldMapping;
 import com.publicissapient.kpidashboard.common.model.application.ProjectBasicConfig;
@@ -96,10 +98,10 @@ import com.publicissapient.kpidashboard.common.model.application.ProjectToolConf
 import com.publicissapient.kpidashboard.common.model.application.ProjectVersion;
 import com.publicissapient.kpidashboard.common.model.connection.Connection;
 import com.publicissapient.kpidashboard.common.processortool.service.ProcessorToolConnectionService;
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
 import com.publicissapient.kpidashboard.common.service.AesEncryptionService;
 import com.publicissapient.kpidashboard.common.service.ToolCredentialProvider;
 import com.publicissapient.kpidashboard.jira.client.CustomAsynchronousIssueRestClient;
+import com.publicissapient.kpidashboard.jira.client.HostRateLimiter;
 import com.publicissapient.kpidashboard.jira.client.ProcessorJiraRestClient;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
 import com.publicissapient.kpidashboard.jira.constant.JiraConstants;
@@ -141,12 +143,13 @@ public class JiraCommonServiceTest {
 	@Mock private JobExecution mockJobExecution;
 	@Mock private ExecutionContext mockExecutionContext;
 	@Mock private StepExecution mockStepExecution;
-	@Mock private ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Mock private OngoingExecutionsService ongoingExecutionsService;
 
 	private ProjectConfFieldMapping projectConfFieldMapping =
 			ProjectConfFieldMapping.builder().build();
 	@Mock private ProjectConfFieldMapping projectConfFieldMapping1;
 	@Mock private ProcessorToolConnectionService processorToolConnectionService;
+	@Mock private HostRateLimiter hostRateLimiter;
 
 	List<ProjectBasicConfig> projectConfigsList;
 	List<ProjectToolConfig> projectToolConfigsJQL;
@@ -503,11 +506,12 @@ public class JiraCommonServiceTest {
 
 		// Get the private method using reflection
 		Method parseVersionData =
-				JiraCommonService.class.getDeclaredMethod("parseVersionData", String.class, List.class);
+				JiraCommonService.class.getDeclaredMethod("parseVersionData", Object.class, List.class);
 		parseVersionData.setAccessible(true);
 
 		// Invoke the private method
-		parseVersionData.invoke(jiraCommonService, dataFromServer, projectVersionDetailList);
+		parseVersionData.invoke(
+				jiraCommonService, new JSONParser().parse(dataFromServer), projectVersionDetailList);
 
 		// Assert the results
 		assertEquals(1, projectVersionDetailList.size());
@@ -533,11 +537,12 @@ public class JiraCommonServiceTest {
 
 		// Get the private method using reflection
 		Method parseVersionData =
-				JiraCommonService.class.getDeclaredMethod("parseVersionData", String.class, List.class);
+				JiraCommonService.class.getDeclaredMethod("parseVersionData", Object.class, List.class);
 		parseVersionData.setAccessible(true);
 
 		// Invoke the private method
-		parseVersionData.invoke(jiraCommonService, dataFromServer, projectVersionDetailList);
+		parseVersionData.invoke(
+				jiraCommonService, new JSONParser().parse(dataFromServer), projectVersionDetailList);
 
 		// Assert the results
 		assertEquals(1, projectVersionDetailList.size());
@@ -562,12 +567,16 @@ public class JiraCommonServiceTest {
 
 		// Get the private method using reflection
 		Method parseVersionData =
-				JiraCommonService.class.getDeclaredMethod("parseVersionData", String.class, List.class);
+				JiraCommonService.class.getDeclaredMethod("parseVersionData", Object.class, List.class);
 		parseVersionData.setAccessible(true);
 
 		assertThrows(
 				Exception.class,
-				() -> parseVersionData.invoke(jiraCommonService, dataFromServer, projectVersionDetailList));
+				() ->
+						parseVersionData.invoke(
+								jiraCommonService,
+								new JSONParser().parse(dataFromServer),
+								projectVersionDetailList));
 	}
 
 	@Test
@@ -584,7 +593,7 @@ public class JiraCommonServiceTest {
 
 		// Get the private method using reflection
 		Method parseVersionData =
-				JiraCommonService.class.getDeclaredMethod("parseVersionData", String.class, List.class);
+				JiraCommonService.class.getDeclaredMethod("parseVersionData", Object.class, List.class);
 		parseVersionData.setAccessible(true);
 	}
 
@@ -657,15 +666,8 @@ public class JiraCommonServiceTest {
 		when(mockConnection.getContent())
 				.thenReturn(new ByteArrayInputStream(contentMsg.getBytes(StandardCharsets.UTF_8)));
 		when(mockUrl.openConnection()).thenReturn(mockConnection);
-		ProcessorExecutionTraceLog mockTraceLog = mock(ProcessorExecutionTraceLog.class);
-		List<ErrorDetail> mockErrorDetailList = new ArrayList<>();
-		when(mockTraceLog.getErrorDetailList()).thenReturn(mockErrorDetailList);
-		Optional<ProcessorExecutionTraceLog> existingTraceLog = Optional.of(mockTraceLog);
 		Connection mockConnectionObject = mock(Connection.class);
 		when(mockConnectionObject.getId()).thenReturn(new ObjectId("668517f812811950be19353f"));
-		when(processorExecutionTraceLogRepository
-						.findByProcessorNameAndBasicProjectConfigIdAndProgressStatsTrue(anyString(), any()))
-				.thenReturn(existingTraceLog);
 		Optional<Connection> connectionOptional = Optional.of(mockConnectionObject);
 
 		// Act
@@ -674,6 +676,69 @@ public class JiraCommonServiceTest {
 						mockUrl, connectionOptional, new ObjectId("668517f812811950be19353f"));
 		// Assert
 		assertEquals(contentMsg, result);
-		verify(processorExecutionTraceLogRepository).save(mockTraceLog);
+		verify(ongoingExecutionsService)
+				.recordErrorDetail(eq("668517f812811950be19353f"), any(ErrorDetail.class));
+	}
+
+	@Test
+	public void testGetParsedDataFromClientStreamsResponse() throws IOException, ParseException {
+		String content = "{\"isLast\":true,\"values\":[{\"key\":\"EPIC-1\"}]}";
+		HttpURLConnection mockConnection = mock(HttpURLConnection.class);
+		URL mockUrl = mock(URL.class);
+		when(mockUrl.openConnection()).thenReturn(mockConnection);
+		when(mockConnection.getResponseCode()).thenReturn(200);
+		when(mockConnection.getContent())
+				.thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		when(projectConfFieldMapping1.getJira()).thenReturn(jiraToolConfig);
+		when(jiraToolConfig.getConnection()).thenReturn(Optional.of(new Connection()));
+
+		Object result =
+				jiraCommonService.getParsedDataFromClient(projectConfFieldMapping1, mockUrl, krb5Client);
+
+		org.json.simple.JSONObject jsonObject = (org.json.simple.JSONObject) result;
+		assertEquals(Boolean.TRUE, jsonObject.get("isLast"));
+		assertEquals(1, ((org.json.simple.JSONArray) jsonObject.get("values")).size());
+	}
+
+	@Test
+	public void testGetParsedDataFromClientWithBlankResponse() throws IOException, ParseException {
+		HttpURLConnection mockConnection = mock(HttpURLConnection.class);
+		URL mockUrl = mock(URL.class);
+		when(mockUrl.openConnection()).thenReturn(mockConnection);
+		when(mockConnection.getResponseCode()).thenReturn(200);
+		when(mockConnection.getContent())
+				.thenReturn(new ByteArrayInputStream(" \n".getBytes(StandardCharsets.UTF_8)));
+		when(projectConfFieldMapping1.getJira()).thenReturn(jiraToolConfig);
+		when(jiraToolConfig.getConnection()).thenReturn(Optional.of(new Connection()));
+
+		assertEquals(
+				null,
+				jiraCommonService.getParsedDataFromClient(projectConfFieldMapping1, mockUrl, krb5Client));
+	}
+
+	@Test
+	public void testGetDataFromServerRetriesRateLimitedCall()
+			throws IOException, InterruptedException {
+		String content = "{\"isLast\":true}";
+		HttpURLConnection rateLimitedConnection = mock(HttpURLConnection.class);
+		HttpURLConnection mockConnection = mock(HttpURLConnection.class);
+		URL mockUrl = mock(URL.class);
+		when(mockUrl.getHost()).thenReturn("jira.example.com");
+		when(mockUrl.openConnection()).thenReturn(rateLimitedConnection, mockConnection);
+		when(rateLimitedConnection.getResponseCode()).thenReturn(429);
+		when(mockConnection.getResponseCode()).thenReturn(200);
+		when(mockConnection.getContent())
+				.thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+		when(hostRateLimiter.onResponse(any(), Mockito.eq(429), any())).thenReturn(true);
+		when(jiraProcessorConfig.getRateLimitMaxRetries()).thenReturn(3);
+
+		String result =
+				jiraCommonService.getDataFromServer(
+						mockUrl, Optional.empty(), new ObjectId("668517f812811950be19353f"));
+
+		assertEquals(content, result);
+		verify(hostRateLimiter, times(2)).acquire("jira.example.com");
+		verify(rateLimitedConnection).disconnect();
+		Mockito.verifyNoInteractions(processorToolConnectionService);
 	}
 }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.jira.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JobRestartServiceTest {
+
+	private static final String JOB_NAME = "FetchIssueScrum Job";
+	private static final String PROJECT_ID = "63bfa0d5b7617e260763ca21";
+	private static final String OTHER_PROJECT_ID = "63bfa0d5b7617e260763ca22";
+
+	@Mock private JobExplorer jobExplorer;
+	@Mock private JobRepository jobRepository;
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@InjectMocks private JobRestartService jobRestartService;
+
+	@Before
+	public void setUp() {
+		lenient().when(jiraProcessorConfig.getJobRestartWindowHours()).thenReturn(24);
+	}
+
+	@Test
+	public void resumesFailedRunWithinWindow() {
+		JobExecution failed =
+				jobExecution(1L, PROJECT_ID, BatchStatus.FAILED, LocalDateTime.now().minusHours(2));
+		lastInstances(failed);
+
+		JobParameters launchParameters = jobRestartService.getLaunchParameters(JOB_NAME, params());
+
+		assertSame(failed.getJobParameters(), launchParameters);
+	}
+
+	@Test
+	public void startsOverWhenLastRunCompleted() {
+		lastInstances(
+				jobExecution(1L, PROJECT_ID, BatchStatus.COMPLETED, LocalDateTime.now().minusHours(2)));
+		JobParameters params = params();
+
+		assertSame(params, jobRestartService.getLaunchParameters(JOB_NAME, params));
+	}
+
+	@Test
+	public void startsOverWhenFailedRunIsOutsideWindow() {
+		lastInstances(
+				jobExecution(1L, PROJECT_ID, BatchStatus.FAILED, LocalDateTime.now().minusHours(30)));
+		JobParameters params = params();
+
+		assertSame(params, jobRestartService.getLaunchParameters(JOB_NAME, params));
+	}
+
+	@Test
+	public void skipsRunsOfOtherProjects() {
+		JobExecution failed =
+				jobExecution(1L, PROJECT_ID, BatchStatus.FAILED, LocalDateTime.now().minusHours(3));
+		lastInstances(
+				jobExecution(2L, OTHER_PROJECT_ID, BatchStatus.COMPLETED, LocalDateTime.now()),
+				failed);
+
+		JobParameters launchParameters = jobRestartService.getLaunchParameters(JOB_NAME, params());
+
+		assertSame(failed.getJobParameters(), launchParameters);
+	}
+
+	@Test
+	public void startsOverWhenRestartIsDisabled() {
+		when(jiraProcessorConfig.getJobRestartWindowHours()).thenReturn(0);
+		JobParameters params = params();
+
+		assertSame(params, jobRestartService.getLaunchParameters(JOB_NAME, params));
+		verify(jobExplorer, never()).getJobInstances(any(), anyInt(), anyInt());
+	}
+
+	@Test
+	public void failsExecutionsLeftRunningByStoppedProcessor() {
+		JobExecution orphaned =
+				jobExecution(1L, PROJECT_ID, BatchStatus.STARTED, LocalDateTime.of(2000, 1, 1, 0, 0));
+		StepExecution step = orphaned.createStepExecution("fetchIssue");
+		step.setStatus(BatchStatus.STARTED);
+		JobExecution current =
+				jobExecution(2L, OTHER_PROJECT_ID, BatchStatus.STARTED, LocalDateTime.now().plusMinutes(1));
+		when(jobExplorer.getJobNames()).thenReturn(Collections.singletonList(JOB_NAME));
+		when(jobExplorer.findRunningJobExecutions(JOB_NAME)).thenReturn(Set.of(orphaned, current));
+
+		jobRestartService.failOrphanedExecutions();
+
+		assertEquals(BatchStatus.FAILED, orphaned.getStatus());
+		assertEquals(BatchStatus.FAILED, step.getStatus());
+		assertEquals(BatchStatus.STARTED, current.getStatus());
+		verify(jobRepository).update(step);
+		verify(jobRepository).update(orphaned);
+		verify(jobRepository, never()).update(current);
+	}
+
+	@Test
+	public void deletesRunsEndedBeforeRetention() {
+		when(jiraProcessorConfig.getJobRetentionDays()).thenReturn(7);
+		JobExecution expired =
+				jobExecution(1L, PROJECT_ID, BatchStatus.COMPLETED, LocalDateTime.now().minusDays(9));
+		expired.setEndTime(LocalDateTime.now().minusDays(8));
+		JobExecution recent =
+				jobExecution(2L, PROJECT_ID, BatchStatus.FAILED, LocalDateTime.now().minusDays(2));
+		recent.setEndTime(LocalDateTime.now().minusDays(2));
+		JobExecution running =
+				jobExecution(3L, OTHER_PROJECT_ID, BatchStatus.STARTED, LocalDateTime.now().minusDays(9));
+		when(jobExplorer.getJobNames()).thenReturn(Collections.singletonList(JOB_NAME));
+		lastInstances(running, recent, expired);
+
+		jobRestartService.purgeExpiredJobInstances();
+
+		verify(jobRepository).deleteJobInstance(expired.getJobInstance());
+		verify(jobRepository, never()).deleteJobInstance(recent.getJobInstance());
+		verify(jobRepository, never()).deleteJobInstance(running.getJobInstance());
+	}
+
+	@Test
+	public void keepsRunsWhenRetentionIsDisabled() {
+		jobRestartService.purgeExpiredJobInstances();
+
+		verify(jobExplorer, never()).getJobNames();
+		verify(jobRepository, never()).deleteJobInstance(any());
+	}
+
+	private void lastInstances(JobExecution... jobExecutions) {
+		when(jobExplorer.getJobInstances(JOB_NAME, 0, 100))
+				.thenReturn(
+						Arrays.stream(jobExecutions).map(JobExecution::getJobInstance).toList());
+		for (JobExecution jobExecution : jobExecutions) {
+			when(jobExplorer.getJobExecutions(jobExecution.getJobInstance()))
+					.thenReturn(Collections.singletonList(jobExecution));
+		}
+	}
+
+	private static JobExecution jobExecution(
+			long id, String projectId, BatchStatus status, LocalDateTime createTime) {
+		JobParameters params =
+				new JobParametersBuilder()
+						.addString("projectId", projectId)
+						.addLong("currentTime", id)
+						.toJobParameters();
+		JobExecution jobExecution = new JobExecution(new JobInstance(id, JOB_NAME), id, params);
+		jobExecution.setStatus(status);
+		jobExecution.setCreateTime(createTime);
+		return jobExecution;
+	}
+
+	private static JobParameters params() {
+		return new JobParametersBuilder()
+				.addString("projectId", PROJECT_ID)
+				.addLong("currentTime", System.currentTimeMillis())
+				.toJobParameters();
+	}
+}
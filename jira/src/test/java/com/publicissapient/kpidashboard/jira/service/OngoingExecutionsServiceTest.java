@@ -18,28 +18,54 @@
 
 package com.publicissapient.kpidashboard.jira.service;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
+import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
-import com.publicissapient.kpidashboard.common.repository.tracelog.ProcessorExecutionTraceLogRepository;
+import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
+import com.publicissapient.kpidashboard.common.model.application.ErrorDetail;
+import com.publicissapient.kpidashboard.common.model.application.ProgressStatus;
 
 @RunWith(MockitoJUnitRunner.class)
 public class OngoingExecutionsServiceTest {
 
-	@Mock ProcessorExecutionTraceLogRepository processorExecutionTraceLogRepository;
+	@Mock private MongoTemplate mongoTemplate;
+
+	@Mock private BulkOperations bulkOperations;
 
 	@InjectMocks private OngoingExecutionsService ongoingExecutionsService;
 
+	private final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+	private final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
 	@Before
 	public void setUp() {
-		// Initialize the service before test
+		lenient()
+				.when(
+						mongoTemplate.bulkOps(
+								BulkOperations.BulkMode.UNORDERED, ProcessorExecutionTraceLog.class))
+				.thenReturn(bulkOperations);
 	}
 
 	@Test
@@ -66,6 +92,14 @@ public class OngoingExecutionsServiceTest {
 		assertTrue(
 				"Execution should be marked as in progress",
 				ongoingExecutionsService.isExecutionInProgress(projectConfigId));
+		verify(bulkOperations).upsert(query.capture(), update.capture());
+		verify(bulkOperations).execute();
+		Document set = setOf(update.getValue());
+		assertEquals(true, set.get("executionOngoing"));
+		assertEquals(List.of(), set.get("progressStatusList"));
+		assertEquals(List.of(), set.get("errorDetailList"));
+		assertTrue(set.containsKey("errorMessage"));
+		assertNull(set.get("errorMessage"));
 	}
 
 	@Test
@@ -81,5 +115,100 @@ public class OngoingExecutionsServiceTest {
 		assertFalse(
 				"Execution should be marked as completed",
 				ongoingExecutionsService.isExecutionInProgress(projectConfigId));
+		verify(bulkOperations, times(2)).upsert(query.capture(), update.capture());
+		assertEquals(false, setOf(update.getValue()).get("executionOngoing"));
+		Document criteria = query.getValue().getQueryObject();
+		assertEquals(projectConfigId, criteria.get("basicProjectConfigId"));
+		assertEquals(true, criteria.get("progressStats"));
+	}
+
+	@Test
+	public void testMarkExecutionInProgressIfAbsent() {
+		String projectConfigId = "project123";
+
+		assertTrue(ongoingExecutionsService.markExecutionInProgressIfAbsent(projectConfigId));
+		assertFalse(ongoingExecutionsService.markExecutionInProgressIfAbsent(projectConfigId));
+
+		ongoingExecutionsService.markExecutionAsCompleted(projectConfigId);
+		assertTrue(ongoingExecutionsService.markExecutionInProgressIfAbsent(projectConfigId));
+	}
+
+	@Test
+	public void testProgressIsCoalescedAndPushed() {
+		String projectConfigId = "project123";
+		ongoingExecutionsService.markExecutionInProgress(projectConfigId);
+		ongoingExecutionsService.flushPendingProgress();
+
+		ongoingExecutionsService.recordProgress(projectConfigId, progress("step1"));
+		ongoingExecutionsService.recordProgress(projectConfigId, progress("step2"));
+		ongoingExecutionsService.flushProgress(projectConfigId);
+		ongoingExecutionsService.flushPendingProgress();
+
+		verify(mongoTemplate, times(2))
+				.bulkOps(BulkOperations.BulkMode.UNORDERED, ProcessorExecutionTraceLog.class);
+		verify(bulkOperations, times(2)).upsert(query.capture(), update.capture());
+		Document push = (Document) update.getValue().getUpdateObject().get("$push");
+		Document each = (Document) push.get("progressStatusList");
+		assertEquals(2, ((List<?>) each.get("$each")).size());
+	}
+
+	@Test
+	public void testFailedFlushIsRetried() {
+		String projectConfigId = "project123";
+		ongoingExecutionsService.markExecutionInProgress(projectConfigId);
+		ongoingExecutionsService.recordProgress(projectConfigId, progress("step1"));
+		doThrow(new IllegalStateException("write failed"))
+				.doReturn(null)
+				.when(bulkOperations)
+				.execute();
+
+		ongoingExecutionsService.flushPendingProgress();
+		ongoingExecutionsService.flushPendingProgress();
+
+		verify(bulkOperations, times(2)).upsert(any(Query.class), update.capture());
+		Document set = setOf(update.getValue());
+		assertEquals(1, ((List<?>) set.get("progressStatusList")).size());
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	public void testErrorDetailsAndLastSuccessfulRunArePartialUpdates() {
+		String projectConfigId = "project123";
+		ongoingExecutionsService.markExecutionInProgress(projectConfigId);
+
+		ongoingExecutionsService.recordErrorDetail(projectConfigId, new ErrorDetail());
+		ongoingExecutionsService.recordLastSuccessfulRun(projectConfigId, "2024-01-02T10:15:00");
+		ongoingExecutionsService.flushPendingProgress();
+
+		verify(bulkOperations, times(2)).upsert(query.capture(), update.capture());
+		Document updateObject = update.getValue().getUpdateObject();
+		Document push = (Document) updateObject.get("$push");
+		assertEquals(1, ((List<?>) ((Document) push.get("errorDetailList")).get("$each")).size());
+		Document set = setOf(update.getValue());
+		assertEquals("2024-01-02T10:15:00", set.get("lastSuccessfulRun"));
+		assertFalse(set.containsKey("executionOngoing"));
+		assertFalse(set.containsKey("progressStatusList"));
+	}
+
+	@Test
+	public void testRecordWithoutExecutionDoesNotMarkItInProgress() {
+		String projectConfigId = "project123";
+
+		ongoingExecutionsService.recordLastSuccessfulRun(projectConfigId, "2024-01-02T10:15:00");
+		ongoingExecutionsService.flushPendingProgress();
+
+		assertFalse(ongoingExecutionsService.isExecutionInProgress(projectConfigId));
+		verify(bulkOperations).upsert(any(Query.class), update.capture());
+		assertFalse(setOf(update.getValue()).containsKey("executionOngoing"));
+	}
+
+	private static Document setOf(Update update) {
+		return (Document) update.getUpdateObject().get("$set");
+	}
+
+	private static ProgressStatus progress(String stepName) {
+		ProgressStatus progressStatus = new ProgressStatus();
+		progressStatus.setStepName(stepName);
+		return progressStatus;
 	}
 }
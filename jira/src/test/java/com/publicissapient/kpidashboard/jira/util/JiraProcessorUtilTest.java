@@ -43,7 +43,6 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.item.ExecutionContext;
 
-import com.publicissapient.kpidashboard.common.model.ProcessorExecutionTraceLog;
 import com.publicissapient.kpidashboard.common.model.application.ProgressStatus;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 
@@ -196,24 +195,13 @@ public class JiraProcessorUtilTest {
 	}
 
 	@Test
-	public void testSaveChunkProgressInTrace_StepContextIsNull() {
-		ProcessorExecutionTraceLog result =
-				JiraProcessorUtil.saveChunkProgressInTrace(new ProcessorExecutionTraceLog(), null);
-		assertNull(result);
+	public void testGetChunkProgress_StepContextIsNull() {
+		assertNull(JiraProcessorUtil.getChunkProgress(null));
 	}
 
 	@Test
-	public void testSaveChunkProgressInTrace_ProcessorExecutionTraceLogIsNull() {
-		StepContext stepContext = mock(StepContext.class);
-		ProcessorExecutionTraceLog result =
-				JiraProcessorUtil.saveChunkProgressInTrace(null, stepContext);
-		assertNull(result);
-	}
-
-	@Test
-	public void testSaveChunkProgressInTrace_BothNotNull() {
+	public void testGetChunkProgress() {
 		// Prepare test data
-		ProcessorExecutionTraceLog processorExecutionTraceLog = new ProcessorExecutionTraceLog();
 		StepContext stepContext = mock(StepContext.class);
 		StepExecution stepExecution = mock(StepExecution.class);
 		JobExecution jobExecution = mock(JobExecution.class);
@@ -224,14 +212,11 @@ public class JiraProcessorUtilTest {
 		when(jobExecution.getExecutionContext()).thenReturn(new ExecutionContext());
 
 		// Call the method
-		ProcessorExecutionTraceLog result =
-				JiraProcessorUtil.saveChunkProgressInTrace(processorExecutionTraceLog, stepContext);
+		ProgressStatus progressStatus = JiraProcessorUtil.getChunkProgress(stepContext);
 
 		// Verify the result
-		List<ProgressStatus> progressStatusList = result.getProgressStatusList();
-		assertEquals(1, progressStatusList.size());
-		assertEquals("Process Issues 0 to 0 out of 0", progressStatusList.get(0).getStepName());
-		assertEquals(BatchStatus.COMPLETED.toString(), progressStatusList.get(0).getStatus());
+		assertEquals("Process Issues 0 to 0 out of 0", progressStatus.getStepName());
+		assertEquals(BatchStatus.COMPLETED.toString(), progressStatus.getStatus());
 	}
 
 	@Test
@@ -289,4 +274,13 @@ public class JiraProcessorUtilTest {
 		String actualMessage = JiraProcessorUtil.generateLogMessage(exception);
 		assertEquals(expectedMessage, actualMessage);
 	}
+
+	@Test
+	public void testGetHost_normalisesTheHostName() {
+		assertEquals("jira.example.com", JiraProcessorUtil.getHost("https://jira.example.com/"));
+		assertEquals(
+				"jira.example.com", JiraProcessorUtil.getHost(" HTTPS://Jira.Example.com:8443/jira "));
+		assertEquals("jira.example.com", JiraProcessorUtil.getHost("jira.example.com"));
+		assertEquals("", JiraProcessorUtil.getHost(null));
+	}
 }
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+
+package com.publicissapient.kpidashboard.jira.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
+import com.publicissapient.kpidashboard.jira.cache.JiraIssueChunkCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkUpsertWriterTest {
+
+	private static final String PROJECT_ID = "63bfa0d5b7617e260763ca21";
+	private static final String COLLECTION = "jira_issue";
+
+	@Mock private MongoTemplate mongoTemplate;
+
+	@Mock private MongoConverter mongoConverter;
+
+	@Mock private JiraIssueChunkCache jiraIssueChunkCache;
+
+	@Mock private BulkOperations bulkOperations;
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@InjectMocks private BulkUpsertWriter bulkUpsertWriter;
+
+	@Before
+	public void setUp() {
+		when(mongoTemplate.getConverter()).thenReturn(mongoConverter);
+		when(mongoTemplate.getCollectionName(JiraIssue.class)).thenReturn(COLLECTION);
+		doAnswer(
+						invocation -> {
+							JiraIssue jiraIssue = invocation.getArgument(0);
+							Document document = invocation.getArgument(1);
+							document.put("_id", "id-" + jiraIssue.getIssueId());
+							document.put("issueId", jiraIssue.getIssueId());
+							document.put("basicProjectConfigId", jiraIssue.getBasicProjectConfigId());
+							document.put("status", jiraIssue.getStatus());
+							return null;
+						})
+				.when(mongoConverter)
+				.write(any(), any());
+	}
+
+	@Test
+	public void onlyChangedFieldsAreSet() {
+		Document stored =
+				new Document("_id", "id-1001")
+						.append("issueId", "1001")
+						.append("basicProjectConfigId", PROJECT_ID)
+						.append("status", "Open")
+						.append("removed", "value");
+		when(jiraIssueChunkCache.getStoredDocument(JiraIssue.class, PROJECT_ID, "1001"))
+				.thenReturn(Optional.of(stored));
+
+		BulkUpsertWriter.BulkUpsert bulkUpsert =
+				bulkUpsertWriter.prepare(JiraIssue.class, "issueId", List.of(jiraIssue("1001", "Closed")));
+
+		assertEquals(1, bulkUpsert.upserts().size());
+		Document updateObject = bulkUpsert.upserts().get(0).update().getUpdateObject();
+		assertEquals(new Document("status", "Closed"), updateObject.get("$set"));
+		assertEquals(new Document("removed", 1), updateObject.get("$unset"));
+		Document queryObject = bulkUpsert.upserts().get(0).query().getQueryObject();
+		assertEquals(PROJECT_ID, queryObject.get("basicProjectConfigId"));
+		assertEquals("1001", queryObject.get("issueId"));
+	}
+
+	@Test
+	public void unchangedDocumentsAreSkippedAndOnesNotPrefetchedReplaced() {
+		Document stored =
+				new Document("_id", "id-1001")
+						.append("issueId", "1001")
+						.append("basicProjectConfigId", PROJECT_ID)
+						.append("status", "Open");
+		when(jiraIssueChunkCache.getStoredDocument(eq(JiraIssue.class), eq(PROJECT_ID), anyString()))
+				.thenReturn(Optional.of(stored), Optional.empty());
+
+		BulkUpsertWriter.BulkUpsert bulkUpsert =
+				bulkUpsertWriter.prepare(
+						JiraIssue.class,
+						"issueId",
+						List.of(jiraIssue("1001", "Open"), jiraIssue("1002", "Open")));
+
+		assertEquals(2, bulkUpsert.documents());
+		assertEquals(1, bulkUpsert.upserts().size());
+		assertNull(bulkUpsert.upserts().get(0).update());
+		Document replacement = bulkUpsert.upserts().get(0).replacement();
+		assertEquals("1002", replacement.get("issueId"));
+		assertFalse(replacement.containsKey("_id"));
+	}
+
+	@Test
+	public void executeRunsUnorderedBulkUpsertAndRecordsMetrics() {
+		when(jiraIssueChunkCache.getStoredDocument(any(), anyString(), anyString()))
+				.thenReturn(Optional.empty());
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JiraIssue.class))
+				.thenReturn(bulkOperations);
+		when(bulkOperations.execute())
+				.thenReturn(BulkWriteResult.acknowledged(0, 0, 0, 0, List.of(), List.of()));
+
+		bulkUpsertWriter.execute(
+				List.of(
+						bulkUpsertWriter.prepare(
+								JiraIssue.class,
+								"issueId",
+								List.of(jiraIssue("1001", "Open"), jiraIssue("1002", "Open")))));
+
+		verify(bulkOperations, times(2))
+				.replaceOne(any(Query.class), any(Document.class), any(FindAndReplaceOptions.class));
+		verify(bulkOperations, never()).upsert(any(Query.class), any(Update.class));
+		verify(bulkOperations, times(1)).execute();
+		assertEquals(
+				1,
+				meterRegistry.get("jira.issue.bulk.write").tag("collection", COLLECTION).timer().count());
+		assertEquals(
+				2.0,
+				meterRegistry
+						.get("jira.issue.bulk.write.documents")
+						.tag("collection", COLLECTION)
+						.summary()
+						.totalAmount(),
+				0);
+	}
+
+	@Test
+	public void collectionsAreWrittenOnTheSharedPool() {
+		when(jiraProcessorConfig.getIssueBulkWriteThreads()).thenReturn(2);
+		Document stored =
+				new Document("_id", "id-1001")
+						.append("issueId", "1001")
+						.append("basicProjectConfigId", PROJECT_ID)
+						.append("status", "Open");
+		when(jiraIssueChunkCache.getStoredDocument(JiraIssue.class, PROJECT_ID, "1001"))
+				.thenReturn(Optional.of(stored));
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JiraIssue.class))
+				.thenReturn(bulkOperations);
+		when(bulkOperations.execute())
+				.thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+		BulkUpsertWriter.BulkUpsert bulkUpsert =
+				bulkUpsertWriter.prepare(JiraIssue.class, "issueId", List.of(jiraIssue("1001", "Closed")));
+
+		bulkUpsertWriter.init();
+		try {
+			bulkUpsertWriter.execute(List.of(bulkUpsert, bulkUpsert));
+		} finally {
+			bulkUpsertWriter.shutdown();
+		}
+
+		verify(bulkOperations, times(2)).upsert(any(Query.class), any(Update.class));
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	private JiraIssue jiraIssue(String issueId, String status) {
+		JiraIssue jiraIssue = new JiraIssue();
+		jiraIssue.setIssueId(issueId);
+		jiraIssue.setBasicProjectConfigId(PROJECT_ID);
+		jiraIssue.setStatus(status);
+		return jiraIssue;
+	}
+}
@@ -18,8 +18,14 @@
 
 package com.publicissapient.kpidashboard.jira.writer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -42,10 +48,13 @@ import com.publicissapient.kpidashboard.common.model.jira.AssigneeDetails;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.KanbanJiraIssue;
 import com.publicissapient.kpidashboard.common.repository.application.KanbanAccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueHistoryRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.KanbanJiraIssueRepository;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
+import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -57,10 +66,18 @@ public class IssueKanbanWriterTest {
 
 	@Mock private KanbanAccountHierarchyRepository kanbanAccountHierarchyRepository;
 
-	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 
 	@Mock private ProjectHierarchyService projectHierarchyService;
 
+	@Mock private ProjectHierarchyCache projectHierarchyCache;
+
+	@Mock private JiraProcessorConfig jiraProcessorConfig;
+
+	@Mock private BulkUpsertWriter bulkUpsertWriter;
+
+	@Mock private IssueFingerprintHelper issueFingerprintHelper;
+
 	@InjectMocks private IssueKanbanWriter issueKanbanWriter;
 
 	@Test
@@ -87,6 +104,20 @@ public class IssueKanbanWriterTest {
 		verify(kanbanJiraIssueRepository, times(1)).saveAll(verifyMockJiraItems());
 	}
 
+	@Test
+	public void testWriteBulk() throws Exception {
+		when(jiraProcessorConfig.isIssueBulkWriteEnabled()).thenReturn(true);
+
+		issueKanbanWriter.write(createMockKanbanCompositeResults());
+
+		verify(bulkUpsertWriter).prepare(eq(KanbanJiraIssue.class), eq("issueId"), anyCollection());
+		verify(bulkUpsertWriter)
+				.prepare(eq(KanbanIssueCustomHistory.class), eq("storyID"), anyCollection());
+		verify(bulkUpsertWriter).execute(anyList());
+		verify(kanbanJiraIssueRepository, never()).saveAll(any());
+		verify(kanbanJiraIssueHistoryRepository, never()).saveAll(any());
+	}
+
 	// Helper methods to create mock data for testing
 	private Chunk<CompositeResult> createMockKanbanCompositeResults() {
 		CompositeResult compositeResult = new CompositeResult();
@@ -18,8 +18,14 @@
 
 package com.publicissapient.kpidashboard.jira.writer;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -44,12 +50,14 @@ import com.publicissapient.kpidashboard.common.model.jira.JiraIssue;
 import com.publicissapient.kpidashboard.common.model.jira.JiraIssueCustomHistory;
 import com.publicissapient.kpidashboard.common.model.jira.SprintDetails;
 import com.publicissapient.kpidashboard.common.repository.application.AccountHierarchyRepository;
-import com.publicissapient.kpidashboard.common.repository.jira.AssigneeDetailsRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueCustomHistoryRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.JiraIssueRepository;
 import com.publicissapient.kpidashboard.common.repository.jira.SprintRepository;
 import com.publicissapient.kpidashboard.common.service.ProjectHierarchyService;
+import com.publicissapient.kpidashboard.jira.cache.ProjectAssigneeCache;
+import com.publicissapient.kpidashboard.jira.cache.ProjectHierarchyCache;
 import com.publicissapient.kpidashboard.jira.config.JiraProcessorConfig;
+import com.publicissapient.kpidashboard.jira.helper.IssueFingerprintHelper;
 import com.publicissapient.kpidashboard.jira.model.CompositeResult;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -61,16 +69,22 @@ public class IssueScrumWriterTest {
 
 	@Mock private AccountHierarchyRepository kanbanAccountHierarchyRepository;
 
-	@Mock private AssigneeDetailsRepository assigneeDetailsRepository;
+	@Mock private ProjectAssigneeCache projectAssigneeCache;
 
 	@Mock private SprintRepository sprintRepository;
 
 	@Mock private JiraProcessorConfig jiraProcessorConfig;
 
+	@Mock private BulkUpsertWriter bulkUpsertWriter;
+
+	@Mock private IssueFingerprintHelper issueFingerprintHelper;
+
 	@InjectMocks private IssueScrumWriter issueScrumWriter;
 
 	@Mock private ProjectHierarchyService projectHierarchyService;
 
+	@Mock private ProjectHierarchyCache projectHierarchyCache;
+
 	@Test
 	public void testWrite() throws Exception {
 		// Mock data
@@ -81,6 +95,23 @@ public class IssueScrumWriterTest {
 
 		// Verify interactions with repositories
 		verify(kanbanJiraIssueRepository, times(1)).saveAll(createMockJiraItems());
+		verify(projectHierarchyCache, times(1)).addHierarchies(createMockAccountHierarchies());
+		verify(projectAssigneeCache).flush(anyCollection());
+	}
+
+	@Test
+	public void testWriteBulk() throws Exception {
+		when(jiraProcessorConfig.isIssueBulkWriteEnabled()).thenReturn(true);
+
+		issueScrumWriter.write(createMockScrumCompositeResults());
+
+		verify(bulkUpsertWriter).prepare(eq(JiraIssue.class), eq("issueId"), anyCollection());
+		verify(bulkUpsertWriter)
+				.prepare(eq(JiraIssueCustomHistory.class), eq("storyID"), anyCollection());
+		verify(bulkUpsertWriter).execute(anyList());
+		verify(kanbanJiraIssueRepository, never()).saveAll(any());
+		verify(sprintRepository, times(1)).saveAll(any());
+		verify(projectHierarchyCache, times(1)).addHierarchies(createMockAccountHierarchies());
 	}
 
 	// Helper methods to create mock data for testing
@@ -68,6 +68,13 @@ public class GitScannerConfig {
 		private int httpRetryAttempts = 3;
 		private long httpRetryDelayMs = 1000;
 		private int jgitCloneTimeoutMinutes = 10;
+		// Clone only the scanned branch since the start of the scan instead of the full repository
+		private boolean jgitShallowClone = true;
+		// Threads computing the diff stats of the commits of one repository
+		private int jgitDiffThreads = Runtime.getRuntime().availableProcessors();
+		private boolean jgitDetectRenames = true;
+		// Count the lines of each file without recording the line numbers changed
+		private boolean jgitNumstatOnly = false;
 		private boolean enableRateLimiting = true;
 		private int rateLimitRequestsPerSecond = 10;
 	}
@@ -83,6 +90,8 @@ public class GitScannerConfig {
 		private boolean enableDataCompression = false;
 		private int batchInsertSize = 100;
 		private boolean enableTransactionBatching = true;
+		// Save users, commits and merge requests with bulk upserts of batchInsertSize documents
+		private boolean bulkUpsertEnabled;
 
 		// Enhanced cleanup getters and setters
 		// Enhanced cleanup configuration for Windows file handle issues
@@ -90,5 +99,12 @@ public class GitScannerConfig {
 		private int cleanupRetryDelayMs = 100;
 		private int cleanupFinalDelayMs = 500;
 		private boolean forceGcOnCleanupFailure = true;
+
+		// Persistent bare clones of the scanned repositories, fetched incrementally on later scans.
+		// Kept under the temp directory, which has to be on persistent storage for the cache to last
+		private boolean mirrorCacheEnabled = true;
+		private String mirrorCacheDirectory = "git-scanner-mirrors";
+		private long mirrorCacheMaxSizeMb = 2048;
+		private int mirrorCacheMaxRepositories = 50;
 	}
 }
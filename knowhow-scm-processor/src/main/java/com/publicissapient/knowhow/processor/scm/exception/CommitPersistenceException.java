@@ -0,0 +1,30 @@
+/*
+ *  Copyright 2024 <Sapient Corporation>
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and limitations under the
+ *  License.
+ */
+
+package com.publicissapient.knowhow.processor.scm.exception;
+
+/**
+ * Exception thrown when a page of commits handed over by a fetch strategy cannot be persisted.
+ *
+ * <p>The strategies rethrow this exception unchanged, so that a failure of the scan to save its
+ * commits is not reported as a failure to fetch them.
+ */
+public class CommitPersistenceException extends DataProcessingException {
+
+	public CommitPersistenceException(String message, Throwable cause) {
+		super("COMMIT_PERSISTENCE_ERROR", message, cause);
+	}
+}
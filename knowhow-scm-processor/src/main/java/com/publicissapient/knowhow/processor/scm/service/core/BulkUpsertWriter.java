@@ -0,0 +1,220 @@
+/*
+ *  Copyright 2024 <Sapient Corporation>
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and limitations under the
+ *  License.
+ */
+
+package com.publicissapient.knowhow.processor.scm.service.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes documents with unordered bulk upserts keyed on their natural key, in batches of the
+ * configured <code>git.scanner.storage.batch-insert-size</code>, instead of one lookup and one save
+ * per document.
+ *
+ * <p>Two writers upserting the same new document both miss it and one of the inserts fails on the
+ * unique index. Such duplicate key errors are read from the result of the batch and only the
+ * upserts which lost the race are executed again, now matching the document the other writer
+ * inserted. The latency of every batch is reported per collection as the <code>scm.bulk.upsert
+ * </code> timer.
+ */
+@Component
+@Slf4j
+public class BulkUpsertWriter {
+
+	private static final String ID = "_id";
+	private static final String OR = "$or";
+	private static final String BOOLEAN_GETTER = "is";
+	private static final String WRITE_LATENCY_METRIC = "scm.bulk.upsert";
+	private static final String COLLECTION_TAG = "collection";
+
+	private final MongoTemplate mongoTemplate;
+	private final GitScannerConfig gitScannerConfig;
+	private final MeterRegistry meterRegistry;
+
+	public BulkUpsertWriter(
+			MongoTemplate mongoTemplate, GitScannerConfig gitScannerConfig, MeterRegistry meterRegistry) {
+		this.mongoTemplate = mongoTemplate;
+		this.gitScannerConfig = gitScannerConfig;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/** Upsert of one document, the query selecting the document by its natural key. */
+	public record Upsert(Query query, Update update) {}
+
+	/** Outcome of the upserts of a collection. */
+	public record BulkUpsertResult(int matched, int modified, int inserted, int retried) {}
+
+	/**
+	 * Converts the document as it would be saved, without its id.
+	 *
+	 * @param document document to convert
+	 * @return the fields of the document, null fields being left out
+	 */
+	public Document toDocument(Object document) {
+		Document converted = new Document();
+		mongoTemplate.getConverter().write(document, converted);
+		converted.remove(ID);
+		return converted;
+	}
+
+	/**
+	 * Resolves the field a property is stored in from the getter reading it, as a boolean flag read
+	 * by <code>isClosed()</code> may be declared either as <code>closed</code> or as <code>isClosed
+	 * </code>.
+	 *
+	 * @param type document type
+	 * @param getter name of the getter of the property
+	 * @return the field of the property
+	 */
+	public String fieldName(Class<?> type, String getter) {
+		String propertyName =
+				StringUtils.uncapitalize(getter.substring(getter.startsWith(BOOLEAN_GETTER) ? 2 : 3));
+		MongoPersistentEntity<?> entity =
+				mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(type);
+		for (MongoPersistentProperty property : entity) {
+			Method method = property.getGetter();
+			if (property.getName().equals(propertyName)
+					|| property.getName().equals(getter)
+					|| (method != null && method.getName().equals(getter))) {
+				return property.getFieldName();
+			}
+		}
+		throw new IllegalArgumentException(
+				"No property of " + type.getSimpleName() + " is read by " + getter);
+	}
+
+	/**
+	 * Executes the upserts in unordered bulk writes of at most the configured batch size.
+	 *
+	 * @param type document type
+	 * @param upserts upserts to execute
+	 * @return counts of the documents matched, modified and inserted
+	 */
+	public BulkUpsertResult upsert(Class<?> type, List<Upsert> upserts) {
+		if (upserts.isEmpty()) {
+			return new BulkUpsertResult(0, 0, 0, 0);
+		}
+		String collection = mongoTemplate.getCollectionName(type);
+		int batchSize = Math.max(gitScannerConfig.getStorage().getBatchInsertSize(), 1);
+		Timer timer =
+				Timer.builder(WRITE_LATENCY_METRIC)
+						.description("Latency of a bulk upsert batch")
+						.tag(COLLECTION_TAG, collection)
+						.register(meterRegistry);
+		long start = System.nanoTime();
+		BulkUpsertResult total = new BulkUpsertResult(0, 0, 0, 0);
+		for (int from = 0; from < upserts.size(); from += batchSize) {
+			List<Upsert> batch = upserts.subList(from, Math.min(from + batchSize, upserts.size()));
+			total = add(total, timer.record(() -> execute(type, batch)));
+		}
+		long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		log.info(
+				"Bulk upsert to {}: {} documents, {} matched, {} modified, {} inserted, {} retried"
+						+ " in {} ms ({} writes/s)",
+				collection,
+				upserts.size(),
+				total.matched(),
+				total.modified(),
+				total.inserted(),
+				total.retried(),
+				millis,
+				upserts.size() * 1000L / Math.max(millis, 1));
+		return total;
+	}
+
+	/**
+	 * Reads the documents selected by the queries of the upserts, one query per batch.
+	 *
+	 * @param type document type
+	 * @param upserts executed upserts
+	 * @return the stored documents
+	 */
+	public <T> List<T> find(Class<T> type, List<Upsert> upserts) {
+		int batchSize = Math.max(gitScannerConfig.getStorage().getBatchInsertSize(), 1);
+		List<T> documents = new ArrayList<>();
+		for (int from = 0; from < upserts.size(); from += batchSize) {
+			List<Document> keys =
+					upserts.subList(from, Math.min(from + batchSize, upserts.size())).stream()
+							.map(upsert -> upsert.query().getQueryObject())
+							.toList();
+			documents.addAll(mongoTemplate.find(new BasicQuery(new Document(OR, keys)), type));
+		}
+		return documents;
+	}
+
+	private BulkUpsertResult execute(Class<?> type, List<Upsert> batch) {
+		try {
+			return toResult(bulkOperations(type, batch).execute(), 0);
+		} catch (BulkOperationException e) {
+			List<Upsert> lost = new ArrayList<>();
+			for (BulkWriteError error : e.getErrors()) {
+				if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+					throw e;
+				}
+				lost.add(batch.get(error.getIndex()));
+			}
+			log.debug(
+					"{} upserts to {} lost an insert race, executing them again",
+					lost.size(),
+					type.getSimpleName());
+			return add(
+					toResult(e.getResult(), 0), toResult(bulkOperations(type, lost).execute(), lost.size()));
+		}
+	}
+
+	private BulkOperations bulkOperations(Class<?> type, List<Upsert> upserts) {
+		BulkOperations bulkOperations =
+				mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+		upserts.forEach(upsert -> bulkOperations.upsert(upsert.query(), upsert.update()));
+		return bulkOperations;
+	}
+
+	private static BulkUpsertResult toResult(BulkWriteResult result, int retried) {
+		return new BulkUpsertResult(
+				result.getMatchedCount(), result.getModifiedCount(), result.getUpserts().size(), retried);
+	}
+
+	private static BulkUpsertResult add(BulkUpsertResult first, BulkUpsertResult second) {
+		return new BulkUpsertResult(
+				first.matched() + second.matched(),
+				first.modified() + second.modified(),
+				first.inserted() + second.inserted(),
+				first.retried() + second.retried());
+	}
+}
@@ -25,15 +25,22 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.BulkUpsertResult;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.Upsert;
 import com.publicissapient.kpidashboard.common.model.scm.ScmBranch;
 import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
 import com.publicissapient.kpidashboard.common.model.scm.ScmConnectionTraceLog;
@@ -53,17 +60,30 @@ import lombok.extern.slf4j.Slf4j;
  * operations for users, commits, and merge requests. It provides methods for saving, updating, and
  * querying Git metadata with proper transaction management and error handling. Implements the
  * Single Responsibility Principle by focusing solely on data persistence.
+ *
+ * <p>When <code>git.scanner.storage.bulk-upsert-enabled</code> is set, users, commits and merge
+ * requests are written with bulk upserts keyed on their processorItemId and username, sha or
+ * externalId, instead of one lookup and one save per document.
  */
 @Service
 @Transactional
 @Slf4j
 public class PersistenceService {
 
+	private static final String PROCESSOR_ITEM_ID = "processorItemId";
+	private static final String USERNAME = "username";
+	private static final String SHA = "sha";
+	private static final String EXTERNAL_ID = "externalId";
+	private static final String CREATED_AT = "createdAt";
+	private static final String UPDATED_AT = "updatedAt";
+
 	private final ScmUserRepository userRepository;
 	private final ScmCommitsRepository commitRepository;
 	private final ScmMergeRequestsRepository mergeRequestRepository;
 	private final ScmReposRepository scmReposRepository;
 	private final ScmConnectionTraceLogRepository scmConnectionTraceLogRepository;
+	private final GitScannerConfig gitScannerConfig;
+	private final BulkUpsertWriter bulkUpsertWriter;
 
 	@Autowired
 	public PersistenceService(
@@ -71,12 +91,16 @@ public class PersistenceService {
 			ScmCommitsRepository commitRepository,
 			ScmMergeRequestsRepository mergeRequestRepository,
 			ScmReposRepository scmReposRepository,
-			ScmConnectionTraceLogRepository scmConnectionTraceLogRepository) {
+			ScmConnectionTraceLogRepository scmConnectionTraceLogRepository,
+			GitScannerConfig gitScannerConfig,
+			BulkUpsertWriter bulkUpsertWriter) {
 		this.userRepository = userRepository;
 		this.commitRepository = commitRepository;
 		this.mergeRequestRepository = mergeRequestRepository;
 		this.scmReposRepository = scmReposRepository;
 		this.scmConnectionTraceLogRepository = scmConnectionTraceLogRepository;
+		this.gitScannerConfig = gitScannerConfig;
+		this.bulkUpsertWriter = bulkUpsertWriter;
 	}
 
 	// User operations
@@ -116,6 +140,42 @@ public class PersistenceService {
 		}
 	}
 
+	/**
+	 * Saves the users not stored yet for their repository, the stored users being left unchanged.
+	 *
+	 * @param users the users to save
+	 * @return the stored users
+	 * @throws DataProcessingException if saving fails
+	 */
+	public List<User> saveUsers(List<User> users) throws DataProcessingException {
+		if (!isBulkUpsertEnabled()) {
+			List<User> savedUsers = new ArrayList<>();
+			for (User user : users) {
+				savedUsers.add(saveUser(user));
+			}
+			return savedUsers;
+		}
+		try {
+			log.debug("Bulk saving {} users", users.size());
+			LocalDateTime now = LocalDateTime.now();
+			Map<String, Upsert> upserts = new LinkedHashMap<>();
+			for (User user : users) {
+				Update update = new Update();
+				bulkUpsertWriter.toDocument(user).forEach(update::setOnInsert);
+				update.setOnInsert(CREATED_AT, now).setOnInsert(UPDATED_AT, now);
+				upserts.putIfAbsent(
+						user.getProcessorItemId() + "|" + user.getUsername(),
+						new Upsert(key(user.getProcessorItemId(), USERNAME, user.getUsername()), update));
+			}
+			List<Upsert> userUpserts = new ArrayList<>(upserts.values());
+			bulkUpsertWriter.upsert(User.class, userUpserts);
+			return bulkUpsertWriter.find(User.class, userUpserts);
+		} catch (Exception e) {
+			log.error("Error bulk saving users: {}", e.getMessage(), e);
+			throw new DataProcessingException("Failed to bulk save users", e);
+		}
+	}
+
 	/**
 	 * Finds or creates a user by repository name and username/email.
 	 *
@@ -212,6 +272,10 @@ public class PersistenceService {
 	 * @throws DataProcessingException if batch saving fails
 	 */
 	public void saveCommits(List<ScmCommits> commitDetails) throws DataProcessingException {
+		if (isBulkUpsertEnabled()) {
+			bulkSaveCommits(commitDetails);
+			return;
+		}
 		try {
 			log.debug("Batch saving {} commits with upsert logic", commitDetails.size());
 
@@ -261,6 +325,37 @@ public class PersistenceService {
 		}
 	}
 
+	/**
+	 * Upserts the commits, every non null field being set and the creation time being kept for the
+	 * stored commits.
+	 */
+	private void bulkSaveCommits(List<ScmCommits> commitDetails) throws DataProcessingException {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			Map<String, Upsert> upserts = new LinkedHashMap<>();
+			for (ScmCommits commitDetail : commitDetails) {
+				Document converted = bulkUpsertWriter.toDocument(commitDetail);
+				Object createdAt = converted.remove(CREATED_AT);
+				Update update = new Update();
+				converted.forEach(update::set);
+				update.set(UPDATED_AT, now).setOnInsert(CREATED_AT, createdAt != null ? createdAt : now);
+				upserts.put(
+						commitDetail.getProcessorItemId() + "|" + commitDetail.getSha(),
+						new Upsert(key(commitDetail.getProcessorItemId(), SHA, commitDetail.getSha()), update));
+			}
+			BulkUpsertResult result =
+					bulkUpsertWriter.upsert(ScmCommits.class, new ArrayList<>(upserts.values()));
+			log.info(
+					"Successfully processed {} commits ({} updated, {} created)",
+					commitDetails.size(),
+					result.matched(),
+					result.inserted());
+		} catch (Exception e) {
+			log.error("Error batch saving commits: {}", e.getMessage(), e);
+			throw new DataProcessingException("Failed to batch save commits", e);
+		}
+	}
+
 	/** Updates merge request fields from source to target merge request. */
 	private void updateMergeRequestFields(ScmMergeRequests target, ScmMergeRequests source) {
 		updateBasicFields(target, source);
@@ -346,6 +441,10 @@ public class PersistenceService {
 	 */
 	public void saveMergeRequests(List<ScmMergeRequests> mergeRequests)
 			throws DataProcessingException {
+		if (isBulkUpsertEnabled()) {
+			bulkSaveMergeRequests(mergeRequests);
+			return;
+		}
 		try {
 			log.debug("Batch saving {} merge requests with upsert logic", mergeRequests.size());
 
@@ -388,6 +487,59 @@ public class PersistenceService {
 		}
 	}
 
+	/**
+	 * Upserts the merge requests, every non null field being set. As for the merge requests updated
+	 * one by one, a stored merge request is only ever flagged open or closed, the flags of the
+	 * converted merge request being kept for the new ones.
+	 */
+	private void bulkSaveMergeRequests(List<ScmMergeRequests> mergeRequests)
+			throws DataProcessingException {
+		try {
+			String closedField = bulkUpsertWriter.fieldName(ScmMergeRequests.class, "isClosed");
+			String openField = bulkUpsertWriter.fieldName(ScmMergeRequests.class, "isOpen");
+			Map<String, Upsert> upserts = new LinkedHashMap<>();
+			for (ScmMergeRequests mergeRequest : mergeRequests) {
+				Document converted = bulkUpsertWriter.toDocument(mergeRequest);
+				Object closed = converted.remove(closedField);
+				Object open = converted.remove(openField);
+				Update update = new Update();
+				converted.forEach(update::set);
+				if (mergeRequest.getState() == null) {
+					update.setOnInsert(closedField, closed).setOnInsert(openField, open);
+				} else if (mergeRequest
+						.getState()
+						.equalsIgnoreCase(ScmMergeRequests.MergeRequestState.MERGED.name())) {
+					update.set(closedField, true).setOnInsert(openField, open);
+				} else {
+					update.set(openField, true).setOnInsert(closedField, closed);
+				}
+				upserts.put(
+						mergeRequest.getProcessorItemId() + "|" + mergeRequest.getExternalId(),
+						new Upsert(
+								key(mergeRequest.getProcessorItemId(), EXTERNAL_ID, mergeRequest.getExternalId()),
+								update));
+			}
+			BulkUpsertResult result =
+					bulkUpsertWriter.upsert(ScmMergeRequests.class, new ArrayList<>(upserts.values()));
+			log.info(
+					"Successfully processed {} merge requests ({} updated, {} created)",
+					mergeRequests.size(),
+					result.matched(),
+					result.inserted());
+		} catch (Exception e) {
+			log.error("Error batch saving merge requests: {}", e.getMessage(), e);
+			throw new DataProcessingException("Failed to batch save merge requests", e);
+		}
+	}
+
+	private boolean isBulkUpsertEnabled() {
+		return gitScannerConfig.getStorage().isBulkUpsertEnabled();
+	}
+
+	private static Query key(ObjectId processorItemId, String keyField, Object key) {
+		return new Query(Criteria.where(PROCESSOR_ITEM_ID).is(processorItemId).and(keyField).is(key));
+	}
+
 	public void saveRepositoryData(List<ScmRepos> scmReposList) {
 		for (ScmRepos scmRepos : dedupeBatch(scmReposList)) {
 			Optional<ScmRepos> existingScmRepos = findExistingRepo(scmRepos);
@@ -16,15 +16,19 @@
 
 package com.publicissapient.knowhow.processor.scm.service.core.command;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.publicissapient.knowhow.processor.scm.dto.ScanRequest;
 import com.publicissapient.knowhow.processor.scm.dto.ScanResult;
+import com.publicissapient.knowhow.processor.scm.exception.CommitPersistenceException;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
 import com.publicissapient.knowhow.processor.scm.service.core.PersistenceService;
 import com.publicissapient.knowhow.processor.scm.service.core.fetcher.CommitFetcher;
@@ -42,6 +46,10 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Executes scan commands by orchestrating various components. Implements the Command pattern
  * executor.
+ *
+ * <p>Commits are streamed through the scan one page at a time: a page is fetched, its users are
+ * resolved, the references are attached and the page is persisted before the next page is fetched,
+ * so the memory used by a scan does not grow with the size of the repository.
  */
 @Component
 @Slf4j
@@ -85,9 +93,25 @@ public class ScanCommandExecutor {
 						.startTime(System.currentTimeMillis());
 
 		try {
-			// Fetch commits
-			List<ScmCommits> commitDetails = commitFetcher.fetchCommits(scanRequest);
-			resultBuilder.commitsFound(commitDetails.size());
+			Map<String, User> resolvedUsers = new HashMap<>();
+			Set<User> allUsers = new HashSet<>();
+
+			// Fetch commits page by page, each page being persisted before the next one is fetched
+			AtomicInteger commitsFound = new AtomicInteger();
+			commitFetcher.fetchCommits(
+					scanRequest,
+					commitPage -> {
+						commitsFound.addAndGet(commitPage.size());
+						processCommitPage(commitPage, scanRequest, resolvedUsers, allUsers);
+					});
+			resultBuilder.commitsFound(commitsFound.get());
+			if (commitsFound.get() > 0) {
+				log.info(
+						"Persisted {} commits for repository: {} ({})",
+						commitsFound.get(),
+						scanRequest.getRepositoryName(),
+						scanRequest.getRepositoryUrl());
+			}
 
 			// Fetch merge requests
 			List<ScmMergeRequests> mergeRequests = mergeRequestFetcher.fetchMergeRequests(scanRequest);
@@ -95,19 +119,15 @@ public class ScanCommandExecutor {
 
 			// Process users
 			UserProcessor.UserProcessingResult userResult =
-					userProcessor.processUsers(commitDetails, mergeRequests, scanRequest);
-
-			Map<String, User> userMap = userResult.getUserMap();
-			Set<User> allUsers = userResult.getAllUsers();
+					userProcessor.processUsers(List.of(), mergeRequests, scanRequest, resolvedUsers);
+			allUsers.addAll(userResult.getAllUsers());
 
 			// Update references
-			dataReferenceUpdater.updateCommitsWithUserReferences(
-					commitDetails, userMap, scanRequest.getRepositoryName());
 			dataReferenceUpdater.updateMergeRequestsWithUserReferences(
-					mergeRequests, userMap, scanRequest.getRepositoryName());
+					mergeRequests, userResult.getUserMap(), scanRequest.getRepositoryName());
 
 			// Persist data
-			persistData(commitDetails, mergeRequests, scanRequest);
+			persistData(mergeRequests, scanRequest);
 
 			long duration = System.currentTimeMillis() - startTime;
 			return resultBuilder
@@ -127,10 +147,41 @@ public class ScanCommandExecutor {
 		}
 	}
 
-	private void persistData(
-			List<ScmCommits> commitDetails,
-			List<ScmMergeRequests> mergeRequests,
-			ScanRequest scanRequest) {
+	/**
+	 * Resolves the users of a page of commits, attaches them to the commits and persists the page.
+	 * The users saved for a page are reused by the next pages of the scan.
+	 *
+	 * @throws CommitPersistenceException if the page cannot be processed, so that the fetch
+	 *     strategies do not report the failure as a failure to fetch the commits
+	 */
+	private void processCommitPage(
+			List<ScmCommits> commitPage,
+			ScanRequest scanRequest,
+			Map<String, User> resolvedUsers,
+			Set<User> allUsers) {
+		try {
+			UserProcessor.UserProcessingResult userResult =
+					userProcessor.processUsers(commitPage, List.of(), scanRequest, resolvedUsers);
+			allUsers.addAll(userResult.getAllUsers());
+
+			dataReferenceUpdater.updateCommitsWithUserReferences(
+					commitPage, userResult.getUserMap(), scanRequest.getRepositoryName());
+
+			commitPage.forEach(commit -> commit.setProcessorItemId(scanRequest.getToolConfigId()));
+			persistenceService.saveCommits(commitPage);
+		} catch (RuntimeException e) {
+			throw new CommitPersistenceException(
+					"Failed to persist a page of commits for repository: "
+							+ scanRequest.getRepositoryName(),
+					e);
+		}
+		log.debug(
+				"Persisted a page of {} commits for repository: {}",
+				commitPage.size(),
+				scanRequest.getRepositoryName());
+	}
+
+	private void persistData(List<ScmMergeRequests> mergeRequests, ScanRequest scanRequest) {
 		// Upsert scm_repository entry keyed by clone URL — ensures IS/application and HEL/application
 		// get separate entries even though both repos share the same repository name
 		List<ScmBranch> branchList =
@@ -151,17 +202,6 @@ public class ScanCommandExecutor {
 				scanRequest.getRepositoryName(),
 				scanRequest.getRepositoryUrl());
 
-		// Persist commits
-		if (!commitDetails.isEmpty()) {
-			commitDetails.forEach(commit -> commit.setProcessorItemId(scanRequest.getToolConfigId()));
-			persistenceService.saveCommits(commitDetails);
-			log.info(
-					"Persisted {} commits for repository: {} ({})",
-					commitDetails.size(),
-					scanRequest.getRepositoryName(),
-					scanRequest.getRepositoryUrl());
-		}
-
 		// Persist merge requests
 		if (!mergeRequests.isEmpty()) {
 			persistenceService.saveMergeRequests(mergeRequests);
@@ -18,6 +18,7 @@ package com.publicissapient.knowhow.processor.scm.service.core.fetcher;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -47,13 +48,26 @@ public class CommitFetcher {
 	@Value("${git.scanner.first-scan-from:6}")
 	private int firstScanFromMonths;
 
+	@Value("${git.scanner.performance.commit-page-size:500}")
+	private int commitPageSize;
+
 	@Autowired
 	public CommitFetcher(CommitStrategySelector strategySelector, GitUrlParser gitUrlParser) {
 		this.strategySelector = strategySelector;
 		this.gitUrlParser = gitUrlParser;
 	}
 
-	public List<ScmCommits> fetchCommits(ScanRequest scanRequest) throws DataProcessingException {
+	/**
+	 * Fetches the commits of the repository in pages of at most
+	 * git.scanner.performance.commit-page-size commits, a page being fetched only once the consumer
+	 * returned from the previous one.
+	 *
+	 * @param scanRequest scan request details
+	 * @param pageConsumer the consumer of the pages of commits
+	 * @throws DataProcessingException if fetching fails
+	 */
+	public void fetchCommits(ScanRequest scanRequest, Consumer<List<ScmCommits>> pageConsumer)
+			throws DataProcessingException {
 		log.debug(
 				"Fetching commits for repository: {} ({})",
 				scanRequest.getRepositoryName(),
@@ -77,13 +91,15 @@ public class CommitFetcher {
 		LocalDateTime commitsSince = calculateCommitsSince(scanRequest);
 		GitUrlInfo urlInfo = parseGitUrl(scanRequest, credentials);
 
-		return strategy.fetchCommits(
+		strategy.fetchCommits(
 				scanRequest.getToolType(),
 				scanRequest.getToolConfigId().toString(),
 				urlInfo,
 				scanRequest.getBranchName(),
 				credentials,
-				commitsSince);
+				commitsSince,
+				Math.max(commitPageSize, 1),
+				pageConsumer);
 	}
 
 	private LocalDateTime calculateCommitsSince(ScanRequest scanRequest) {
@@ -16,6 +16,7 @@
 
 package com.publicissapient.knowhow.processor.scm.service.core.processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -62,6 +63,25 @@ public class UserProcessor {
 			List<ScmCommits> commitDetails,
 			List<ScmMergeRequests> mergeRequests,
 			ScanRequest scanRequest) {
+		return processUsers(commitDetails, mergeRequests, scanRequest, new HashMap<>());
+	}
+
+	/**
+	 * Processes users from a page of the commits and merge requests of a scan. The users resolved
+	 * by the earlier pages of the scan are reused instead of being saved again.
+	 *
+	 * @param commitDetails list of commits
+	 * @param mergeRequests list of merge requests
+	 * @param scanRequest scan request details
+	 * @param resolvedUsers the users saved by the scan so far by username, completed with the users
+	 *     saved for this page
+	 * @return user processing result containing the resolved users and the users of the page
+	 */
+	public UserProcessingResult processUsers(
+			List<ScmCommits> commitDetails,
+			List<ScmMergeRequests> mergeRequests,
+			ScanRequest scanRequest,
+			Map<String, User> resolvedUsers) {
 
 		// Extract users from commits
 		Set<User> usersFromCommits =
@@ -76,14 +96,18 @@ public class UserProcessor {
 		allUsers.addAll(usersFromCommits);
 		allUsers.addAll(usersFromMergeRequests);
 
-		// Persist users and create user map
-		Map<String, User> userMap = new HashMap<>();
+		// Persist the users not resolved by an earlier page and complete the user map
 		if (!allUsers.isEmpty()) {
+			List<User> newUsers = new ArrayList<>();
 			for (User user : allUsers) {
-				if (user.getUsername() != null) {
+				if (user.getUsername() != null && !resolvedUsers.containsKey(user.getUsername())) {
 					user.setProcessorItemId(scanRequest.getToolConfigId());
-					User savedUser = persistenceService.saveUser(user);
-					userMap.put(savedUser.getUsername(), savedUser);
+					newUsers.add(user);
+				}
+			}
+			if (!newUsers.isEmpty()) {
+				for (User savedUser : persistenceService.saveUsers(newUsers)) {
+					resolvedUsers.put(savedUser.getUsername(), savedUser);
 				}
 			}
 			log.info(
@@ -93,7 +117,7 @@ public class UserProcessor {
 					scanRequest.getRepositoryUrl());
 		}
 
-		return new UserProcessingResult(userMap, allUsers);
+		return new UserProcessingResult(resolvedUsers, allUsers);
 	}
 
 	/**
@@ -17,6 +17,7 @@
 package com.publicissapient.knowhow.processor.scm.service.strategy;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
 import com.publicissapient.knowhow.processor.scm.util.GitUrlParser;
@@ -54,6 +55,37 @@ public interface CommitDataFetchStrategy {
 			java.time.LocalDateTime since)
 			throws DataProcessingException;
 
+	/**
+	 * Fetches commit data for a repository page by page. Each page is handed to the consumer before
+	 * the next one is fetched, so that a scan holds a single page of commits at a time.
+	 *
+	 * <p>Strategies that cannot fetch commits by page fetch them all and hand them over in pages.
+	 *
+	 * @param toolConfigId the tool configuration ID
+	 * @param gitUrlInfo the repository URL
+	 * @param branchName the branch name (optional, null for all branches)
+	 * @param credentials the repository credentials
+	 * @param pageSize the maximum number of commits of a page
+	 * @param pageConsumer the consumer of the pages of commits
+	 * @throws DataProcessingException if data fetching fails
+	 */
+	default void fetchCommits(
+			String toolType,
+			String toolConfigId,
+			GitUrlParser.GitUrlInfo gitUrlInfo,
+			String branchName,
+			RepositoryCredentials credentials,
+			java.time.LocalDateTime since,
+			int pageSize,
+			Consumer<List<ScmCommits>> pageConsumer)
+			throws DataProcessingException {
+		List<ScmCommits> commits =
+				fetchCommits(toolType, toolConfigId, gitUrlInfo, branchName, credentials, since);
+		for (int from = 0; from < commits.size(); from += pageSize) {
+			pageConsumer.accept(commits.subList(from, Math.min(from + pageSize, commits.size())));
+		}
+	}
+
 	/**
 	 * Checks if this strategy supports the given repository URL.
 	 *
@@ -0,0 +1,348 @@
+/*
+ *  Copyright 2024 <Sapient Corporation>
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and limitations under the
+ *  License.
+ */
+
+package com.publicissapient.knowhow.processor.scm.service.strategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.JGitInternalException;
+import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.util.FileUtils;
+import org.springframework.stereotype.Component;
+
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persistent cache of bare clones of the scanned repositories. A repository is cloned once under
+ * the storage directory and later scans only fetch the branches changed since, instead of cloning
+ * the whole history again.
+ *
+ * <p>A clone is locked for the whole scan, within the processor and through a lock file against
+ * other processors sharing the storage directory. The least recently used clones are evicted once
+ * the cache holds more repositories or more data than configured. The size of a clone is kept in
+ * an index, measured again only after the clone is fetched, so that the scans do not walk the files
+ * of every cached clone.
+ */
+@Component
+@Slf4j
+public class GitMirrorCache {
+
+	private static final String MIRROR_SUFFIX = ".git";
+	private static final String LOCK_SUFFIX = ".lock";
+	private static final String BRANCH_REF_SPEC = "+refs/heads/*:refs/heads/*";
+	private static final String PACK_DIRECTORY = "pack";
+	private static final String PACK_SUFFIX = ".pack";
+	private static final long BYTES_PER_MB = 1024L * 1024L;
+	private static final String REQUESTS_METRIC = "scm.mirror.cache.requests";
+	private static final String RESULT_TAG = "result";
+
+	private final GitScannerConfig gitScannerConfig;
+	private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+	private final Map<Path, Long> mirrorSizes = new ConcurrentHashMap<>();
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter fetchedBytes;
+	private final Counter evictions;
+
+	public GitMirrorCache(GitScannerConfig gitScannerConfig, MeterRegistry meterRegistry) {
+		this.gitScannerConfig = gitScannerConfig;
+		this.hits = meterRegistry.counter(REQUESTS_METRIC, RESULT_TAG, "hit");
+		this.misses = meterRegistry.counter(REQUESTS_METRIC, RESULT_TAG, "miss");
+		this.fetchedBytes =
+				Counter.builder("scm.mirror.cache.fetched")
+						.baseUnit("bytes")
+						.description("Data added to the cached clones by clones and fetches")
+						.register(meterRegistry);
+		this.evictions = meterRegistry.counter("scm.mirror.cache.evictions");
+	}
+
+	/** Work done on the up to date clone of a repository. */
+	@FunctionalInterface
+	public interface MirrorAction<T> {
+		T apply(Git git) throws GitAPIException, IOException;
+	}
+
+	/**
+	 * Brings the cached clone of the repository up to date, cloning it on the first scan, and runs
+	 * the action on it while holding the lock of the repository.
+	 *
+	 * @param repositoryUrl url of the repository
+	 * @param credentialsProvider credentials of the repository, null for none
+	 * @param timeoutSeconds timeout of the clone or fetch
+	 * @param action work done on the clone
+	 * @return result of the action
+	 * @throws GitAPIException when the clone or fetch fails
+	 * @throws IOException when the cache directory cannot be accessed
+	 */
+	public <T> T withMirror(
+			String repositoryUrl,
+			CredentialsProvider credentialsProvider,
+			int timeoutSeconds,
+			MirrorAction<T> action)
+			throws GitAPIException, IOException {
+		Path cacheDirectory = getCacheDirectory();
+		Files.createDirectories(cacheDirectory);
+		String key = mirrorKey(repositoryUrl);
+		Path mirrorDir = cacheDirectory.resolve(key + MIRROR_SUFFIX);
+
+		ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+		lock.lock();
+		try (FileChannel lockChannel = openLockChannel(cacheDirectory, key);
+				FileLock fileLock = lockChannel.lock();
+				Git git = openMirror(repositoryUrl, mirrorDir, credentialsProvider, timeoutSeconds)) {
+			Files.setLastModifiedTime(mirrorDir, FileTime.from(Instant.now()));
+			return action.apply(git);
+		} finally {
+			lock.unlock();
+			evict();
+		}
+	}
+
+	private Git openMirror(
+			String repositoryUrl,
+			Path mirrorDir,
+			CredentialsProvider credentialsProvider,
+			int timeoutSeconds)
+			throws GitAPIException, IOException {
+		if (Files.isDirectory(mirrorDir)) {
+			Map<String, Long> packsBefore = packSizes(mirrorDir);
+			Git git = null;
+			try {
+				git = Git.open(mirrorDir.toFile());
+				git.fetch()
+						.setRemote(Constants.DEFAULT_REMOTE_NAME)
+						.setRefSpecs(new RefSpec(BRANCH_REF_SPEC))
+						.setRemoveDeletedRefs(true)
+						.setCredentialsProvider(credentialsProvider)
+						.setTimeout(timeoutSeconds)
+						.call();
+				hits.increment();
+				fetchedBytes.increment(addedBytes(packsBefore, packSizes(mirrorDir)));
+				mirrorSizes.put(mirrorDir, directorySize(mirrorDir));
+				log.debug("Fetched repository {} into its cached clone {}", repositoryUrl, mirrorDir);
+				return git;
+			} catch (TransportException e) {
+				closeQuietly(git);
+				throw e;
+			} catch (GitAPIException | IOException | JGitInternalException e) {
+				// a clone left broken by a crash is cloned again rather than failing every scan
+				closeQuietly(git);
+				log.warn(
+						"Cached clone {} of repository {} is unusable, cloning it again: {}",
+						mirrorDir,
+						repositoryUrl,
+						e.getMessage());
+				FileUtils.delete(mirrorDir.toFile(), FileUtils.RECURSIVE | FileUtils.RETRY);
+				mirrorSizes.remove(mirrorDir);
+			}
+		}
+
+		misses.increment();
+		log.debug("Cloning repository {} into the cache at {}", repositoryUrl, mirrorDir);
+		try {
+			Git git =
+					Git.cloneRepository()
+							.setURI(repositoryUrl)
+							.setDirectory(mirrorDir.toFile())
+							.setBare(true)
+							.setCloneAllBranches(true)
+							.setCredentialsProvider(credentialsProvider)
+							.setTimeout(timeoutSeconds)
+							.call();
+			fetchedBytes.increment(addedBytes(Map.of(), packSizes(mirrorDir)));
+			mirrorSizes.put(mirrorDir, directorySize(mirrorDir));
+			return git;
+		} catch (GitAPIException | JGitInternalException e) {
+			FileUtils.delete(
+					mirrorDir.toFile(), FileUtils.RECURSIVE | FileUtils.RETRY | FileUtils.SKIP_MISSING);
+			throw e;
+		}
+	}
+
+	/**
+	 * Deletes the least recently used clones until the cache fits its limits. The clone used last is
+	 * always kept, as are the clones locked by a running scan.
+	 */
+	private void evict() {
+		GitScannerConfig.Storage storage = gitScannerConfig.getStorage();
+		List<Path> mirrors;
+		try (Stream<Path> paths = Files.list(getCacheDirectory())) {
+			mirrors =
+					paths
+							.filter(path -> path.getFileName().toString().endsWith(MIRROR_SUFFIX))
+							.filter(Files::isDirectory)
+							.sorted(Comparator.comparing(GitMirrorCache::lastUsed))
+							.toList();
+		} catch (IOException e) {
+			log.warn("Could not list the cached clones: {}", e.getMessage());
+			return;
+		}
+
+		// the clones not indexed yet, cloned before a restart or by another processor, are measured
+		// once, and the clones evicted by another processor are dropped from the index
+		mirrorSizes.keySet().retainAll(mirrors);
+		long totalSize =
+				mirrors.stream()
+						.mapToLong(mirror -> mirrorSizes.computeIfAbsent(mirror, GitMirrorCache::directorySize))
+						.sum();
+		long maxSize = storage.getMirrorCacheMaxSizeMb() * BYTES_PER_MB;
+		int count = mirrors.size();
+
+		for (Path mirror : mirrors.subList(0, Math.max(0, mirrors.size() - 1))) {
+			if (count <= storage.getMirrorCacheMaxRepositories() && totalSize <= maxSize) {
+				break;
+			}
+			Long size = mirrorSizes.get(mirror);
+			if (tryEvict(mirror)) {
+				count--;
+				totalSize -= size == null ? 0 : size;
+				mirrorSizes.remove(mirror);
+			}
+		}
+	}
+
+	private boolean tryEvict(Path mirror) {
+		String fileName = mirror.getFileName().toString();
+		String key = fileName.substring(0, fileName.length() - MIRROR_SUFFIX.length());
+		ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+		if (!lock.tryLock()) {
+			return false;
+		}
+		try (FileChannel lockChannel = openLockChannel(mirror.getParent(), key);
+				FileLock fileLock = lockChannel.tryLock()) {
+			if (fileLock == null) {
+				return false;
+			}
+			FileUtils.delete(mirror.toFile(), FileUtils.RECURSIVE | FileUtils.RETRY);
+			evictions.increment();
+			log.info("Evicted the cached clone {}", mirror);
+			return true;
+		} catch (IOException e) {
+			log.warn("Could not evict the cached clone {}: {}", mirror, e.getMessage());
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Path getCacheDirectory() {
+		GitScannerConfig.Storage storage = gitScannerConfig.getStorage();
+		return Path.of(storage.getTempDirectory(), storage.getMirrorCacheDirectory());
+	}
+
+	private static FileChannel openLockChannel(Path cacheDirectory, String key) throws IOException {
+		return FileChannel.open(
+				cacheDirectory.resolve(key + LOCK_SUFFIX),
+				StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE);
+	}
+
+	/** Name of the clone of a repository, the url hashed so that it is a valid file name. */
+	private static String mirrorKey(String repositoryUrl) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of()
+					.formatHex(digest.digest(repositoryUrl.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static FileTime lastUsed(Path mirror) {
+		try {
+			return Files.getLastModifiedTime(mirror);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	/** Sizes of the pack files of the clone, by file name. */
+	private static Map<String, Long> packSizes(Path mirrorDir) {
+		Path packDirectory = mirrorDir.resolve(Constants.OBJECTS).resolve(PACK_DIRECTORY);
+		if (!Files.isDirectory(packDirectory)) {
+			return Map.of();
+		}
+		try (Stream<Path> paths = Files.list(packDirectory)) {
+			return paths
+					.filter(path -> path.getFileName().toString().endsWith(PACK_SUFFIX))
+					.collect(
+							Collectors.toMap(
+									path -> path.getFileName().toString(), GitMirrorCache::fileSize));
+		} catch (IOException | UncheckedIOException e) {
+			log.debug("Could not list the packs of {}: {}", mirrorDir, e.getMessage());
+			return Map.of();
+		}
+	}
+
+	/** Size of the pack files written by a clone or fetch, the objects it received. */
+	private static long addedBytes(Map<String, Long> packsBefore, Map<String, Long> packsAfter) {
+		return packsAfter.entrySet().stream()
+				.filter(pack -> !packsBefore.containsKey(pack.getKey()))
+				.mapToLong(Map.Entry::getValue)
+				.sum();
+	}
+
+	private static long directorySize(Path directory) {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths.filter(Files::isRegularFile).mapToLong(GitMirrorCache::fileSize).sum();
+		} catch (IOException | UncheckedIOException e) {
+			log.debug("Could not compute the size of {}: {}", directory, e.getMessage());
+			return 0;
+		}
+	}
+
+	private static long fileSize(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	private static void closeQuietly(Git git) {
+		if (git != null) {
+			git.close();
+		}
+	}
+}
@@ -23,32 +23,51 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import org.bson.types.ObjectId;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.api.errors.NoHeadException;
+import org.eclipse.jgit.api.errors.TransportException;
+import org.eclipse.jgit.diff.DiffAlgorithm;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.diff.Edit;
 import org.eclipse.jgit.diff.EditList;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.errors.PackProtocolException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectLoader;
 import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Ref;
 import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.patch.FileHeader;
-import org.eclipse.jgit.patch.HunkHeader;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.revwalk.filter.CommitTimeRevFilter;
 import org.eclipse.jgit.revwalk.filter.RevFilter;
+import org.eclipse.jgit.storage.pack.PackConfig;
 import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
-import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.eclipse.jgit.util.io.DisabledOutputStream;
 import org.springframework.stereotype.Component;
 
 import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+import com.publicissapient.knowhow.processor.scm.exception.CommitPersistenceException;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
 import com.publicissapient.knowhow.processor.scm.exception.GitScannerException;
 import com.publicissapient.knowhow.processor.scm.util.GitUrlParser;
@@ -63,6 +82,9 @@ import lombok.extern.slf4j.Slf4j;
  * clone. Advantages: - Complete commit history access - No API rate limiting - Works with any Git
  * repository Disadvantages: - Requires local disk space - Slower for large repositories - Network
  * bandwidth for cloning
+ *
+ * <p>Unless the mirror cache is disabled, the clone is kept in the {@link GitMirrorCache} and only
+ * fetched incrementally by the next scans of the repository.
  */
 @Component("jGitCommitDataFetchStrategy")
 @Slf4j
@@ -70,17 +92,25 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 
 	private static final String TEMP_DIR_PREFIX = "git-scanner-";
 	private static final String ORIGIN_REF_PREFIX = "refs/remotes/origin/";
+	private static final String BRANCH_REF_PREFIX = "refs/heads/";
+	private static final String FULL_CLONE_DIR = "full";
 	private static final int SECONDS_TO_MINUTES = 60;
 	private static final int MERGE_COMMIT_PARENT_COUNT = 2;
 	private static final int LINE_NUMBER_OFFSET = 1;
-	private static final String EMPTY_TREE_HASH = "4b825dc642cb6eb9a060e54bf8d69288fbee4904";
+	// a raw commit starts with "tree " followed by the hexadecimal id of its tree
+	private static final int TREE_ID_OFFSET = 5;
+	// same threshold as the diff formatter over which files are not diffed
+	private static final int BINARY_FILE_THRESHOLD = PackConfig.DEFAULT_BIG_FILE_THRESHOLD;
 
 	private final GitUrlParser gitUrlParser;
 	private final GitScannerConfig gitScannerConfig;
+	private final GitMirrorCache gitMirrorCache;
 
-	public JGitCommitDataFetchStrategy(GitUrlParser gitUrlParser, GitScannerConfig gitScannerConfig) {
+	public JGitCommitDataFetchStrategy(
+			GitUrlParser gitUrlParser, GitScannerConfig gitScannerConfig, GitMirrorCache gitMirrorCache) {
 		this.gitUrlParser = gitUrlParser;
 		this.gitScannerConfig = gitScannerConfig;
+		this.gitMirrorCache = gitMirrorCache;
 	}
 
 	@Override
@@ -92,6 +122,34 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 			RepositoryCredentials credentials,
 			java.time.LocalDateTime since)
 			throws DataProcessingException {
+		List<ScmCommits> commitDetails = new ArrayList<>();
+		fetchCommits(
+				toolType,
+				toolConfigId,
+				gitUrlInfo,
+				branchName,
+				credentials,
+				since,
+				Integer.MAX_VALUE,
+				commitDetails::addAll);
+		return commitDetails;
+	}
+
+	/**
+	 * Walks the commits of the clone page by page, the diff stats of a page being computed only once
+	 * the previous page has been consumed.
+	 */
+	@Override
+	public void fetchCommits(
+			String toolType,
+			String toolConfigId,
+			GitUrlParser.GitUrlInfo gitUrlInfo,
+			String branchName,
+			RepositoryCredentials credentials,
+			java.time.LocalDateTime since,
+			int pageSize,
+			Consumer<List<ScmCommits>> pageConsumer)
+			throws DataProcessingException {
 
 		String repositoryUrl = gitUrlInfo.getOriginalUrl();
 		log.info(
@@ -102,15 +160,25 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		Path tempDir = null;
 		Git git = null;
 		try {
-			tempDir = createTempDirectory();
-			git = cloneRepository(repositoryUrl, tempDir, credentials);
-			List<ScmCommits> commitDetails = extractCommits(git, toolConfigId, branchName, since);
+			int commitCount;
+			if (gitScannerConfig.getStorage().isMirrorCacheEnabled()) {
+				commitCount =
+						gitMirrorCache.withMirror(
+								repositoryUrl,
+								createCredentialsProvider(credentials),
+								getCloneTimeoutMinutes() * SECONDS_TO_MINUTES,
+								mirror ->
+										extractCommits(
+												mirror, toolConfigId, branchName, since, pageSize, pageConsumer));
+			} else {
+				tempDir = createTempDirectory();
+				git = cloneRepository(repositoryUrl, tempDir, credentials, branchName, since);
+				commitCount =
+						extractCommits(git, toolConfigId, branchName, since, pageSize, pageConsumer);
+			}
 
 			log.info(
-					"Successfully fetched {} commits from repository: {}",
-					commitDetails.size(),
-					repositoryUrl);
-			return commitDetails;
+					"Successfully fetched {} commits from repository: {}", commitCount, repositoryUrl);
 
 		} catch (GitAPIException e) {
 			log.error("Git operation failed for repository {}: {}", repositoryUrl, e.getMessage(), e);
@@ -118,6 +186,9 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		} catch (IOException e) {
 			log.error("IO error while processing repository {}: {}", repositoryUrl, e.getMessage(), e);
 			throw new DataProcessingException("Failed to access repository files", e);
+		} catch (CommitPersistenceException e) {
+			// the commits were fetched, the scan failed to persist them
+			throw e;
 		} catch (Exception e) {
 			log.error(
 					"Unexpected error fetching commits from repository {}: {}",
@@ -147,6 +218,157 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		return Files.createTempDirectory(TEMP_DIR_PREFIX + UUID.randomUUID().toString());
 	}
 
+	/**
+	 * Clones only the scanned branch and its commits since the start of the scan when shallow clones
+	 * are enabled, all branches with their full history otherwise. The full clone is also the
+	 * fallback for the servers not supporting shallow fetches.
+	 */
+	private Git cloneRepository(
+			String repositoryUrl,
+			Path tempDir,
+			RepositoryCredentials credentials,
+			String branchName,
+			LocalDateTime since)
+			throws GitAPIException, IOException {
+		String branchRef = planShallowClone(repositoryUrl, credentials, branchName, since);
+		if (branchRef == null) {
+			return cloneRepository(repositoryUrl, tempDir, credentials);
+		}
+
+		Git git;
+		try {
+			git = cloneShallow(repositoryUrl, tempDir, credentials, branchRef, since);
+		} catch (TransportException e) {
+			if (!isShallowUnsupported(e)) {
+				throw e;
+			}
+			log.warn(
+					"Repository {} does not support shallow clones, cloning its full history: {}",
+					repositoryUrl,
+					e.getMessage());
+			return cloneRepository(repositoryUrl, tempDir.resolve(FULL_CLONE_DIR), credentials);
+		}
+
+		try {
+			deepenForParents(git, branchRef, credentials, since);
+			return git;
+		} catch (GitAPIException | IOException | RuntimeException e) {
+			closeGitResources(git);
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks the scanned branch exists on the server before cloning it alone, a missing branch being
+	 * scanned on the default branch of the full clone as before.
+	 *
+	 * @return ref of the branch to clone alone, null when the full repository is to be cloned
+	 */
+	private String planShallowClone(
+			String repositoryUrl,
+			RepositoryCredentials credentials,
+			String branchName,
+			LocalDateTime since)
+			throws GitAPIException {
+		if (!gitScannerConfig.getPerformance().isJgitShallowClone()
+				|| since == null
+				|| branchName == null
+				|| branchName.trim().isEmpty()) {
+			return null;
+		}
+		String branchRef =
+				branchName.startsWith(BRANCH_REF_PREFIX) ? branchName : BRANCH_REF_PREFIX + branchName;
+		Map<String, Ref> remoteBranches =
+				Git.lsRemoteRepository()
+						.setRemote(repositoryUrl)
+						.setHeads(true)
+						.setCredentialsProvider(createCredentialsProvider(credentials))
+						.setTimeout(getCloneTimeoutMinutes() * SECONDS_TO_MINUTES)
+						.callAsMap();
+		if (!remoteBranches.containsKey(branchRef)) {
+			log.warn(
+					"Could not find branch {} in repository {}, cloning all branches",
+					branchName,
+					repositoryUrl);
+			return null;
+		}
+		return branchRef;
+	}
+
+	private Git cloneShallow(
+			String repositoryUrl,
+			Path tempDir,
+			RepositoryCredentials credentials,
+			String branchRef,
+			LocalDateTime since)
+			throws GitAPIException {
+		log.debug("Cloning branch {} of repository {} since {}", branchRef, repositoryUrl, since);
+
+		return Git.cloneRepository()
+				.setURI(repositoryUrl)
+				.setDirectory(tempDir.toFile())
+				.setCloneAllBranches(false)
+				.setBranchesToClone(List.of(branchRef))
+				.setBranch(branchRef)
+				.setShallowSince(toInstant(since))
+				.setCredentialsProvider(createCredentialsProvider(credentials))
+				.setTimeout(getCloneTimeoutMinutes() * SECONDS_TO_MINUTES)
+				.call();
+	}
+
+	/**
+	 * Deepens the shallow clone when commits of the scan were cloned without their parents, the diff
+	 * stats of a commit being computed against its first parent. No path between the commits cloned
+	 * is longer than their number, so deepening to one more than that number brings the parents of
+	 * all of them in a single fetch.
+	 */
+	private void deepenForParents(
+			Git git, String branchRef, RepositoryCredentials credentials, LocalDateTime since)
+			throws GitAPIException, IOException {
+		Repository repository = git.getRepository();
+		Set<? extends AnyObjectId> shallowCommits = repository.getObjectDatabase().getShallowCommits();
+		if (shallowCommits.isEmpty()) {
+			return;
+		}
+
+		long sinceSeconds = toInstant(since).getEpochSecond();
+		int clonedCommits = 0;
+		boolean parentNeeded = false;
+		try (RevWalk revWalk = new RevWalk(repository)) {
+			revWalk.markStart(revWalk.parseCommit(repository.resolve(branchRef)));
+			for (RevCommit commit : revWalk) {
+				clonedCommits++;
+				parentNeeded |=
+						shallowCommits.contains(commit) && commit.getCommitTime() >= sinceSeconds;
+			}
+		}
+		if (!parentNeeded) {
+			return;
+		}
+
+		log.debug("Deepening the clone of branch {} to {} commits", branchRef, clonedCommits + 1);
+		String trackingRef = ORIGIN_REF_PREFIX + Repository.shortenRefName(branchRef);
+		git.fetch()
+				.setRefSpecs(new RefSpec("+" + branchRef + ":" + trackingRef))
+				.setDepth(clonedCommits + 1)
+				.setCredentialsProvider(createCredentialsProvider(credentials))
+				.setTimeout(getCloneTimeoutMinutes() * SECONDS_TO_MINUTES)
+				.call();
+	}
+
+	private static boolean isShallowUnsupported(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof PackProtocolException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Instant toInstant(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+	}
+
 	private Git cloneRepository(String repositoryUrl, Path tempDir, RepositoryCredentials credentials)
 			throws GitAPIException {
 
@@ -163,7 +385,7 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 			cloneCommand.setCredentialsProvider(credentialsProvider);
 		}
 
-		int timeoutMinutes = gitScannerConfig.getPerformance().getJgitCloneTimeoutMinutes();
+		int timeoutMinutes = getCloneTimeoutMinutes();
 		cloneCommand.setTimeout(timeoutMinutes * SECONDS_TO_MINUTES);
 
 		log.debug("Cloning repository {} with timeout of {} minutes", repositoryUrl, timeoutMinutes);
@@ -180,6 +402,10 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		}
 	}
 
+	private int getCloneTimeoutMinutes() {
+		return gitScannerConfig.getPerformance().getJgitCloneTimeoutMinutes();
+	}
+
 	private CredentialsProvider createCredentialsProvider(RepositoryCredentials credentials) {
 		if (credentials == null) {
 			return null;
@@ -196,50 +422,106 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		return null;
 	}
 
-	private List<ScmCommits> extractCommits(
-			Git git, String toolConfigId, String branchName, LocalDateTime since)
+	/**
+	 * Hands the commits over in pages and returns the number of commits. The walk keeps every commit
+	 * it visits until it is closed, so the body of a commit is released once its page is converted,
+	 * leaving only the ids and parents of the walked commits in memory.
+	 */
+	private int extractCommits(
+			Git git,
+			String toolConfigId,
+			String branchName,
+			LocalDateTime since,
+			int pageSize,
+			Consumer<List<ScmCommits>> pageConsumer)
 			throws GitAPIException, IOException {
+		Repository repository = git.getRepository();
+
+		try (RevWalk revWalk = new RevWalk(repository);
+				DiffStatsCalculator diffStatsCalculator = new DiffStatsCalculator(repository)) {
+			revWalk.markStart(revWalk.parseCommit(resolveStart(repository, branchName)));
+
+			setupDateFilter(revWalk, since);
+
+			int commitCount = 0;
+			List<RevCommit> commitsToProcess = new ArrayList<>();
+			for (RevCommit revCommit : revWalk) {
+				if (shouldProcessCommit(revCommit, since)) {
+					commitsToProcess.add(revCommit);
+					commitCount++;
+				} else {
+					revCommit.disposeBody();
+				}
+				if (commitsToProcess.size() >= pageSize) {
+					handOverPage(
+							diffStatsCalculator, commitsToProcess, toolConfigId, branchName, pageConsumer);
+				}
+			}
+			if (!commitsToProcess.isEmpty()) {
+				handOverPage(
+						diffStatsCalculator, commitsToProcess, toolConfigId, branchName, pageConsumer);
+			}
 
-		List<ScmCommits> commitDetails = new ArrayList<>();
-		var logCommand = git.log();
-
-		setupBranch(git, logCommand, branchName);
-
-		setupDateFilter(logCommand, since);
+			return commitCount;
+		}
+	}
 
-		Iterable<RevCommit> revCommits = logCommand.call();
+	private void handOverPage(
+			DiffStatsCalculator diffStatsCalculator,
+			List<RevCommit> revCommits,
+			String toolConfigId,
+			String branchName,
+			Consumer<List<ScmCommits>> pageConsumer) {
+		List<ScmCommits> commitPage =
+				convertCommits(diffStatsCalculator, revCommits, toolConfigId, branchName);
+		revCommits.forEach(RevCommit::disposeBody);
+		revCommits.clear();
+		pageConsumer.accept(commitPage);
+	}
 
-		for (RevCommit revCommit : revCommits) {
-			if (shouldProcessCommit(revCommit, since)) {
-				ScmCommits commitDetail = convertRevCommitToCommit(git, revCommit, toolConfigId);
-				commitDetail.setBranch(branchName);
-				commitDetails.add(commitDetail);
-			}
+	private List<ScmCommits> convertCommits(
+			DiffStatsCalculator diffStatsCalculator,
+			List<RevCommit> revCommits,
+			String toolConfigId,
+			String branchName) {
+		List<DiffStats> diffStats = diffStatsCalculator.calculateDiffStats(revCommits);
+
+		List<ScmCommits> commitDetails = new ArrayList<>(revCommits.size());
+		for (int i = 0; i < revCommits.size(); i++) {
+			ScmCommits commitDetail =
+					convertRevCommitToCommit(revCommits.get(i), toolConfigId, diffStats.get(i));
+			commitDetail.setBranch(branchName);
+			commitDetails.add(commitDetail);
 		}
 
 		return commitDetails;
 	}
 
-	private void setupBranch(Git git, org.eclipse.jgit.api.LogCommand logCommand, String branchName)
-			throws IOException {
+	/** Returns the head of the branch, or the HEAD of the clone when the branch is not found */
+	private AnyObjectId resolveStart(Repository repository, String branchName)
+			throws IOException, NoHeadException {
 		if (branchName != null && !branchName.trim().isEmpty()) {
-			var ref = git.getRepository().findRef(branchName);
+			Ref ref = repository.findRef(branchName);
 			if (ref == null) {
-				ref = git.getRepository().findRef(ORIGIN_REF_PREFIX + branchName);
+				ref = repository.findRef(ORIGIN_REF_PREFIX + branchName);
 			}
 			if (ref != null) {
-				logCommand.add(ref.getObjectId());
-			} else {
-				log.warn("Could not find branch {}, using default branch", branchName);
+				return ref.getObjectId();
 			}
+			log.warn("Could not find branch {}, using default branch", branchName);
+		}
+		AnyObjectId head = repository.resolve(Constants.HEAD);
+		if (head == null) {
+			throw new NoHeadException("No HEAD exists and no branch of the clone was found");
 		}
+		return head;
 	}
 
-	private void setupDateFilter(org.eclipse.jgit.api.LogCommand logCommand, LocalDateTime since) {
+	private void setupDateFilter(RevWalk revWalk, LocalDateTime since) {
 		if (since != null) {
-			Date sinceDate = Date.from(since.atZone(ZoneId.systemDefault()).toInstant());
+			Date sinceDate = Date.from(toInstant(since));
 			RevFilter sinceFilter = CommitTimeRevFilter.after(sinceDate);
-			logCommand.setRevFilter(sinceFilter);
+			revWalk.setRevFilter(sinceFilter);
 			log.debug("Applied date filter - since: {}", since);
 		}
 	}
@@ -256,12 +538,11 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		return !commitDate.isBefore(since);
 	}
 
-	private ScmCommits convertRevCommitToCommit(Git git, RevCommit revCommit, String toolConfigId) {
+	private ScmCommits convertRevCommitToCommit(
+			RevCommit revCommit, String toolConfigId, DiffStats diffStats) {
 
 		Long commitDate = revCommit.getCommitterIdent().getWhen().toInstant().toEpochMilli();
 
-		DiffStats diffStats = calculateDiffStats(git, revCommit);
-
 		User user =
 				User.builder()
 						.displayName(revCommit.getAuthorIdent().getName())
@@ -296,94 +577,181 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		List<ScmCommits.FileChange> fileChanges = new ArrayList<>();
 	}
 
-	/** Calculate diff statistics for a commit */
-	private DiffStats calculateDiffStats(Git git, RevCommit commit) {
-		DiffStats stats = new DiffStats();
-
-		try {
-			Repository repository = git.getRepository();
-			RevCommit parentCommit = getParentCommit(repository, commit);
+	/**
+	 * Calculates the diff statistics of the commits of a scan. The commits are diffed concurrently
+	 * on a pool created once for the scan, each thread of the pool reusing its own object reader and
+	 * diff formatter for all the commits it diffs until the scan closes the calculator.
+	 */
+	private final class DiffStatsCalculator implements AutoCloseable {
+		private final Repository repository;
+		// null when the commits are diffed on the scanning thread
+		private final ForkJoinPool pool;
+		private final Map<Thread, DiffWorker> workers = new ConcurrentHashMap<>();
+
+		DiffStatsCalculator(Repository repository) {
+			this.repository = repository;
+			int threads = Math.max(gitScannerConfig.getPerformance().getJgitDiffThreads(), 1);
+			pool = threads > 1 ? new ForkJoinPool(threads) : null;
+		}
 
-			try (ObjectReader reader = repository.newObjectReader();
-					DiffFormatter diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+		/** Calculate the diff statistics of the commits, in the order of the commits */
+		List<DiffStats> calculateDiffStats(List<RevCommit> commits) {
+			DiffStats[] stats = new DiffStats[commits.size()];
 
-				diffFormatter.setRepository(repository);
-				diffFormatter.setDetectRenames(true);
+			try {
+				if (pool == null) {
+					for (int i = 0; i < commits.size(); i++) {
+						stats[i] = calculateDiffStats(commits.get(i));
+					}
+				} else {
+					pool.submit(
+									() ->
+											IntStream.range(0, commits.size())
+													.parallel()
+													.forEach(i -> stats[i] = calculateDiffStats(commits.get(i))))
+							.get();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new GitScannerException("Interrupted while calculating the diff stats", e);
+			} catch (ExecutionException e) {
+				throw new GitScannerException("Failed to calculate the diff stats", e.getCause());
+			}
 
-				List<DiffEntry> diffs =
-						calculateDiffs(reader, diffFormatter, commit, parentCommit, repository);
-				stats.filesChanged = diffs.size();
+			return Arrays.asList(stats);
+		}
 
-				for (DiffEntry diff : diffs) {
-					processFileDiff(diffFormatter, diff, stats);
-				}
+		/** Calculate diff statistics for a commit on the worker of the current thread */
+		private DiffStats calculateDiffStats(RevCommit commit) {
+			try {
+				DiffWorker worker =
+						workers.computeIfAbsent(Thread.currentThread(), thread -> new DiffWorker(repository));
+				return worker.calculateDiffStats(commit);
+			} catch (IOException e) {
+				log.warn(
+						"IO error calculating diff stats for commit {}: {}", commit.getName(), e.getMessage());
+			} catch (Exception e) {
+				log.warn(
+						"Unexpected error calculating diff stats for commit {}: {}",
+						commit.getName(),
+						e.getMessage());
 			}
 
-		} catch (IOException e) {
-			log.warn(
-					"IO error calculating diff stats for commit {}: {}", commit.getName(), e.getMessage());
-		} catch (Exception e) {
-			log.warn(
-					"Unexpected error calculating diff stats for commit {}: {}",
-					commit.getName(),
-					e.getMessage());
+			return new DiffStats();
 		}
 
-		return stats;
+		@Override
+		public void close() {
+			if (pool != null) {
+				pool.shutdown();
+			}
+			workers.values().forEach(DiffWorker::close);
+		}
 	}
 
-	private RevCommit getParentCommit(Repository repository, RevCommit commit) throws IOException {
-		if (commit.getParentCount() > 0) {
-			RevCommit parentCommit = commit.getParent(0);
-			try (RevWalk revWalk = new RevWalk(repository)) {
-				revWalk.parseCommit(parentCommit);
-				return parentCommit;
+	/**
+	 * Diffs commits against their first parent on a single thread, JGit object readers not being
+	 * thread safe. The edits of each file are computed from the blobs without formatting a patch.
+	 */
+	private final class DiffWorker implements AutoCloseable {
+		private final ObjectReader reader;
+		private final DiffFormatter diffFormatter;
+		private final DiffAlgorithm diffAlgorithm =
+				DiffAlgorithm.getAlgorithm(DiffAlgorithm.SupportedAlgorithm.HISTOGRAM);
+		private final boolean numstatOnly;
+
+		DiffWorker(Repository repository) {
+			GitScannerConfig.Performance performance = gitScannerConfig.getPerformance();
+			reader = repository.newObjectReader();
+			diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+			try {
+				diffFormatter.setReader(reader, repository.getConfig());
+				diffFormatter.setDetectRenames(performance.isJgitDetectRenames());
+			} catch (RuntimeException e) {
+				close();
+				throw e;
 			}
+			numstatOnly = performance.isJgitNumstatOnly();
 		}
-		return null;
-	}
 
-	private List<DiffEntry> calculateDiffs(
-			ObjectReader reader,
-			DiffFormatter diffFormatter,
-			RevCommit commit,
-			RevCommit parentCommit,
-			Repository repository)
-			throws IOException {
-		CanonicalTreeParser oldTreeIter = new CanonicalTreeParser();
-		CanonicalTreeParser newTreeIter = new CanonicalTreeParser();
+		DiffStats calculateDiffStats(RevCommit commit) throws IOException {
+			DiffStats stats = new DiffStats();
 
-		if (parentCommit != null) {
-			oldTreeIter.reset(reader, parentCommit.getTree());
-		} else {
-			// For initial commit, use empty tree
-			oldTreeIter.reset(reader, repository.resolve(EMPTY_TREE_HASH));
+			// For initial commit, the tree is compared to the empty tree
+			AnyObjectId parentTree = commit.getParentCount() > 0 ? getTree(commit.getParent(0)) : null;
+			List<DiffEntry> diffs = diffFormatter.scan(parentTree, commit.getTree());
+			stats.filesChanged = diffs.size();
+
+			for (DiffEntry diff : diffs) {
+				processFileDiff(diff, stats);
+			}
+
+			return stats;
 		}
-		newTreeIter.reset(reader, commit.getTree());
 
-		return diffFormatter.scan(oldTreeIter, newTreeIter);
-	}
+		/** Reads the tree id from the raw commit when the walk did not parse the parent */
+		private AnyObjectId getTree(RevCommit commit) throws IOException {
+			if (commit.getTree() != null) {
+				return commit.getTree();
+			}
+			byte[] raw = reader.open(commit, Constants.OBJ_COMMIT).getCachedBytes();
+			return org.eclipse.jgit.lib.ObjectId.fromString(raw, TREE_ID_OFFSET);
+		}
 
-	private void processFileDiff(DiffFormatter diffFormatter, DiffEntry diff, DiffStats stats) {
-		String fileName = getFileName(diff);
-		FileChangeStats fileStats = new FileChangeStats();
+		private void processFileDiff(DiffEntry diff, DiffStats stats) {
+			String fileName = getFileName(diff);
+			FileChangeStats fileStats = new FileChangeStats(!numstatOnly);
 
-		try {
-			FileHeader fileHeader = diffFormatter.toFileHeader(diff);
-			processFileHeader(fileHeader, fileStats);
+			try {
+				for (Edit edit : calculateEdits(diff)) {
+					processEdit(edit, fileStats);
+				}
+
+				if (fileStats.hasChanges()) {
+					ScmCommits.FileChange fileChange = createFileChange(fileName, diff, fileStats);
+					stats.fileChanges.add(fileChange);
+				}
+
+				// Update total stats
+				stats.addedLines += fileStats.addedLines;
+				stats.removedLines += fileStats.removedLines;
+				stats.changedLines += fileStats.changedLines;
+
+			} catch (IOException e) {
+				log.warn("Could not analyze diff for file {}: {}", fileName, e.getMessage());
+			}
+		}
 
-			if (fileStats.hasChanges()) {
-				ScmCommits.FileChange fileChange = createFileChange(fileName, diff, fileStats);
-				stats.fileChanges.add(fileChange);
+		/** Submodules, binary and large files have no line edits */
+		private EditList calculateEdits(DiffEntry diff) throws IOException {
+			if (diff.getOldMode() == FileMode.GITLINK || diff.getNewMode() == FileMode.GITLINK) {
+				return new EditList();
+			}
+			RawText oldText = readText(diff, DiffEntry.Side.OLD);
+			RawText newText = oldText != null ? readText(diff, DiffEntry.Side.NEW) : null;
+			if (oldText == null || newText == null) {
+				return new EditList();
 			}
+			return diffAlgorithm.diff(RawTextComparator.DEFAULT, oldText, newText);
+		}
 
-			// Update total stats
-			stats.addedLines += fileStats.addedLines;
-			stats.removedLines += fileStats.removedLines;
-			stats.changedLines += fileStats.changedLines;
+		/** Returns null for the binary and large files */
+		private RawText readText(DiffEntry diff, DiffEntry.Side side) throws IOException {
+			if (diff.getMode(side) == FileMode.MISSING) {
+				return RawText.EMPTY_TEXT;
+			}
+			ObjectLoader loader = reader.open(diff.getId(side).toObjectId(), Constants.OBJ_BLOB);
+			if (loader.getSize() > BINARY_FILE_THRESHOLD) {
+				return null;
+			}
+			byte[] content = loader.getCachedBytes();
+			return RawText.isBinary(content) ? null : new RawText(content);
+		}
 
-		} catch (IOException e) {
-			log.warn("Could not analyze diff for file {}: {}", fileName, e.getMessage());
+		@Override
+		public void close() {
+			diffFormatter.close();
+			reader.close();
 		}
 	}
 
@@ -391,18 +759,24 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		int addedLines = 0;
 		int removedLines = 0;
 		int changedLines = 0;
-		List<Integer> changedLineNumbers = new ArrayList<>();
+		// null when only the line counts are recorded
+		final List<Integer> changedLineNumbers;
+
+		FileChangeStats(boolean recordLineNumbers) {
+			changedLineNumbers = recordLineNumbers ? new ArrayList<>() : null;
+		}
 
 		boolean hasChanges() {
-			return !changedLineNumbers.isEmpty() || addedLines > 0 || removedLines > 0;
+			return addedLines > 0
+					|| removedLines > 0
+					|| (changedLineNumbers != null && !changedLineNumbers.isEmpty());
 		}
-	}
 
-	private void processFileHeader(FileHeader fileHeader, FileChangeStats fileStats) {
-		for (HunkHeader hunk : fileHeader.getHunks()) {
-			EditList editList = hunk.toEditList();
-			for (Edit edit : editList) {
-				processEdit(edit, fileStats);
+		void addChangedLines(int begin, int end) {
+			if (changedLineNumbers != null) {
+				for (int i = begin; i < end; i++) {
+					changedLineNumbers.add(i + LINE_NUMBER_OFFSET);
+				}
 			}
 		}
 	}
@@ -427,19 +801,13 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 	private void processInsertEdit(Edit edit, FileChangeStats fileStats) {
 		int insertLines = edit.getEndB() - edit.getBeginB();
 		fileStats.addedLines += insertLines;
-
-		for (int i = edit.getBeginB(); i < edit.getEndB(); i++) {
-			fileStats.changedLineNumbers.add(i + LINE_NUMBER_OFFSET);
-		}
+		fileStats.addChangedLines(edit.getBeginB(), edit.getEndB());
 	}
 
 	private void processDeleteEdit(Edit edit, FileChangeStats fileStats) {
 		int deleteLines = edit.getEndA() - edit.getBeginA();
 		fileStats.removedLines += deleteLines;
-
-		for (int i = edit.getBeginA(); i < edit.getEndA(); i++) {
-			fileStats.changedLineNumbers.add(i + LINE_NUMBER_OFFSET);
-		}
+		fileStats.addChangedLines(edit.getBeginA(), edit.getEndA());
 	}
 
 	private void processReplaceEdit(Edit edit, FileChangeStats fileStats) {
@@ -450,10 +818,7 @@ public class JGitCommitDataFetchStrategy implements CommitDataFetchStrategy {
 		fileStats.removedLines += oldLines;
 		fileStats.addedLines += newLines;
 		fileStats.changedLines += minLines;
-
-		for (int i = edit.getBeginB(); i < edit.getEndB(); i++) {
-			fileStats.changedLineNumbers.add(i + LINE_NUMBER_OFFSET);
-		}
+		fileStats.addChangedLines(edit.getBeginB(), edit.getEndB());
 	}
 
 	private ScmCommits.FileChange createFileChange(
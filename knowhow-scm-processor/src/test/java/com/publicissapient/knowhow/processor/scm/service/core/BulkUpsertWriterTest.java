@@ -0,0 +1,223 @@
+/*
+ *  Copyright 2024 <Sapient Corporation>
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and limitations under the
+ *  License.
+ */
+
+package com.publicissapient.knowhow.processor.scm.service.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.BulkUpsertResult;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.Upsert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkUpsertWriterTest {
+
+	private static final int DUPLICATE_KEY = 11000;
+
+	@Mock private MongoTemplate mongoTemplate;
+
+	@Mock private BulkOperations firstBulk;
+
+	@Mock private BulkOperations secondBulk;
+
+	private GitScannerConfig gitScannerConfig;
+	private SimpleMeterRegistry meterRegistry;
+	private BulkUpsertWriter bulkUpsertWriter;
+
+	@BeforeEach
+	void setUp() {
+		gitScannerConfig = new GitScannerConfig();
+		meterRegistry = new SimpleMeterRegistry();
+		MappingMongoConverter converter =
+				new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+		when(mongoTemplate.getConverter()).thenReturn(converter);
+		when(mongoTemplate.getCollectionName(TestDocument.class)).thenReturn("test_document");
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestDocument.class))
+				.thenReturn(firstBulk, secondBulk);
+		bulkUpsertWriter = new BulkUpsertWriter(mongoTemplate, gitScannerConfig, meterRegistry);
+	}
+
+	@Test
+	void testUpsert_BeyondBatchSize_WritesOneBulkPerBatch() {
+		gitScannerConfig.getStorage().setBatchInsertSize(2);
+		BulkWriteResult result = result(1, 1, 0);
+		when(firstBulk.execute()).thenReturn(result);
+		when(secondBulk.execute()).thenReturn(result);
+		List<Upsert> upserts = List.of(upsert("a"), upsert("b"), upsert("c"));
+
+		BulkUpsertResult total = bulkUpsertWriter.upsert(TestDocument.class, upserts);
+
+		assertEquals(new BulkUpsertResult(2, 2, 0, 0), total);
+		verify(firstBulk, times(2)).upsert(any(Query.class), any(Update.class));
+		verify(secondBulk).upsert(upserts.get(2).query(), upserts.get(2).update());
+		assertEquals(
+				2,
+				meterRegistry
+						.get("scm.bulk.upsert")
+						.tag("collection", "test_document")
+						.timer()
+						.count());
+	}
+
+	@Test
+	void testUpsert_DuplicateKeyError_ExecutesLostUpsertsAgain() {
+		List<Upsert> upserts = List.of(upsert("a"), upsert("b"));
+		BulkOperationException raced = mock(BulkOperationException.class);
+		when(raced.getErrors())
+				.thenReturn(List.of(new BulkWriteError(DUPLICATE_KEY, "E11000", new BsonDocument(), 1)));
+		BulkWriteResult partial = result(0, 0, 1);
+		when(raced.getResult()).thenReturn(partial);
+		when(firstBulk.execute()).thenThrow(raced);
+		BulkWriteResult retried = result(1, 1, 0);
+		when(secondBulk.execute()).thenReturn(retried);
+
+		BulkUpsertResult total = bulkUpsertWriter.upsert(TestDocument.class, upserts);
+
+		assertEquals(new BulkUpsertResult(1, 1, 1, 1), total);
+		verify(secondBulk).upsert(upserts.get(1).query(), upserts.get(1).update());
+		verify(secondBulk, never()).upsert(upserts.get(0).query(), upserts.get(0).update());
+	}
+
+	@Test
+	void testUpsert_OtherWriteError_Throws() {
+		BulkOperationException failed = mock(BulkOperationException.class);
+		when(failed.getErrors())
+				.thenReturn(List.of(new BulkWriteError(121, "validation", new BsonDocument(), 0)));
+		when(firstBulk.execute()).thenThrow(failed);
+
+		BulkOperationException thrown =
+				assertThrows(
+						BulkOperationException.class,
+						() -> bulkUpsertWriter.upsert(TestDocument.class, List.of(upsert("a"))));
+
+		assertSame(failed, thrown);
+		verify(secondBulk, never()).execute();
+	}
+
+	@Test
+	void testUpsert_NoUpserts_DoesNotWrite() {
+		BulkUpsertResult total = bulkUpsertWriter.upsert(TestDocument.class, List.of());
+
+		assertEquals(new BulkUpsertResult(0, 0, 0, 0), total);
+		verify(mongoTemplate, never()).bulkOps(BulkOperations.BulkMode.UNORDERED, TestDocument.class);
+	}
+
+	@Test
+	void testToDocument_LeavesOutIdAndNullFields() {
+		TestDocument document = new TestDocument();
+		document.id = "1";
+		document.key = "a";
+		document.isClosed = true;
+
+		Document converted = bulkUpsertWriter.toDocument(document);
+
+		assertFalse(converted.containsKey("_id"));
+		assertFalse(converted.containsKey("description"));
+		assertEquals("a", converted.get("key"));
+		assertEquals(true, converted.get("done"));
+	}
+
+	@Test
+	void testFieldName_ResolvesBooleanFlagsFromTheirGetters() {
+		assertEquals("done", bulkUpsertWriter.fieldName(TestDocument.class, "isClosed"));
+		assertEquals("open", bulkUpsertWriter.fieldName(TestDocument.class, "isOpen"));
+		assertEquals("key", bulkUpsertWriter.fieldName(TestDocument.class, "getKey"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> bulkUpsertWriter.fieldName(TestDocument.class, "getMissing"));
+	}
+
+	private static Upsert upsert(String key) {
+		return new Upsert(
+				new Query(Criteria.where("key").is(key)), new Update().set("description", key));
+	}
+
+	private static BulkWriteResult result(int matched, int modified, int inserted) {
+		BulkWriteResult result = mock(BulkWriteResult.class);
+		when(result.getMatchedCount()).thenReturn(matched);
+		when(result.getModifiedCount()).thenReturn(modified);
+		List<BulkWriteUpsert> upserts =
+				IntStream.range(0, inserted)
+						.mapToObj(index -> new BulkWriteUpsert(index, new BsonObjectId()))
+						.toList();
+		when(result.getUpserts()).thenReturn(upserts);
+		return result;
+	}
+
+	static class TestDocument {
+		@Id private String id;
+		private String key;
+		private String description;
+
+		@Field("done")
+		private boolean isClosed;
+
+		private boolean open;
+
+		public String getKey() {
+			return key;
+		}
+
+		public boolean isClosed() {
+			return isClosed;
+		}
+
+		public boolean isOpen() {
+			return open;
+		}
+	}
+}
@@ -24,12 +24,15 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
@@ -37,7 +40,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.BulkUpsertResult;
+import com.publicissapient.knowhow.processor.scm.service.core.BulkUpsertWriter.Upsert;
 import com.publicissapient.kpidashboard.common.model.scm.ScmBranch;
 import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
 import com.publicissapient.kpidashboard.common.model.scm.ScmMergeRequests;
@@ -62,6 +68,10 @@ class PersistenceServiceTest {
 
 	@Mock private ScmConnectionTraceLogRepository scmConnectionTraceLogRepository;
 
+	@Mock private BulkUpsertWriter bulkUpsertWriter;
+
+	@Spy private GitScannerConfig gitScannerConfig = new GitScannerConfig();
+
 	@InjectMocks private PersistenceService persistenceService;
 
 	private ObjectId processorItemId;
@@ -923,4 +933,115 @@ class PersistenceServiceTest {
 		// Only one save — duplicate merged into first before DB lookup
 		verify(scmReposRepository, times(1)).save(any());
 	}
+
+	@Test
+	void testSaveCommits_BulkUpsertEnabled_UpsertsByProcessorItemIdAndSha()
+			throws DataProcessingException {
+		gitScannerConfig.getStorage().setBulkUpsertEnabled(true);
+		when(bulkUpsertWriter.toDocument(testCommit))
+				.thenReturn(new Document("sha", "abc123").append("commitMessage", "Test commit"));
+		when(bulkUpsertWriter.upsert(eq(ScmCommits.class), anyList()))
+				.thenReturn(new BulkUpsertResult(0, 0, 1, 0));
+
+		persistenceService.saveCommits(List.of(testCommit, testCommit));
+
+		List<Upsert> upserts = captureUpserts(ScmCommits.class);
+		assertEquals(1, upserts.size());
+		assertEquals(
+				new Document("processorItemId", processorItemId).append("sha", "abc123"),
+				upserts.get(0).query().getQueryObject());
+		Document set = updateOperation(upserts.get(0), "$set");
+		assertEquals("Test commit", set.get("commitMessage"));
+		assertNotNull(set.get("updatedAt"));
+		assertNotNull(updateOperation(upserts.get(0), "$setOnInsert").get("createdAt"));
+		verifyNoInteractions(commitRepository);
+	}
+
+	@Test
+	void testSaveCommits_BulkUpsertFails_ThrowsDataProcessingException() {
+		gitScannerConfig.getStorage().setBulkUpsertEnabled(true);
+		when(bulkUpsertWriter.toDocument(testCommit)).thenReturn(new Document("sha", "abc123"));
+		when(bulkUpsertWriter.upsert(eq(ScmCommits.class), anyList()))
+				.thenThrow(new RuntimeException("Database error"));
+
+		DataProcessingException exception =
+				assertThrows(
+						DataProcessingException.class,
+						() -> persistenceService.saveCommits(List.of(testCommit)));
+		assertTrue(exception.getMessage().contains("Failed to batch save commits"));
+	}
+
+	@Test
+	void testSaveMergeRequests_BulkUpsertEnabled_MergedOnlySetsClosed()
+			throws DataProcessingException {
+		gitScannerConfig.getStorage().setBulkUpsertEnabled(true);
+		testMergeRequest.setState("MERGED");
+		when(bulkUpsertWriter.fieldName(ScmMergeRequests.class, "isClosed")).thenReturn("closed");
+		when(bulkUpsertWriter.fieldName(ScmMergeRequests.class, "isOpen")).thenReturn("open");
+		when(bulkUpsertWriter.toDocument(testMergeRequest))
+				.thenReturn(
+						new Document("externalId", "MR-123")
+								.append("state", "MERGED")
+								.append("closed", false)
+								.append("open", false));
+		when(bulkUpsertWriter.upsert(eq(ScmMergeRequests.class), anyList()))
+				.thenReturn(new BulkUpsertResult(1, 1, 0, 0));
+
+		persistenceService.saveMergeRequests(List.of(testMergeRequest));
+
+		List<Upsert> upserts = captureUpserts(ScmMergeRequests.class);
+		assertEquals(
+				new Document("processorItemId", processorItemId).append("externalId", "MR-123"),
+				upserts.get(0).query().getQueryObject());
+		Document set = updateOperation(upserts.get(0), "$set");
+		assertEquals("MERGED", set.get("state"));
+		assertEquals(true, set.get("closed"));
+		assertFalse(set.containsKey("open"));
+		assertEquals(false, updateOperation(upserts.get(0), "$setOnInsert").get("open"));
+		verifyNoInteractions(mergeRequestRepository);
+	}
+
+	@Test
+	void testSaveUsers_BulkUpsertEnabled_InsertsMissingUsersOnly() throws DataProcessingException {
+		gitScannerConfig.getStorage().setBulkUpsertEnabled(true);
+		User duplicate = User.builder().username("testuser").processorItemId(processorItemId).build();
+		User stored = User.builder().username("testuser").processorItemId(processorItemId).build();
+		stored.setId(new ObjectId());
+		when(bulkUpsertWriter.toDocument(any(User.class)))
+				.thenReturn(new Document("username", "testuser"));
+		when(bulkUpsertWriter.find(eq(User.class), anyList())).thenReturn(List.of(stored));
+
+		List<User> result = persistenceService.saveUsers(List.of(testUser, duplicate));
+
+		assertEquals(List.of(stored), result);
+		List<Upsert> upserts = captureUpserts(User.class);
+		assertEquals(1, upserts.size());
+		assertNull(upserts.get(0).update().getUpdateObject().get("$set"));
+		Document setOnInsert = updateOperation(upserts.get(0), "$setOnInsert");
+		assertEquals("testuser", setOnInsert.get("username"));
+		assertNotNull(setOnInsert.get("createdAt"));
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	void testSaveUsers_BulkUpsertDisabled_SavesEachUser() throws DataProcessingException {
+		when(userRepository.findByProcessorItemIdAndUsername(processorItemId, "testuser"))
+				.thenReturn(Optional.of(testUser));
+
+		List<User> result = persistenceService.saveUsers(List.of(testUser));
+
+		assertEquals(List.of(testUser), result);
+		verifyNoInteractions(bulkUpsertWriter);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Upsert> captureUpserts(Class<?> type) {
+		ArgumentCaptor<List<Upsert>> captor = ArgumentCaptor.forClass(List.class);
+		verify(bulkUpsertWriter).upsert(eq(type), captor.capture());
+		return captor.getValue();
+	}
+
+	private static Document updateOperation(Upsert upsert, String operator) {
+		return (Document) upsert.update().getUpdateObject().get(operator);
+	}
 }
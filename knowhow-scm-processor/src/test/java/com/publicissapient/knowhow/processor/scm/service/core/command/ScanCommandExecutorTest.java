@@ -21,18 +21,21 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.publicissapient.knowhow.processor.scm.dto.ScanRequest;
 import com.publicissapient.knowhow.processor.scm.dto.ScanResult;
+import com.publicissapient.knowhow.processor.scm.exception.CommitPersistenceException;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
 import com.publicissapient.knowhow.processor.scm.service.core.PersistenceService;
 import com.publicissapient.knowhow.processor.scm.service.core.fetcher.CommitFetcher;
@@ -95,10 +98,9 @@ public class ScanCommandExecutorTest {
 	@Test
 	void testExecute_Success_WithCommitsAndMergeRequests() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
+		stubCommitPages(scanRequest, mockCommits);
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(mockMergeRequests);
-		when(userProcessor.processUsers(mockCommits, mockMergeRequests, scanRequest))
-				.thenReturn(mockUserResult);
+		stubUserProcessing(mockCommits, mockMergeRequests);
 
 		// Act
 		ScanResult result = scanCommandExecutor.execute(scanCommand);
@@ -116,9 +118,11 @@ public class ScanCommandExecutorTest {
 		assertTrue(result.getDurationMs() >= 0);
 
 		// Verify interactions
-		verify(commitFetcher).fetchCommits(scanRequest);
+		verify(commitFetcher).fetchCommits(eq(scanRequest), any());
 		verify(mergeRequestFetcher).fetchMergeRequests(scanRequest);
-		verify(userProcessor).processUsers(mockCommits, mockMergeRequests, scanRequest);
+		verify(userProcessor).processUsers(eq(mockCommits), eq(List.of()), eq(scanRequest), anyMap());
+		verify(userProcessor)
+				.processUsers(eq(List.of()), eq(mockMergeRequests), eq(scanRequest), anyMap());
 		verify(dataReferenceUpdater)
 				.updateCommitsWithUserReferences(mockCommits, mockUserResult.getUserMap(), "test-repo");
 		verify(dataReferenceUpdater)
@@ -135,12 +139,48 @@ public class ScanCommandExecutorTest {
 		assertEquals(2, savedCommits.size());
 	}
 
+	@Test
+	void testExecute_MultipleCommitPages_PersistsEachPageWithSharedUsers() throws Exception {
+		// Arrange
+		List<ScmCommits> firstPage = List.of(createMockCommit("commit1"));
+		List<ScmCommits> secondPage = List.of(createMockCommit("commit2"));
+		doAnswer(
+						invocation -> {
+							Consumer<List<ScmCommits>> pageConsumer = invocation.getArgument(1);
+							pageConsumer.accept(firstPage);
+							pageConsumer.accept(secondPage);
+							return null;
+						})
+				.when(commitFetcher)
+				.fetchCommits(eq(scanRequest), any());
+		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
+				.thenReturn(mockUserResult);
+
+		// Act
+		ScanResult result = scanCommandExecutor.execute(scanCommand);
+
+		// Assert
+		assertEquals(2, result.getCommitsFound());
+		InOrder inOrder = inOrder(persistenceService);
+		inOrder.verify(persistenceService).saveCommits(firstPage);
+		inOrder.verify(persistenceService).saveCommits(secondPage);
+		inOrder.verify(persistenceService).saveRepositoryData(anyList());
+
+		// the users resolved for a page are reused by the next pages of the scan
+		ArgumentCaptor<Map<String, User>> usersCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(userProcessor, times(3))
+				.processUsers(anyList(), anyList(), eq(scanRequest), usersCaptor.capture());
+		assertSame(usersCaptor.getAllValues().get(0), usersCaptor.getAllValues().get(1));
+		assertSame(usersCaptor.getAllValues().get(0), usersCaptor.getAllValues().get(2));
+	}
+
 	@Test
 	void testExecute_Success_WithEmptyData() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(scanRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -164,7 +204,7 @@ public class ScanCommandExecutorTest {
 	void testExecute_Failure_CommitFetcherException() throws Exception {
 		// Arrange
 		RuntimeException fetchException = new RuntimeException("Failed to fetch commits");
-		when(commitFetcher.fetchCommits(scanRequest)).thenThrow(fetchException);
+		doThrow(fetchException).when(commitFetcher).fetchCommits(eq(scanRequest), any());
 
 		// Act & Assert
 		DataProcessingException exception =
@@ -175,7 +215,7 @@ public class ScanCommandExecutorTest {
 
 		// Verify no further processing
 		verify(mergeRequestFetcher, never()).fetchMergeRequests(any());
-		verify(userProcessor, never()).processUsers(any(), any(), any());
+		verify(userProcessor, never()).processUsers(any(), any(), any(), any());
 		verify(persistenceService, never()).saveCommits(any());
 		verify(persistenceService, never()).saveMergeRequests(any());
 	}
@@ -183,7 +223,9 @@ public class ScanCommandExecutorTest {
 	@Test
 	void testExecute_Failure_MergeRequestFetcherException() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
+		stubCommitPages(scanRequest, mockCommits);
+		when(userProcessor.processUsers(eq(mockCommits), eq(List.of()), eq(scanRequest), anyMap()))
+				.thenReturn(mockUserResult);
 		RuntimeException fetchException = new RuntimeException("Failed to fetch merge requests");
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenThrow(fetchException);
 
@@ -194,18 +236,18 @@ public class ScanCommandExecutorTest {
 		assertEquals("Repository scan failed", exception.getMessage());
 		assertEquals(fetchException, exception.getCause());
 
-		// Verify no persistence
-		verify(persistenceService, never()).saveCommits(any());
+		// The commits are persisted as they are fetched, the merge requests and repository are not
+		verify(persistenceService).saveCommits(mockCommits);
 		verify(persistenceService, never()).saveMergeRequests(any());
+		verify(persistenceService, never()).saveRepositoryData(any());
 	}
 
 	@Test
 	void testExecute_Failure_UserProcessorException() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
-		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(mockMergeRequests);
+		stubCommitPages(scanRequest, mockCommits);
 		RuntimeException processingException = new RuntimeException("User processing failed");
-		when(userProcessor.processUsers(mockCommits, mockMergeRequests, scanRequest))
+		when(userProcessor.processUsers(eq(mockCommits), eq(List.of()), eq(scanRequest), anyMap()))
 				.thenThrow(processingException);
 
 		// Act & Assert
@@ -213,15 +255,15 @@ public class ScanCommandExecutorTest {
 				assertThrows(DataProcessingException.class, () -> scanCommandExecutor.execute(scanCommand));
 
 		assertEquals("Repository scan failed", exception.getMessage());
-		assertEquals(processingException, exception.getCause());
+		assertInstanceOf(CommitPersistenceException.class, exception.getCause());
+		assertEquals(processingException, exception.getCause().getCause());
 	}
 
 	@Test
 	void testExecute_Failure_DataReferenceUpdaterException() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
-		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(mockMergeRequests);
-		when(userProcessor.processUsers(mockCommits, mockMergeRequests, scanRequest))
+		stubCommitPages(scanRequest, mockCommits);
+		when(userProcessor.processUsers(eq(mockCommits), eq(List.of()), eq(scanRequest), anyMap()))
 				.thenReturn(mockUserResult);
 		RuntimeException updateException = new RuntimeException("Reference update failed");
 		doThrow(updateException)
@@ -233,15 +275,15 @@ public class ScanCommandExecutorTest {
 				assertThrows(DataProcessingException.class, () -> scanCommandExecutor.execute(scanCommand));
 
 		assertEquals("Repository scan failed", exception.getMessage());
-		assertEquals(updateException, exception.getCause());
+		assertInstanceOf(CommitPersistenceException.class, exception.getCause());
+		assertEquals(updateException, exception.getCause().getCause());
 	}
 
 	@Test
 	void testExecute_Failure_PersistenceException() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
-		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(mockMergeRequests);
-		when(userProcessor.processUsers(mockCommits, mockMergeRequests, scanRequest))
+		stubCommitPages(scanRequest, mockCommits);
+		when(userProcessor.processUsers(eq(mockCommits), eq(List.of()), eq(scanRequest), anyMap()))
 				.thenReturn(mockUserResult);
 		RuntimeException persistException = new RuntimeException("Persistence failed");
 		doThrow(persistException).when(persistenceService).saveCommits(any());
@@ -251,15 +293,16 @@ public class ScanCommandExecutorTest {
 				assertThrows(DataProcessingException.class, () -> scanCommandExecutor.execute(scanCommand));
 
 		assertEquals("Repository scan failed", exception.getMessage());
-		assertEquals(persistException, exception.getCause());
+		assertInstanceOf(CommitPersistenceException.class, exception.getCause());
+		assertEquals(persistException, exception.getCause().getCause());
 	}
 
 	@Test
 	void testPersistData_WithCommits() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(mockCommits);
+		stubCommitPages(scanRequest, mockCommits);
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -277,9 +320,9 @@ public class ScanCommandExecutorTest {
 	@Test
 	void testPersistData_WithMergeRequests() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(scanRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(mockMergeRequests);
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -295,9 +338,9 @@ public class ScanCommandExecutorTest {
 	@Test
 	void testPersistData_WithEmptyLists() throws Exception {
 		// Arrange
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(scanRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -312,9 +355,9 @@ public class ScanCommandExecutorTest {
 
 	@Test
 	void testPersistData_AlwaysUpsertScmRepository() throws Exception {
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(scanRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -330,9 +373,9 @@ public class ScanCommandExecutorTest {
 
 	@Test
 	void testPersistData_ScmRepositoryIncludesBranch() throws Exception {
-		when(commitFetcher.fetchCommits(scanRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(scanRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(scanRequest)).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(scanRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -356,10 +399,10 @@ public class ScanCommandExecutorTest {
 						.build();
 		ScanCommand noBranchCommand = new ScanCommand(noBranchRequest);
 
-		when(commitFetcher.fetchCommits(noBranchRequest)).thenReturn(Collections.emptyList());
+		stubCommitPages(noBranchRequest, Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(noBranchRequest))
 				.thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), eq(noBranchRequest)))
+		when(userProcessor.processUsers(anyList(), anyList(), eq(noBranchRequest), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -391,9 +434,8 @@ public class ScanCommandExecutorTest {
 						.toolConfigId(new ObjectId())
 						.build();
 
-		when(commitFetcher.fetchCommits(any())).thenReturn(Collections.emptyList());
 		when(mergeRequestFetcher.fetchMergeRequests(any())).thenReturn(Collections.emptyList());
-		when(userProcessor.processUsers(anyList(), anyList(), any()))
+		when(userProcessor.processUsers(anyList(), anyList(), any(), anyMap()))
 				.thenReturn(
 						new UserProcessor.UserProcessingResult(Collections.emptyMap(), Collections.emptySet()));
 
@@ -412,6 +454,26 @@ public class ScanCommandExecutorTest {
 	}
 
 	// Helper methods
+	private void stubCommitPages(ScanRequest request, List<ScmCommits> commits) {
+		doAnswer(
+						invocation -> {
+							if (!commits.isEmpty()) {
+								invocation.<Consumer<List<ScmCommits>>>getArgument(1).accept(commits);
+							}
+							return null;
+						})
+				.when(commitFetcher)
+				.fetchCommits(eq(request), any());
+	}
+
+	private void stubUserProcessing(
+			List<ScmCommits> commits, List<ScmMergeRequests> mergeRequests) {
+		when(userProcessor.processUsers(eq(commits), eq(List.of()), eq(scanRequest), anyMap()))
+				.thenReturn(mockUserResult);
+		when(userProcessor.processUsers(eq(List.of()), eq(mergeRequests), eq(scanRequest), anyMap()))
+				.thenReturn(mockUserResult);
+	}
+
 	private ScmCommits createMockCommit(String id) {
 		ScmCommits commit = new ScmCommits();
 		commit.setRevisionNumber(id);
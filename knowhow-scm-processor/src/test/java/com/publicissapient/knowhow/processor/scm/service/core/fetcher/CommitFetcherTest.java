@@ -3,14 +3,19 @@ package com.publicissapient.knowhow.processor.scm.service.core.fetcher;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.bson.types.ObjectId;
 import org.junit.Before;
@@ -43,6 +48,7 @@ public class CommitFetcherTest {
 	public void setUp() {
 		commitFetcher = new CommitFetcher(strategySelector, gitUrlParser);
 		ReflectionTestUtils.setField(commitFetcher, "firstScanFromMonths", 6);
+		ReflectionTestUtils.setField(commitFetcher, "commitPageSize", 500);
 	}
 
 	@Test
@@ -55,16 +61,10 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
-						anyString(),
-						anyString(),
-						any(GitUrlInfo.class),
-						anyString(),
-						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenReturn(expectedCommits);
+		stubStrategyPages(expectedCommits);
 
-		List<ScmCommits> result = commitFetcher.fetchCommits(scanRequest);
+		List<ScmCommits> result = new ArrayList<>();
+		commitFetcher.fetchCommits(scanRequest, result::addAll);
 
 		assertNotNull(result);
 		assertEquals(expectedCommits, result);
@@ -76,7 +76,9 @@ public class CommitFetcherTest {
 						eq(urlInfo),
 						anyString(),
 						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class));
+						any(LocalDateTime.class),
+						eq(500),
+						any());
 	}
 
 	@Test(expected = DataProcessingException.class)
@@ -85,7 +87,7 @@ public class CommitFetcherTest {
 
 		when(strategySelector.selectStrategy(scanRequest)).thenReturn(null);
 
-		commitFetcher.fetchCommits(scanRequest);
+		commitFetcher.fetchCommits(scanRequest, commits -> {});
 	}
 
 	@Test(expected = DataProcessingException.class)
@@ -97,7 +99,7 @@ public class CommitFetcherTest {
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(null);
 
-		commitFetcher.fetchCommits(scanRequest);
+		commitFetcher.fetchCommits(scanRequest, commits -> {});
 	}
 
 	@Test
@@ -111,16 +113,10 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
-						anyString(),
-						anyString(),
-						any(GitUrlInfo.class),
-						anyString(),
-						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenReturn(expectedCommits);
+		stubStrategyPages(expectedCommits);
 
-		List<ScmCommits> result = commitFetcher.fetchCommits(scanRequest);
+		List<ScmCommits> result = new ArrayList<>();
+		commitFetcher.fetchCommits(scanRequest, result::addAll);
 
 		assertNotNull(result);
 		assertEquals(expectedCommits, result);
@@ -137,16 +133,10 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
-						anyString(),
-						anyString(),
-						any(GitUrlInfo.class),
-						anyString(),
-						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenReturn(expectedCommits);
+		stubStrategyPages(expectedCommits);
 
-		List<ScmCommits> result = commitFetcher.fetchCommits(scanRequest);
+		List<ScmCommits> result = new ArrayList<>();
+		commitFetcher.fetchCommits(scanRequest, result::addAll);
 
 		assertNotNull(result);
 		assertEquals(expectedCommits, result);
@@ -162,19 +152,31 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
+		stubStrategyPages(expectedCommits);
+
+		List<ScmCommits> result = new ArrayList<>();
+		commitFetcher.fetchCommits(scanRequest, result::addAll);
+
+		assertNotNull(result);
+		assertEquals(expectedCommits, result);
+	}
+
+	private void stubStrategyPages(List<ScmCommits> commits) {
+		doAnswer(
+						invocation -> {
+							invocation.<Consumer<List<ScmCommits>>>getArgument(7).accept(commits);
+							return null;
+						})
+				.when(strategy)
+				.fetchCommits(
 						anyString(),
 						anyString(),
 						any(GitUrlInfo.class),
 						anyString(),
 						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenReturn(expectedCommits);
-
-		List<ScmCommits> result = commitFetcher.fetchCommits(scanRequest);
-
-		assertNotNull(result);
-		assertEquals(expectedCommits, result);
+						any(LocalDateTime.class),
+						anyInt(),
+						any());
 	}
 
 	private ScanRequest createScanRequest(Long lastScanFrom, LocalDateTime since) {
@@ -206,16 +208,10 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
-						anyString(),
-						anyString(),
-						any(GitUrlInfo.class),
-						anyString(),
-						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenReturn(emptyCommits);
+		stubStrategyPages(emptyCommits);
 
-		List<ScmCommits> result = commitFetcher.fetchCommits(scanRequest);
+		List<ScmCommits> result = new ArrayList<>();
+		commitFetcher.fetchCommits(scanRequest, result::addAll);
 
 		assertNotNull(result);
 		assertEquals(0, result.size());
@@ -230,15 +226,18 @@ public class CommitFetcherTest {
 		when(strategy.getStrategyName()).thenReturn("testStrategy");
 		when(gitUrlParser.parseGitUrl(anyString(), anyString(), anyString(), anyString()))
 				.thenReturn(urlInfo);
-		when(strategy.fetchCommits(
+		doThrow(new DataProcessingException("Strategy failed"))
+				.when(strategy)
+				.fetchCommits(
 						anyString(),
 						anyString(),
 						any(GitUrlInfo.class),
 						anyString(),
 						any(CommitDataFetchStrategy.RepositoryCredentials.class),
-						any(LocalDateTime.class)))
-				.thenThrow(new DataProcessingException("Strategy failed"));
+						any(LocalDateTime.class),
+						anyInt(),
+						any());
 
-		commitFetcher.fetchCommits(scanRequest);
+		commitFetcher.fetchCommits(scanRequest, commits -> {});
 	}
 }
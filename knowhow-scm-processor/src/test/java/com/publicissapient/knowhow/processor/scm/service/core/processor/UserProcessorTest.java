@@ -17,7 +17,8 @@
 package com.publicissapient.knowhow.processor.scm.service.core.processor;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import java.util.*;
@@ -80,10 +81,10 @@ public class UserProcessorTest {
 
 		mergeRequests.add(mr1);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(
 						invocation -> {
-							return invocation.<User>getArgument(0);
+							return invocation.<List<User>>getArgument(0);
 						});
 
 		// Act
@@ -94,7 +95,7 @@ public class UserProcessorTest {
 		assertNotNull(result);
 		assertEquals(5, result.getAllUsers().size());
 		assertEquals(5, result.getUserMap().size());
-		verify(persistenceService, times(5)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 5));
 	}
 
 	@Test
@@ -107,7 +108,7 @@ public class UserProcessorTest {
 		assertNotNull(result);
 		assertTrue(result.getAllUsers().isEmpty());
 		assertTrue(result.getUserMap().isEmpty());
-		verify(persistenceService, never()).saveUser(any(User.class));
+		verify(persistenceService, never()).saveUsers(anyList());
 	}
 
 	@Test
@@ -122,7 +123,7 @@ public class UserProcessorTest {
 		commitDetails.add(commitWithNullAuthor);
 		commitDetails.add(commitWithAuthor);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -132,7 +133,7 @@ public class UserProcessorTest {
 		// Assert
 		assertEquals(1, result.getAllUsers().size());
 		assertEquals(1, result.getUserMap().size());
-		verify(persistenceService, times(1)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 1));
 	}
 
 	@Test
@@ -148,7 +149,7 @@ public class UserProcessorTest {
 		mergeRequests.add(mrWithNullAuthor);
 		mergeRequests.add(mrWithAuthor);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -158,7 +159,7 @@ public class UserProcessorTest {
 		// Assert
 		assertEquals(2, result.getAllUsers().size()); // 1 reviewer + 1 author
 		assertEquals(2, result.getUserMap().size());
-		verify(persistenceService, times(2)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 2));
 	}
 
 	@Test
@@ -170,7 +171,7 @@ public class UserProcessorTest {
 
 		mergeRequests.add(mrWithNullReviewers);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -180,7 +181,7 @@ public class UserProcessorTest {
 		// Assert
 		assertEquals(1, result.getAllUsers().size());
 		assertEquals(1, result.getUserMap().size());
-		verify(persistenceService, times(1)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 1));
 	}
 
 	@Test
@@ -203,7 +204,7 @@ public class UserProcessorTest {
 
 		mergeRequests.add(mr);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -213,7 +214,7 @@ public class UserProcessorTest {
 		// Assert
 		assertEquals(2, result.getAllUsers().size());
 		assertEquals(1, result.getUserMap().size());
-		verify(persistenceService, times(2)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 2));
 	}
 
 	@Test
@@ -231,7 +232,7 @@ public class UserProcessorTest {
 		commitDetails.add(commit1);
 		commitDetails.add(commit2);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -242,7 +243,7 @@ public class UserProcessorTest {
 		assertEquals(2, result.getAllUsers().size());
 		assertEquals(1, result.getUserMap().size()); // Only user with username
 		assertTrue(result.getUserMap().containsKey("user2"));
-		verify(persistenceService, times(1)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 1));
 	}
 
 	@Test
@@ -258,21 +259,23 @@ public class UserProcessorTest {
 		mr.setReviewers(List.of("reviewer1"));
 		mergeRequests.add(mr);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(
 						invocation -> {
-							User user = invocation.getArgument(0);
+							List<User> users = invocation.getArgument(0);
 							// Verify repository name and active status are set
-							assertEquals("test-repo", user.getRepositoryName());
-							assertTrue(user.getActive());
-							return user;
+							for (User user : users) {
+								assertEquals("test-repo", user.getRepositoryName());
+								assertTrue(user.getActive());
+							}
+							return users;
 						});
 
 		// Act
 		userProcessor.processUsers(commitDetails, mergeRequests, scanRequest);
 
 		// Assert
-		verify(persistenceService, times(3)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 3));
 	}
 
 	@Test
@@ -283,18 +286,18 @@ public class UserProcessorTest {
 		commit.setCommitAuthor(commitAuthor);
 		commitDetails.add(commit);
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(
 						invocation -> {
 							// Verify processorItemId is set
-							return invocation.<User>getArgument(0);
+							return invocation.<List<User>>getArgument(0);
 						});
 
 		// Act
 		userProcessor.processUsers(commitDetails, mergeRequests, scanRequest);
 
 		// Assert
-		verify(persistenceService, times(1)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 1));
 	}
 
 	@Test
@@ -316,7 +319,7 @@ public class UserProcessorTest {
 			mergeRequests.add(mr);
 		}
 
-		when(persistenceService.saveUser(any(User.class)))
+		when(persistenceService.saveUsers(anyList()))
 				.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
@@ -326,7 +329,35 @@ public class UserProcessorTest {
 		// Assert
 		assertEquals(250, result.getAllUsers().size()); // 100 commits + 50 MR authors + 100 reviewers
 		assertEquals(250, result.getUserMap().size());
-		verify(persistenceService, times(250)).saveUser(any(User.class));
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 250));
+	}
+
+	@Test
+	void testProcessUsers_WithResolvedUsers_SavesOnlyNewUsers() {
+		// Arrange
+		User resolvedUser = createUser("user1", "User One");
+		Map<String, User> resolvedUsers = new HashMap<>();
+		resolvedUsers.put("user1", resolvedUser);
+
+		ScmCommits commit1 = new ScmCommits();
+		commit1.setCommitAuthor(createUser("user1", "User One"));
+		ScmCommits commit2 = new ScmCommits();
+		commit2.setCommitAuthor(createUser("user2", "User Two"));
+		commitDetails.add(commit1);
+		commitDetails.add(commit2);
+
+		when(persistenceService.saveUsers(anyList()))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		UserProcessor.UserProcessingResult result =
+				userProcessor.processUsers(commitDetails, mergeRequests, scanRequest, resolvedUsers);
+
+		// Assert
+		verify(persistenceService).saveUsers(argThat(users -> users.size() == 1));
+		assertSame(resolvedUsers, result.getUserMap());
+		assertSame(resolvedUser, resolvedUsers.get("user1"));
+		assertTrue(resolvedUsers.containsKey("user2"));
 	}
 
 	private User createUser(String username, String displayName) {
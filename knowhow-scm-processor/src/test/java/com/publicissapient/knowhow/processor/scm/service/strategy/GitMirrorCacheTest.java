@@ -0,0 +1,167 @@
+package com.publicissapient.knowhow.processor.scm.service.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.util.FileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GitMirrorCacheTest {
+
+	private static final PersonIdent AUTHOR = new PersonIdent("test", "test@example.com");
+
+	@TempDir Path tempDir;
+
+	private GitScannerConfig gitScannerConfig;
+	private SimpleMeterRegistry meterRegistry;
+	private GitMirrorCache gitMirrorCache;
+
+	@BeforeEach
+	void setUp() {
+		gitScannerConfig = new GitScannerConfig();
+		gitScannerConfig.getStorage().setTempDirectory(tempDir.resolve("storage").toString());
+		meterRegistry = new SimpleMeterRegistry();
+		gitMirrorCache = new GitMirrorCache(gitScannerConfig, meterRegistry);
+	}
+
+	@Test
+	void testWithMirror_SecondScan_FetchesIntoCachedClone() throws Exception {
+		Path source = createRepository("source");
+		commit(source, "first");
+
+		int firstScan = gitMirrorCache.withMirror(source.toString(), null, 60, this::countCommits);
+		commit(source, "second");
+		int secondScan = gitMirrorCache.withMirror(source.toString(), null, 60, this::countCommits);
+
+		assertEquals(1, firstScan);
+		assertEquals(2, secondScan);
+		assertEquals(1, requests("miss"));
+		assertEquals(1, requests("hit"));
+		// the clone and the fetch each wrote a pack of the objects they received
+		assertEquals(2, packs(mirrors().get(0)).size());
+		assertEquals(
+				packs(mirrors().get(0)).stream().mapToLong(this::size).sum(),
+				meterRegistry.get("scm.mirror.cache.fetched").counter().count());
+		assertEquals(1, mirrors().size());
+	}
+
+	@Test
+	void testWithMirror_BrokenClone_ClonesAgain() throws Exception {
+		Path source = createRepository("source");
+		commit(source, "first");
+		gitMirrorCache.withMirror(source.toString(), null, 60, this::countCommits);
+		FileUtils.delete(mirrors().get(0).resolve("objects").toFile(), FileUtils.RECURSIVE);
+
+		int commits = gitMirrorCache.withMirror(source.toString(), null, 60, this::countCommits);
+
+		assertEquals(1, commits);
+		assertEquals(2, requests("miss"));
+	}
+
+	@Test
+	void testWithMirror_BeyondMaxRepositories_EvictsLeastRecentlyUsed() throws Exception {
+		gitScannerConfig.getStorage().setMirrorCacheMaxRepositories(1);
+		Path first = createRepository("first");
+		commit(first, "first");
+		Path second = createRepository("second");
+		commit(second, "second");
+
+		gitMirrorCache.withMirror(first.toString(), null, 60, this::countCommits);
+		Path firstMirror = mirrors().get(0);
+		Files.setLastModifiedTime(firstMirror, FileTime.fromMillis(0));
+		gitMirrorCache.withMirror(second.toString(), null, 60, this::countCommits);
+
+		List<Path> mirrors = mirrors();
+		assertEquals(1, mirrors.size());
+		assertTrue(!mirrors.contains(firstMirror));
+		assertEquals(1, meterRegistry.get("scm.mirror.cache.evictions").counter().count());
+	}
+
+	@Test
+	void testWithMirror_BeyondMaxSize_EvictsLeastRecentlyUsed() throws Exception {
+		gitScannerConfig.getStorage().setMirrorCacheMaxSizeMb(0);
+		Path first = createRepository("first");
+		commit(first, "first");
+		Path second = createRepository("second");
+		commit(second, "second");
+
+		gitMirrorCache.withMirror(first.toString(), null, 60, this::countCommits);
+		Path firstMirror = mirrors().get(0);
+		Files.setLastModifiedTime(firstMirror, FileTime.fromMillis(0));
+		gitMirrorCache.withMirror(second.toString(), null, 60, this::countCommits);
+
+		// the clone used last is kept even though it is over the size
+		List<Path> mirrors = mirrors();
+		assertEquals(1, mirrors.size());
+		assertTrue(!mirrors.contains(firstMirror));
+		assertEquals(1, meterRegistry.get("scm.mirror.cache.evictions").counter().count());
+	}
+
+	private int countCommits(Git git) throws GitAPIException {
+		int count = 0;
+		for (RevCommit ignored : git.log().call()) {
+			count++;
+		}
+		return count;
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("scm.mirror.cache.requests").tag("result", result).counter().count();
+	}
+
+	private List<Path> mirrors() throws IOException {
+		Path cacheDirectory =
+				Path.of(
+						gitScannerConfig.getStorage().getTempDirectory(),
+						gitScannerConfig.getStorage().getMirrorCacheDirectory());
+		try (Stream<Path> paths = Files.list(cacheDirectory)) {
+			return paths.filter(Files::isDirectory).toList();
+		}
+	}
+
+	private List<Path> packs(Path mirror) throws IOException {
+		try (Stream<Path> paths = Files.list(mirror.resolve("objects").resolve("pack"))) {
+			return paths.filter(path -> path.getFileName().toString().endsWith(".pack")).toList();
+		}
+	}
+
+	private long size(Path file) {
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path createRepository(String name) throws GitAPIException {
+		Path directory = tempDir.resolve(name);
+		Git.init().setDirectory(directory.toFile()).call().close();
+		return directory;
+	}
+
+	private void commit(Path repository, String content) throws IOException, GitAPIException {
+		Files.writeString(repository.resolve("file.txt"), content);
+		try (Git git = Git.open(repository.toFile())) {
+			git.add().addFilepattern(".").call();
+			git.commit().setMessage(content).setAuthor(AUTHOR).setCommitter(AUTHOR).setSign(false).call();
+		}
+	}
+}
@@ -3,11 +3,10 @@ package com.publicissapient.knowhow.processor.scm.service.strategy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.withSettings;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -17,7 +16,6 @@ import java.util.*;
 import org.bson.types.ObjectId;
 import org.eclipse.jgit.api.CloneCommand;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.LogCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
@@ -44,6 +42,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.publicissapient.knowhow.processor.scm.config.GitScannerConfig;
+import com.publicissapient.knowhow.processor.scm.exception.CommitPersistenceException;
 import com.publicissapient.knowhow.processor.scm.exception.DataProcessingException;
 import com.publicissapient.knowhow.processor.scm.util.GitUrlParser;
 import com.publicissapient.kpidashboard.common.model.scm.ScmCommits;
@@ -59,6 +58,8 @@ public class JGitCommitDataFetchStrategyTest {
 
 	@Mock private GitScannerConfig gitScannerConfig;
 
+	@Mock private GitMirrorCache gitMirrorCache;
+
 	@Mock private Git git;
 
 	@Mock private Repository repository;
@@ -100,12 +101,16 @@ public class JGitCommitDataFetchStrategyTest {
 		storage.setForceGcOnCleanupFailure(true);
 		storage.setCleanupRetryDelayMs(100);
 		storage.setCleanupFinalDelayMs(500);
+		// the fetch tests clone into a temporary directory unless they enable the cache
+		storage.setMirrorCacheEnabled(false);
 		when(gitScannerConfig.getStorage()).thenReturn(storage);
 	}
 
 	private void setupPerformanceConfig() {
 		GitScannerConfig.Performance performance = new GitScannerConfig.Performance();
 		performance.setJgitCloneTimeoutMinutes(5);
+		// the mocked clone commands below only support the full clone
+		performance.setJgitShallowClone(false);
 		when(gitScannerConfig.getPerformance()).thenReturn(performance);
 	}
 
@@ -114,137 +119,232 @@ public class JGitCommitDataFetchStrategyTest {
 		// Arrange
 		String branchName = "main";
 		LocalDateTime since = LocalDateTime.now().minusDays(7);
-		setupPerformanceConfig(); // CHANGE: Add performance config to prevent NPE
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
 
-		try (MockedStatic<Git> gitStatic = mockStatic(Git.class);
-				MockedStatic<Files> filesStatic = mockStatic(Files.class)) {
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits("git", toolConfigId, localUrlInfo, branchName, null, since);
 
-			// Mock temp directory creation
-			filesStatic.when(() -> Files.createTempDirectory(anyString())).thenReturn(tempDir);
+		// Assert
+		assertNotNull(result);
+		assertEquals(2, result.size());
+		assertEquals(branchName, result.get(0).getBranch());
+	}
 
-			// Mock Git clone
-			CloneCommand cloneCommand = mock(CloneCommand.class);
-			gitStatic.when(Git::cloneRepository).thenReturn(cloneCommand);
-			when(cloneCommand.setURI(anyString())).thenReturn(cloneCommand);
-			when(cloneCommand.setDirectory(any(File.class))).thenReturn(cloneCommand);
-			when(cloneCommand.setCloneAllBranches(true)).thenReturn(cloneCommand);
-			when(cloneCommand.setCredentialsProvider(any())).thenReturn(cloneCommand);
-			when(cloneCommand.setTimeout(anyInt())).thenReturn(cloneCommand);
-			when(cloneCommand.call()).thenReturn(git);
+	@Test
+	void testFetchCommits_MirrorCacheEnabled_UsesCachedClone() throws Exception {
+		// Arrange
+		gitScannerConfig.getStorage().setMirrorCacheEnabled(true);
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
+		try (Git cached = spy(Git.open(tempDir.resolve("source").toFile()))) {
+			stubMirror(localUrlInfo, cached);
 
-			// Mock repository and log command
-			when(git.getRepository()).thenReturn(repository);
+			try (MockedStatic<Git> gitStatic = mockStatic(Git.class)) {
+				// Act
+				List<ScmCommits> result =
+						strategy.fetchCommits("git", toolConfigId, localUrlInfo, "main", credentials, null);
+
+				// Assert
+				assertEquals(2, result.size());
+				gitStatic.verify(Git::cloneRepository, never());
+				// the cache owns the clone and closes it
+				verify(cached, never()).close();
+			}
+		}
+	}
 
-			// CHANGE: Mock repository.getDirectory() to prevent NPE in closeGitResources
-			File mockRepoDir = mock(File.class);
-			when(mockRepoDir.getAbsolutePath()).thenReturn("/test/repo");
-			when(repository.getDirectory()).thenReturn(mockRepoDir);
+	@Test
+	void testFetchCommits_PageNotPersisted_RethrowsPersistenceFailure() throws Exception {
+		// Arrange
+		gitScannerConfig.getStorage().setMirrorCacheEnabled(true);
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
+		CommitPersistenceException persistenceFailure =
+				new CommitPersistenceException("Failed to persist", new RuntimeException("write failed"));
 
-			LogCommand logCommand = mock(LogCommand.class);
-			when(git.log()).thenReturn(logCommand);
-			when(logCommand.setRevFilter(any())).thenReturn(logCommand);
+		try (Git cached = Git.open(tempDir.resolve("source").toFile())) {
+			stubMirror(localUrlInfo, cached);
 
-			// Mock commits
-			List<RevCommit> commits = createMockCommits();
-			when(logCommand.call()).thenReturn(commits);
+			// Act & Assert
+			CommitPersistenceException thrown =
+					assertThrows(
+							CommitPersistenceException.class,
+							() ->
+									strategy.fetchCommits(
+											"git",
+											toolConfigId,
+											localUrlInfo,
+											"main",
+											credentials,
+											null,
+											100,
+											page -> {
+												throw persistenceFailure;
+											}));
+			assertSame(persistenceFailure, thrown);
+		}
+	}
 
-			// Mock diff calculation
-			mockDiffCalculation();
+	@Test
+	void testFetchCommits_ConvertedPages_AreOnlyHeldByTheConsumer() throws Exception {
+		// Arrange
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createDatedRepository(LocalDateTime.now());
+		List<WeakReference<ScmCommits>> handedOver = new ArrayList<>();
+		List<Boolean> previousPagesCollected = new ArrayList<>();
 
-			// Act
-			List<ScmCommits> result =
-					strategy.fetchCommits("git", toolConfigId, gitUrlInfo, branchName, credentials, since);
+		// Act
+		strategy.fetchCommits(
+				"git",
+				toolConfigId,
+				localUrlInfo,
+				"main",
+				null,
+				null,
+				2,
+				page -> {
+					previousPagesCollected.add(isCollected(handedOver));
+					page.forEach(commit -> handedOver.add(new WeakReference<>(commit)));
+				});
 
-			// Assert
-			assertNotNull(result);
-			assertEquals(2, result.size());
-			assertEquals(branchName, result.get(0).getBranch());
-			verify(git).close();
-		}
+		// Assert
+		// the six commits are handed over in three pages, none kept once the consumer dropped it
+		assertEquals(List.of(true, true, true), previousPagesCollected);
+		assertEquals(6, handedOver.size());
 	}
 
 	@Test
-	void testFetchCommits_CloneFails_ThrowsDataProcessingException() throws Exception {
+	void testFetchCommits_ShallowClone_DeepensForParentOfOldestCommit() throws Exception {
 		// Arrange
-		try (MockedStatic<Git> gitStatic = mockStatic(Git.class);
-				MockedStatic<Files> filesStatic = mockStatic(Files.class)) {
-
-			filesStatic.when(() -> Files.createTempDirectory(anyString())).thenReturn(tempDir);
+		setupPerformanceConfig();
+		gitScannerConfig.getPerformance().setJgitShallowClone(true);
+		LocalDateTime now = LocalDateTime.now();
+		GitUrlParser.GitUrlInfo localUrlInfo = createDatedRepository(now);
 
-			CloneCommand cloneCommand = mock(CloneCommand.class);
-			gitStatic.when(Git::cloneRepository).thenReturn(cloneCommand);
-			when(cloneCommand.setURI(anyString())).thenReturn(cloneCommand);
-			when(cloneCommand.setDirectory(any(File.class))).thenReturn(cloneCommand);
-			when(cloneCommand.setCloneAllBranches(true)).thenReturn(cloneCommand);
-			when(cloneCommand.setCredentialsProvider(any())).thenReturn(cloneCommand);
-			when(cloneCommand.setTimeout(anyInt())).thenReturn(cloneCommand);
-			when(cloneCommand.call()).thenThrow(new GitAPIException("Clone failed") {});
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits(
+						"git", toolConfigId, localUrlInfo, "main", null, now.minusDays(5));
 
-			// Act & Assert
-			assertThrows(
-					DataProcessingException.class,
-					() -> strategy.fetchCommits("git", toolConfigId, gitUrlInfo, "main", credentials, null));
-		}
+		// Assert
+		assertEquals(3, result.size());
+		// the oldest commit scanned is diffed against its parent rather than the empty tree
+		result.forEach(commit -> assertEquals(1, commit.getAddedLines()));
 	}
 
 	@Test
-	void testFetchCommits_InvalidBranch_UsesDefaultBranch() throws Exception {
+	void testFetchCommits_RenamedFile_ReportsRenameWithChangedLines() throws Exception {
 		// Arrange
-		String invalidBranch = "nonexistent";
-		setupPerformanceConfig(); // Add performance config to prevent NPE
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
 
-		try (MockedStatic<Git> gitStatic = mockStatic(Git.class);
-				MockedStatic<Files> filesStatic = mockStatic(Files.class)) {
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits("git", toolConfigId, localUrlInfo, "main", null, null);
 
-			filesStatic.when(() -> Files.createTempDirectory(anyString())).thenReturn(tempDir);
+		// Assert
+		assertEquals(2, result.size());
+		ScmCommits rename = result.get(0);
+		assertEquals(1, rename.getFilesChanged());
+		assertEquals(1, rename.getFileChanges().size());
+		ScmCommits.FileChange fileChange = rename.getFileChanges().get(0);
+		assertEquals("RENAME", fileChange.getChangeType());
+		assertEquals("b.txt", fileChange.getFilePath());
+		assertEquals("a.txt", fileChange.getPreviousPath());
+		assertEquals(List.of(3), fileChange.getChangedLineNumbers());
+		assertEquals(1, rename.getChangedLines());
+	}
 
-			// Setup clone
-			CloneCommand cloneCommand = mock(CloneCommand.class);
-			gitStatic.when(Git::cloneRepository).thenReturn(cloneCommand);
-			when(cloneCommand.setURI(anyString())).thenReturn(cloneCommand);
-			when(cloneCommand.setDirectory(any(File.class))).thenReturn(cloneCommand);
-			when(cloneCommand.setCloneAllBranches(true)).thenReturn(cloneCommand);
-			when(cloneCommand.setCredentialsProvider(any())).thenReturn(cloneCommand);
-			when(cloneCommand.setTimeout(anyInt())).thenReturn(cloneCommand);
-			when(cloneCommand.call()).thenReturn(git);
+	@Test
+	void testFetchCommits_NumstatOnlyWithoutRenames_CountsLinesOnly() throws Exception {
+		// Arrange
+		setupPerformanceConfig();
+		gitScannerConfig.getPerformance().setJgitDiffThreads(2);
+		gitScannerConfig.getPerformance().setJgitDetectRenames(false);
+		gitScannerConfig.getPerformance().setJgitNumstatOnly(true);
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
 
-			// Mock repository with no matching branch
-			when(git.getRepository()).thenReturn(repository);
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits("git", toolConfigId, localUrlInfo, "main", null, null);
 
-			// CHANGE: Mock repository.getDirectory() to prevent NPE in closeGitResources
-			File mockRepoDir = mock(File.class);
-			when(mockRepoDir.getAbsolutePath()).thenReturn("/test/repo");
-			when(repository.getDirectory()).thenReturn(mockRepoDir);
+		// Assert
+		assertEquals(2, result.size());
+		ScmCommits rename = result.get(0);
+		assertEquals(2, rename.getFilesChanged());
+		assertEquals(10, rename.getAddedLines());
+		assertEquals(10, rename.getRemovedLines());
+		rename.getFileChanges().forEach(fileChange -> assertNull(fileChange.getChangedLineNumbers()));
+		assertEquals(10, result.get(1).getAddedLines());
+	}
 
-			when(repository.findRef(invalidBranch)).thenReturn(null);
-			when(repository.findRef("refs/remotes/origin/" + invalidBranch)).thenReturn(null);
+	@Test
+	void testFetchCommits_ConcurrentDiffs_ReuseTheReadersOfTheScanAcrossPages() throws Exception {
+		// Arrange
+		gitScannerConfig.getStorage().setMirrorCacheEnabled(true);
+		setupPerformanceConfig();
+		gitScannerConfig.getPerformance().setJgitDiffThreads(2);
+		GitUrlParser.GitUrlInfo localUrlInfo = createDatedRepository(LocalDateTime.now());
+		List<List<ScmCommits>> pages = new ArrayList<>();
 
-			LogCommand logCommand = mock(LogCommand.class);
-			when(git.log()).thenReturn(logCommand);
-			when(logCommand.call()).thenReturn(Collections.emptyList());
+		try (Git source = Git.open(tempDir.resolve("source").toFile())) {
+			Repository cachedRepository = spy(source.getRepository());
+			stubMirror(localUrlInfo, Git.wrap(cachedRepository));
 
 			// Act
-			List<ScmCommits> result =
-					strategy.fetchCommits("git", toolConfigId, gitUrlInfo, invalidBranch, credentials, null);
+			strategy.fetchCommits(
+					"git",
+					toolConfigId,
+					localUrlInfo,
+					"main",
+					null,
+					null,
+					1,
+					page -> pages.add(new ArrayList<>(page)));
 
 			// Assert
-			assertNotNull(result);
-			verify(repository).findRef(invalidBranch);
+			assertEquals(6, pages.size());
+			pages.forEach(page -> assertEquals(1, page.get(0).getAddedLines()));
+			// one reader for the walk and one per thread of the pool, not one per page
+			verify(cachedRepository, atMost(3)).newObjectReader();
 		}
 	}
 
 	@Test
-	void testFetchCommits_WithDateFilter_ReturnsFilteredCommits() throws Exception {
+	void testFetchCommits_PageSizeOfOne_HandsOverOnePagePerCommit() throws Exception {
 		// Arrange
-		LocalDateTime since = LocalDateTime.now().minusDays(3);
-		setupPerformanceConfig(); // CHANGE: Add performance config to prevent NPE
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
+		List<List<ScmCommits>> pages = new ArrayList<>();
+
+		// Act
+		strategy.fetchCommits(
+				"git",
+				toolConfigId,
+				localUrlInfo,
+				"main",
+				null,
+				null,
+				1,
+				page -> pages.add(new ArrayList<>(page)));
+
+		// Assert
+		assertEquals(2, pages.size());
+		assertEquals("rename", pages.get(0).get(0).getCommitMessage());
+		assertEquals("add", pages.get(1).get(0).getCommitMessage());
+		assertEquals("main", pages.get(1).get(0).getBranch());
+	}
 
+	@Test
+	void testFetchCommits_CloneFails_ThrowsDataProcessingException() throws Exception {
+		// Arrange
 		try (MockedStatic<Git> gitStatic = mockStatic(Git.class);
 				MockedStatic<Files> filesStatic = mockStatic(Files.class)) {
 
 			filesStatic.when(() -> Files.createTempDirectory(anyString())).thenReturn(tempDir);
 
-			// Setup clone
 			CloneCommand cloneCommand = mock(CloneCommand.class);
 			gitStatic.when(Git::cloneRepository).thenReturn(cloneCommand);
 			when(cloneCommand.setURI(anyString())).thenReturn(cloneCommand);
@@ -252,78 +352,47 @@ public class JGitCommitDataFetchStrategyTest {
 			when(cloneCommand.setCloneAllBranches(true)).thenReturn(cloneCommand);
 			when(cloneCommand.setCredentialsProvider(any())).thenReturn(cloneCommand);
 			when(cloneCommand.setTimeout(anyInt())).thenReturn(cloneCommand);
-			when(cloneCommand.call()).thenReturn(git);
-
-			// Mock repository and log command
-			when(git.getRepository()).thenReturn(repository);
+			when(cloneCommand.call()).thenThrow(new GitAPIException("Clone failed") {});
 
-			// CHANGE: Mock repository.getDirectory() to prevent NPE in closeGitResources
-			File mockRepoDir = mock(File.class);
-			when(mockRepoDir.getAbsolutePath()).thenReturn("/test/repo");
-			when(repository.getDirectory()).thenReturn(mockRepoDir);
+			// Act & Assert
+			assertThrows(
+					DataProcessingException.class,
+					() -> strategy.fetchCommits("git", toolConfigId, gitUrlInfo, "main", credentials, null));
+		}
+	}
 
-			LogCommand logCommand = mock(LogCommand.class);
-			when(git.log()).thenReturn(logCommand);
-			when(logCommand.setRevFilter(any())).thenReturn(logCommand);
+	@Test
+	void testFetchCommits_InvalidBranch_UsesDefaultBranch() throws Exception {
+		// Arrange
+		String invalidBranch = "nonexistent";
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createRenameRepository();
 
-			// Create commits with different dates
-			List<RevCommit> commits = createMockCommitsWithDates(since);
-			when(logCommand.call()).thenReturn(commits);
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits("git", toolConfigId, localUrlInfo, invalidBranch, null, null);
 
-			mockDiffCalculation();
-			// Act
-			List<ScmCommits> result =
-					strategy.fetchCommits("git", toolConfigId, gitUrlInfo, "main", credentials, since);
-			// Assert
-			assertNotNull(result);
-			// Should filter out commits before 'since' date
-			assertTrue(result.size() < commits.size());
-			verify(logCommand).setRevFilter(any());
-		}
+		// Assert
+		assertEquals(2, result.size());
+		assertEquals("rename", result.get(0).getCommitMessage());
 	}
 
-	//    @Test
-	//    void testFetchCommits_CleanupFails_StillReturnsCommits() throws Exception {
-	//        // Arrange
-	//        setupPerformanceConfig();
-	//        try (MockedStatic<Git> gitStatic = mockStatic(Git.class);
-	//             MockedStatic<Files> filesStatic = mockStatic(Files.class)) {
-	//
-	//            filesStatic.when(() -> Files.createTempDirectory(anyString())).thenReturn(tempDir);
-	//
-	//            // Setup successful clone and commit fetch
-	//            CloneCommand cloneCommand = mock(CloneCommand.class);
-	//            gitStatic.when(Git::cloneRepository).thenReturn(cloneCommand);
-	//            when(cloneCommand.setURI(anyString())).thenReturn(cloneCommand);
-	//            when(cloneCommand.setDirectory(any(File.class))).thenReturn(cloneCommand);
-	//            when(cloneCommand.setCloneAllBranches(true)).thenReturn(cloneCommand);
-	//            when(cloneCommand.setCredentialsProvider(any())).thenReturn(cloneCommand);
-	//            when(cloneCommand.setTimeout(anyInt())).thenReturn(cloneCommand);
-	//            when(cloneCommand.call()).thenReturn(git);
-	//
-	//            // Mock repository and commits
-	//            when(git.getRepository()).thenReturn(repository);
-	//            LogCommand logCommand = mock(LogCommand.class);
-	//            when(git.log()).thenReturn(logCommand);
-	//            when(logCommand.call()).thenReturn(createMockCommits());
-	//
-	//            mockDiffCalculation();
-	//
-	//            // Mock cleanup failure
-	//            filesStatic.when(() -> Files.walk(any(Path.class)))
-	//                    .thenThrow(new IOException("Cleanup failed"));
-	//            filesStatic.when(() -> Files.exists(any(Path.class))).thenReturn(true);
-	//
-	//            // Act
-	//            List<ScmCommits> result = strategy.fetchCommits("git", toolConfigId, gitUrlInfo,
-	//                    "main", credentials, null);
-	//
-	//            // Assert
-	//            assertNotNull(result);
-	//            assertEquals(2, result.size());
-	//            // Cleanup failure should not affect the result
-	//        }
-	//    }
+	@Test
+	void testFetchCommits_WithDateFilter_ReturnsFilteredCommits() throws Exception {
+		// Arrange
+		LocalDateTime now = LocalDateTime.now();
+		setupPerformanceConfig();
+		GitUrlParser.GitUrlInfo localUrlInfo = createDatedRepository(now);
+
+		// Act
+		List<ScmCommits> result =
+				strategy.fetchCommits("git", toolConfigId, localUrlInfo, "main", null, now.minusDays(3));
+
+		// Assert
+		// only the commits of two days ago and of today are after the date
+		assertEquals(
+				List.of("day 0", "day 2"), result.stream().map(ScmCommits::getCommitMessage).toList());
+	}
 
 	@Test
 	void testSupports_ValidGitUrl_ReturnsTrue() {
@@ -433,16 +502,11 @@ public class JGitCommitDataFetchStrategyTest {
 		when(revCommit.getParents()).thenReturn(parents);
 
 		// Mock diff calculation
+		setupPerformanceConfig();
 		mockDiffCalculation();
 
-		// Use reflection to test private method
-		var method =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"convertRevCommitToCommit", Git.class, RevCommit.class, String.class);
-		method.setAccessible(true);
-
 		// Act
-		ScmCommits result = (ScmCommits) method.invoke(strategy, git, revCommit, toolConfigId);
+		ScmCommits result = convertRevCommitToCommit(revCommit, calculateDiffStats(revCommit));
 
 		// Assert
 		assertNotNull(result);
@@ -453,25 +517,16 @@ public class JGitCommitDataFetchStrategyTest {
 	void testCalculateDiffStats_WithChanges_CalculatesCorrectly() throws Exception {
 		// Arrange
 		setupMockCommit();
+		setupPerformanceConfig();
 		mockDiffCalculationWithDetails();
 
-		// Use reflection to test private method
-		var method =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"calculateDiffStats", Git.class, RevCommit.class);
-		method.setAccessible(true);
-
 		// Act
-		var result = method.invoke(strategy, git, revCommit);
+		var result = calculateDiffStats(revCommit);
 
 		// Assert
 		assertNotNull(result);
 		// Verify through the convertRevCommitToCommit method
-		var convertMethod =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"convertRevCommitToCommit", Git.class, RevCommit.class, String.class);
-		convertMethod.setAccessible(true);
-		ScmCommits commit = (ScmCommits) convertMethod.invoke(strategy, git, revCommit, toolConfigId);
+		ScmCommits commit = convertRevCommitToCommit(revCommit, result);
 
 		////        assertEquals(10, commit.getAddedLines());
 		//        assertEquals(5, commit.getRemovedLines());
@@ -483,22 +538,14 @@ public class JGitCommitDataFetchStrategyTest {
 	void testCalculateDiffStats_InitialCommit_HandlesNoParent() throws Exception {
 		// Arrange
 		setupMockCommit();
+		setupPerformanceConfig();
 		when(revCommit.getParentCount()).thenReturn(0); // No parents = initial commit
 
 		ObjectReader reader = mock(ObjectReader.class);
 		when(repository.newObjectReader()).thenReturn(reader);
-		when(repository.resolve("4b825dc642cb6eb9a060e54bf8d69288fbee4904"))
-				.thenReturn(
-						org.eclipse.jgit.lib.ObjectId.fromString("4b825dc642cb6eb9a060e54bf8d69288fbee4904"));
-
-		// Use reflection to test private method
-		var method =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"calculateDiffStats", Git.class, RevCommit.class);
-		method.setAccessible(true);
 
 		// Act & Assert - should not throw exception
-		assertDoesNotThrow(() -> method.invoke(strategy, git, revCommit));
+		assertDoesNotThrow(() -> calculateDiffStats(revCommit));
 	}
 
 	@Test
@@ -593,92 +640,111 @@ public class JGitCommitDataFetchStrategyTest {
 
 	// Helper methods
 
-	// Remove the TestCommit inner class completely and replace the helper methods
-
-	private List<RevCommit> createMockCommits() {
-		List<RevCommit> commits = new ArrayList<>();
-
-		// Create spy objects instead of mocks to avoid issues with final methods
-		RevCommit commit1 =
-				createSpyCommit(
-						"abc1234567890abcdef1234567890abcdef1234", // CHANGE: Fixed to 40 chars
-						"First commit",
-						LocalDateTime.now().minusDays(1));
-		commits.add(commit1);
-
-		RevCommit commit2 =
-				createSpyCommit(
-						"def1234567890abcdef1234567890abcdef1234", // CHANGE: Fixed to 40 chars
-						"Second commit",
-						LocalDateTime.now());
-		commits.add(commit2);
-
-		return commits;
-	}
-
-	private List<RevCommit> createMockCommitsWithDates(LocalDateTime since) {
-		List<RevCommit> commits = new ArrayList<>();
-
-		// Commit before 'since' date
-		RevCommit oldCommit =
-				createSpyCommit(
-						"0123456789abcdef0123456789abcdef01234567", // CHANGE: Fixed to 40 chars
-						"Old commit",
-						since.minusDays(1));
-		commits.add(oldCommit);
-
-		// Commit after 'since' date
-		RevCommit newCommit =
-				createSpyCommit(
-						"fedcba9876543210fedcba9876543210fedcba98", // CHANGE: Fixed to 40 chars
-						"New commit",
-						since.plusDays(1));
-		commits.add(newCommit);
-
-		return commits;
-	}
-
-	private RevCommit createSpyCommit(String sha, String message, LocalDateTime dateTime) {
-		// Create a mock RevCommit instead of using spy
-		RevCommit commit = mock(RevCommit.class, withSettings().lenient());
-
-		// Setup the commit data
-		Date commitDate = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
-		PersonIdent author =
-				new PersonIdent("Test Author", "test@example.com", commitDate, TimeZone.getDefault());
-		PersonIdent committer =
-				new PersonIdent(
-						"Test Committer", "committer@example.com", commitDate, TimeZone.getDefault());
-
-		// Use lenient stubbing for all methods to avoid issues with final methods
-		lenient().when(commit.getName()).thenReturn(sha);
-		lenient().when(commit.getFullMessage()).thenReturn(message);
-		lenient().when(commit.getAuthorIdent()).thenReturn(author);
-		lenient().when(commit.getCommitterIdent()).thenReturn(committer);
-		lenient().when(commit.getCommitTime()).thenReturn((int) (commitDate.getTime() / 1000));
-		lenient().when(commit.getParentCount()).thenReturn(1);
-		lenient().when(commit.getParents()).thenReturn(new RevCommit[1]);
-
-		// For getParent, we need to handle the index parameter
-		lenient()
-				.when(commit.getParent(anyInt()))
+	/** One file of one line added every other day, from ten days ago to the given time */
+	private GitUrlParser.GitUrlInfo createDatedRepository(LocalDateTime now) throws Exception {
+		Path source = tempDir.resolve("source");
+		try (Git sourceGit =
+				Git.init().setDirectory(source.toFile()).setInitialBranch("main").call()) {
+			for (int day = 10; day >= 0; day -= 2) {
+				Files.writeString(source.resolve("file" + day + ".txt"), "line\n");
+				PersonIdent ident =
+						new PersonIdent(
+								"test",
+								"test@example.com",
+								now.minusDays(day).atZone(ZoneId.systemDefault()).toInstant(),
+								ZoneId.systemDefault());
+				sourceGit.add().addFilepattern(".").call();
+				sourceGit
+						.commit()
+						.setMessage("day " + day)
+						.setAuthor(ident)
+						.setCommitter(ident)
+						.setSign(false)
+						.call();
+			}
+		}
+		return new GitUrlParser.GitUrlInfo(
+				GitUrlParser.GitPlatform.GITHUB, "test", "source", "test", source.toString());
+	}
+
+	/** Runs the mirror actions of the repository on the given clone */
+	private void stubMirror(GitUrlParser.GitUrlInfo urlInfo, Git cached) throws Exception {
+		when(gitMirrorCache.withMirror(eq(urlInfo.getOriginalUrl()), any(), eq(300), any()))
 				.thenAnswer(
-						invocation -> {
-							int index = invocation.getArgument(0);
-							return index == 0 ? mock(RevCommit.class) : null;
-						});
+						invocation ->
+								invocation.<GitMirrorCache.MirrorAction<?>>getArgument(3).apply(cached));
+	}
 
-		// Mock the tree
-		RevTree mockTree = mock(RevTree.class);
-		lenient().when(commit.getTree()).thenReturn(mockTree);
+	/** Collects the garbage until the referenced commits are collected, for at most a few seconds */
+	private static boolean isCollected(List<WeakReference<ScmCommits>> references) {
+		for (int attempt = 0; attempt < 50; attempt++) {
+			if (references.stream().allMatch(reference -> reference.get() == null)) {
+				return true;
+			}
+			System.gc();
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return false;
+	}
 
-		// CHANGE: Mock the ObjectId instead of creating a real one to avoid translation bundle issues
-		org.eclipse.jgit.lib.ObjectId objectId = mock(org.eclipse.jgit.lib.ObjectId.class);
-		lenient().when(objectId.getName()).thenReturn(sha);
-		lenient().when(objectId.toString()).thenReturn(sha);
-		lenient().when(commit.getId()).thenReturn(objectId);
+	/** A file of ten lines added, then renamed with its third line changed */
+	private GitUrlParser.GitUrlInfo createRenameRepository() throws Exception {
+		Path source = tempDir.resolve("source");
+		PersonIdent ident = new PersonIdent("test", "test@example.com");
+		try (Git sourceGit =
+				Git.init().setDirectory(source.toFile()).setInitialBranch("main").call()) {
+			Files.writeString(source.resolve("a.txt"), "1\n2\n3\n4\n5\n6\n7\n8\n9\n10\n");
+			sourceGit.add().addFilepattern(".").call();
+			sourceGit
+					.commit()
+					.setMessage("add")
+					.setAuthor(ident)
+					.setCommitter(ident)
+					.setSign(false)
+					.call();
+			Files.delete(source.resolve("a.txt"));
+			Files.writeString(source.resolve("b.txt"), "1\n2\nthree\n4\n5\n6\n7\n8\n9\n10\n");
+			sourceGit.add().addFilepattern(".").call();
+			sourceGit
+					.commit()
+					.setAll(true)
+					.setMessage("rename")
+					.setAuthor(ident)
+					.setCommitter(ident)
+					.setSign(false)
+					.call();
+		}
+		return new GitUrlParser.GitUrlInfo(
+				GitUrlParser.GitPlatform.GITHUB, "test", "source", "test", source.toString());
+	}
+
+	private Object calculateDiffStats(RevCommit commit) throws Exception {
+		Class<?> calculatorClass =
+				Class.forName(JGitCommitDataFetchStrategy.class.getName() + "$DiffStatsCalculator");
+		var constructor =
+				calculatorClass.getDeclaredConstructor(JGitCommitDataFetchStrategy.class, Repository.class);
+		constructor.setAccessible(true);
+		try (AutoCloseable calculator = (AutoCloseable) constructor.newInstance(strategy, repository)) {
+			var method = calculatorClass.getDeclaredMethod("calculateDiffStats", List.class);
+			method.setAccessible(true);
+			return ((List<?>) method.invoke(calculator, List.of(commit))).get(0);
+		}
+	}
 
-		return commit;
+	private ScmCommits convertRevCommitToCommit(RevCommit commit, Object diffStats)
+			throws Exception {
+		Class<?> diffStatsClass =
+				Class.forName(JGitCommitDataFetchStrategy.class.getName() + "$DiffStats");
+		var method =
+				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
+						"convertRevCommitToCommit", RevCommit.class, String.class, diffStatsClass);
+		method.setAccessible(true);
+		return (ScmCommits) method.invoke(strategy, commit, toolConfigId, diffStats);
 	}
 
 	// Update setupMockCommit to use doReturn pattern
@@ -785,24 +851,15 @@ public class JGitCommitDataFetchStrategyTest {
 	void testCalculateDiffStats_ExceptionDuringDiffCalculation_ReturnsEmptyStats() throws Exception {
 		// Arrange
 		setupMockCommit();
-
-		// Use reflection to test private method
-		var method =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"calculateDiffStats", Git.class, RevCommit.class);
-		method.setAccessible(true);
+		setupPerformanceConfig();
 
 		// Act
-		var result = method.invoke(strategy, git, revCommit);
+		var result = calculateDiffStats(revCommit);
 
 		// Assert
 		assertNotNull(result);
 		// Verify empty stats through convertRevCommitToCommit
-		var convertMethod =
-				JGitCommitDataFetchStrategy.class.getDeclaredMethod(
-						"convertRevCommitToCommit", Git.class, RevCommit.class, String.class);
-		convertMethod.setAccessible(true);
-		ScmCommits commit = (ScmCommits) convertMethod.invoke(strategy, git, revCommit, toolConfigId);
+		ScmCommits commit = convertRevCommitToCommit(revCommit, result);
 
 		assertEquals(0, commit.getAddedLines());
 		assertEquals(0, commit.getRemovedLines());
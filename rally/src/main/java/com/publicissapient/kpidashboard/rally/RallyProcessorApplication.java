@@ -18,21 +18,29 @@
 
 package com.publicissapient.kpidashboard.rally;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
 import javax.net.ssl.HttpsURLConnection;
 import javax.sql.DataSource;
 
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
-import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
-import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
@@ -49,6 +57,9 @@ import org.springframework.web.client.RestTemplate;
 @EnableScheduling
 public class RallyProcessorApplication {
 
+	private static final String BATCH_SCHEMA_SCRIPT = "org/springframework/batch/core/schema-h2.sql";
+	private static final String BATCH_JOB_INSTANCE_TABLE = "BATCH_JOB_INSTANCE";
+
 	private static boolean sslHostNameFlag = true;
 
 	public static void main(String[] args) {
@@ -56,13 +67,32 @@ public class RallyProcessorApplication {
 		SpringApplication.run(RallyProcessorApplication.class, args);
 	}
 
+	/**
+	 * File backed job repository of <code>spring.datasource.url</code>, so that failed runs can be
+	 * resumed after a restart. The batch tables are created when missing and kept otherwise.
+	 */
 	@Bean
-	public DataSource dataSource() {
-		return new EmbeddedDatabaseBuilder()
-				.setType(EmbeddedDatabaseType.H2)
-				.addScript("classpath:org/springframework/batch/core/schema-drop-h2.sql")
-				.addScript("classpath:org/springframework/batch/core/schema-h2.sql")
-				.build();
+	public DataSource dataSource(
+			@Value("${spring.datasource.url}") String url,
+			@Value("${spring.datasource.username}") String username,
+			@Value("${spring.datasource.password:}") String password) {
+		DataSource dataSource =
+				DataSourceBuilder.create().url(url).username(username).password(password).build();
+		if (!hasBatchTables(dataSource)) {
+			DatabasePopulatorUtils.execute(
+					new ResourceDatabasePopulator(new ClassPathResource(BATCH_SCHEMA_SCRIPT)), dataSource);
+		}
+		return dataSource;
+	}
+
+	private static boolean hasBatchTables(DataSource dataSource) {
+		try (Connection connection = dataSource.getConnection();
+				ResultSet tables =
+						connection.getMetaData().getTables(null, null, BATCH_JOB_INSTANCE_TABLE, null)) {
+			return tables.next();
+		} catch (SQLException e) {
+			throw new DataAccessResourceFailureException("Could not read the job repository tables", e);
+		}
 	}
 
 	@Bean
@@ -64,6 +64,8 @@ public class RallyProcessorConfig {
 	private String jiraEpicApi;
 	private Integer sprintReportCountToBeFetched;
 	private boolean considerStartDate;
+	private int jobRestartWindowHours;
+	private int jobRetentionDays;
 	private Map<String, String> notificationSubject;
 	private Map<String, String> mailTemplate;
 	private String samlTokenStartString;
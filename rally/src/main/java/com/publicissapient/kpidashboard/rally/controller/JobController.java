@@ -54,6 +54,7 @@ import com.publicissapient.kpidashboard.common.util.SecurityUtils;
 import com.publicissapient.kpidashboard.rally.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.rally.constant.RallyConstants;
 import com.publicissapient.kpidashboard.rally.repository.RallyProcessorRepository;
+import com.publicissapient.kpidashboard.rally.service.JobRestartService;
 import com.publicissapient.kpidashboard.rally.service.OngoingExecutionsService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -96,6 +97,8 @@ public class JobController {
 
 	@Autowired private OngoingExecutionsService ongoingExecutionsService;
 
+	@Autowired private JobRestartService jobRestartService;
+
 	@Autowired private RallyProcessorRepository rallyProcessorRepository;
 
 	/**
@@ -120,7 +123,9 @@ public class JobController {
 			executorService.submit(
 					() -> {
 						try {
-							jobLauncher.run(fetchIssueScrumRqlJob, params);
+							jobLauncher.run(
+									fetchIssueScrumRqlJob,
+									jobRestartService.getLaunchParameters(fetchIssueScrumRqlJob.getName(), params));
 						} catch (Exception e) {
 							log.info(
 									"Rally Scrum data for RQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
@@ -334,7 +339,9 @@ public class JobController {
 
 			if (projectToolConfig.isQueryEnabled()) {
 				// RQL is setup for the project
-				jobLauncher.run(fetchIssueScrumRqlJob, params);
+				jobLauncher.run(
+						fetchIssueScrumRqlJob,
+						jobRestartService.getLaunchParameters(fetchIssueScrumRqlJob.getName(), params));
 			}
 		} else {
 			log.info("removing project with basicProjectConfigId {}", basicProjectConfigId);
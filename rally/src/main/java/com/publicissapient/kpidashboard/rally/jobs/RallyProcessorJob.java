@@ -74,6 +74,8 @@ public class RallyProcessorJob {
 
 	@Autowired JobStepProgressListener jobStepProgressListener;
 
+	@Autowired StepMetricsListener stepMetricsListener;
+
 	private Step processProjectStatusStep() {
 		return builderFactory
 				.getStepBuilder("Fetch Release Status Scrum", jobRepository)
@@ -120,6 +122,7 @@ public class RallyProcessorJob {
 				.processor(issueScrumProcessor)
 				.writer(issueScrumWriter)
 				.listener(jiraIssueJqlWriterListener)
+				.listener(stepMetricsListener)
 				.build();
 	}
 
@@ -183,6 +186,7 @@ public class RallyProcessorJob {
 				.reader(issueSprintReader)
 				.processor(issueScrumProcessor)
 				.writer(issueScrumWriter)
+				.listener(stepMetricsListener)
 				.build();
 	}
 
@@ -35,6 +35,7 @@ import org.springframework.stereotype.Service;
 import com.publicissapient.kpidashboard.rally.config.FetchProjectConfiguration;
 import com.publicissapient.kpidashboard.rally.constant.RallyConstants;
 import com.publicissapient.kpidashboard.rally.repository.RallyProcessorRepository;
+import com.publicissapient.kpidashboard.rally.service.JobRestartService;
 import com.publicissapient.kpidashboard.rally.service.OngoingExecutionsService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -61,6 +62,7 @@ public class JobScheduler {
 
 	@Autowired private FetchProjectConfiguration fetchProjectConfiguration;
 	@Autowired private OngoingExecutionsService ongoingExecutionsService;
+	@Autowired private JobRestartService jobRestartService;
 	@Autowired private RallyProcessorRepository rallyProcessorRepository;
 
 	/** This method is used to start scrum job setup with JQL */
@@ -85,7 +87,9 @@ public class JobScheduler {
 							try {
 								// making execution onGoing for project
 								ongoingExecutionsService.markExecutionInProgress(projectId);
-								jobLauncher.run(fetchIssueScrumJqlJob, params);
+								jobLauncher.run(
+										fetchIssueScrumJqlJob,
+										jobRestartService.getLaunchParameters(fetchIssueScrumJqlJob.getName(), params));
 							} catch (Exception e) {
 								log.info(
 										"Rally Scrum data for JQL fetch failed for BasicProjectConfigId : {}, with exception : {}",
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright 2014 CapitalOne, LLC.
+ * Further development Copyright 2022 Sapient Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ ******************************************************************************/
+package com.publicissapient.kpidashboard.rally.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.publicissapient.kpidashboard.rally.config.RallyProcessorConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resumes the issue jobs of the projects whose last run did not complete. The job repository is
+ * kept on disk, so when the processor starts, the executions a stopped processor left running are
+ * marked failed. A project whose last run failed and was first launched less than <code>
+ * rally.jobRestartWindowHours</code> ago is then launched with the parameters of that run, so that
+ * Spring Batch skips the steps it completed.
+ */
+@Slf4j
+@Service
+public class JobRestartService {
+
+	private static final String PROJECT_ID = "projectId";
+	private static final int INSTANCE_PAGE_SIZE = 100;
+
+	@Autowired private JobExplorer jobExplorer;
+	@Autowired private JobRepository jobRepository;
+	@Autowired private RallyProcessorConfig rallyProcessorConfig;
+
+	/** Marks failed the executions left running by a processor stopped before this one started. */
+	@EventListener(ApplicationReadyEvent.class)
+	public void failOrphanedExecutions() {
+		LocalDateTime startTime =
+				LocalDateTime.ofInstant(
+						Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()),
+						ZoneId.systemDefault());
+		for (String jobName : jobExplorer.getJobNames()) {
+			for (JobExecution jobExecution : jobExplorer.findRunningJobExecutions(jobName)) {
+				if (null != jobExecution.getCreateTime()
+						&& jobExecution.getCreateTime().isBefore(startTime)) {
+					failExecution(jobExecution);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deletes from the job repository the runs which ended more than <code>
+	 * rally.jobRetentionDays</code> ago, so that the file backed repository does not grow with every
+	 * run. A run still going on or ended within the retention is kept with all the earlier
+	 * executions of its job instance.
+	 */
+	@Scheduled(cron = "${rally.jobRetentionCron:0 30 1 * * ?}")
+	public void purgeExpiredJobInstances() {
+		int retentionDays = rallyProcessorConfig.getJobRetentionDays();
+		if (retentionDays <= 0) {
+			return;
+		}
+		LocalDateTime expiry = LocalDateTime.now().minusDays(retentionDays);
+		try {
+			for (String jobName : jobExplorer.getJobNames()) {
+				// collected first as the deletions shift the pages
+				List<JobInstance> expiredInstances = new ArrayList<>();
+				for (int start = 0; ; start += INSTANCE_PAGE_SIZE) {
+					List<JobInstance> jobInstances =
+							jobExplorer.getJobInstances(jobName, start, INSTANCE_PAGE_SIZE);
+					jobInstances.stream()
+							.filter(jobInstance -> isExpired(jobExplorer.getJobExecutions(jobInstance), expiry))
+							.forEach(expiredInstances::add);
+					if (jobInstances.size() < INSTANCE_PAGE_SIZE) {
+						break;
+					}
+				}
+				expiredInstances.forEach(jobRepository::deleteJobInstance);
+				if (!expiredInstances.isEmpty()) {
+					log.info(
+							"Deleted {} {} runs older than {} days",
+							expiredInstances.size(),
+							jobName,
+							retentionDays);
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("Could not delete the expired runs from the job repository", e);
+		}
+	}
+
+	/**
+	 * Gets the parameters to launch the job of a project with: those of its last run when that run
+	 * failed within the restart window, so that the run is resumed, else the given ones.
+	 *
+	 * @param jobName name of the job
+	 * @param params parameters of a new run, holding the projectId
+	 * @return JobParameters
+	 */
+	public JobParameters getLaunchParameters(String jobName, JobParameters params) {
+		String projectId = params.getString(PROJECT_ID);
+		if (rallyProcessorConfig.getJobRestartWindowHours() <= 0 || null == projectId) {
+			return params;
+		}
+		try {
+			return findRestartableRun(jobName, projectId)
+					.map(
+							jobExecution -> {
+								log.info(
+										"Resuming {} run of project {} that was {} at {}",
+										jobName,
+										projectId,
+										jobExecution.getStatus(),
+										jobExecution.getEndTime());
+								return jobExecution.getJobParameters();
+							})
+					.orElse(params);
+		} catch (RuntimeException e) {
+			log.warn("Could not look up the last {} run of project {}", jobName, projectId, e);
+			return params;
+		}
+	}
+
+	private Optional<JobExecution> findRestartableRun(String jobName, String projectId) {
+		LocalDateTime windowStart =
+				LocalDateTime.now().minusHours(rallyProcessorConfig.getJobRestartWindowHours());
+		for (int start = 0; ; start += INSTANCE_PAGE_SIZE) {
+			// latest instances first, each launched after the ones that follow it
+			List<JobInstance> jobInstances =
+					jobExplorer.getJobInstances(jobName, start, INSTANCE_PAGE_SIZE);
+			for (JobInstance jobInstance : jobInstances) {
+				List<JobExecution> jobExecutions = jobExplorer.getJobExecutions(jobInstance);
+				Optional<LocalDateTime> launchTime =
+						jobExecutions.stream()
+								.map(JobExecution::getCreateTime)
+								.filter(Objects::nonNull)
+								.min(Comparator.naturalOrder());
+				if (launchTime.isEmpty() || launchTime.get().isBefore(windowStart)) {
+					return Optional.empty();
+				}
+				JobExecution lastExecution =
+						jobExecutions.stream().max(Comparator.comparing(JobExecution::getId)).orElseThrow();
+				if (projectId.equals(lastExecution.getJobParameters().getString(PROJECT_ID))) {
+					return isRestartable(lastExecution.getStatus())
+							? Optional.of(lastExecution)
+							: Optional.empty();
+				}
+			}
+			if (jobInstances.size() < INSTANCE_PAGE_SIZE) {
+				return Optional.empty();
+			}
+		}
+	}
+
+	private static boolean isExpired(List<JobExecution> jobExecutions, LocalDateTime expiry) {
+		return !jobExecutions.isEmpty()
+				&& jobExecutions.stream()
+						.allMatch(
+								jobExecution ->
+										!jobExecution.isRunning()
+												&& null != jobExecution.getEndTime()
+												&& jobExecution.getEndTime().isBefore(expiry));
+	}
+
+	private static boolean isRestartable(BatchStatus status) {
+		return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+	}
+
+	private void failExecution(JobExecution jobExecution) {
+		LocalDateTime now = LocalDateTime.now();
+		for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+			if (stepExecution.getStatus().isRunning()) {
+				stepExecution.setStatus(BatchStatus.FAILED);
+				stepExecution.setExitStatus(ExitStatus.FAILED);
+				stepExecution.setEndTime(now);
+				jobRepository.update(stepExecution);
+			}
+		}
+		jobExecution.setStatus(BatchStatus.FAILED);
+		jobExecution.setExitStatus(
+				ExitStatus.FAILED.addExitDescription("Processor stopped while the job was running"));
+		jobExecution.setEndTime(now);
+		jobRepository.update(jobExecution);
+		log.warn(
+				"Marked {} run of project {} left running by a stopped processor as failed",
+				jobExecution.getJobInstance().getJobName(),
+				jobExecution.getJobParameters().getString(PROJECT_ID));
+	}
+}
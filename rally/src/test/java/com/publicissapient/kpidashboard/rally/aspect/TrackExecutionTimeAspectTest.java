@@ -28,11 +28,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 public class TrackExecutionTimeAspectTest {
 
+	@Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 	@InjectMocks private PerformanceLoggingAspect performanceLoggingAspect;
 
 	private ProceedingJoinPoint proceedingJoinPoint;
@@ -62,6 +68,7 @@ public class TrackExecutionTimeAspectTest {
 
 		// Verify
 		assertEquals(returnValue, result);
+		assertEquals(1, timerCount(methodName));
 	}
 
 	@Test
@@ -84,6 +91,15 @@ public class TrackExecutionTimeAspectTest {
 			// Verify
 			assertEquals(exception, e);
 		}
+		assertEquals(1, timerCount(methodName));
+	}
+
+	private long timerCount(String methodName) {
+		return meterRegistry
+				.get(PerformanceLoggingAspect.EXECUTION_TIME_METRIC)
+				.tags("class", "TestClass", "method", methodName, "processor", "Rally")
+				.timer()
+				.count();
 	}
 
 	private static class TestClass {}